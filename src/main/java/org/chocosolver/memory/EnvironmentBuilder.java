@@ -9,6 +9,7 @@
  */
 package org.chocosolver.memory;
 
+import org.chocosolver.memory.copying.EnvironmentCopying;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.memory.trailing.trail.*;
 import org.chocosolver.memory.trailing.trail.chunck.*;
@@ -40,6 +41,11 @@ public class EnvironmentBuilder {
      */
     private double loadfactor = EnvironmentTrailing.LOADFACTOR;
 
+    /**
+     * The size of a page of an {@link EnvironmentCopying}.
+     */
+    private int pagesize = EnvironmentCopying.PAGESIZE;
+
     /**
      * Trail to consider to manage doubles
      */
@@ -203,4 +209,24 @@ public class EnvironmentBuilder {
         setTrail(new OperationTrail(worldsize, worldnumber, loadfactor));
         return this;
     }
+
+    /**
+     * Set the size of a page of an environment based on copying.
+     * @param ps number of slots of a page, must be a power of 2
+     * @return {@code this}
+     * @see #buildCopying()
+     */
+    public EnvironmentBuilder setPageSize(int ps){
+        pagesize = ps;
+        return this;
+    }
+
+    /**
+     * Build an environment based on copying, instead of trailing (see {@link EnvironmentCopying}).
+     * Trails declared in this builder are ignored.
+     * @return the resulting environment
+     */
+    public EnvironmentCopying buildCopying(){
+        return new EnvironmentCopying(pagesize);
+    }
 }
\ No newline at end of file
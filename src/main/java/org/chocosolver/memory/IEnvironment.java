@@ -11,6 +11,7 @@ package org.chocosolver.memory;
 
 import org.chocosolver.memory.structure.BasicIndexedBipartiteSet;
 import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.memory.structure.StoredBitSet;
 
 
 
@@ -133,6 +134,21 @@ public interface IEnvironment  {
      */
     IStateBitSet makeBitSet(int size);
 
+    /**
+     * Factory pattern: new StoredBitSet objects, which save their state in a single record per world,
+     * are created by the environment.
+     * They back the domains of bitset integer variables and of bitset set variables.
+     * The bit set registers its records through {@link #save(IOperation)},
+     * so this default implementation suits any environment.
+     *
+     * @param nbits        initial size of the bit set
+     * @param nbAttributes number of backtrackable integers attached to the bit set
+     * @return StoredBitSet
+     */
+    default StoredBitSet makeStoredBitSet(int nbits, int nbAttributes) {
+        return new StoredBitSet(this, nbits, nbAttributes);
+    }
+
     /**
      * Factory pattern: new IStateIntVector objects are created by the environment
      *
@@ -33,8 +33,9 @@ public abstract class IStateDouble  {
 
     /**
      * Returns the current value.
+     * Implementations which do not store the value in {@link #currentValue} override this method.
      */
-    public final double get() {
+    public double get() {
         return currentValue;
     }
 
@@ -62,6 +63,6 @@ public abstract class IStateDouble  {
 
     @Override
     public String toString() {
-        return String.valueOf(currentValue);
+        return String.valueOf(get());
     }
 }
@@ -33,8 +33,9 @@ public abstract class IStateInt  {
 
     /**
      * Returns the current value.
+     * Implementations which do not store the value in {@link #currentValue} override this method.
      */
-    public final int get() {
+    public int get() {
         return currentValue;
     }
 
@@ -52,7 +53,7 @@ public abstract class IStateInt  {
      * @return the new value
      */
     public final int add(int delta) {
-        int res = currentValue + delta;
+        int res = get() + delta;
         set(res);
         return res;
     }
@@ -74,6 +75,6 @@ public abstract class IStateInt  {
 
     @Override
     public String toString() {
-        return String.valueOf(currentValue);
+        return String.valueOf(get());
     }
 }
@@ -33,8 +33,9 @@ public abstract class IStateLong  {
 
     /**
      * Returns the current value.
+     * Implementations which do not store the value in {@link #currentValue} override this method.
      */
-    public final long get() {
+    public long get() {
         return currentValue;
     }
 
@@ -45,6 +46,18 @@ public abstract class IStateLong  {
      */
     public abstract void set(long y);
 
+    /**
+     * modifying a StoredLong by an increment
+     *
+     * @param delta increment value
+     * @return the new value
+     */
+    public final long add(long delta) {
+        long res = get() + delta;
+        set(res);
+        return res;
+    }
+
     /**
      * Modifies the value without storing the former value on the trailing stack.
      *
@@ -62,6 +75,6 @@ public abstract class IStateLong  {
 
     @Override
     public String toString() {
-        return String.valueOf(currentValue);
+        return String.valueOf(get());
     }
 }
@@ -0,0 +1,396 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateBitSet;
+
+/**
+ * A backtrackable bit set whose words are stored in a contiguous block of slots of the long arena
+ * of an {@link EnvironmentCopying}.
+ * <p>
+ * Contrary to {@link org.chocosolver.memory.structure.S64BitSet}, no object is created per word:
+ * the bit set is a lightweight handle made of three consecutive slots of the int arena
+ * (the first slot of the block of words, the number of words of the block and the number of words in use).
+ * When the bit set grows, a new block is allocated and the handle is updated in a backtrackable way,
+ * so that the previous block is restored upon backtrack.
+ * The largest block is remembered: when the bit set grows again after such a backtrack,
+ * this block is reused instead of allocating a new one, because no world still alive refers to it.
+ * Since a new block is at least twice as large as the previous largest one, the blocks of a bit set
+ * take less than twice as many slots as the largest one, whatever the number of backtracks.
+ * </p>
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+public final class CopiedBitSet implements IStateBitSet {
+
+    private final static int ADDRESS_BITS_PER_WORD = 6;
+    private final static int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+    private static final long WORD_MASK = 0xffffffffffffffffL;
+
+    private final EnvironmentCopying environment;
+    private final IntArena ints;
+    private final LongArena longs;
+    /**
+     * Slot of the first word of the block, in the int arena.
+     * The next two slots store the number of words of the block and the number of words in use.
+     */
+    private final int meta;
+    /**
+     * First slot and number of words of the largest block allocated so far, not backtrackable
+     */
+    private int largest, largestCap;
+
+    /**
+     * Creates a bit set whose initial size is large enough to explicitly
+     * represent bits with indices in the range <code>0</code> through
+     * <code>nbits-1</code>. All bits are initially <code>false</code>.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    CopiedBitSet(EnvironmentCopying environment, IntArena ints, LongArena longs, int nbits) {
+        if (nbits < 0)
+            throw new NegativeArraySizeException("nbits < 0: " + nbits);
+        this.environment = environment;
+        this.ints = ints;
+        this.longs = longs;
+        int nwords = wordIndex(nbits - 1) + 1;
+        this.largest = allocateBlock(nwords, 0);
+        this.largestCap = nwords;
+        this.meta = ints.allocate(largest);
+        ints.allocate(nwords);
+        ints.allocate(0);
+    }
+
+    private static int wordIndex(int bitIndex) {
+        return bitIndex >> ADDRESS_BITS_PER_WORD;
+    }
+
+    /**
+     * Allocate <i>nwords</i> consecutive slots in the long arena, the first <i>ncopies</i> ones
+     * being initialized with the current words.
+     *
+     * @return the first slot of the block
+     */
+    private int allocateBlock(int nwords, int ncopies) {
+        int first = -1;
+        for (int i = 0; i < nwords; i++) {
+            int s = longs.allocate(i < ncopies ? word(i) : 0L);
+            if (i == 0) first = s;
+        }
+        return first;
+    }
+
+    private long word(int i) {
+        return longs.values[ints.values[meta] + i];
+    }
+
+    private void setWord(int i, long value) {
+        int slot = ints.values[meta] + i;
+        if (longs.values[slot] != value) {
+            longs.set(slot, value, environment.getWorldIndex());
+        }
+    }
+
+    private int capacity() {
+        return ints.values[meta + 1];
+    }
+
+    private int wordsInUse() {
+        return ints.values[meta + 2];
+    }
+
+    private void setWordsInUse(int n) {
+        if (ints.values[meta + 2] != n) {
+            ints.set(meta + 2, n, environment.getWorldIndex());
+        }
+    }
+
+    /**
+     * Set the number of words in use to the logical size of the bit set.
+     * WARNING: This method assumes that the number of words actually
+     * in use is less than or equal to the current value of wordsInUse!
+     */
+    private void recalculateWordsInUse() {
+        int n = wordsInUse();
+        int i;
+        for (i = n - 1; i >= 0; i--)
+            if (word(i) != 0)
+                break;
+        setWordsInUse(i + 1);
+    }
+
+    /**
+     * Ensures that the bit set can hold enough words.
+     *
+     * @param wordsRequired the minimum acceptable number of words.
+     */
+    private void ensureCapacity(int wordsRequired) {
+        int cap = capacity();
+        if (cap < wordsRequired) {
+            int world = environment.getWorldIndex();
+            if (largestCap < wordsRequired) {
+                largestCap = Math.max(2 * largestCap, wordsRequired);
+                largest = allocateBlock(largestCap, wordsInUse());
+            } else {
+                // the current block is smaller than the largest one, so the bit set grew into it in a world
+                // which has been popped since: the worlds still alive only refer to smaller blocks
+                int wiu = wordsInUse();
+                for (int i = 0; i < largestCap; i++) {
+                    long value = i < wiu ? word(i) : 0L;
+                    if (longs.values[largest + i] != value) {
+                        longs.set(largest + i, value, world);
+                    }
+                }
+            }
+            ints.set(meta, largest, world);
+            ints.set(meta + 1, largestCap, world);
+        }
+    }
+
+    private void expandTo(int wordIndex) {
+        int wordsRequired = wordIndex + 1;
+        if (wordsInUse() < wordsRequired) {
+            ensureCapacity(wordsRequired);
+            setWordsInUse(wordsRequired);
+        }
+    }
+
+    private static void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0)
+            throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+        if (toIndex < 0)
+            throw new IndexOutOfBoundsException("toIndex < 0: " + toIndex);
+        if (fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + " > toIndex: " + toIndex);
+    }
+
+    @Override
+    public int cardinality() {
+        int sum = 0;
+        int base = ints.values[meta];
+        long[] values = longs.values;
+        for (int i = wordsInUse() - 1; i >= 0; i--)
+            sum += Long.bitCount(values[base + i]);
+        return sum;
+    }
+
+    @Override
+    public int size() {
+        return capacity() * BITS_PER_WORD;
+    }
+
+    @Override
+    public void set(int bitIndex) {
+        if (bitIndex < 0)
+            throw new IndexOutOfBoundsException("bitIndex < 0: " + bitIndex);
+        int wordIndex = wordIndex(bitIndex);
+        expandTo(wordIndex);
+        setWord(wordIndex, word(wordIndex) | (1L << bitIndex));
+    }
+
+    @Override
+    public void clear(int bitIndex) {
+        if (bitIndex < 0)
+            throw new IndexOutOfBoundsException("bitIndex < 0: " + bitIndex);
+        int wordIndex = wordIndex(bitIndex);
+        if (wordIndex >= wordsInUse())
+            return;
+        setWord(wordIndex, word(wordIndex) & ~(1L << bitIndex));
+        recalculateWordsInUse();
+    }
+
+    @Override
+    public void clear() {
+        for (int i = wordsInUse() - 1; i >= 0; i--) {
+            setWord(i, 0L);
+        }
+        setWordsInUse(0);
+    }
+
+    @Override
+    public void clear(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == toIndex)
+            return;
+        int wiu = wordsInUse();
+        int startWordIndex = wordIndex(fromIndex);
+        if (startWordIndex >= wiu)
+            return;
+        int endWordIndex = wordIndex(toIndex - 1);
+        if (endWordIndex >= wiu) {
+            toIndex = length();
+            endWordIndex = wiu - 1;
+        }
+        long firstWordMask = WORD_MASK << fromIndex;
+        long lastWordMask = WORD_MASK >>> -toIndex;
+        if (startWordIndex == endWordIndex) {
+            setWord(startWordIndex, word(startWordIndex) & ~(firstWordMask & lastWordMask));
+        } else {
+            setWord(startWordIndex, word(startWordIndex) & ~firstWordMask);
+            for (int i = startWordIndex + 1; i < endWordIndex; i++)
+                setWord(i, 0L);
+            setWord(endWordIndex, word(endWordIndex) & ~lastWordMask);
+        }
+        recalculateWordsInUse();
+    }
+
+    @Override
+    public void set(int index, boolean value) {
+        if (value)
+            set(index);
+        else
+            clear(index);
+    }
+
+    @Override
+    public void set(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == toIndex)
+            return;
+        int startWordIndex = wordIndex(fromIndex);
+        int endWordIndex = wordIndex(toIndex - 1);
+        expandTo(endWordIndex);
+        long firstWordMask = WORD_MASK << fromIndex;
+        long lastWordMask = WORD_MASK >>> -toIndex;
+        if (startWordIndex == endWordIndex) {
+            setWord(startWordIndex, word(startWordIndex) | (firstWordMask & lastWordMask));
+        } else {
+            setWord(startWordIndex, word(startWordIndex) | firstWordMask);
+            for (int i = startWordIndex + 1; i < endWordIndex; i++)
+                setWord(i, WORD_MASK);
+            setWord(endWordIndex, word(endWordIndex) | lastWordMask);
+        }
+    }
+
+    @Override
+    public boolean get(int bitIndex) {
+        int wordIndex = bitIndex >> ADDRESS_BITS_PER_WORD;
+        return (wordIndex < wordsInUse())
+                && ((word(wordIndex) & (1L << bitIndex)) != 0);
+    }
+
+    @Override
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        int wiu = wordsInUse();
+        int u = wordIndex(fromIndex);
+        if (u >= wiu)
+            return -1;
+        int base = ints.values[meta];
+        long[] values = longs.values;
+        long word = values[base + u] & (WORD_MASK << fromIndex);
+        while (true) {
+            if (word != 0)
+                return (u * BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+            if (++u == wiu)
+                return -1;
+            word = values[base + u];
+        }
+    }
+
+    @Override
+    public int nextClearBit(int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        int wiu = wordsInUse();
+        int u = wordIndex(fromIndex);
+        if (u >= wiu)
+            return fromIndex;
+        int base = ints.values[meta];
+        long[] values = longs.values;
+        long word = ~values[base + u] & (WORD_MASK << fromIndex);
+        while (true) {
+            if (word != 0)
+                return (u * BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+            if (++u == wiu)
+                return wiu * BITS_PER_WORD;
+            word = ~values[base + u];
+        }
+    }
+
+    @Override
+    public int prevSetBit(int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        int u = wordIndex(fromIndex);
+        if (u >= wordsInUse())
+            return length() - 1;
+        int base = ints.values[meta];
+        long[] values = longs.values;
+        long word = values[base + u] & (WORD_MASK >>> -(fromIndex + 1));
+        while (true) {
+            if (word != 0)
+                return (u + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
+            if (u-- == 0)
+                return -1;
+            word = values[base + u];
+        }
+    }
+
+    @Override
+    public int prevClearBit(int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        int u = wordIndex(fromIndex);
+        if (u >= wordsInUse())
+            return fromIndex;
+        int base = ints.values[meta];
+        long[] values = longs.values;
+        long word = ~values[base + u] & (WORD_MASK >>> -(fromIndex + 1));
+        while (true) {
+            if (word != 0)
+                return (u + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
+            if (u-- == 0)
+                return -1;
+            word = ~values[base + u];
+        }
+    }
+
+    /**
+     * @return the index of the highest set bit plus one, or zero if the bit set is empty.
+     */
+    public int length() {
+        int wiu = wordsInUse();
+        if (wiu == 0)
+            return 0;
+        return BITS_PER_WORD * (wiu - 1) +
+                (BITS_PER_WORD - Long.numberOfLeadingZeros(word(wiu - 1)));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return wordsInUse() == 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder();
+        b.append('{');
+        int i = nextSetBit(0);
+        if (i != -1) {
+            b.append(i);
+            for (i = nextSetBit(i + 1); i >= 0; i = nextSetBit(i + 1)) {
+                int endOfRun = nextClearBit(i);
+                do {
+                    b.append(", ").append(i);
+                }
+                while (++i < endOfRun);
+            }
+        }
+        b.append('}');
+        return b.toString();
+    }
+}
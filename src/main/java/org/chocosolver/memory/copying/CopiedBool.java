@@ -0,0 +1,53 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateBool;
+
+/**
+ * A backtrackable <code>boolean</code> stored in a slot of the int arena of an {@link EnvironmentCopying}.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+public final class CopiedBool extends IStateBool {
+
+    private final IntArena arena;
+    private final int slot;
+
+    /**
+     * Constructs a stored boolean with an initial value.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    CopiedBool(EnvironmentCopying env, IntArena arena, boolean i) {
+        super(env, i);
+        this.arena = arena;
+        this.slot = arena.allocate(i ? 1 : 0);
+    }
+
+    @Override
+    public boolean get() {
+        return arena.values[slot] != 0;
+    }
+
+    @Override
+    public void set(boolean y) {
+        if (y != get()) {
+            arena.set(slot, y ? 1 : 0, environment.getWorldIndex());
+        }
+    }
+
+    @Override
+    public void _set(boolean y, int wstamp) {
+        // the page is not saved: unless it already was in the current world, the value survives backtracking
+        arena.values[slot] = y ? 1 : 0;
+    }
+}
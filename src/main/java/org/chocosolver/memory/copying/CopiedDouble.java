@@ -0,0 +1,53 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateDouble;
+
+/**
+ * A backtrackable <code>double</code> stored in a slot of the long arena of an {@link EnvironmentCopying}.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+public final class CopiedDouble extends IStateDouble {
+
+    private final LongArena arena;
+    private final int slot;
+
+    /**
+     * Constructs a stored double with an initial value.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    CopiedDouble(EnvironmentCopying env, LongArena arena, double i) {
+        super(env, i);
+        this.arena = arena;
+        this.slot = arena.allocate(Double.doubleToRawLongBits(i));
+    }
+
+    @Override
+    public double get() {
+        return Double.longBitsToDouble(arena.values[slot]);
+    }
+
+    @Override
+    public void set(double y) {
+        if (y != get()) {
+            arena.set(slot, Double.doubleToRawLongBits(y), environment.getWorldIndex());
+        }
+    }
+
+    @Override
+    public void _set(double y, int wstamp) {
+        // the page is not saved: unless it already was in the current world, the value survives backtracking
+        arena.values[slot] = Double.doubleToRawLongBits(y);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateInt;
+
+/**
+ * A backtrackable <code>int</code> stored in a slot of the int arena of an {@link EnvironmentCopying}.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+public final class CopiedInt extends IStateInt {
+
+    private final IntArena arena;
+    private final int slot;
+
+    /**
+     * Constructs a stored int with an initial value.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    CopiedInt(EnvironmentCopying env, IntArena arena, int i) {
+        super(env, i);
+        this.arena = arena;
+        this.slot = arena.allocate(i);
+    }
+
+    @Override
+    public int get() {
+        return arena.values[slot];
+    }
+
+    @Override
+    public void set(int y) {
+        if (y != get()) {
+            arena.set(slot, y, environment.getWorldIndex());
+        }
+    }
+
+    @Override
+    public void _set(int y, int wstamp) {
+        // the page is not saved: unless it already was in the current world, the value survives backtracking
+        arena.values[slot] = y;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateIntVector;
+
+import java.util.Arrays;
+
+/**
+ * A backtrackable vector of <code>int</code> for {@link EnvironmentCopying}.
+ * Its size is stored in the arena, the former value of a modified element is recorded
+ * as an operation, at most once per world.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+public final class CopiedIntVector extends IStateIntVector {
+
+    /**
+     * For each element, the world in which it has been saved for the last time
+     */
+    private int[] worldStamps;
+
+    /**
+     * Constructs a stored vector with an initial size, and all values to an initial value.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    CopiedIntVector(EnvironmentCopying env, int initialSize, int initialValue) {
+        super(env, initialSize, initialValue);
+        this.worldStamps = new int[elementData.length];
+        Arrays.fill(worldStamps, 0, initialSize, env.getWorldIndex());
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        int oldCapacity = elementData.length;
+        if (minCapacity > oldCapacity) {
+            int newCapacity = Math.max((oldCapacity * 3) / 2 + 1, minCapacity);
+            elementData = Arrays.copyOf(elementData, newCapacity);
+            worldStamps = Arrays.copyOf(worldStamps, newCapacity);
+        }
+    }
+
+    /**
+     * Adds a new value at the end of the vector.
+     *
+     * @param i the value to add
+     */
+    @Override
+    public void add(int i) {
+        int newsize = size.get() + 1;
+        ensureCapacity(newsize);
+        size.set(newsize);
+        elementData[newsize - 1] = i;
+        worldStamps[newsize - 1] = environment.getWorldIndex();
+    }
+
+    /**
+     * Removes the last value of the vector.
+     */
+    public void removeLast() {
+        int newsize = size.get() - 1;
+        if (newsize >= 0) {
+            size.set(newsize);
+        }
+    }
+
+    /**
+     * Assigns a new value to the element <i>index</i>.
+     *
+     * @param index the index of the element
+     * @param val   the new value
+     * @return the previous value
+     */
+    @Override
+    public int set(int index, int val) {
+        if (rangeCheck(index)) {
+            return quickSet(index, val);
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size.get());
+    }
+
+    @Override
+    public int quickSet(int index, int val) {
+        assert (rangeCheck(index));
+        final int oldValue = elementData[index];
+        if (val != oldValue) {
+            final int oldStamp = worldStamps[index];
+            final int world = environment.getWorldIndex();
+            if (oldStamp < world) {
+                environment.save(() -> {
+                    elementData[index] = oldValue;
+                    worldStamps[index] = oldStamp;
+                });
+                worldStamps[index] = world;
+            }
+            elementData[index] = val;
+        }
+        return oldValue;
+    }
+}
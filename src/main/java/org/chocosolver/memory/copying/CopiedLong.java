@@ -0,0 +1,53 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateLong;
+
+/**
+ * A backtrackable <code>long</code> stored in a slot of the long arena of an {@link EnvironmentCopying}.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+public final class CopiedLong extends IStateLong {
+
+    private final LongArena arena;
+    private final int slot;
+
+    /**
+     * Constructs a stored long with an initial value.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    CopiedLong(EnvironmentCopying env, LongArena arena, long i) {
+        super(env, i);
+        this.arena = arena;
+        this.slot = arena.allocate(i);
+    }
+
+    @Override
+    public long get() {
+        return arena.values[slot];
+    }
+
+    @Override
+    public void set(long y) {
+        if (y != get()) {
+            arena.set(slot, y, environment.getWorldIndex());
+        }
+    }
+
+    @Override
+    public void _set(long y, int wstamp) {
+        // the page is not saved: unless it already was in the current world, the value survives backtracking
+        arena.values[slot] = y;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.AbstractEnvironment;
+import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.memory.IStateBool;
+import org.chocosolver.memory.IStateDouble;
+import org.chocosolver.memory.IStateDoubleVector;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateIntVector;
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.memory.trailing.trail.flatten.OperationTrail;
+
+/**
+ * An environment based on copying instead of trailing.
+ * <p>
+ * All backtrackable primitives are stored in two contiguous arenas, one for <code>int</code> and <code>boolean</code>,
+ * one for <code>long</code> and <code>double</code>.
+ * Handles are lightweight: a primitive is an index in an arena, a bit set is a block of words in the long arena.
+ * Arenas are split into pages: the first modification of a page in a world copies the whole page,
+ * the following ones are free.
+ * A backtrack writes the copied pages back.
+ * This pays off when many primitives, close to each other, are modified in each world (e.g., shallow and wide models),
+ * since no entry is recorded per modification.
+ * </p>
+ * <p>
+ * Primitives created during search recover their initial value when backtracking before their creation world.
+ * Operations (see {@link #save(IOperation)}) are trailed as in {@link EnvironmentTrailing}.
+ * </p>
+ *
+ * @author agent
+ * @see org.chocosolver.memory.EnvironmentBuilder#buildCopying()
+ * @since 16/10/2026
+ */
+public class EnvironmentCopying extends AbstractEnvironment {
+
+    /**
+     * Default size of a page, in number of slots
+     */
+    public static final int PAGESIZE = 64;
+
+    /**
+     * The arenas, package-private for testing purpose
+     */
+    final IntArena ints;
+    final LongArena longs;
+    private final OperationTrail operationTrail;
+
+    /**
+     * Create an environment with pages of {@link #PAGESIZE} slots
+     */
+    public EnvironmentCopying() {
+        this(PAGESIZE);
+    }
+
+    /**
+     * Create an environment with pages of <i>pageSize</i> slots
+     *
+     * @param pageSize size of a page, must be a power of 2
+     */
+    public EnvironmentCopying(int pageSize) {
+        this.ints = new IntArena(pageSize);
+        this.longs = new LongArena(pageSize);
+        this.operationTrail = new OperationTrail(EnvironmentTrailing.NBUPATES,
+                EnvironmentTrailing.NBWORLDS, EnvironmentTrailing.LOADFACTOR);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPush() {
+        timestamp++;
+        final int wi = currentWorld + 1;
+        ints.worldPush(wi);
+        longs.worldPush(wi);
+        operationTrail.worldPush(wi);
+        currentWorld++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPop() {
+        timestamp++;
+        final int wi = currentWorld;
+        operationTrail.worldPop(wi);
+        longs.worldPop(wi);
+        ints.worldPop(wi);
+        currentWorld--;
+        assert currentWorld >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldCommit() {
+        if (currentWorld == 0) {
+            throw new IllegalStateException("Commit in world 0?");
+        }
+        final int wi = currentWorld;
+        operationTrail.worldCommit(wi);
+        longs.worldCommit(wi);
+        ints.worldCommit(wi);
+        currentWorld--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeInt() {
+        return makeInt(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeInt(final int initialValue) {
+        return new CopiedInt(this, ints, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateBool makeBool(final boolean initialValue) {
+        return new CopiedBool(this, ints, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateIntVector makeIntVector(final int size, final int initialValue) {
+        return new CopiedIntVector(this, size, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDoubleVector makeDoubleVector(final int size, final double initialValue) {
+        return new CopiedDoubleVector(this, size, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDouble makeFloat() {
+        return makeFloat(Double.NaN);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDouble makeFloat(final double initialValue) {
+        return new CopiedDouble(this, longs, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLong makeLong() {
+        return makeLong(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLong makeLong(final long init) {
+        return new CopiedLong(this, longs, init);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Bit sets of 64 bits or more are stored as a block of words in the long arena (see {@link CopiedBitSet}).
+     */
+    @Override
+    public IStateBitSet makeBitSet(int size) {
+        if (size < 64) {
+            return super.makeBitSet(size);
+        }
+        return new CopiedBitSet(this, ints, longs, size);
+    }
+
+    @Override
+    public void save(IOperation operation) {
+        operationTrail.savePreviousState(operation);
+    }
+}
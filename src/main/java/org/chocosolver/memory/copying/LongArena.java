@@ -0,0 +1,216 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import java.util.Arrays;
+
+/**
+ * A contiguous array of backtrackable <code>long</code>, split into pages of fixed size.
+ * <p>
+ * Before a page is modified for the first time in a world, a copy of it is pushed on a stack (copy-on-write).
+ * Each page stores the world in which it has been saved for the last time,
+ * which tells whether it is dirty in the current world, without any clearing at {@link #worldPush(int)}.
+ * On {@link #worldPop(int)}, the copies made in the current world are written back in reverse order.
+ * </p>
+ *
+ * @author agent
+ * @see IntArena
+ * @since 16/10/2026
+ */
+final class LongArena {
+
+    /**
+     * log2 of the size of a page
+     */
+    private final int shift;
+    /**
+     * Size of a page
+     */
+    private final int pageSize;
+    /**
+     * The values, package-private for fast reading
+     */
+    long[] values;
+    /**
+     * Number of slots allocated
+     */
+    private int size;
+    /**
+     * For each page, the world in which it has been saved for the last time (0 if never)
+     */
+    private int[] pageStamps;
+    /**
+     * For each page, the position of its last copy in the stack (-1 if none)
+     */
+    private int[] pageLast;
+    /**
+     * For each copy, the index of the page
+     */
+    private int[] savedPages;
+    /**
+     * For each copy, the stamp of the page before the copy
+     */
+    private int[] savedStamps;
+    /**
+     * For each copy, the position of the previous copy of the same page (-1 if none)
+     */
+    private int[] savedPrev;
+    /**
+     * Content of the copies, page after page
+     */
+    private long[] savedValues;
+    /**
+     * Number of copies in the stack
+     */
+    private int nbSaved;
+    /**
+     * For each world, position in the stack of its first copy
+     */
+    private int[] worldStarts;
+
+    /**
+     * Create an arena
+     *
+     * @param pageSize size of a page, must be a power of 2
+     */
+    LongArena(int pageSize) {
+        if (Integer.bitCount(pageSize) != 1) {
+            throw new IllegalArgumentException("The size of a page must be a power of 2");
+        }
+        this.pageSize = pageSize;
+        this.shift = Integer.numberOfTrailingZeros(pageSize);
+        this.values = new long[pageSize * 16];
+        this.pageStamps = new int[16];
+        this.pageLast = new int[16];
+        Arrays.fill(pageLast, -1);
+        this.savedPages = new int[16];
+        this.savedStamps = new int[16];
+        this.savedPrev = new int[16];
+        this.savedValues = new long[pageSize * 16];
+        this.worldStarts = new int[16];
+    }
+
+    /**
+     * Allocate a new slot.
+     * If the slot belongs to a page which has been copied in previous worlds,
+     * the copies are updated too, so that the slot recovers <i>value</i> upon backtrack.
+     *
+     * @param value initial value of the slot
+     * @return the index of the slot
+     */
+    int allocate(long value) {
+        if (size == values.length) {
+            int npages = (values.length >>> shift) * 3 / 2 + 1;
+            values = Arrays.copyOf(values, npages << shift);
+            pageStamps = Arrays.copyOf(pageStamps, npages);
+            int from = pageLast.length;
+            pageLast = Arrays.copyOf(pageLast, npages);
+            Arrays.fill(pageLast, from, npages, -1);
+        }
+        int slot = size++;
+        values[slot] = value;
+        int offset = slot & (pageSize - 1);
+        for (int k = pageLast[slot >>> shift]; k > -1; k = savedPrev[k]) {
+            savedValues[(k << shift) + offset] = value;
+        }
+        return slot;
+    }
+
+    /**
+     * @return the number of slots allocated
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Set the value of a slot, copying its page if it is not yet dirty in <i>world</i>
+     *
+     * @param slot  index of a slot
+     * @param value new value
+     * @param world current world index
+     */
+    void set(int slot, long value, int world) {
+        int page = slot >>> shift;
+        if (pageStamps[page] < world) {
+            save(page, world);
+        }
+        values[slot] = value;
+    }
+
+    private void save(int page, int world) {
+        if (nbSaved == savedPages.length) {
+            int ncap = nbSaved * 3 / 2 + 1;
+            savedPages = Arrays.copyOf(savedPages, ncap);
+            savedStamps = Arrays.copyOf(savedStamps, ncap);
+            savedPrev = Arrays.copyOf(savedPrev, ncap);
+            savedValues = Arrays.copyOf(savedValues, ncap << shift);
+        }
+        int k = nbSaved++;
+        savedPages[k] = page;
+        savedStamps[k] = pageStamps[page];
+        savedPrev[k] = pageLast[page];
+        System.arraycopy(values, page << shift, savedValues, k << shift, pageSize);
+        pageStamps[page] = world;
+        pageLast[page] = k;
+    }
+
+    /**
+     * Open a new world
+     *
+     * @param world index of the new world
+     */
+    void worldPush(int world) {
+        if (world >= worldStarts.length) {
+            worldStarts = Arrays.copyOf(worldStarts, Math.max(world + 1, worldStarts.length * 3 / 2));
+        }
+        worldStarts[world] = nbSaved;
+    }
+
+    /**
+     * Restore the pages copied in <i>world</i>
+     *
+     * @param world index of the world to leave
+     */
+    void worldPop(int world) {
+        int start = worldStarts[world];
+        for (int k = nbSaved - 1; k >= start; k--) {
+            int page = savedPages[k];
+            System.arraycopy(savedValues, k << shift, values, page << shift, pageSize);
+            pageStamps[page] = savedStamps[k];
+            pageLast[page] = savedPrev[k];
+        }
+        nbSaved = start;
+    }
+
+    /**
+     * Merge <i>world</i> into the previous one:
+     * copies of pages already copied in the previous world are dropped, the other ones are kept.
+     *
+     * @param world index of the world to merge
+     */
+    void worldCommit(int world) {
+        int j = worldStarts[world];
+        for (int k = j; k < nbSaved; k++) {
+            int page = savedPages[k];
+            pageStamps[page] = world - 1;
+            if (savedStamps[k] == world - 1) {
+                pageLast[page] = savedPrev[k];
+            } else {
+                savedPages[j] = page;
+                savedStamps[j] = savedStamps[k];
+                savedPrev[j] = savedPrev[k];
+                System.arraycopy(savedValues, k << shift, savedValues, j << shift, pageSize);
+                pageLast[page] = j++;
+            }
+        }
+        nbSaved = j;
+    }
+}
@@ -0,0 +1,541 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.structure;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateBitSet;
+
+import java.util.Arrays;
+
+/**
+ * A backtrackable bit set which saves its state in a single record per world,
+ * instead of one trail entry per modified word, as {@link S64BitSet} does.
+ * <p>
+ * Words are stored in a plain <code>long</code> array.
+ * The first modification in a world opens a record, registered as one {@link IOperation} in the environment,
+ * which stores the cardinality, the logical size and a few integer attributes;
+ * then, each word is saved at most once per world in a stack shared by all records.
+ * Upon backtrack, the record restores the saved words, the cardinality and the attributes at once.
+ * </p>
+ * <p>
+ * The cardinality is maintained incrementally, thus {@link #cardinality()} runs in constant time.
+ * Attributes are backtrackable integers attached to the bit set (e.g., the bounds of a domain, see
+ * {@link #getAttribute(int)}), they are saved in the same record as the words.
+ * </p>
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+public class StoredBitSet implements IStateBitSet, IOperation {
+
+    /*
+     * BitSets are packed into arrays of "words."  Currently a word is
+     * a long, which consists of 64 bits, requiring 6 address bits.
+     */
+    private final static int ADDRESS_BITS_PER_WORD = 6;
+    private final static int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+    /* Used to shift left or right for a partial word mask */
+    private static final long WORD_MASK = 0xffffffffffffffffL;
+
+    /**
+     * The current environment.
+     */
+    private final IEnvironment environment;
+    /**
+     * The words
+     */
+    private long[] words;
+    /**
+     * The number of words in the logical size of this bit set.
+     */
+    private int wordsInUse;
+    /**
+     * Number of bits set to <code>true</code>
+     */
+    private int card;
+    /**
+     * Backtrackable integers attached to this bit set
+     */
+    private final int[] attributes;
+
+    /**
+     * Timestamp of the environment when this bit set was created,
+     * modifications made at that time are never saved
+     */
+    private final int creation;
+    /**
+     * Timestamp of the environment when the last record was opened
+     */
+    private int stamp;
+    /**
+     * For each word, timestamp of the record in which it has been saved for the last time
+     */
+    private int[] wordStamps;
+    /**
+     * Number of records opened
+     */
+    private int nbRecords;
+    /**
+     * For each record, the timestamp of the previous record
+     */
+    private int[] recStamps;
+    /**
+     * For each record, the cardinality when the record was opened
+     */
+    private int[] recCards;
+    /**
+     * For each record, the logical size when the record was opened
+     */
+    private int[] recWordsInUse;
+    /**
+     * For each record, position of its first saved word
+     */
+    private int[] recStarts;
+    /**
+     * For each record, the attributes when the record was opened
+     */
+    private int[] recAttributes;
+    /**
+     * Number of saved words
+     */
+    private int nbSaved;
+    /**
+     * For each saved word, its index
+     */
+    private int[] savedIdx;
+    /**
+     * For each saved word, its stamp before it was saved
+     */
+    private int[] savedStamps;
+    /**
+     * For each saved word, its value before it was saved
+     */
+    private long[] savedWords;
+
+    /**
+     * Creates a new bit set of 64 bits, without attributes. All bits are initially <code>false</code>.
+     *
+     * @param environment backtrackable environment
+     */
+    public StoredBitSet(IEnvironment environment) {
+        this(environment, BITS_PER_WORD, 0);
+    }
+
+    /**
+     * Creates a bit set whose initial size is large enough to explicitly
+     * represent bits with indices in the range <code>0</code> through
+     * <code>nbits-1</code>. All bits are initially <code>false</code>.
+     * The bit set grows when needed.
+     * As for other backtrackable primitives, modifications made in the world of creation are not undone.
+     *
+     * @param environment  backtrackable environment
+     * @param nbits        the initial size of the bit set.
+     * @param nbAttributes number of backtrackable integers attached to this bit set, all initially set to 0
+     * @throws NegativeArraySizeException if the specified initial size is negative.
+     */
+    public StoredBitSet(IEnvironment environment, int nbits, int nbAttributes) {
+        if (nbits < 0)
+            throw new NegativeArraySizeException("nbits < 0: " + nbits);
+        this.environment = environment;
+        this.creation = this.stamp = environment.getTimeStamp();
+        int nw = wordIndex(nbits - 1) + 1;
+        this.words = new long[nw];
+        this.wordStamps = new int[nw];
+        this.attributes = new int[nbAttributes];
+        this.recStamps = new int[8];
+        this.recCards = new int[8];
+        this.recWordsInUse = new int[8];
+        this.recStarts = new int[8];
+        this.recAttributes = new int[8 * nbAttributes];
+        this.savedIdx = new int[16];
+        this.savedStamps = new int[16];
+        this.savedWords = new long[16];
+    }
+
+    private static int wordIndex(int bitIndex) {
+        return bitIndex >> ADDRESS_BITS_PER_WORD;
+    }
+
+    /**
+     * Open a record for the current timestamp, if not done yet
+     */
+    private void record() {
+        int t = environment.getTimeStamp();
+        if (stamp != t) {
+            if (nbRecords == recStamps.length) {
+                int ncap = nbRecords * 3 / 2 + 1;
+                recStamps = Arrays.copyOf(recStamps, ncap);
+                recCards = Arrays.copyOf(recCards, ncap);
+                recWordsInUse = Arrays.copyOf(recWordsInUse, ncap);
+                recStarts = Arrays.copyOf(recStarts, ncap);
+                recAttributes = Arrays.copyOf(recAttributes, ncap * attributes.length);
+            }
+            int r = nbRecords++;
+            recStamps[r] = stamp;
+            recCards[r] = card;
+            recWordsInUse[r] = wordsInUse;
+            recStarts[r] = nbSaved;
+            System.arraycopy(attributes, 0, recAttributes, r * attributes.length, attributes.length);
+            stamp = t;
+            environment.save(this);
+        }
+    }
+
+    /**
+     * Restore the state of this bit set as it was when the last record was opened.
+     * Note: this method is called by the environment upon backtrack and should not be called directly.
+     */
+    @Override
+    public void undo() {
+        int r = --nbRecords;
+        int start = recStarts[r];
+        for (int k = nbSaved - 1; k >= start; k--) {
+            int i = savedIdx[k];
+            words[i] = savedWords[k];
+            wordStamps[i] = savedStamps[k];
+        }
+        nbSaved = start;
+        stamp = recStamps[r];
+        card = recCards[r];
+        wordsInUse = recWordsInUse[r];
+        System.arraycopy(recAttributes, r * attributes.length, attributes, 0, attributes.length);
+    }
+
+    private void setWord(int i, long w) {
+        long old = words[i];
+        if (old != w) {
+            if (environment.getWorldIndex() > 0) {
+                record();
+                if (stamp != creation && wordStamps[i] != stamp) {
+                    if (nbSaved == savedIdx.length) {
+                        int ncap = nbSaved * 3 / 2 + 1;
+                        savedIdx = Arrays.copyOf(savedIdx, ncap);
+                        savedStamps = Arrays.copyOf(savedStamps, ncap);
+                        savedWords = Arrays.copyOf(savedWords, ncap);
+                    }
+                    savedIdx[nbSaved] = i;
+                    savedStamps[nbSaved] = wordStamps[i];
+                    savedWords[nbSaved++] = old;
+                    wordStamps[i] = stamp;
+                }
+            }
+            words[i] = w;
+            card += Long.bitCount(w) - Long.bitCount(old);
+        }
+    }
+
+    private void setWordsInUse(int n) {
+        if (wordsInUse != n) {
+            if (environment.getWorldIndex() > 0) {
+                record();
+            }
+            wordsInUse = n;
+        }
+    }
+
+    /**
+     * @param i index of an attribute
+     * @return the current value of the <i>i</i><sup>th</sup> attribute
+     */
+    public int getAttribute(int i) {
+        return attributes[i];
+    }
+
+    /**
+     * Set the value of the <i>i</i><sup>th</sup> attribute, in a backtrackable way
+     *
+     * @param i     index of an attribute
+     * @param value its new value
+     */
+    public void setAttribute(int i, int value) {
+        if (attributes[i] != value) {
+            if (environment.getWorldIndex() > 0) {
+                record();
+            }
+            attributes[i] = value;
+        }
+    }
+
+    /**
+     * Set the field wordsInUse with the logical size in words of the bit set.
+     * WARNING: This method assumes that the number of words actually
+     * in use is less than or equal to the current value of wordsInUse!
+     */
+    private void recalculateWordsInUse() {
+        int i;
+        for (i = wordsInUse - 1; i >= 0; i--)
+            if (words[i] != 0)
+                break;
+        setWordsInUse(i + 1);
+    }
+
+    /**
+     * Ensures that the bit set can accommodate a given wordIndex.
+     * Words added are not saved, they are equal to 0 in any world.
+     *
+     * @param wordIndex the index to be accommodated.
+     */
+    private void expandTo(int wordIndex) {
+        int wordsRequired = wordIndex + 1;
+        if (words.length < wordsRequired) {
+            int request = Math.max(2 * words.length, wordsRequired);
+            words = Arrays.copyOf(words, request);
+            wordStamps = Arrays.copyOf(wordStamps, request);
+        }
+        if (wordsInUse < wordsRequired) {
+            setWordsInUse(wordsRequired);
+        }
+    }
+
+    private static void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0)
+            throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+        if (toIndex < 0)
+            throw new IndexOutOfBoundsException("toIndex < 0: " + toIndex);
+        if (fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + " > toIndex: " + toIndex);
+    }
+
+    @Override
+    public int cardinality() {
+        return card;
+    }
+
+    @Override
+    public int size() {
+        return words.length * BITS_PER_WORD;
+    }
+
+    @Override
+    public void set(int bitIndex) {
+        if (bitIndex < 0)
+            throw new IndexOutOfBoundsException("bitIndex < 0: " + bitIndex);
+        int wordIndex = wordIndex(bitIndex);
+        expandTo(wordIndex);
+        setWord(wordIndex, words[wordIndex] | (1L << bitIndex));
+    }
+
+    @Override
+    public void clear(int bitIndex) {
+        if (bitIndex < 0)
+            throw new IndexOutOfBoundsException("bitIndex < 0: " + bitIndex);
+        int wordIndex = wordIndex(bitIndex);
+        if (wordIndex >= wordsInUse)
+            return;
+        setWord(wordIndex, words[wordIndex] & ~(1L << bitIndex));
+        if (wordIndex == wordsInUse - 1) {
+            recalculateWordsInUse();
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (int i = wordsInUse - 1; i >= 0; i--) {
+            setWord(i, 0L);
+        }
+        setWordsInUse(0);
+    }
+
+    @Override
+    public void clear(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == toIndex)
+            return;
+        int wiu = wordsInUse;
+        int startWordIndex = wordIndex(fromIndex);
+        if (startWordIndex >= wiu)
+            return;
+        int endWordIndex = wordIndex(toIndex - 1);
+        if (endWordIndex >= wiu) {
+            toIndex = length();
+            endWordIndex = wiu - 1;
+        }
+        long firstWordMask = WORD_MASK << fromIndex;
+        long lastWordMask = WORD_MASK >>> -toIndex;
+        if (startWordIndex == endWordIndex) {
+            setWord(startWordIndex, words[startWordIndex] & ~(firstWordMask & lastWordMask));
+        } else {
+            setWord(startWordIndex, words[startWordIndex] & ~firstWordMask);
+            for (int i = startWordIndex + 1; i < endWordIndex; i++)
+                setWord(i, 0L);
+            setWord(endWordIndex, words[endWordIndex] & ~lastWordMask);
+        }
+        if (endWordIndex == wiu - 1) {
+            recalculateWordsInUse();
+        }
+    }
+
+    @Override
+    public void set(int index, boolean value) {
+        if (value)
+            set(index);
+        else
+            clear(index);
+    }
+
+    @Override
+    public void set(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == toIndex)
+            return;
+        int startWordIndex = wordIndex(fromIndex);
+        int endWordIndex = wordIndex(toIndex - 1);
+        expandTo(endWordIndex);
+        long firstWordMask = WORD_MASK << fromIndex;
+        long lastWordMask = WORD_MASK >>> -toIndex;
+        if (startWordIndex == endWordIndex) {
+            setWord(startWordIndex, words[startWordIndex] | (firstWordMask & lastWordMask));
+        } else {
+            setWord(startWordIndex, words[startWordIndex] | firstWordMask);
+            for (int i = startWordIndex + 1; i < endWordIndex; i++)
+                setWord(i, WORD_MASK);
+            setWord(endWordIndex, words[endWordIndex] | lastWordMask);
+        }
+    }
+
+    @Override
+    public boolean get(int bitIndex) {
+        int wordIndex = bitIndex >> ADDRESS_BITS_PER_WORD;
+        return (wordIndex < wordsInUse)
+                && ((words[wordIndex] & (1L << bitIndex)) != 0);
+    }
+
+    /**
+     * Return the 64 bits starting at <i>fromIndex</i>, as a word: bit <i>i</i> of the word is the bit
+     * <i>fromIndex + i</i> of this bit set. Bits out of this bit set (including negative indices) are unset.
+     *
+     * @param fromIndex index of the first bit, may be negative
+     * @return the 64 bits starting at <i>fromIndex</i>
+     */
+    public long getWord(int fromIndex) {
+        if (fromIndex < 0) {
+            return fromIndex <= -BITS_PER_WORD ? 0L : getWord(0) << -fromIndex;
+        }
+        int u = fromIndex >> ADDRESS_BITS_PER_WORD;
+        if (u >= wordsInUse) {
+            return 0L;
+        }
+        int shift = fromIndex & (BITS_PER_WORD - 1);
+        long word = words[u] >>> shift;
+        if (shift > 0 && u + 1 < wordsInUse) {
+            word |= words[u + 1] << -shift;
+        }
+        return word;
+    }
+
+    @Override
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        int wiu = wordsInUse;
+        int u = wordIndex(fromIndex);
+        if (u >= wiu)
+            return -1;
+        long word = words[u] & (WORD_MASK << fromIndex);
+        while (true) {
+            if (word != 0)
+                return (u * BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+            if (++u == wiu)
+                return -1;
+            word = words[u];
+        }
+    }
+
+    @Override
+    public int nextClearBit(int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        int wiu = wordsInUse;
+        int u = wordIndex(fromIndex);
+        if (u >= wiu)
+            return fromIndex;
+        long word = ~words[u] & (WORD_MASK << fromIndex);
+        while (true) {
+            if (word != 0)
+                return (u * BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+            if (++u == wiu)
+                return wiu * BITS_PER_WORD;
+            word = ~words[u];
+        }
+    }
+
+    @Override
+    public int prevSetBit(int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        int u = wordIndex(fromIndex);
+        if (u >= wordsInUse)
+            return length() - 1;
+        long word = words[u] & (WORD_MASK >>> -(fromIndex + 1));
+        while (true) {
+            if (word != 0)
+                return (u + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
+            if (u-- == 0)
+                return -1;
+            word = words[u];
+        }
+    }
+
+    @Override
+    public int prevClearBit(int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        int u = wordIndex(fromIndex);
+        if (u >= wordsInUse)
+            return fromIndex;
+        long word = ~words[u] & (WORD_MASK >>> -(fromIndex + 1));
+        while (true) {
+            if (word != 0)
+                return (u + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
+            if (u-- == 0)
+                return -1;
+            word = ~words[u];
+        }
+    }
+
+    /**
+     * @return the index of the highest set bit plus one, or zero if the bit set is empty.
+     */
+    public int length() {
+        if (wordsInUse == 0)
+            return 0;
+        return BITS_PER_WORD * (wordsInUse - 1) +
+                (BITS_PER_WORD - Long.numberOfLeadingZeros(words[wordsInUse - 1]));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return wordsInUse == 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder();
+        b.append('{');
+        int i = nextSetBit(0);
+        if (i != -1) {
+            b.append(i);
+            for (i = nextSetBit(i + 1); i >= 0; i = nextSetBit(i + 1)) {
+                int endOfRun = nextClearBit(i);
+                do {
+                    b.append(", ").append(i);
+                }
+                while (++i < endOfRun);
+            }
+        }
+        b.append('}');
+        return b.toString();
+    }
+}
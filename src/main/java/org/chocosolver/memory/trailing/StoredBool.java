@@ -48,5 +48,12 @@ public class StoredBool extends IStateBool {
             currentValue = y;
         }
     }
-}
 
+    /**
+     * Returns the current value.
+     */
+    @Override
+    public final boolean get() {
+        return currentValue;
+    }
+}
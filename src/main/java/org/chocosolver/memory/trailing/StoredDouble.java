@@ -48,5 +48,12 @@ public class StoredDouble extends IStateDouble {
             currentValue = y;
         }
     }
-}
 
+    /**
+     * Returns the current value.
+     */
+    @Override
+    public final double get() {
+        return currentValue;
+    }
+}
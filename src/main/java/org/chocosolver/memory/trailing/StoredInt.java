@@ -48,5 +48,12 @@ public class StoredInt extends IStateInt {
             currentValue = y;
         }
     }
-}
 
+    /**
+     * Returns the current value.
+     */
+    @Override
+    public final int get() {
+        return currentValue;
+    }
+}
@@ -48,5 +48,12 @@ public class StoredLong extends IStateLong {
             currentValue = y;
         }
     }
-}
 
+    /**
+     * Returns the current value.
+     */
+    @Override
+    public final long get() {
+        return currentValue;
+    }
+}
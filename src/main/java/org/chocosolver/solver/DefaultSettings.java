@@ -11,6 +11,8 @@ package org.chocosolver.solver;
 
 import org.chocosolver.memory.Except_0;
 import org.chocosolver.memory.ICondition;
+import org.chocosolver.solver.propagation.PropagationScheduler;
+import org.chocosolver.solver.propagation.SevenQueuesScheduler;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
 import org.chocosolver.util.ESat;
@@ -65,10 +67,14 @@ public class DefaultSettings implements Settings {
 
     private IntPredicate enableIncrementalityOnBoolSum = i -> i > 10;
 
+    private IntPredicate enableIncrementalityOnSum = i -> false;
+
     private boolean cloneVariableArrayInPropagator = true;
 
     private boolean enableACOnTernarySum = false;
 
+    private boolean enableBitsetPropagators = false;
+
     private String defaultPrefix = DEFAULT_PREFIX;
 
     private boolean enableSAT = false;
@@ -91,6 +97,8 @@ public class DefaultSettings implements Settings {
 
     private Function<Model, Solver> initSolver = Solver::new;
 
+    private Function<Model, PropagationScheduler> propagationScheduler = m -> new SevenQueuesScheduler();
+
 
     public DefaultSettings() {
     }
@@ -251,6 +259,17 @@ public class DefaultSettings implements Settings {
         return this;
     }
 
+    @Override
+    public boolean enableIncrementalityOnSum(int nbvars) {
+        return enableIncrementalityOnSum.test(nbvars);
+    }
+
+    @Override
+    public DefaultSettings setEnableIncrementalityOnSum(IntPredicate enableIncrementalityOnSum) {
+        this.enableIncrementalityOnSum = enableIncrementalityOnSum;
+        return this;
+    }
+
     @Override
     public boolean cloneVariableArrayInPropagator() {
         return cloneVariableArrayInPropagator;
@@ -273,6 +292,17 @@ public class DefaultSettings implements Settings {
         return this;
     }
 
+    @Override
+    public boolean enableBitsetPropagators() {
+        return enableBitsetPropagators;
+    }
+
+    @Override
+    public Settings setEnableBitsetPropagators(boolean enable) {
+        this.enableBitsetPropagators = enable;
+        return this;
+    }
+
     @Override
     public String defaultPrefix() {
         return defaultPrefix;
@@ -340,6 +370,17 @@ public class DefaultSettings implements Settings {
         return this;
     }
 
+    @Override
+    public PropagationScheduler makePropagationScheduler(Model model) {
+        return propagationScheduler.apply(model);
+    }
+
+    @Override
+    public DefaultSettings setPropagationScheduler(Function<Model, PropagationScheduler> scheduler) {
+        this.propagationScheduler = scheduler;
+        return this;
+    }
+
     @Override
     public int getNbMaxLearntClauses() {
         return nbMaxLearnt;
@@ -0,0 +1,152 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+/**
+ * A copy factory which maps objects of a source model to their counterparts in a target model.
+ * <p>
+ * Each object is duplicated at most once: the first request calls its <code>duplicate(Duplicator)</code> method,
+ * the next ones return the same copy.
+ * Immutable data (e.g., tuples, automata or multi-valued decision diagrams) are not duplicated but shared
+ * between the source and the target.
+ * </p>
+ *
+ * @author agent
+ * @see Model#duplicate()
+ * @see Variable#duplicate(Duplicator)
+ * @see org.chocosolver.solver.constraints.Propagator#duplicate(Duplicator)
+ * @see Constraint#duplicate(Duplicator)
+ * @since 16/10/2026
+ */
+public class Duplicator {
+
+    /**
+     * The model to copy from
+     */
+    private final Model source;
+
+    /**
+     * The model to copy into
+     */
+    private final Model target;
+
+    /**
+     * Map an object of the source model to its copy in the target one
+     */
+    private final Map<Object, Object> identitymap;
+
+    /**
+     * Create a copy factory from <i>source</i> to <i>target</i>.
+     *
+     * @param source the model to copy from
+     * @param target the model to copy into
+     */
+    public Duplicator(Model source, Model target) {
+        this.source = source;
+        this.target = target;
+        this.identitymap = new IdentityHashMap<>();
+    }
+
+    /**
+     * @return the model to copy from
+     */
+    public Model getSource() {
+        return source;
+    }
+
+    /**
+     * @return the model to copy into
+     */
+    public Model getTarget() {
+        return target;
+    }
+
+    /**
+     * Get the copy of <i>var</i>, duplicating it if needed.
+     *
+     * @param var a variable of the source model
+     * @param <V> type of variable
+     * @return the copy of <i>var</i> in the target model
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends Variable> V get(V var) {
+        Object copy = identitymap.get(var);
+        if (copy == null) {
+            copy = var.duplicate(this);
+            identitymap.put(var, copy);
+        }
+        return (V) copy;
+    }
+
+    /**
+     * Get the copies of <i>vars</i>, duplicating them if needed.
+     *
+     * @param vars variables of the source model
+     * @return a new array made of the copies of <i>vars</i>, in the same order
+     */
+    public IntVar[] get(IntVar[] vars) {
+        IntVar[] copies = new IntVar[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            copies[i] = get(vars[i]);
+        }
+        return copies;
+    }
+
+    /**
+     * Get the copies of <i>vars</i>, duplicating them if needed.
+     *
+     * @param vars variables of the source model
+     * @return a new array made of the copies of <i>vars</i>, in the same order
+     */
+    public BoolVar[] get(BoolVar[] vars) {
+        BoolVar[] copies = new BoolVar[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            copies[i] = get(vars[i]);
+        }
+        return copies;
+    }
+
+    /**
+     * Get the copies of <i>vars</i>, duplicating them if needed.
+     *
+     * @param vars variables of the source model
+     * @return a new array made of the copies of <i>vars</i>, in the same order
+     */
+    public Variable[] get(Variable[] vars) {
+        Variable[] copies = new Variable[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            copies[i] = get(vars[i]);
+        }
+        return copies;
+    }
+
+    /**
+     * Get the copy of <i>cstr</i>, duplicating it if needed.
+     * The copy is neither posted nor reified.
+     *
+     * @param cstr a constraint of the source model
+     * @return the copy of <i>cstr</i> in the target model
+     */
+    public Constraint get(Constraint cstr) {
+        Object copy = identitymap.get(cstr);
+        if (copy == null) {
+            copy = cstr.duplicate(this);
+            identitymap.put(cstr, copy);
+        }
+        return (Constraint) copy;
+    }
+}
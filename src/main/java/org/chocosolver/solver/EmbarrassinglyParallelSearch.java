@@ -0,0 +1,630 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+
+/**
+ * <p>
+ *     An Embarrassingly Parallel Search (EPS) helper.
+ * </p>
+ * <p>
+ *     The search tree of the problem is first decomposed into many independent sub-problems, or <i>cubes</i>,
+ *     by applying the search strategy of the first model down to a given depth.
+ *     A cube is the sequence of decisions (and refutations) leading to a node of the search tree
+ *     which survives the propagation.
+ *     Then, the cubes are dispatched to the models through a work-stealing pool of threads.
+ *     Each model solves a cube at a time, with its own search strategy, and shares any improving bound
+ *     with the other ones when dealing with an optimization problem.
+ * </p>
+ * <p>
+ *     As opposed to {@link ParallelPortfolio}, the models declared <b>MUST</b> be structurally identical
+ *     (e.g., built by the same modelling code), since a cube built on the first model is replayed on the others.
+ *     Variables are identified by their {@link Variable#getId()}.
+ *     Decomposition only deals with {@link IntDecision}; the decomposition of a branch stops as soon as
+ *     another type of decision is met.
+ * </p>
+ * <p>
+ *     Each cube is solved from a fresh state, thanks to {@link Solver#reset()}.
+ *     Consequently, stop criteria declared in the models are removed after the first cube is solved and limits
+ *     should be declared with {@link #limitTime(long)} instead.
+ *     Search strategies which modify the search loop on initialization (such as activity-based search) are not
+ *     recommended.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+ * int n = 4; // number of models to use
+ * for (int i = 0; i < n; i++) {
+ *      eps.addModel(modeller());
+ * }
+ * List&lt;Solution&gt; solutions = eps.findAllSolutions();
+ * </code>
+ * </pre>
+ *
+ * </p>
+ * <p>
+ * Related to "Embarrassingly Parallel Search", J.-C. Régin, M. Rezgui and A. Malapert, CP'13.
+ * </p>
+ *
+ * @author agent
+ * @see ParallelPortfolio
+ * @since 16/10/2026
+ */
+public class EmbarrassinglyParallelSearch {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /** List of {@link Model}s to be executed in parallel. */
+    private final List<Model> models;
+
+    /** Depth of the decomposition, 0 to compute it automatically. */
+    private int depth = 0;
+
+    /** Expected number of cubes per model, when the depth is computed automatically. */
+    private int nbCubesPerModel = 30;
+
+    /** Time limit in milliseconds, 0 means no limit. */
+    private long timeLimit = 0;
+
+    /** Set to <i>true</i> to stop all models. */
+    private final AtomicBoolean terminated = new AtomicBoolean(false);
+
+    /** Set to <i>true</i> when the resolution stops because of the time limit. */
+    private final AtomicBoolean limitReached = new AtomicBoolean(false);
+
+    /** Best solution found so far, when dealing with optimization problem */
+    private Solution best;
+
+    /** Value of the objective in {@link #best} */
+    private int bestValue;
+
+    /** Number of cubes built by the last decomposition. */
+    private int nbCubes;
+
+    /** Number of nodes, fails and (improving) solutions, summed over all models. */
+    private final AtomicLong nodes = new AtomicLong(), fails = new AtomicLong(), solutions = new AtomicLong();
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new EmbarrassinglyParallelSearch.
+     * This class stores the models to be executed in parallel in a {@link ArrayList} initially empty.
+     */
+    public EmbarrassinglyParallelSearch() {
+        this.models = new ArrayList<>();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Adds a model to the list of models to run in parallel.
+     * The first model added is also used to decompose the problem.
+     * When dealing with optimization problems, the objective variables <b>HAVE</b> to be declared eagerly with
+     * {@link Model#setObjective(boolean, Variable)}.
+     *
+     * @param model a model to add
+     */
+    public void addModel(Model model) {
+        this.models.add(model);
+    }
+
+    /**
+     * @return the (mutable!) list of models used in this EmbarrassinglyParallelSearch
+     */
+    public List<Model> getModels() {
+        return models;
+    }
+
+    /**
+     * Set the depth of the decomposition, that is, the number of decisions in each cube.
+     *
+     * @param depth depth of the decomposition, or 0 to let it be computed
+     *              with respect to {@link #setNbCubesPerModel(int)} (default value)
+     */
+    public void setDecompositionDepth(int depth) {
+        if (depth < 0) {
+            throw new SolverException("The decomposition depth should be positive or null.");
+        }
+        this.depth = depth;
+    }
+
+    /**
+     * Set the expected number of cubes per model when the depth of the decomposition is computed.
+     * The decomposition goes deeper until the number of cubes reaches <i>nb</i> times the number of models.
+     *
+     * @param nb expected number of cubes per model (30 by default)
+     */
+    public void setNbCubesPerModel(int nb) {
+        if (nb < 1) {
+            throw new SolverException("The number of cubes per model should be strictly positive.");
+        }
+        this.nbCubesPerModel = nb;
+    }
+
+    /**
+     * Defines a limit over the run time, shared by all models.
+     *
+     * @param limit maximal resolution time in millisecond, 0 means no limit
+     */
+    public void limitTime(long limit) {
+        this.timeLimit = limit;
+    }
+
+    /**
+     * Attempts to find a solution of the declared satisfaction problem,
+     * or the optimal solution of the declared optimization problem.
+     *
+     * @return a solution, or <i>null</i> if either the problem has no solution or
+     * a limit stops the search before any solution has been found.
+     * @throws SolverException if no model has been added.
+     */
+    public Solution findSolution() {
+        Solution[] found = new Solution[1];
+        run(s -> found[0] = s, true);
+        return found[0];
+    }
+
+    /**
+     * Attempts to find all solutions of the declared problem.
+     * When dealing with an optimization problem, only improving solutions are returned,
+     * the last one being the best one.
+     *
+     * @return a list that contains the found solutions.
+     * @throws SolverException if no model has been added.
+     */
+    public List<Solution> findAllSolutions() {
+        List<Solution> found = new ArrayList<>();
+        run(found::add, false);
+        return found;
+    }
+
+    /**
+     * Attempts to find all solutions of the declared problem, the resolution running in a background thread.
+     * When dealing with an optimization problem, only improving solutions are returned,
+     * the last one being the best one.
+     * <p>
+     * Closing the stream stops the resolution.
+     *
+     * @return a stream of the found solutions.
+     * @throws SolverException if no model has been added.
+     */
+    public Stream<Solution> streamSolutions() {
+        check();
+        final Solution end = new Solution(models.get(0));
+        BlockingQueue<Solution> queue = new LinkedBlockingQueue<>();
+        Thread th = new Thread(() -> {
+            try {
+                run(queue::add, false);
+            } finally {
+                queue.add(end);
+            }
+        });
+        Spliterator<Solution> it = new Spliterator<Solution>() {
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Solution> action) {
+                Solution s;
+                try {
+                    s = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                if (s == end) {
+                    queue.add(end);
+                    return false;
+                }
+                action.accept(s);
+                return true;
+            }
+
+            @Override
+            public Spliterator<Solution> trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT;
+            }
+
+        };
+        th.start();
+        return StreamSupport.stream(it, false).onClose(() -> terminated.set(true));
+    }
+
+    /**
+     * @return <i>true</i> if the last resolution has been stopped because of the time limit
+     */
+    public boolean isStopCriterionMet() {
+        return limitReached.get();
+    }
+
+    /**
+     * @return number of cubes built by the last decomposition
+     */
+    public int getNbCubes() {
+        return nbCubes;
+    }
+
+    /**
+     * @return number of nodes opened by all models during the last resolution
+     */
+    public long getNodeCount() {
+        return nodes.get();
+    }
+
+    /**
+     * @return number of failures encountered by all models during the last resolution
+     */
+    public long getFailCount() {
+        return fails.get();
+    }
+
+    /**
+     * @return number of solutions (or improving solutions) found by all models during the last resolution
+     */
+    public long getSolutionCount() {
+        return solutions.get();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Decompose the problem into cubes and solve them in parallel.
+     *
+     * @param onSolution action to execute on each solution (or improving solution)
+     * @param stopOnFirst set to <i>true</i> to stop on the first solution of a satisfaction problem
+     */
+    private void run(Consumer<Solution> onSolution, boolean stopOnFirst) {
+        check();
+        terminated.set(false);
+        limitReached.set(false);
+        nodes.set(0);
+        fails.set(0);
+        solutions.set(0);
+        best = null;
+        final long deadline = timeLimit > 0 ? System.currentTimeMillis() + timeLimit : Long.MAX_VALUE;
+        Criterion stop = () -> {
+            if (System.currentTimeMillis() > deadline) {
+                limitReached.set(true);
+                terminated.set(true);
+            }
+            return terminated.get();
+        };
+        List<Cube> cubes = decompose(stop);
+        nbCubes = cubes.size();
+        if (cubes.isEmpty()) {
+            return;
+        }
+        BlockingQueue<Model> idle = new ArrayBlockingQueue<>(models.size(), false, models);
+        IntVar[][] lookups = new IntVar[models.size()][];
+        ForkJoinPool forkJoinPool = new ForkJoinPool(models.size());
+        try {
+            forkJoinPool.submit(() -> cubes.parallelStream().forEach(cube -> {
+                if (!stop.isMet()) {
+                    Model m = null;
+                    try {
+                        m = idle.take();
+                        int w = models.indexOf(m);
+                        if (lookups[w] == null) {
+                            lookups[w] = lookup(m);
+                        }
+                        solve(m, lookups[w], cube, stop, onSolution, stopOnFirst);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        if (m != null) {
+                            idle.add(m);
+                        }
+                    }
+                }
+            })).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new SolverException("Embarrassingly parallel search failed: " + e.getMessage());
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Solve <i>cube</i> with <i>model</i>.
+     */
+    private void solve(Model model, IntVar[] id2var, Cube cube, Criterion stop,
+                       Consumer<Solution> onSolution, boolean stopOnFirst) {
+        Solver solver = model.getSolver();
+        IEnvironment env = model.getEnvironment();
+        int world = env.getWorldIndex();
+        env.worldPush();
+        try {
+            if (cube.applyOn(id2var)) {
+                solver.addStopCriterion(stop);
+                ResolutionPolicy policy = model.getResolutionPolicy();
+                if (policy != ResolutionPolicy.SATISFACTION) {
+                    synchronized (this) {
+                        if (best != null) {
+                            share(model, bestValue);
+                        }
+                    }
+                }
+                while (solver.solve()) {
+                    onSolution(model, onSolution, stopOnFirst);
+                }
+            }
+        } finally {
+            nodes.addAndGet(solver.getNodeCount());
+            fails.addAndGet(solver.getFailCount());
+            solver.reset();
+            env.worldPopUntil(world);
+        }
+    }
+
+    private synchronized void onSolution(Model model, Consumer<Solution> onSolution, boolean stopOnFirst) {
+        if (model.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+            if (stopOnFirst) {
+                if (solutions.get() > 0) {
+                    return; // a solution has already been found by another model
+                }
+                terminated.set(true);
+            }
+            solutions.incrementAndGet();
+            onSolution.accept(new Solution(model).record());
+        } else {
+            int val = ((IntVar) model.getObjective()).getValue();
+            boolean max = model.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE;
+            if (best == null || (max ? val > bestValue : val < bestValue)) {
+                solutions.incrementAndGet();
+                best = new Solution(model).record();
+                bestValue = val;
+                models.forEach(m -> share(m, val));
+                onSolution.accept(best);
+            }
+        }
+    }
+
+    private static void share(Model m, int val) {
+        if (m.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE) {
+            m.getSolver().getObjectiveManager().updateBestLB(val);
+        } else {
+            m.getSolver().getObjectiveManager().updateBestUB(val);
+        }
+    }
+
+    /**
+     * Decompose the problem into cubes, with the first model.
+     * The search strategy is initialized beforehand and removed afterwards,
+     * the model is restored to its initial state.
+     *
+     * @param stop stop criterion
+     * @return the list of cubes, empty if the problem has no solution
+     */
+    @SuppressWarnings("unchecked")
+    private List<Cube> decompose(Criterion stop) {
+        Model master = models.get(0);
+        Solver solver = master.getSolver();
+        IEnvironment env = master.getEnvironment();
+        AbstractStrategy<Variable> strategy = solver.getSearch();
+        if (strategy == null) {
+            strategy = master.getSettings().makeDefaultSearch(master);
+        }
+        IntVar[] id2var = lookup(master);
+        int target = depth == 0 ? nbCubesPerModel * models.size() : Integer.MAX_VALUE;
+        int maxDepth = depth == 0 ? Integer.MAX_VALUE : depth;
+        int world = env.getWorldIndex();
+        List<Cube> cubes = new ArrayList<>();
+        env.worldPush();
+        try {
+            solver.propagate();
+            // as in Solver, the initialisation of the strategy can detect inconsistency
+            if (strategy.init()) {
+                cubes.add(new Cube());
+                boolean split = true;
+                for (int d = 0; d < maxDepth && split && cubes.size() < target && !stop.isMet(); d++) {
+                    split = false;
+                    List<Cube> next = new ArrayList<>();
+                    for (Cube cube : cubes) {
+                        split |= refine(cube, id2var, solver, strategy, next);
+                    }
+                    cubes = next;
+                }
+            }
+        } catch (ContradictionException e) {
+            cubes.clear();
+        } finally {
+            // unplug the monitors plugged by the strategy, the solver initializes it again before solving
+            strategy.remove();
+            env.worldPopUntil(world);
+            solver.getEngine().reset();
+        }
+        return cubes;
+    }
+
+    /**
+     * Replay <i>cube</i> and add to <i>next</i> its children wrt <i>strategy</i>, or <i>cube</i> itself if it cannot
+     * be split.
+     *
+     * @return <i>true</i> if the cube has been split
+     */
+    private static boolean refine(Cube cube, IntVar[] id2var, Solver solver, AbstractStrategy<Variable> strategy,
+                                  List<Cube> next) {
+        IEnvironment env = solver.getEnvironment();
+        boolean split = false;
+        env.worldPush();
+        try {
+            if (cube.applyOn(id2var)) {
+                solver.propagate();
+                Decision dec = strategy.getDecision();
+                if (dec instanceof IntDecision) {
+                    IntDecision idec = (IntDecision) dec;
+                    split = true;
+                    while (idec.hasNext()) {
+                        idec.buildNext();
+                        env.worldPush();
+                        try {
+                            idec.apply();
+                            solver.propagate();
+                            next.add(cube.extend(idec));
+                        } catch (ContradictionException ignored) {
+                            // the branch has no solution
+                        }
+                        env.worldPop();
+                    }
+                    idec.free();
+                } else {
+                    // either a leaf or a decision which cannot be replayed
+                    next.add(cube);
+                }
+            }
+        } catch (ContradictionException ignored) {
+            // the cube has no solution
+        }
+        env.worldPop();
+        return split;
+    }
+
+    /**
+     * @param model a model
+     * @return an array that maps variable ids to integer variables of <i>model</i>
+     */
+    private static IntVar[] lookup(Model model) {
+        int max = -1;
+        for (int i = 0; i < model.getNbVars(); i++) {
+            max = Math.max(max, model.getVar(i).getId());
+        }
+        IntVar[] id2var = new IntVar[max + 1];
+        for (int i = 0; i < model.getNbVars(); i++) {
+            Variable v = model.getVar(i);
+            if ((v.getTypeAndKind() & Variable.INT) != 0) {
+                id2var[v.getId()] = (IntVar) v;
+            }
+        }
+        return id2var;
+    }
+
+    private void check() {
+        if (models.size() == 0) {
+            throw new SolverException("No model found in the EmbarrassinglyParallelSearch.");
+        }
+        if (models.get(0).getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+            Variable objective = models.get(0).getObjective();
+            if (objective == null) {
+                throw new UnsupportedOperationException("No objective has been defined");
+            }
+            if ((objective.getTypeAndKind() & Variable.INT) == 0) {
+                throw new UnsupportedOperationException("EmbarrassinglyParallelSearch only deals with integer objective");
+            }
+        }
+    }
+
+    /**
+     * A sub-problem, defined as a sequence of decisions applied from the root node.
+     * Decisions are stored as primitive arrays to be replayed on any model.
+     */
+    private static final class Cube {
+
+        /** Ids of the decision variables */
+        private final int[] vars;
+        /** Decision values */
+        private final int[] values;
+        /** Decision operators */
+        private final DecisionOperator<IntVar>[] ops;
+        /** For each decision, <i>true</i> if it is applied, <i>false</i> if it is refuted */
+        private final boolean[] applied;
+
+        @SuppressWarnings("unchecked")
+        Cube() {
+            this(new int[0], new int[0], new DecisionOperator[0], new boolean[0]);
+        }
+
+        private Cube(int[] vars, int[] values, DecisionOperator<IntVar>[] ops, boolean[] applied) {
+            this.vars = vars;
+            this.values = values;
+            this.ops = ops;
+            this.applied = applied;
+        }
+
+        /**
+         * @param dec the decision to add, in its current branch
+         * @return a new cube made of this one plus <i>dec</i>
+         */
+        Cube extend(IntDecision dec) {
+            int n = vars.length;
+            int[] nvars = Arrays.copyOf(vars, n + 1);
+            int[] nvalues = Arrays.copyOf(values, n + 1);
+            DecisionOperator<IntVar>[] nops = Arrays.copyOf(ops, n + 1);
+            boolean[] napplied = Arrays.copyOf(applied, n + 1);
+            nvars[n] = dec.getDecisionVariable().getId();
+            nvalues[n] = dec.getDecisionValue();
+            nops[n] = dec.getDecOp();
+            napplied[n] = dec.triesLeft() > 0 || dec.getArity() == 1;
+            return new Cube(nvars, nvalues, nops, napplied);
+        }
+
+        /**
+         * Apply the decisions of this cube, without propagating them.
+         *
+         * @param id2var maps variable ids to variables of the targeted model
+         * @return <i>false</i> if a decision is directly inconsistent
+         */
+        boolean applyOn(IntVar[] id2var) {
+            try {
+                for (int i = 0; i < vars.length; i++) {
+                    if (applied[i]) {
+                        ops[i].apply(id2var[vars[i]], values[i], Cause.Null);
+                    } else {
+                        ops[i].unapply(id2var[vars[i]], values[i], Cause.Null);
+                    }
+                }
+                return true;
+            } catch (ContradictionException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -32,8 +32,10 @@ import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.RealVar;
 import org.chocosolver.solver.variables.SetVar;
+import org.chocosolver.solver.variables.Task;
 import org.chocosolver.solver.variables.Variable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -942,6 +944,94 @@ public class Model implements IModel {
         }
     }
 
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    //////////////////////////////////////////// RELATED TO DUPLICATION ////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @return <i>true</i> if this model can be copied with {@link #duplicate()},
+     * that is, if all its variables and posted constraints can be duplicated
+     * @see Variable#isDuplicable()
+     * @see Constraint#isDuplicable()
+     */
+    public boolean isDuplicable() {
+        for (int i = 0; i < vIdx; i++) {
+            if (!vars[i].isDuplicable()) {
+                return false;
+            }
+        }
+        for (int i = 0; i < cIdx; i++) {
+            Constraint c = cstrs[i];
+            if (c != getHook(MINISAT_HOOK_NAME)
+                    && c != getHook(NOGOODS_HOOK_NAME)
+                    && c != getHook(CLAUSES_HOOK_NAME)
+                    && !c.isDuplicable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create a structurally identical copy of this model: variables (with their current domain), posted constraints
+     * and objective are duplicated through a {@link Duplicator}.
+     * Variables of the copy have the same ids as the ones of this model,
+     * so that the copy can be used as a worker of a {@link ParallelPortfolio}.
+     * Immutable data, like tuples or automata, are shared between this model and its copy.
+     * <p>
+     * The search strategy, the search monitors and the internal stores (no-goods, clauses, minisat)
+     * are not duplicated.
+     * Duplication should be called before solving this model or after having reset its solver.
+     * </p>
+     * <p>
+     * Not all constraints can be duplicated (e.g., set or real constraints, or some global constraints),
+     * see {@link #isDuplicable()}: in that case, the copy has to be rebuilt with the modelling code,
+     * see {@link ParallelPortfolio#addModel(Model, int, java.util.function.Supplier)}.
+     * </p>
+     *
+     * @return a copy of this model
+     * @throws UnsupportedOperationException if a variable or a propagator cannot be duplicated
+     * @see Variable#duplicate(Duplicator)
+     * @see Propagator#duplicate(Duplicator)
+     * @see Constraint#duplicate(Duplicator)
+     */
+    public Model duplicate() {
+        Model copy = new Model(name, settings);
+        Duplicator duplicator = new Duplicator(this, copy);
+        for (int i = 0; i < vIdx; i++) {
+            // ensure ids are preserved
+            copy.id = vars[i].getId();
+            duplicator.get(vars[i]);
+        }
+        copy.id = id;
+        copy.nameId = nameId;
+        copy.precision = precision;
+        cachedConstants.forEachEntry((v, cste) -> {
+            copy.cachedConstants.put(v, duplicator.get(cste));
+            return true;
+        });
+        for (int i = 0; i < cIdx; i++) {
+            Constraint c = cstrs[i];
+            if (c != getHook(MINISAT_HOOK_NAME)
+                    && c != getHook(NOGOODS_HOOK_NAME)
+                    && c != getHook(CLAUSES_HOOK_NAME)) {
+                duplicator.get(c).post();
+            }
+        }
+        // tasks are not constraints, but maintain start + duration = end through monitors
+        //noinspection unchecked
+        ArrayList<Task> tasks = (ArrayList<Task>) getHook(TASK_SET_HOOK_NAME);
+        if (tasks != null) {
+            for (Task t : tasks) {
+                new Task(duplicator.get(t.getStart()), duplicator.get(t.getDuration()), duplicator.get(t.getEnd()));
+            }
+        }
+        if (objective != null) {
+            copy.setObjective(policy == ResolutionPolicy.MAXIMIZE, duplicator.get(objective));
+        }
+        return copy;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     //////////////////////////////////////////// RELATED TO I/O ////////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
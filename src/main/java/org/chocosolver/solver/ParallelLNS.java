@@ -0,0 +1,508 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.limits.ICounter;
+import org.chocosolver.solver.search.loop.lns.INeighborFactory;
+import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
+import org.chocosolver.solver.search.loop.lns.neighbors.PropagationGuidedNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.ReversePropagationGuidedNeighborhood;
+import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.loop.move.Move;
+import org.chocosolver.solver.search.loop.move.MoveLNS;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+
+/**
+ * <p>
+ *     A parallel Large Neighborhood Search (LNS) helper, for optimization problems.
+ * </p>
+ * <p>
+ *     Each model is a worker which runs its own LNS (see {@link Solver#setLNS(INeighbor, org.chocosolver.solver.search.limits.ICounter)}):
+ *     it relaxes a fragment of the best solution it knows, with its own neighbor, and explores the sub-problem
+ *     until a fail limit is reached.
+ *     Workers share a single incumbent: any improving solution is published, and the other workers
+ *     pick it up at their next restart, that is, their next fragment is built on it and their objective bound is tightened.
+ *     A worker which has not found any solution yet does not restart: it is brought back to the root node
+ *     on its first failure after an incumbent is published, and its LNS starts from that incumbent.
+ *     By default, each worker relaxes the solution with a black-box neighbor (see {@link INeighborFactory#blackBox(IntVar...)})
+ *     seeded with its index, so that workers explore different fragments.
+ * </p>
+ * <p>
+ *     The models declared <b>MUST</b> be structurally identical (e.g., built by the same modelling code, or duplicated
+ *     with {@link #addModel(Model, int)}), since a solution found by a model is loaded in the others.
+ *     Variables are identified by their {@link Variable#getId()}.
+ *     The objective variable <b>HAS</b> to be declared eagerly with {@link Model#setObjective(boolean, Variable)}.
+ * </p>
+ * <p>
+ *     The resolution stops on the time limit (see {@link #limitTime(long)}), or as soon as a worker ends,
+ *     for instance because its neighbor made the search complete or because of its own limits.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>ParallelLNS plns = new ParallelLNS();
+ * plns.addModel(modeller(), 31); // 32 workers
+ * plns.limitTime(60_000);
+ * Solution best = plns.findBestSolution();
+ * </code>
+ * </pre>
+ *
+ * </p>
+ *
+ * @author agent
+ * @see ParallelPortfolio
+ * @since 17/10/2026
+ */
+public class ParallelLNS {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /** List of {@link Model}s to be executed in parallel. */
+    private final List<Model> models;
+
+    /** Creates the neighbor of a worker, given its model and its index. */
+    private BiFunction<Model, Integer, INeighbor> neighbors = ParallelLNS::defaultNeighbor;
+
+    /** Number of failures allowed to explore a fragment. */
+    private long failLimit = 1000;
+
+    /** Time limit in milliseconds, 0 means no limit. */
+    private long timeLimit = 0;
+
+    /** Date, in milliseconds, beyond which the current resolution stops. */
+    private volatile long deadline;
+
+    /** Stores whether or not prepare() method has been called */
+    private boolean isPrepared = false;
+
+    /** Set to <i>true</i> to stop all models. */
+    private final AtomicBoolean terminated = new AtomicBoolean(false);
+
+    /** Set to <i>true</i> when the resolution stops because of the time limit. */
+    private final AtomicBoolean limitReached = new AtomicBoolean(false);
+
+    /** The shared incumbent, <i>null</i> while no solution has been found. */
+    private final AtomicReference<Incumbent> incumbent = new AtomicReference<>();
+
+    /** Number of improving solutions published by the workers. */
+    private final AtomicLong solutions = new AtomicLong();
+
+    /** Number of incumbents loaded by the workers. */
+    private final AtomicLong loads = new AtomicLong();
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new ParallelLNS.
+     * This class stores the models to be executed in parallel in a {@link ArrayList} initially empty.
+     */
+    public ParallelLNS() {
+        this.models = new ArrayList<>();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Adds a model, that is a worker, to the list of models to run in parallel.
+     *
+     * @param model a populated model to add
+     */
+    public void addModel(Model model) {
+        this.models.add(model);
+    }
+
+    /**
+     * Adds <i>model</i> and <i>nbCopies</i> duplicates of it to the list of models to run in parallel.
+     * Duplicates are obtained with {@link Model#duplicate()}.
+     *
+     * @param model    a populated model to add
+     * @param nbCopies number of duplicates of <i>model</i> to add
+     * @throws UnsupportedOperationException if <i>model</i> cannot be duplicated
+     * @see #addModel(Model, int, Supplier)
+     */
+    public void addModel(Model model, int nbCopies) {
+        ParallelModels.add(models, model, nbCopies);
+    }
+
+    /**
+     * Adds <i>model</i> and <i>nbCopies</i> copies of it to the list of models to run in parallel.
+     * Copies are obtained with {@link Model#duplicate()} when {@link Model#isDuplicable()} holds, otherwise
+     * (that is, when a variable or a constraint of <i>model</i> cannot be duplicated) they are built by <i>modeller</i>.
+     * Models returned by <i>modeller</i> must be structurally identical to <i>model</i>.
+     *
+     * @param model    a populated model to add
+     * @param nbCopies number of copies of <i>model</i> to add
+     * @param modeller builds a new model, structurally identical to <i>model</i>
+     */
+    public void addModel(Model model, int nbCopies, Supplier<Model> modeller) {
+        ParallelModels.add(models, model, nbCopies, modeller);
+    }
+
+    /**
+     * @return the (mutable!) list of models used in this ParallelLNS
+     */
+    public List<Model> getModels() {
+        return models;
+    }
+
+    /**
+     * Set how the neighbor of each worker is created.
+     * Workers should not relax the same fragments, hence the index of the worker, which can serve as a seed.
+     * Must be called before the first resolution.
+     *
+     * @param neighbors creates the neighbor of a worker, given its model and its index
+     */
+    public void setNeighbor(BiFunction<Model, Integer, INeighbor> neighbors) {
+        if (isPrepared) {
+            throw new SolverException("Neighbors must be set before the first resolution.");
+        }
+        this.neighbors = neighbors;
+    }
+
+    /**
+     * Set the number of failures allowed to explore a fragment, before the worker restarts on a new one.
+     * Must be called before the first resolution.
+     *
+     * @param limit number of failures per fragment (1000 by default)
+     */
+    public void setFailLimit(long limit) {
+        if (isPrepared) {
+            throw new SolverException("The fail limit must be set before the first resolution.");
+        }
+        if (limit < 1) {
+            throw new SolverException("The fail limit should be strictly positive.");
+        }
+        this.failLimit = limit;
+    }
+
+    /**
+     * Defines a limit over the run time, shared by all models.
+     *
+     * @param limit maximal resolution time in millisecond, 0 means no limit
+     */
+    public void limitTime(long limit) {
+        this.timeLimit = limit;
+    }
+
+    /**
+     * Run the LNS of every model in parallel, until a limit is reached or a worker ends.
+     * Calling this method again resumes the resolution.
+     *
+     * @return the best solution found so far, or <i>null</i> if no solution has been found.
+     * @throws SolverException if no model has been added.
+     */
+    public Solution findBestSolution() {
+        check();
+        if (!isPrepared) {
+            prepare();
+        }
+        terminated.set(false);
+        limitReached.set(false);
+        deadline = timeLimit > 0 ? System.currentTimeMillis() + timeLimit : Long.MAX_VALUE;
+        ForkJoinPool forkJoinPool = new ForkJoinPool(models.size());
+        try {
+            // one task per model, each one on its own thread
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(models.size());
+            for (Model m : models) {
+                tasks.add(forkJoinPool.submit(() -> {
+                    Solver solver = m.getSolver();
+                    //noinspection StatementWithEmptyBody
+                    while (solver.solve()) {
+                        // solutions are published on the fly
+                    }
+                    // the first model to end stops the others
+                    terminated.set(true);
+                }));
+            }
+            // the resolution is over once every model has stopped
+            for (ForkJoinTask<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new SolverException("Parallel LNS failed: " + e.getMessage());
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+        terminated.set(false);// otherwise, solver.isStopCriterionMet() always returns true
+        Incumbent inc = incumbent.get();
+        return inc == null ? null : inc.solution;
+    }
+
+    /**
+     * @return <i>true</i> if the last resolution has been stopped because of the time limit
+     */
+    public boolean isStopCriterionMet() {
+        return limitReached.get();
+    }
+
+    /**
+     * @return number of improving solutions published by all models
+     */
+    public long getSolutionCount() {
+        return solutions.get();
+    }
+
+    /**
+     * @return number of times a model has loaded the incumbent in its neighbor
+     */
+    public long getLoadCount() {
+        return loads.get();
+    }
+
+    /**
+     * @return number of nodes opened by all models
+     */
+    public long getNodeCount() {
+        return models.stream().mapToLong(m -> m.getSolver().getNodeCount()).sum();
+    }
+
+    /**
+     * @return number of failures encountered by all models
+     */
+    public long getFailCount() {
+        return models.stream().mapToLong(m -> m.getSolver().getFailCount()).sum();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private void prepare() {
+        isPrepared = true;
+        Criterion stop = () -> {
+            if (System.currentTimeMillis() > deadline) {
+                limitReached.set(true);
+                terminated.set(true);
+            }
+            return terminated.get();
+        };
+        for (int i = 0; i < models.size(); i++) {
+            Model m = models.get(i);
+            Solver solver = m.getSolver();
+            INeighbor neighbor = neighbors.apply(m, i);
+            Worker worker = new Worker(m, neighbor);
+            solver.setMove(new WorkerLNS(solver.getMove(), neighbor, new FailCounter(m, failLimit), worker));
+            solver.plugMonitor(worker);
+            solver.addStopCriterion(stop);
+        }
+    }
+
+    /**
+     * Creates a black-box neighbor over the decision variables of <i>model</i>, seeded with <i>workerID</i>
+     */
+    private static INeighbor defaultNeighbor(Model model, int workerID) {
+        IntVar[] vars;
+        Solver solver = model.getSolver();
+        if (solver.getSearch() != null && solver.getSearch().getVariables().length > 0) {
+            vars = Arrays.stream(solver.getSearch().getVariables())
+                    .filter(v -> (v.getTypeAndKind() & Variable.INT) != 0)
+                    .toArray(IntVar[]::new);
+        } else {
+            vars = model.retrieveIntVars(true);
+        }
+        return INeighborFactory.sequencer(
+                new PropagationGuidedNeighborhood(vars, 30, 10, workerID),
+                new ReversePropagationGuidedNeighborhood(vars, 0, 30, workerID),
+                new RandomNeighborhood(vars, 3, workerID)
+        );
+    }
+
+    private void check() {
+        if (models.size() == 0) {
+            throw new SolverException("No model found in the ParallelLNS.");
+        }
+        if (models.get(0).getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+            throw new UnsupportedOperationException("ParallelLNS only deals with optimization problems");
+        }
+        Variable objective = models.get(0).getObjective();
+        if (objective == null) {
+            throw new UnsupportedOperationException("No objective has been defined");
+        }
+        if ((objective.getTypeAndKind() & Variable.INT) == 0) {
+            throw new UnsupportedOperationException("ParallelLNS only deals with integer objective");
+        }
+    }
+
+    /**
+     * A solution shared between workers, never modified once published.
+     */
+    private static final class Incumbent {
+        private final Solution solution;
+        private final int value;
+
+        private Incumbent(Solution solution, int value) {
+            this.solution = solution;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The LNS of a worker, which adopts the incumbent when the worker has not found any solution yet.
+     */
+    private final class WorkerLNS extends MoveLNS {
+
+        private final Worker worker;
+
+        private WorkerLNS(Move move, INeighbor neighbor, ICounter restartCounter, Worker worker) {
+            super(move, neighbor, restartCounter);
+            this.worker = worker;
+        }
+
+        @Override
+        public boolean repair(Solver solver) {
+            Incumbent current = worker.adopt();
+            if (current != null) {
+                // This is safe since the search loop is in its repair phase, where MoveLNS restarts on its own:
+                // the restart brings the search back to the root node and makes the next action an extension,
+                // and loading the solution flags a fresh restart, so that the first fragment is built on the incumbent.
+                solver.restart();
+                loadFromSolution(current.solution, solver);
+                loads.incrementAndGet();
+                return true;
+            }
+            return super.repair(solver);
+        }
+    }
+
+    /**
+     * Publishes the improving solutions of a model, and loads the shared incumbent in its neighbor
+     * (and tightens its objective bound) on restarts.
+     * Since the LNS of a model only restarts once it knows a solution, a model without any solution
+     * adopts the first incumbent it sees on a failure: its {@link WorkerLNS} restarts and loads the incumbent,
+     * from the root node.
+     * Every method is called by the thread of the model.
+     */
+    private final class Worker implements IMonitorSolution, IMonitorRestart, IMonitorContradiction {
+
+        private final Model model;
+        private final INeighbor neighbor;
+        private final boolean maximize;
+        /** Last incumbent loaded in the neighbor, or published, by this worker */
+        private Incumbent known;
+        /** Last incumbent whose value bounds the objective of this worker */
+        private Incumbent tightened;
+        /** Set to <i>true</i> once an incumbent has been loaded in the LNS of this worker */
+        private boolean adopted;
+        /** Set to <i>true</i> when this worker, without any solution, should adopt the incumbent on the next repair */
+        private boolean pending;
+
+        private Worker(Model model, INeighbor neighbor) {
+            this.model = model;
+            this.neighbor = neighbor;
+            this.maximize = model.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE;
+        }
+
+        private boolean better(int val, Incumbent inc) {
+            return inc == null || (maximize ? val > inc.value : val < inc.value);
+        }
+
+        @Override
+        public void onSolution() {
+            int val = ((IntVar) model.getObjective()).getValue();
+            Incumbent current = incumbent.get();
+            if (better(val, current)) {
+                Incumbent mine = new Incumbent(new Solution(model).record(), val);
+                boolean published = false;
+                while (!published && better(val, current)) {
+                    published = incumbent.compareAndSet(current, mine);
+                    current = incumbent.get();
+                }
+                if (published) {
+                    solutions.incrementAndGet();
+                    tightened = mine;
+                    // once an incumbent has been adopted, the LNS does not record the first solution of this worker,
+                    // it is loaded in the neighbor on the next restart instead
+                    known = adopted && model.getSolver().getSolutionCount() == 1 ? null : mine;
+                }
+            }
+        }
+
+        @Override
+        public void beforeRestart() {
+            Incumbent current = incumbent.get();
+            if (current != known) {
+                known = current;
+                // a newer incumbent is at least as good as any solution of this worker
+                tighten(current);
+                neighbor.loadFromSolution(current.solution);
+                loads.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void onContradiction(ContradictionException cex) {
+            // until the next node, the worker only benefits from the bound of the incumbent
+            Incumbent current = incumbent.get();
+            if (current != null) {
+                tighten(current);
+                pending = !adopted;
+            }
+        }
+
+        /**
+         * @return the incumbent to load in the LNS of this worker, if it has not found any solution yet
+         * and an incumbent has been seen on the last failure, <i>null</i> otherwise
+         */
+        private Incumbent adopt() {
+            if (!pending) {
+                return null;
+            }
+            pending = false;
+            if (model.getSolver().getSolutionCount() > 0) {
+                // the worker found its own solution in the meantime
+                return null;
+            }
+            adopted = true;
+            Incumbent current = incumbent.get();
+            // prevents beforeRestart from loading it in the neighbor only
+            known = current;
+            tighten(current);
+            return current;
+        }
+
+        private void tighten(Incumbent inc) {
+            if (inc == tightened) {
+                return;
+            }
+            tightened = inc;
+            if (maximize) {
+                model.getSolver().getObjectiveManager().updateBestLB(inc.value);
+            } else {
+                model.getSolver().getObjectiveManager().updateBestUB(inc.value);
+            }
+        }
+    }
+}
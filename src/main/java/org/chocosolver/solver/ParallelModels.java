@@ -0,0 +1,57 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Declaration of the models of a parallel resolution, shared by {@link ParallelPortfolio} and {@link ParallelLNS}.
+ *
+ * @see ParallelPortfolio#addModel(Model, int, Supplier)
+ * @see ParallelLNS#addModel(Model, int, Supplier)
+ */
+final class ParallelModels {
+
+    private ParallelModels() {
+    }
+
+    /**
+     * Adds <i>model</i> and <i>nbCopies</i> duplicates of it to <i>models</i>.
+     *
+     * @param models   list of models to run in parallel
+     * @param model    a populated model to add
+     * @param nbCopies number of duplicates of <i>model</i> to add
+     * @throws UnsupportedOperationException if <i>model</i> cannot be duplicated
+     */
+    static void add(List<Model> models, Model model, int nbCopies) {
+        models.add(model);
+        for (int i = 0; i < nbCopies; i++) {
+            models.add(model.duplicate());
+        }
+    }
+
+    /**
+     * Adds <i>model</i> and <i>nbCopies</i> copies of it to <i>models</i>,
+     * duplicated from <i>model</i> when it is duplicable (see {@link Model#isDuplicable()}), built by <i>modeller</i> otherwise.
+     *
+     * @param models   list of models to run in parallel
+     * @param model    a populated model to add
+     * @param nbCopies number of copies of <i>model</i> to add
+     * @param modeller builds a new model, structurally identical to <i>model</i>
+     */
+    static void add(List<Model> models, Model model, int nbCopies, Supplier<Model> modeller) {
+        models.add(model);
+        boolean duplicable = model.isDuplicable();
+        for (int i = 0; i < nbCopies; i++) {
+            models.add(duplicable ? model.duplicate() : modeller.get());
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.chocosolver.solver.constraints.Constraint;
@@ -30,9 +31,12 @@ import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.loop.lns.INeighborFactory;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.loop.monitors.NogoodExchanger;
+import org.chocosolver.solver.search.loop.monitors.NogoodFromRestarts;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainBest;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainPhase;
 import org.chocosolver.solver.search.strategy.selectors.variables.DomOverWDeg;
 import org.chocosolver.solver.search.strategy.selectors.variables.Occurrence;
 import org.chocosolver.solver.variables.IntVar;
@@ -88,6 +92,8 @@ import org.chocosolver.util.criteria.Criterion;
  * for (int i = 0; i < n; i++) {
  *      pares.addModel(modeller());
  * }
+ * // or, alternatively, duplicate a single model
+ * // pares.addModel(modeller(), n - 1);
  * pares.solve();
  * IOutputFactory.printSolutions(pares.getBestModel());
  * </code>
@@ -125,6 +131,15 @@ public class ParallelPortfolio {
     /** Point to (one of) the solver(s) which found a solution */
     private Model finder;
 
+    /** Maximum size of no-goods shared between models, 0 means no sharing */
+    private int nogoodMaxSize = 0;
+
+    /** Maximum number of no-goods pending for a model */
+    private int nogoodCapacity;
+
+    /** Channel to share no-goods between models, created on preparation */
+    private NogoodExchanger exchanger;
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -178,6 +193,69 @@ public class ParallelPortfolio {
         this.models.add(model);
     }
 
+    /**
+     * Adds <i>model</i> and <i>nbCopies</i> duplicates of it to the list of models to run in parallel.
+     * Duplicates are obtained with {@link Model#duplicate()}, thus <i>model</i> has to be populated
+     * (including its objective, if any) and only made of duplicable variables and constraints.
+     *
+     * @param model    a populated model to add
+     * @param nbCopies number of duplicates of <i>model</i> to add
+     * @throws UnsupportedOperationException if <i>model</i> cannot be duplicated
+     * @see #addModel(Model, int, Supplier)
+     */
+    public void addModel(Model model, int nbCopies){
+        ParallelModels.add(models, model, nbCopies);
+    }
+
+    /**
+     * Adds <i>model</i> and <i>nbCopies</i> copies of it to the list of models to run in parallel.
+     * Copies are obtained with {@link Model#duplicate()} when {@link Model#isDuplicable()} holds, otherwise
+     * (that is, when a variable or a constraint of <i>model</i> cannot be duplicated) they are built by <i>modeller</i>.
+     * Models returned by <i>modeller</i> must be structurally identical to <i>model</i>.
+     *
+     * @param model    a populated model to add
+     * @param nbCopies number of copies of <i>model</i> to add
+     * @param modeller builds a new model, structurally identical to <i>model</i>
+     */
+    public void addModel(Model model, int nbCopies, Supplier<Model> modeller){
+        ParallelModels.add(models, model, nbCopies, modeller);
+    }
+
+    /**
+     * Enable no-goods sharing between models.
+     * Models recording no-goods from restarts (see {@link Solver#setNoGoodRecordingFromRestarts()})
+     * publish the no-goods made of at most <i>maxSize</i> literals to the other models.
+     * Each model then imports the no-goods shared by the others on restarts.
+     * <p>
+     * Only applies to models configured by this portfolio (see {@link #ParallelPortfolio(boolean)}),
+     * and requires the models to be structurally identical,
+     * since variables are identified by their {@link Variable#getId()}.
+     * <p>
+     * Must be called before the first resolution.
+     *
+     * @param maxSize  maximum number of literals of a no-good to share
+     * @param capacity maximum number of no-goods waiting to be imported by a model,
+     *                 beyond that limit, new no-goods are not transmitted to that model.
+     */
+    public void shareNogoods(int maxSize, int capacity) {
+        if (isPrepared) {
+            throw new SolverException("No-goods sharing must be enabled before the first resolution.");
+        }
+        if (maxSize < 1 || capacity < 1) {
+            throw new SolverException("No-goods max size and capacity should be strictly positive.");
+        }
+        this.nogoodMaxSize = maxSize;
+        this.nogoodCapacity = capacity;
+    }
+
+    /**
+     * @return the channel used to share no-goods between models, or <i>null</i> if no-goods are not shared
+     * (or if no resolution has been run yet).
+     */
+    public NogoodExchanger getNogoodExchanger() {
+        return exchanger;
+    }
+
     /**
      * Run the solve() instruction of every model of the portfolio in parallel.
      *
@@ -306,6 +384,9 @@ public class ParallelPortfolio {
     private void prepare(){
         isPrepared = true;
         check();
+        if (nogoodMaxSize > 0) {
+            exchanger = new NogoodExchanger(models.size(), nogoodMaxSize, nogoodCapacity);
+        }
         for(int i=0;i<models.size();i++){
             Solver s = models.get(i).getSolver();
             s.addStopCriterion((Criterion) () -> getSolverTerminated().get());
@@ -374,17 +455,17 @@ public class ParallelPortfolio {
         // set heuristic
         switch (workerID) {
             case 0:
-                // DWD  + fast restart + LC (+ B2V)
-                solver.setSearch(new DomOverWDeg(worker.retrieveIntVars(true), 0,
-                        policy == ResolutionPolicy.SATISFACTION ? new IntDomainMin(): new IntDomainBest()));
-                solver.setNoGoodRecordingFromRestarts();
+                // DWD  + fast restart + LC (+ B2V) + phase saving
+                solver.setSearch(new DomOverWDeg(worker.retrieveIntVars(true), 0, new IntDomainPhase(worker,
+                        policy == ResolutionPolicy.SATISFACTION ? new IntDomainMin(): new IntDomainBest())));
+                recordNogoods(worker, workerID);
                 solver.setLubyRestart(500, new FailCounter(worker, 0), 500);
                 solver.setSearch(lastConflict(solver.getSearch()));
                 break;
             case 1:
                 // ABS  + fast restart + LC
                 solver.setSearch(Search.activityBasedSearch(worker.retrieveIntVars(true)));
-                solver.setNoGoodRecordingFromRestarts();
+                recordNogoods(worker, workerID);
                 solver.setLubyRestart(500, new FailCounter(worker, 0), 500);
                 solver.setSearch(lastConflict(solver.getSearch()));
                 break;
@@ -406,9 +487,10 @@ public class ParallelPortfolio {
                 }
                 break;
             case 4:
-                // DWD  + fast restart + COS
-                solver.setSearch(Search.conflictOrderingSearch(Search.domOverWDegSearch(worker.retrieveIntVars(true))));
-                solver.setNoGoodRecordingFromRestarts();
+                // DWD  + fast restart + COS + phase saving
+                solver.setSearch(Search.conflictOrderingSearch(new DomOverWDeg(worker.retrieveIntVars(true), 0,
+                        new IntDomainPhase(worker, new IntDomainMin()))));
+                recordNogoods(worker, workerID);
                 solver.setLubyRestart(500, new FailCounter(worker, 0), 500);
                 solver.setSearch(lastConflict(solver.getSearch()));
                 break;
@@ -424,9 +506,10 @@ public class ParallelPortfolio {
                 break;
             case 7:
                 if(policy == ResolutionPolicy.SATISFACTION) {
-                    // DWD  + very fast restart
-                    solver.setSearch(new DomOverWDeg(worker.retrieveIntVars(true), 0, new IntDomainMin()));
-                    solver.setNoGoodRecordingFromRestarts();
+                    // DWD  + very fast restart + phase saving
+                    solver.setSearch(new DomOverWDeg(worker.retrieveIntVars(true), 0,
+                            new IntDomainPhase(worker, new IntDomainMin())));
+                    recordNogoods(worker, workerID);
                     solver.setLubyRestart(100, new FailCounter(worker, 0), 1000);
                 }else{
                     // occurrence + LC
@@ -451,6 +534,14 @@ public class ParallelPortfolio {
         }
     }
 
+    private void recordNogoods(Model worker, int workerID) {
+        if (exchanger == null) {
+            worker.getSolver().setNoGoodRecordingFromRestarts();
+        } else {
+            worker.getSolver().plugMonitor(new NogoodFromRestarts(worker, exchanger, workerID));
+        }
+    }
+
     private void check(){
         if (models.size() == 0) {
             throw new SolverException("No model found in the ParallelPortfolio.");
@@ -13,6 +13,8 @@ import org.chocosolver.memory.ICondition;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.constraints.ISatFactory;
 import org.chocosolver.solver.constraints.nary.automata.FA.ICostAutomaton;
+import org.chocosolver.solver.propagation.PropagationScheduler;
+import org.chocosolver.solver.propagation.SevenQueuesScheduler;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
 import org.chocosolver.solver.variables.IntVar;
@@ -43,8 +45,10 @@ public interface Settings {
      *    <li>{@link #setModelChecker(Predicate)}</li>
      *    <li>{@link #setDefaultSearch(Function)}</li>
      *    <li>{@link #setInitSolver(Function)}        </li>
+     *    <li>{@link #setPropagationScheduler(Function)}</li>
      *    <li>{@link #setEnvironmentHistorySimulationCondition(ICondition)}</li>
      *    <li>{@link #setEnableIncrementalityOnBoolSum(IntPredicate)}           </li>
+     *    <li>{@link #setEnableIncrementalityOnSum(IntPredicate)}           </li>
      * </ul>
      * @param properties a property file to load setting from.
      * @return the current instance
@@ -74,6 +78,8 @@ public interface Settings {
                 "propagators.clonevars", this.cloneVariableArrayInPropagator()).toString()));
         this.setEnableACOnTernarySum(Boolean.valueOf(properties.getOrDefault(
                 "sum.AConTernary", this.enableACOnTernarySum()).toString()));
+        this.setEnableBitsetPropagators(Boolean.valueOf(properties.getOrDefault(
+                "propagators.bitset", this.enableBitsetPropagators()).toString()));
         this.setDefaultPrefix((String) properties.getOrDefault(
                 "variables.prefix", this.defaultPrefix()));
         this.setEnableSAT(Boolean.valueOf(properties.getOrDefault(
@@ -104,8 +110,10 @@ public interface Settings {
      *    <li>{@link #setModelChecker(Predicate)}</li>
      *    <li>{@link #setDefaultSearch(Function)}</li>
      *    <li>{@link #setInitSolver(Function)}        </li>
+     *    <li>{@link #setPropagationScheduler(Function)}</li>
      *    <li>{@link #setEnvironmentHistorySimulationCondition(ICondition)}</li>
      *    <li>{@link #setEnableIncrementalityOnBoolSum(IntPredicate)}           </li>
+     *    <li>{@link #setEnableIncrementalityOnSum(IntPredicate)}           </li>
      * </ul>
      * @param      inStream   the input stream.
      * @exception IOException  if an error occurred when reading from the
@@ -128,8 +136,10 @@ public interface Settings {
      *    <li>{@link #setModelChecker(Predicate)}</li>
      *    <li>{@link #setDefaultSearch(Function)}</li>
      *    <li>{@link #setInitSolver(Function)}        </li>
+     *    <li>{@link #setPropagationScheduler(Function)}</li>
      *    <li>{@link #setEnvironmentHistorySimulationCondition(ICondition)}</li>
      *    <li>{@link #setEnableIncrementalityOnBoolSum(IntPredicate)}           </li>
+     *    <li>{@link #setEnableIncrementalityOnSum(IntPredicate)}           </li>
      * </ul>
      * @exception IOException if writing this property list to the specified
      *             output stream throws an <tt>IOException</tt>.
@@ -149,6 +159,7 @@ public interface Settings {
         properties.setProperty("boolsum.decomposition", Boolean.toString(this.enableDecompositionOfBooleanSum()));
         properties.setProperty("propagators.clonevars", Boolean.toString(this.cloneVariableArrayInPropagator()));
         properties.setProperty("sum.AConTernary", Boolean.toString(this.enableACOnTernarySum()));
+        properties.setProperty("propagators.bitset", Boolean.toString(this.enableBitsetPropagators()));
         properties.setProperty("variables.prefix", this.defaultPrefix());
         properties.setProperty("satsolver.activate", Boolean.toString(enableSAT()));
         properties.setProperty("propagators.swap", Boolean.toString(swapOnPassivate()));
@@ -169,8 +180,10 @@ public interface Settings {
      *    <li>{@link #setModelChecker(Predicate)}</li>
      *    <li>{@link #setDefaultSearch(Function)}</li>
      *    <li>{@link #setInitSolver(Function)}        </li>
+     *    <li>{@link #setPropagationScheduler(Function)}</li>
      *    <li>{@link #setEnvironmentHistorySimulationCondition(ICondition)}</li>
      *    <li>{@link #setEnableIncrementalityOnBoolSum(IntPredicate)}           </li>
+     *    <li>{@link #setEnableIncrementalityOnSum(IntPredicate)}           </li>
      * </ul>
      * @param   out      an output stream.
      * @param   comments   a description of the property list.
@@ -381,6 +394,27 @@ public interface Settings {
      */
     Settings setEnableIncrementalityOnBoolSum(IntPredicate enableIncrementalityOnBoolSum);
 
+    /**
+     * @param nbvars number of variables in the constraint
+     * @return {@code true} if the incrementality is enabled on integer sum and scalar product,
+     * based on the number of variables involved (disabled by default).
+     */
+    default boolean enableIncrementalityOnSum(int nbvars) {
+        return false;
+    }
+
+    /**
+     * Define the predicate to choose incremental sum or scalar product over integer variables,
+     * based on number variables declared.
+     * Incremental propagators pay off on large sums whose propagation rarely prunes.
+     * @param enableIncrementalityOnSum predicate to pick declare sum
+     * @return the current instance
+     * @throws UnsupportedOperationException if this implementation does not support incremental sums
+     */
+    default Settings setEnableIncrementalityOnSum(IntPredicate enableIncrementalityOnSum) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support incremental sums");
+    }
+
     /**
      * @return true if all propagators should clone the input variable array instead of simply referencing it.
      */
@@ -409,6 +443,31 @@ public interface Settings {
      */
     Settings setEnableACOnTernarySum(boolean enable);
 
+    /**
+     * @return <tt>true<tt/> if global cardinality and among constraints whose values span at most 64
+     * are filtered with propagators reading domains as 64-bit words (disabled by default).
+     */
+    default boolean enableBitsetPropagators() {
+        return false;
+    }
+
+    /**
+     * If this is set to <tt>true<tt/> then global cardinality and among constraints whose values span at most 64
+     * are filtered with {@link org.chocosolver.solver.constraints.nary.globalcardinality.PropBitsetGCC} and
+     * {@link org.chocosolver.solver.constraints.nary.among.PropBitsetAmong},
+     * otherwise, the default propagators are used.
+     * @param enable {@code true} to enable word-parallel propagators
+     * @return the current instance
+     * @throws UnsupportedOperationException if <i>enable</i> is {@code true} and this implementation
+     * does not support word-parallel propagators
+     */
+    default Settings setEnableBitsetPropagators(boolean enable) {
+        if (enable) {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support bitset propagators");
+        }
+        return this;
+    }
+
     /**
      * Define the prefix of internally created variables (through a call to {@link Model#generateName()}
      * @return the prefix of all internally created variables
@@ -495,6 +554,30 @@ public interface Settings {
      */
     Settings setHybridizationOfPropagationEngine(byte hybrid);
 
+    /**
+     * Creates the scheduling policy of the propagation engine of the input model
+     *
+     * @param model a model requiring a propagation engine
+     * @return a scheduling policy, {@link org.chocosolver.solver.propagation.SevenQueuesScheduler} by default
+     * @see org.chocosolver.solver.propagation.FifoScheduler
+     * @see org.chocosolver.solver.propagation.CostBasedScheduler
+     * @see org.chocosolver.solver.propagation.IdempotentFirstScheduler
+     */
+    default PropagationScheduler makePropagationScheduler(Model model) {
+        return new SevenQueuesScheduler();
+    }
+
+    /**
+     * Define the scheduling policy of the propagation engine
+     *
+     * @param scheduler function to create a scheduling policy
+     * @return the current instance
+     * @throws UnsupportedOperationException if this implementation does not support other scheduling policies
+     */
+    default Settings setPropagationScheduler(Function<Model, PropagationScheduler> scheduler) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support other scheduling policies");
+    }
+
     /**
      * @return maximum number of learnt clauses to store. When reached, a reduction is applied.
      * @see #setNbMaxLearntClauses(int)
@@ -33,6 +33,7 @@ import org.chocosolver.solver.objective.IBoundsManager;
 import org.chocosolver.solver.objective.IObjectiveManager;
 import org.chocosolver.solver.objective.ObjectiveFactory;
 import org.chocosolver.solver.propagation.PropagationEngine;
+import org.chocosolver.solver.propagation.PropagationProfiler;
 import org.chocosolver.solver.search.SearchState;
 import org.chocosolver.solver.search.limits.ICounter;
 import org.chocosolver.solver.search.loop.Reporting;
@@ -914,12 +915,38 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
     public void setEngine(PropagationEngine propagationEngine) {
         if (!engine.isInitialized()
                 || getEnvironment().getWorldIndex() == rootWorldIndex) {
+            if (propagationEngine.getProfiler() == null) {
+                propagationEngine.setProfiler(engine.getProfiler());
+            }
             this.engine = propagationEngine;
         }else{
             throw new SolverException("Illegal propagation engine modification.");
         }
     }
 
+    /**
+     * Enable the profiling of propagators: for each of them, the number of calls, the execution time,
+     * the number of domain reductions, contradictions and calls with no filtering are recorded.
+     * Profiling has a cost, it should not be enabled in production unless required.
+     * If profiling is already enabled, the current profiler is returned.
+     * @return the profiler, which can be printed with {@link #printPropagationProfile()}
+     * @see #getPropagationProfiler()
+     */
+    public PropagationProfiler profilePropagation() {
+        if (engine.getProfiler() == null) {
+            engine.setProfiler(new PropagationProfiler());
+        }
+        return engine.getProfiler();
+    }
+
+    /**
+     * @return the propagation profiler, or <i>null</i> if profiling is not enabled
+     * @see #profilePropagation()
+     */
+    public PropagationProfiler getPropagationProfiler() {
+        return engine.getProfiler();
+    }
+
     /**
      * Completes (or not) the declared search strategy with one over all variables
      * @param isComplete set to true to complete the current search strategy
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.binary.*;
 import org.chocosolver.solver.constraints.unary.PropEqualXC;
@@ -175,4 +176,14 @@ public class Arithmetic extends Constraint {
 			}
 		}
 	}
+
+	@Override
+	public boolean isDuplicable() {
+		return arePropagatorsDuplicable();
+	}
+
+	@Override
+	public Arithmetic duplicate(Duplicator duplicator) {
+		return new Arithmetic(getName(), duplicator.get(vars), op1, op2, cste, propagators[0].duplicate(duplicator));
+	}
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.reification.Opposite;
 import org.chocosolver.solver.exception.SolverException;
@@ -347,6 +348,57 @@ public class Constraint {
         return PropagatorPriority.get(priority);
     }
 
+    /**
+     * @return <i>true</i> if this constraint can be copied with {@link #duplicate(Duplicator)}.
+     * Sub-classes of {@link Constraint} which override {@link #duplicate(Duplicator)} must also override this method.
+     */
+    public boolean isDuplicable() {
+        return getClass() == Constraint.class && arePropagatorsDuplicable();
+    }
+
+    /**
+     * @return <i>true</i> if every propagator of this constraint can be duplicated
+     */
+    protected final boolean arePropagatorsDuplicable() {
+        for (Propagator p : propagators) {
+            if (!p.isDuplicable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create a copy of this constraint in {@link Duplicator#getTarget()}, made of copies of its propagators.
+     * The copy is neither posted nor reified.
+     * Sub-classes of {@link Constraint} must override this method to return an instance of their own class,
+     * otherwise specific behaviours (e.g., {@link #makeOpposite()}) would be lost.
+     *
+     * @param duplicator the copy factory
+     * @return a copy of this constraint
+     * @throws UnsupportedOperationException if this constraint, or one of its propagators, cannot be duplicated
+     * @see #isDuplicable()
+     */
+    public Constraint duplicate(Duplicator duplicator) {
+        if (getClass() != Constraint.class) {
+            throw new UnsupportedOperationException("Cannot duplicate " + getClass().getName());
+        }
+        return new Constraint(name, duplicatePropagators(duplicator));
+    }
+
+    /**
+     * @param duplicator the copy factory
+     * @return copies of the propagators of this constraint, in the same order
+     * @throws UnsupportedOperationException if one of the propagators cannot be duplicated
+     */
+    protected final Propagator[] duplicatePropagators(Duplicator duplicator) {
+        Propagator[] copies = new Propagator[propagators.length];
+        for (int i = 0; i < propagators.length; i++) {
+            copies[i] = propagators[i].duplicate(duplicator);
+        }
+        return copies;
+    }
+
     /**
      * Creates a new constraint with all propagators of toMerge
      * @param name name of the new constraint
@@ -73,6 +73,8 @@ public class ConstraintsName {
 
     public static final String DIFFNWITHCUMULATIVE = "DIFFNWITHCUMULATIVE";
 
+    public static final String DISJUNCTIVE = "DISJUNCTIVE";
+
     public static final String ELEMENT = "ELEMENT";
 
     public static final String INVERSECHANNELING = "INVERSECHANNELING";
@@ -51,6 +51,7 @@ import org.chocosolver.solver.constraints.nary.alldifferent.conditions.Condition
 import org.chocosolver.solver.constraints.nary.alldifferent.conditions.PropCondAllDiffInst;
 import org.chocosolver.solver.constraints.nary.alldifferent.conditions.PropCondAllDiff_AC;
 import org.chocosolver.solver.constraints.nary.among.PropAmongGAC;
+import org.chocosolver.solver.constraints.nary.among.PropBitsetAmong;
 import org.chocosolver.solver.constraints.nary.automata.CostRegular;
 import org.chocosolver.solver.constraints.nary.automata.FA.IAutomaton;
 import org.chocosolver.solver.constraints.nary.automata.FA.ICostAutomaton;
@@ -74,6 +75,7 @@ import org.chocosolver.solver.constraints.nary.count.PropCountVar;
 import org.chocosolver.solver.constraints.nary.count.PropCount_AC;
 import org.chocosolver.solver.constraints.nary.cumulative.CumulFilter;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
+import org.chocosolver.solver.constraints.nary.disjunctive.PropDisjunctive;
 import org.chocosolver.solver.constraints.nary.element.PropElementV_fast;
 import org.chocosolver.solver.constraints.nary.globalcardinality.GlobalCardinality;
 import org.chocosolver.solver.constraints.nary.lex.PropLex;
@@ -681,10 +683,10 @@ public interface IIntConstraintFactory extends ISelf<Model> {
     /**
      * Creates an allDifferent constraint.
      * Ensures that all variables from vars take a different value.
-     * The consistency level should be chosen among "BC", "AC" and "DEFAULT".
+     * The consistency level should be chosen among "BC", "AC", "AC_INCR" and "DEFAULT".
      *
      * @param vars        list of variables
-     * @param CONSISTENCY consistency level, among {"BC", "AC"}
+     * @param CONSISTENCY consistency level, among {"BC", "AC", "AC_INCR"}
      *                    <p>
      *                    <b>BC</b>:
      *                    Based on: "A Fast and Simple Algorithm for Bounds Consistency of the AllDifferent Constraint"</br>
@@ -693,6 +695,11 @@ public interface IIntConstraintFactory extends ISelf<Model> {
      *                    <b>AC</b>:
      *                    Uses Regin algorithm
      *                    Runs in O(m.n) worst case time for the initial propagation and then in O(n+m) on average.
+     *                    <br/>
+     *                    <b>AC_INCR</b>:
+     *                    Uses Regin algorithm, like <b>AC</b>, but the matching and the strongly connected components
+     *                    are maintained between calls: only the components of the modified variables are processed again.
+     *                    To be preferred on large sets of variables.
      *                    <p>
      *                    <b>DEFAULT</b>:
      *                    <br/>
@@ -772,6 +779,11 @@ public interface IIntConstraintFactory extends ISelf<Model> {
     default Constraint among(IntVar nbVar, IntVar[] vars, int[] values) {
         int[] vls = new TIntHashSet(values).toArray(); // remove double occurrences
         Arrays.sort(vls);                              // sort
+        if (vls.length > 0 && (long) vls[vls.length - 1] - vls[0] < 64
+                && ref().getSettings().enableBitsetPropagators()) {
+            // values fit in a word: domains are read as words instead of being iterated
+            return new Constraint(ConstraintsName.AMONG, new PropBitsetAmong(ArrayUtils.concat(vars, nbVar), vls));
+        }
         return new Constraint(ConstraintsName.AMONG, new PropAmongGAC(ArrayUtils.concat(vars, nbVar), vls));
     }
 
@@ -1189,6 +1201,44 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         ref().cumulative(tasks, h, ref().intVar(capacity), false, Cumulative.Filter.NAIVETIME).post();
     }
 
+    /**
+     * Creates a disjunctive constraint: Enforces that the tasks are processed on a unary resource,
+     * that is, no two tasks overlap in time.
+     *
+     * Task duration should be >= 0
+     * Discards tasks whose duration is equal to zero
+     *
+     * The filtering relies on Θ-trees and Θ-Λ-trees: overload checking, detectable precedences,
+     * not-first/not-last and edge-finding, each one in O(n log n).
+     *
+     * @param tasks Task objects containing start, duration and end variables
+     * @return a disjunctive constraint
+     */
+    default Constraint disjunctive(Task[] tasks) {
+        int nbUseFull = 0;
+        for (Task task : tasks) {
+            if (task.getDuration().getUB() > 0) {
+                nbUseFull++;
+            }
+        }
+        if (nbUseFull < 2) {
+            return ref().trueConstraint();
+        }
+        IntVar[] s = new IntVar[nbUseFull];
+        IntVar[] d = new IntVar[nbUseFull];
+        IntVar[] e = new IntVar[nbUseFull];
+        int idx = 0;
+        for (Task task : tasks) {
+            if (task.getDuration().getUB() > 0) {
+                s[idx] = task.getStart();
+                d[idx] = task.getDuration();
+                e[idx] = task.getEnd();
+                idx++;
+            }
+        }
+        return new Constraint(ConstraintsName.DISJUNCTIVE, new PropDisjunctive(s, d, e));
+    }
+
     /**
      * Creates a diffN constraint. Constrains each rectangle<sub>i</sub>, given by their origins X<sub>i</sub>,Y<sub>i</sub>
      * and sizes width<sub>i</sub>,height<sub>i</sub>, to be non-overlapping.
@@ -2059,6 +2109,10 @@ public interface IIntConstraintFactory extends ISelf<Model> {
      *
      * @param vars      variables forming the tuples
      * @param tuples    the relation between the variables (list of allowed/forbidden tuples). Should not be modified once passed to the constraint.
+     *                  With <b>CT+</b> and <b>MDD+</b>, supports and MDD are cached in <i>tuples</i>,
+     *                  and shared by the tables posted with it on variables with the same domains.
+     *                  <b>CT+</b>, <b>STR2+</b> and <b>MDD+</b> read tuples one by one,
+     *                  so that very large tables can be loaded from disk (see {@link org.chocosolver.solver.constraints.extension.MappedTuples}).
      * @param algo to choose among {"TC+", "GAC3rm", "GAC2001", "GACSTR", "GAC2001+", "GAC3rm+", "FC", "STR2+"}
      */
     default Constraint table(IntVar[] vars, Tuples tuples, String algo) {
@@ -2091,7 +2145,7 @@ public interface IIntConstraintFactory extends ISelf<Model> {
             }
             break;
             case "MDD+":
-                p = new PropLargeMDDC(new MultivaluedDecisionDiagram(vars, tuples), vars);
+                p = new PropLargeMDDC(tuples.computeIfAbsent(algo, vars, () -> MultivaluedDecisionDiagram.build(vars, tuples)), vars);
                 break;
             case "FC":
                 p = new PropLargeFC(vars, tuples);
@@ -20,6 +20,7 @@ import static org.chocosolver.util.objects.setDataStructures.iterable.IntIterabl
 import java.util.Arrays;
 import java.util.function.Consumer;
 import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Identity;
 import org.chocosolver.solver.Model;
@@ -27,6 +28,7 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.learn.Implications;
+import org.chocosolver.solver.propagation.PropagationScheduler;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Variable;
@@ -895,11 +897,24 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
     }
 
 
+    /**
+     * Apply scheduling instruction
+     * @param scheduler the scheduler in which this is to be scheduled
+     */
+    public void doSchedule(PropagationScheduler scheduler){
+        if(!scheduled) {
+            scheduler.schedule(this);
+            schedule();
+        }
+    }
+
     /**
      * Apply scheduling instruction
      * @param queues array of queues in which this can be scheduled
      * @return 0 if already scheduled, its priority otherwise
+     * @deprecated the propagation engine now relies on {@link #doSchedule(PropagationScheduler)}
      */
+    @Deprecated
     public int doSchedule(CircularQueue<Propagator>[] queues){
         if(!scheduled) {
             int prio = priority.priority;
@@ -943,4 +958,27 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         }
         unschedule();
     }
+
+    /**
+     * @return <i>true</i> if this propagator can be copied with {@link #duplicate(Duplicator)}.
+     * Propagators which override {@link #duplicate(Duplicator)} must also override this method.
+     */
+    public boolean isDuplicable() {
+        return false;
+    }
+
+    /**
+     * Create a copy of this propagator in {@link Duplicator#getTarget()}.
+     * Variables of the copy must be obtained through {@link Duplicator#get(Variable)} (or its array counterparts),
+     * immutable data structures (e.g., tuples or precomputed supports) should be shared rather than copied.
+     * The copy is not attached to any constraint.
+     *
+     * @param duplicator the copy factory
+     * @return a copy of this propagator
+     * @throws UnsupportedOperationException if this propagator cannot be duplicated
+     * @see #isDuplicable()
+     */
+    public Propagator<V> duplicate(Duplicator duplicator) {
+        throw new UnsupportedOperationException("Cannot duplicate " + getClass().getSimpleName());
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.reification.PropReif;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -117,6 +118,16 @@ public class ReificationConstraint extends Constraint {
         return propReif.isEntailed();
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return trueCons.isDuplicable() && falseCons.isDuplicable();
+    }
+
+    @Override
+    public Constraint duplicate(Duplicator duplicator) {
+        return new ReificationConstraint(duplicator.get(bool), duplicator.get(trueCons), duplicator.get(falseCons));
+    }
+
     @Override
     public String toString() {
         return bool.toString() + "=>" + trueCons.toString() + ", !" + bool.toString() + "=>" + falseCons.toString();
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -158,4 +159,13 @@ public class PropAbsolute extends Propagator<IntVar> {
     // EXPLANATIONS
     //***********************************************************************************
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropAbsolute duplicate(Duplicator duplicator) {
+        return new PropAbsolute(duplicator.get(X), duplicator.get(Y));
+    }
 }
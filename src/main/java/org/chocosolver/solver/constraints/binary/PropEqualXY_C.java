@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -167,4 +168,13 @@ public final class PropEqualXY_C extends Propagator<IntVar> {
         return vars[0] + " + " + vars[1] + " = " + cste;
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropEqualXY_C duplicate(Duplicator duplicator) {
+        return new PropEqualXY_C(duplicator.get(vars), cste);
+    }
 }
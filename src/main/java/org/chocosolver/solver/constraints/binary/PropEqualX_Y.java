@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -184,4 +185,13 @@ public final class PropEqualX_Y extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".EQ." + vars[1].getName() + ")";
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropEqualX_Y duplicate(Duplicator duplicator) {
+        return new PropEqualX_Y(duplicator.get(vars[0]), duplicator.get(vars[1]));
+    }
 }
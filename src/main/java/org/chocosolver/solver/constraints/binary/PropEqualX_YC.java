@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -178,4 +179,14 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
         bf.append(")");
         return bf.toString();
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropEqualX_YC duplicate(Duplicator duplicator) {
+        return new PropEqualX_YC(duplicator.get(vars), cste);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -133,4 +134,13 @@ public final class PropGreaterOrEqualXY_C extends Propagator<IntVar> {
         return x.getName() + " + " + y.getName() + " >= " + cste;
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropGreaterOrEqualXY_C duplicate(Duplicator duplicator) {
+        return new PropGreaterOrEqualXY_C(duplicator.get(vars), cste);
+    }
 }
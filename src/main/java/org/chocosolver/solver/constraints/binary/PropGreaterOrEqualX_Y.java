@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -133,4 +134,13 @@ public final class PropGreaterOrEqualX_Y extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".GEQ." + vars[1].getName() + ")";
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropGreaterOrEqualX_Y duplicate(Duplicator duplicator) {
+        return new PropGreaterOrEqualX_Y(duplicator.get(vars));
+    }
 }
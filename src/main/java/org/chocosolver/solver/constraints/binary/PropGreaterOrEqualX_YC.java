@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -138,4 +139,13 @@ public final class PropGreaterOrEqualX_YC extends Propagator<IntVar> {
         return x.getName() + " >= " + y.getName() + " + " + cste;
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropGreaterOrEqualX_YC duplicate(Duplicator duplicator) {
+        return new PropGreaterOrEqualX_YC(duplicator.get(vars), cste);
+    }
 }
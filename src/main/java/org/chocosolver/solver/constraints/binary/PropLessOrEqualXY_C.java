@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -132,4 +133,13 @@ public final class PropLessOrEqualXY_C extends Propagator<IntVar> {
         return x.getName() + " + " + y.getName() + " <= " + cste;
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropLessOrEqualXY_C duplicate(Duplicator duplicator) {
+        return new PropLessOrEqualXY_C(duplicator.get(vars), cste);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -113,4 +114,13 @@ public class PropNotEqualXY_C extends Propagator<IntVar> {
             return ESat.UNDEFINED;
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropNotEqualXY_C duplicate(Duplicator duplicator) {
+        return new PropNotEqualXY_C(duplicator.get(vars), cste);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -118,4 +119,13 @@ public class PropNotEqualX_Y extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".NEQ." + vars[1].getName() + ")";
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropNotEqualX_Y duplicate(Duplicator duplicator) {
+        return new PropNotEqualX_Y(duplicator.get(vars[0]), duplicator.get(vars[1]));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -92,4 +93,13 @@ public class PropScale extends Propagator<IntVar> {
         return ESat.UNDEFINED;
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropScale duplicate(Duplicator duplicator) {
+        return new PropScale(duplicator.get(X), Y, duplicator.get(Z));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -257,4 +258,13 @@ public class PropSquare extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropSquare duplicate(Duplicator duplicator) {
+        return new PropSquare(duplicator.get(vars[0]), duplicator.get(vars[1]));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary.element;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -151,4 +152,13 @@ public class PropElement extends Propagator<IntVar> {
         return sb.toString();
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropElement duplicate(Duplicator duplicator) {
+        return new PropElement(duplicator.get(result), values, duplicator.get(index), offset);
+    }
 }
@@ -0,0 +1,298 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension;
+
+import org.chocosolver.solver.exception.SolverException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Read-only tuples stored in a binary file, which is mapped in memory
+ * (see {@link FileChannel#map(FileChannel.MapMode, long, long)}) instead of being loaded in the heap.
+ * Tuples are then read from the file when needed, for instance while table constraints build their data structures,
+ * which makes possible to deal with tables of tens of millions of tuples.
+ * <br/>
+ * Such a file is created with a {@link Writer}, tuple after tuple, or from an existing set of tuples
+ * with {@link #write(Tuples, Path)}, and is then loaded with {@link #load(Path)}.
+ * The file starts with a header made of: a magic number, the arity, the number of tuples,
+ * whether tuples are allowed, whether a universal value is declared, the universal value, the minimum value
+ * of each column and the maximum value of each column.
+ * Tuples follow, one after the other. All numbers are 4-byte big-endian integers.
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class MappedTuples extends Tuples {
+
+    /**
+     * First integer of a file of tuples
+     */
+    private static final int MAGIC = 0x43485455;
+    /**
+     * Maximum number of integers in a mapped segment
+     */
+    private static final int SEGMENT = 1 << 28;
+
+    /**
+     * Segments of the file, each one stores <code>1 << shift</code> tuples (but the last one)
+     */
+    private final IntBuffer[] segments;
+    private final int arity;
+    private final int size;
+    private final int shift;
+    private final int mask;
+
+    private MappedTuples(boolean feasible, int arity, int size, int[] mins, int[] maxs, IntBuffer[] segments, int shift) {
+        super(feasible, arity, mins, maxs);
+        this.arity = arity;
+        this.size = size;
+        this.segments = segments;
+        this.shift = shift;
+        this.mask = (1 << shift) - 1;
+    }
+
+    /**
+     * Map the tuples stored in <i>file</i>
+     *
+     * @param file a file created by a {@link Writer}
+     * @return the tuples stored in <i>file</i>
+     * @throws IOException if the file cannot be read
+     * @throws SolverException if the file does not store tuples
+     */
+    public static MappedTuples load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(6 * Integer.BYTES);
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new SolverException(file + " does not store tuples");
+            }
+            int arity = header.getInt();
+            int size = header.getInt();
+            boolean feasible = header.getInt() != 0;
+            boolean allowStar = header.getInt() != 0;
+            int star = header.getInt();
+            ByteBuffer bounds = ByteBuffer.allocate(2 * arity * Integer.BYTES);
+            readFully(channel, bounds, header.capacity());
+            bounds.flip();
+            int[] mins = new int[arity];
+            int[] maxs = new int[arity];
+            bounds.asIntBuffer().get(mins).get(maxs);
+            long position = headerSize(arity);
+            if (channel.size() < position + (long) size * arity * Integer.BYTES) {
+                throw new SolverException(file + " is truncated");
+            }
+            int shift = 31 - Integer.numberOfLeadingZeros(Math.max(1, SEGMENT / Math.max(1, arity)));
+            IntBuffer[] segments = new IntBuffer[size == 0 ? 0 : ((size - 1) >> shift) + 1];
+            for (int s = 0; s < segments.length; s++) {
+                long rows = Math.min(1L << shift, size - ((long) s << shift));
+                long length = rows * arity * Integer.BYTES;
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, position, length).asIntBuffer();
+                position += length;
+            }
+            MappedTuples tuples = new MappedTuples(feasible, arity, size, mins, maxs, segments, shift);
+            if (allowStar) {
+                tuples.setUniversalValue(star);
+            }
+            return tuples;
+        }
+    }
+
+    /**
+     * Store <i>tuples</i> in <i>file</i>, so that they can then be loaded with {@link #load(Path)}
+     *
+     * @param tuples tuples to store
+     * @param file   a file, replaced if it already exists
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Tuples tuples, Path file) throws IOException {
+        try (Writer writer = new Writer(file, tuples.arity(), tuples.isFeasible())) {
+            if (tuples.allowUniversalValue()) {
+                writer.setUniversalValue(tuples.getStarValue());
+            }
+            int[] tuple = new int[tuples.arity()];
+            for (int t = 0; t < tuples.nbTuples(); t++) {
+                for (int i = 0; i < tuple.length; i++) {
+                    tuple[i] = tuples.get(t, i);
+                }
+                writer.add(tuple);
+            }
+        }
+    }
+
+    private static int headerSize(int arity) {
+        return (6 + 2 * arity) * Integer.BYTES;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new SolverException("Unexpected end of file");
+            }
+            position += read;
+        }
+    }
+
+    @Override
+    public int nbTuples() {
+        return size;
+    }
+
+    @Override
+    public int[] get(int idx) {
+        int[] tuple = new int[arity];
+        for (int i = 0; i < arity; i++) {
+            tuple[i] = get(idx, i);
+        }
+        return tuple;
+    }
+
+    @Override
+    public int get(int idx, int pos) {
+        return segments[idx >>> shift].get((idx & mask) * arity + pos);
+    }
+
+    /**
+     * @throws SolverException since these tuples are read-only
+     */
+    @Override
+    public void add(int... tuple) {
+        throw new SolverException("Tuples mapped from a file cannot be modified");
+    }
+
+    /**
+     * @return <tt>false</tt>, since these tuples are read-only
+     */
+    @Override
+    public boolean isSortable() {
+        return false;
+    }
+
+    /**
+     * @throws SolverException since these tuples are read-only, they should be sorted before being written
+     */
+    @Override
+    public void sort() {
+        throw new SolverException("Tuples mapped from a file cannot be modified");
+    }
+
+    /**
+     * Write tuples in a file, one after the other, without keeping them in memory.
+     * The header of the file is completed on {@link #close()}.
+     */
+    public static final class Writer implements Closeable {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final int arity;
+        private final boolean feasible;
+        private final int[] mins;
+        private final int[] maxs;
+        private boolean allowStar;
+        private int star;
+        private int size;
+
+        /**
+         * Create a file to store tuples in
+         *
+         * @param file     a file, replaced if it already exists
+         * @param arity    arity of the tuples
+         * @param feasible indicates whether the tuples are allowed or forbidden
+         * @throws IOException if the file cannot be created
+         */
+        public Writer(Path file, int arity, boolean feasible) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = ByteBuffer.allocate(1 << 16);
+            this.arity = arity;
+            this.feasible = feasible;
+            this.mins = new int[arity];
+            this.maxs = new int[arity];
+            Arrays.fill(mins, Integer.MAX_VALUE);
+            Arrays.fill(maxs, Integer.MIN_VALUE);
+            channel.position(headerSize(arity));
+        }
+
+        /**
+         * Declare the value which denotes that some variables can take any values from their domain
+         *
+         * @param star the universal value that can appear in any tuple.
+         */
+        public void setUniversalValue(int star) {
+            this.star = star;
+            this.allowStar = true;
+        }
+
+        /**
+         * Append a tuple to the file
+         *
+         * @param tuple a tuple
+         * @throws IOException if the file cannot be written
+         * @throws SolverException if the size of the tuple does not correspond to the arity
+         */
+        public void add(int... tuple) throws IOException {
+            if (tuple.length != arity) {
+                throw new SolverException("The given tuple does not match the arity: " + arity);
+            }
+            if (size == Integer.MAX_VALUE) {
+                throw new SolverException("Too many tuples");
+            }
+            for (int i = 0; i < arity; i++) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    flush();
+                }
+                buffer.putInt(tuple[i]);
+                mins[i] = Math.min(mins[i], tuple[i]);
+                maxs[i] = Math.max(maxs[i], tuple[i]);
+            }
+            size++;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * Complete the header of the file and close it
+         *
+         * @throws IOException if the file cannot be written
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+                ByteBuffer header = ByteBuffer.allocate(headerSize(arity));
+                header.putInt(MAGIC).putInt(arity).putInt(size)
+                        .putInt(feasible ? 1 : 0).putInt(allowStar ? 1 : 0).putInt(star);
+                header.asIntBuffer().put(mins).put(maxs);
+                header.rewind();
+                long position = 0;
+                while (header.hasRemaining()) {
+                    position += channel.write(header, position);
+                }
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
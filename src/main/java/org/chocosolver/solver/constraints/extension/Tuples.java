@@ -13,15 +13,25 @@ import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
 
-import java.util.ArrayList;
+import java.lang.ref.SoftReference;
 import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * A unique interface to declare tuples for table constraints.
  * Handles both feasible tuples and forbidden tuples.
  * <br/>
+ * Tuples are stored one after the other in a single array of int,
+ * which avoids allocating one object per tuple.
+ * Data structures computed from tuples by table constraints (e.g., supports, MDD) can be cached in this object
+ * (see {@link #computeIfAbsent(String, IntVar[], Supplier)}), so that the same tuples posted on
+ * variables with identical initial domains share them, even across models.
+ * <br/>
+ * Very large sets of tuples can also be stored on disk and read from there (see {@link MappedTuples}).
+ * <br/>
  *
  * @author Charles Prud'homme
  * @since 22/04/2014
@@ -32,12 +42,29 @@ public class Tuples {
 	// VARIABLES
 	//***********************************************************************************
 
+	/**
+	 * Maximum number of data structures kept in the cache
+	 */
+	private static final int CACHE_SIZE = 8;
+
 	private final boolean feasible;
-	protected final List<int[]> tuples;
+	/**
+	 * Tuples, stored one after the other
+	 */
+	private int[] data;
+	/**
+	 * Number of tuples stored
+	 */
+	private int size;
 	private int arity;
 	private int[] ranges;
 	private boolean allowStar;
 	private int star;
+	/**
+	 * Data structures computed from these tuples, by kind and initial domains of variables,
+	 * the least recently used ones being evicted
+	 */
+	private Map<Signature, SoftReference<Object>> cache;
 
 	//***********************************************************************************
 	// CONSTRUCTOR
@@ -54,7 +81,7 @@ public class Tuples {
      */
     public Tuples(int[][] values, boolean feasible) {
         this.feasible = feasible;
-        tuples = new ArrayList<>();
+        this.data = new int[0];
         for(int[] t : values){
             add(t);
         }
@@ -68,7 +95,7 @@ public class Tuples {
 	 */
 	public Tuples(boolean feasible) {
 		this.feasible = feasible;
-		tuples = new ArrayList<>();
+		this.data = new int[0];
 	}
 
 	/**
@@ -78,6 +105,23 @@ public class Tuples {
 		this(true);
 	}
 
+	/**
+	 * Create a set of tuples whose storage is handled by a subclass,
+	 * which then overrides {@link #nbTuples()}, {@link #get(int)} and {@link #get(int, int)}.
+	 *
+	 * @param feasible indicates whether the tuples are allowed or forbidden
+	 * @param arity    arity of the tuples
+	 * @param mins     minimum value of each column among all tuples
+	 * @param maxs     maximum value of each column among all tuples
+	 */
+	protected Tuples(boolean feasible, int arity, int[] mins, int[] maxs) {
+		this.feasible = feasible;
+		this.arity = arity;
+		this.ranges = new int[2 * arity];
+		System.arraycopy(mins, 0, ranges, 0, arity);
+		System.arraycopy(maxs, 0, ranges, arity, arity);
+	}
+
 	//***********************************************************************************
 	// METHODS
 	//***********************************************************************************
@@ -90,6 +134,7 @@ public class Tuples {
 	public void setUniversalValue(int star){
 		this.star = star;
 		this.allowStar = true;
+		clearCache();
 	}
 
 	/**
@@ -129,10 +174,10 @@ public class Tuples {
 			}
 		}
 		for (int ti = 0; ti < nbTuples(); ti++) {
-			int[] tuple = tuples.get(ti);
 			boolean valid = true;
 			for (int i = 0; i < values.length && valid; i++) {
-				valid = tuple[i] == values[i] || (allowStar && tuple[i] == star);
+				int v = get(ti, i);
+				valid = v == values[i] || (allowStar && v == star);
 			}
 			if (valid) {
 				return isFeasible()? ESat.TRUE: ESat.FALSE;
@@ -148,7 +193,7 @@ public class Tuples {
 	 * @throws org.chocosolver.solver.exception.SolverException if the size of the tuple added does not correspond to a the previous ones (if any).
 	 */
 	public void add(int... tuple) {
-		if (tuples.size() == 0) {
+		if (size == 0) {
 			arity = tuple.length;
 			ranges = new int[2 * arity];
 			Arrays.fill(ranges, 0, arity, Integer.MAX_VALUE);
@@ -156,7 +201,12 @@ public class Tuples {
 		} else if (arity != tuple.length) {
 			throw new SolverException("The given tuple does not match the arity: " + arity);
 		}
-		tuples.add(tuple.clone());
+		if ((size + 1) * arity > data.length) {
+			data = Arrays.copyOf(data, Math.max(arity * 16, data.length * 3 / 2 + arity));
+		}
+		System.arraycopy(tuple, 0, data, size * arity, arity);
+		size++;
+		clearCache();
 		for (int i = 0; i < arity; i++) {
 			ranges[i] = Math.min(ranges[i], tuple[i]);
 			ranges[i + arity] = Math.max(ranges[i + arity], tuple[i]);
@@ -203,27 +253,106 @@ public class Tuples {
 		return ranges[idx + arity];
 	}
 
+	/**
+	 * Return the arity of the tuples, 0 if no tuple has been added yet
+	 *
+	 * @return arity of the tuples
+	 */
+	public int arity() {
+		return arity;
+	}
+
 	/**
 	 * Return the number of tuples stored
 	 *
 	 * @return number of tuples stored
 	 */
 	public int nbTuples() {
-		return tuples.size();
+		return size;
 	}
 
 	/**
-	 * Return the idx^th tuple
+	 * Return a copy of the idx^th tuple.
+	 * To read tuples without allocating arrays, see {@link #get(int, int)} and {@link #get(int, int[])}.
 	 */
 	public int[] get(int idx) {
-		return tuples.get(idx);
+		return Arrays.copyOfRange(data, idx * arity, (idx + 1) * arity);
+	}
+
+	/**
+	 * Fill <i>tuple</i> with the values of the idx^th tuple,
+	 * so that a single array can be used to read all tuples
+	 *
+	 * @param idx   index of the tuple
+	 * @param tuple an array of size {@link #arity()}
+	 * @return <i>tuple</i>
+	 */
+	public int[] get(int idx, int[] tuple) {
+		for (int i = 0; i < arity; i++) {
+			tuple[i] = get(idx, i);
+		}
+		return tuple;
+	}
+
+	/**
+	 * Return the value at position pos in the idx^th tuple,
+	 * without allocating any array
+	 *
+	 * @param idx index of the tuple
+	 * @param pos position in the tuple
+	 * @return the value
+	 */
+	public int get(int idx, int pos) {
+		return data[idx * arity + pos];
+	}
+
+	/**
+	 * Return the data structure of kind <i>kind</i> computed from these tuples for variables
+	 * whose domains are the current ones of <i>vars</i>.
+	 * If no such data structure has been computed yet, it is built by <i>builder</i> and cached,
+	 * so that the tables posted with these tuples on variables with the same domains share it.
+	 * The data structure should thus not be modified once built.
+	 * The cache is cleared when a tuple is added. It keeps at most the eight last used data structures,
+	 * only through soft references, so that the garbage collector can reclaim the ones no constraint refers to.
+	 *
+	 * @param kind    type of data structure, e.g., the name of a table algorithm
+	 * @param vars    variables the tuples are posted on
+	 * @param builder builds the data structure
+	 * @param <T>     type of data structure
+	 * @return the data structure
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <T> T computeIfAbsent(String kind, IntVar[] vars, Supplier<T> builder) {
+		Signature key = new Signature(kind, vars);
+		if (cache != null) {
+			SoftReference<Object> ref = cache.get(key);
+			Object structure = ref == null ? null : ref.get();
+			if (structure != null) {
+				return (T) structure;
+			}
+		}
+		T structure = builder.get();
+		if (cache == null) {
+			cache = new LinkedHashMap<Signature, SoftReference<Object>>(CACHE_SIZE, .75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Signature, SoftReference<Object>> eldest) {
+					return size() > CACHE_SIZE;
+				}
+			};
+		}
+		cache.put(key, new SoftReference<>(structure));
+		return structure;
+	}
+
+	private synchronized void clearCache() {
+		cache = null;
 	}
 
 	@Override
 	public String toString() {
 		StringBuilder st = new StringBuilder(isFeasible() ? "Allowed" : "Fordidden").append(" tuples: {");
-		for (int i = 0; i < tuples.size(); i++) {
-			st.append(Arrays.toString(tuples.get(i)));
+		for (int i = 0; i < nbTuples(); i++) {
+			st.append(Arrays.toString(get(i)));
 		}
 
 		st.append("}");
@@ -235,28 +364,76 @@ public class Tuples {
 	 * @return an array of tuples, each tuple is an int array
 	 */
 	public int[][] toMatrix() {
-		int i = 0;
-		int[][] matrix = new int[tuples.size()][];
-		for (int[] tuple : tuples) {
-			matrix[i++] = tuple.clone();
+		int[][] matrix = new int[nbTuples()][];
+		for (int i = 0; i < matrix.length; i++) {
+			matrix[i] = get(i);
 		}
 		return matrix;
 	}
 
+	/**
+	 * @return <tt>true</tt> if {@link #sort()} can be called on these tuples
+	 */
+	public boolean isSortable() {
+		return true;
+	}
+
+	/**
+	 * Sort tuples in lexicographic order.
+	 * Since the set of tuples is not modified, the cache is kept.
+	 * @see #isSortable()
+	 */
 	public void sort() {
-		tuples.sort(new TupleComparator());
+		int[] order = IntStream.range(0, size).boxed().sorted(this::compare).mapToInt(i -> i).toArray();
+		int[] sorted = new int[data.length];
+		for (int i = 0; i < size; i++) {
+			System.arraycopy(data, order[i] * arity, sorted, i * arity, arity);
+		}
+		data = sorted;
 	}
 
-	private static class TupleComparator implements Comparator<int[]> {
+	private int compare(int t1, int t2) {
+		int o1 = t1 * arity, o2 = t2 * arity;
+		int i = 0;
+		while (i < arity && data[o1 + i] == data[o2 + i]) {
+			i++;
+		}
+		return (i == arity ? 0 : Integer.compare(data[o1 + i], data[o2 + i]));
+	}
 
-		@Override
-		public int compare(int[] o1, int[] o2) {
-			int i = 0;
-			int l = o1.length;
-			while (i < l && o1[i] == o2[i]) {
-				i++;
+	/**
+	 * Key of the cache: a kind of data structure and the domains of the variables
+	 */
+	private static final class Signature {
+		private final String kind;
+		private final int[][] domains;
+		private final int hash;
+
+		private Signature(String kind, IntVar[] vars) {
+			this.kind = kind;
+			this.domains = new int[vars.length][];
+			for (int i = 0; i < vars.length; i++) {
+				domains[i] = new int[vars[i].getDomainSize()];
+				int k = 0;
+				int ub = vars[i].getUB();
+				for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+					domains[i][k++] = v;
+				}
 			}
-			return (i == l ? 0 : o1[i] - o2[i]);
+			this.hash = 31 * kind.hashCode() + Arrays.deepHashCode(domains);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof Signature)) return false;
+			Signature other = (Signature) o;
+			return hash == other.hash && kind.equals(other.kind) && Arrays.deepEquals(domains, other.domains);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
 		}
 	}
 }
@@ -342,7 +342,9 @@ public class TuplesFactory {
         Tuples left = generateTuples(TupleValidator.TRUE, true, VARS);
         Tuples tuples = new Tuples(true);
         int n = VARS.length;
-        for (int[] tleft : left.tuples) {
+        int[] tleft = new int[n];
+        for (int ti = 0; ti < left.nbTuples(); ti++) {
+            left.get(ti, tleft);
             int right = 0;
             for (int i = 0; i < n; i++) {
                 right += tleft[i] * COEFFS[i];
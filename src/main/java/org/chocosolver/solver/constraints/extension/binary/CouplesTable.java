@@ -40,9 +40,9 @@ class CouplesTable extends BinRelation {
         feasible = tuples.isFeasible();
         int nt = tuples.nbTuples();
         for (int i = 0; i < nt; i++) {
-            int[] tuple = tuples.get(i);
-            if (var1.contains(tuple[0]) && var2.contains(tuple[1]))
-                table.set((tuple[0] - offset1) * range2 + tuple[1] - offset2);
+            int v1 = tuples.get(i, 0), v2 = tuples.get(i, 1);
+            if (var1.contains(v1) && var2.contains(v2))
+                table.set((v1 - offset1) * range2 + v2 - offset2);
         }
     }
 
@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.extension.binary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -205,4 +206,14 @@ public class PropBinAC2001 extends PropBinCSP {
             vars[0].removeValues(vrms, this);
         }
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropBinAC2001 duplicate(Duplicator duplicator) {
+        return new PropBinAC2001(duplicator.get(vars[0]), duplicator.get(vars[1]), (CouplesTable) relation);
+    }
 }
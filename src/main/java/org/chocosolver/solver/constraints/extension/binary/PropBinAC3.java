@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -107,4 +108,14 @@ public class PropBinAC3 extends PropBinCSP {
         v0.removeValues(vrms, this);
         itv0.dispose();
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropBinAC3 duplicate(Duplicator duplicator) {
+        return new PropBinAC3(duplicator.get(vars[0]), duplicator.get(vars[1]), (CouplesBitSetTable) relation);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -198,4 +199,13 @@ public class PropBinAC3bitrm extends PropBinCSP {
         }
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropBinAC3bitrm duplicate(Duplicator duplicator) {
+        return new PropBinAC3bitrm(duplicator.get(vars[0]), duplicator.get(vars[1]), (CouplesBitSetTable) relation);
+    }
 }
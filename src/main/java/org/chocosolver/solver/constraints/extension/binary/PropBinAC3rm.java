@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -325,4 +326,14 @@ public class PropBinAC3rm extends PropBinCSP {
             }
         }
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropBinAC3rm duplicate(Duplicator duplicator) {
+        return new PropBinAC3rm(duplicator.get(vars[0]), duplicator.get(vars[1]), (CouplesBitSetTable) relation);
+    }
 }
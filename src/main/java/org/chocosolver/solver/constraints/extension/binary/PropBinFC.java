@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -94,4 +95,14 @@ public class PropBinFC extends PropBinCSP {
             values.dispose();
         }
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropBinFC duplicate(Duplicator duplicator) {
+        return new PropBinFC(duplicator.get(vars[0]), duplicator.get(vars[1]), (CouplesTable) relation);
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.nary;
+
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * Supports of a table constraint, as used by Compact-Table propagators.
+ * <p>
+ * For each variable and each value, the tuples which support the value are stored in a bit set over tuples.
+ * Depending on its density, a bit set is either dense (one long per word of the table)
+ * or sparse (only non-zero words are stored, together with their indices).
+ * A sparse bit set is selected when less than half of its words are non-zero:
+ * it then requires less memory than the dense one, and operations on it iterate over fewer words,
+ * even though words which are no longer active are not skipped.
+ * </p>
+ * <p>
+ * Supports are built in two passes over the tuples: the first one counts the non-zero words
+ * of each bit set (see {@link #add(int, int, int, long)}), then, once {@link #allocate()} is called,
+ * the second one sets the bits.
+ * Once built, supports are never modified, and can thus be shared by several propagators
+ * (see {@link org.chocosolver.solver.constraints.extension.Tuples#computeIfAbsent}).
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+final class CompactSupports {
+
+    private static final long[] NO_WORDS = new long[0];
+    private static final int[] NO_INDICES = new int[0];
+
+    /**
+     * Smallest value of each variable
+     */
+    final int[] offsets;
+    /**
+     * Words of the bit sets: <code>words[i][v - offsets[i]]</code> are the words of value <i>v</i> of variable <i>i</i>
+     */
+    final long[][][] words;
+    /**
+     * Indices of the words of sparse bit sets, <i>null</i> for dense bit sets
+     */
+    final int[][][] indices;
+    /**
+     * Number of words of a dense bit set
+     */
+    private final int nbWords;
+    /**
+     * Set to <i>false</i> to store all bit sets as dense ones
+     */
+    private final boolean sparse;
+    /**
+     * Number of non-zero words of each bit set, while counting, then number of words set
+     */
+    private int[][] sizes;
+    /**
+     * Last non-zero word of each bit set, while counting
+     */
+    private int[][] last;
+
+    /**
+     * Create empty supports for the values of <i>vars</i>, from their lower bound to their upper bound
+     *
+     * @param vars    variables
+     * @param nbWords number of words required to store one bit per tuple
+     */
+    CompactSupports(IntVar[] vars, int nbWords) {
+        this(vars, nbWords, true);
+    }
+
+    /**
+     * Create empty supports for the values of <i>vars</i>, from their lower bound to their upper bound
+     *
+     * @param vars    variables
+     * @param nbWords number of words required to store one bit per tuple
+     * @param sparse  set to <i>false</i> to store all bit sets as dense ones
+     */
+    CompactSupports(IntVar[] vars, int nbWords, boolean sparse) {
+        int n = vars.length;
+        this.nbWords = nbWords;
+        this.sparse = sparse;
+        this.offsets = new int[n];
+        int[] ranges = new int[n];
+        for (int i = 0; i < n; i++) {
+            offsets[i] = vars[i].getLB();
+            ranges[i] = vars[i].getUB() - offsets[i] + 1;
+        }
+        this.words = new long[n][][];
+        this.indices = new int[n][][];
+        this.sizes = new int[n][];
+        this.last = new int[n][];
+        for (int i = 0; i < n; i++) {
+            words[i] = new long[ranges[i]][];
+            indices[i] = new int[ranges[i]][];
+            sizes[i] = new int[ranges[i]];
+            last[i] = new int[ranges[i]];
+            for (int k = 0; k < ranges[i]; k++) {
+                last[i][k] = -1;
+            }
+        }
+    }
+
+    /**
+     * Declare that the tuple stored at bit <i>bit</i> of word <i>w</i> supports
+     * the <i>k</i><sup>th</sup> value of variable <i>i</i>.
+     * Before {@link #allocate()} is called, only the non-zero words are counted.
+     * Tuples are expected to be declared in increasing order.
+     *
+     * @param i   a variable
+     * @param k   index of the value
+     * @param w   index of the word
+     * @param bit the bit to set in the word
+     */
+    void add(int i, int k, int w, long bit) {
+        int[] idx = indices[i][k];
+        if (last != null) {
+            if (last[i][k] != w) {
+                last[i][k] = w;
+                sizes[i][k]++;
+            }
+        } else if (idx == null) {
+            words[i][k][w] |= bit;
+        } else {
+            int s = sizes[i][k];
+            if (s == 0 || idx[s - 1] != w) {
+                idx[s] = w;
+                s = ++sizes[i][k];
+            }
+            words[i][k][s - 1] |= bit;
+        }
+    }
+
+    /**
+     * Allocate the bit sets, according to the number of non-zero words counted for each of them
+     */
+    void allocate() {
+        for (int i = 0; i < words.length; i++) {
+            for (int k = 0; k < words[i].length; k++) {
+                int nnz = sizes[i][k];
+                if (nnz == 0) {
+                    words[i][k] = NO_WORDS;
+                    indices[i][k] = NO_INDICES;
+                } else if (sparse && 2 * nnz < nbWords) {
+                    words[i][k] = new long[nnz];
+                    indices[i][k] = new int[nnz];
+                } else {
+                    words[i][k] = new long[nbWords];
+                }
+                sizes[i][k] = 0;
+            }
+        }
+        last = null;
+    }
+
+    /**
+     * @return the number of bytes used to store the words and the indices of the bit sets
+     */
+    long memory() {
+        long bytes = 0;
+        for (int i = 0; i < words.length; i++) {
+            for (int k = 0; k < words[i].length; k++) {
+                bytes += 8L * words[i][k].length;
+                if (indices[i][k] != null) {
+                    bytes += 4L * indices[i][k].length;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Release the data only required while building
+     */
+    void built() {
+        sizes = null;
+    }
+}
@@ -12,6 +12,7 @@ package org.chocosolver.solver.constraints.extension.nary;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.memory.IStateLong;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.extension.Tuples;
@@ -25,6 +26,9 @@ import org.chocosolver.util.procedure.UnaryIntProcedure;
 /**
  * Propagator for table constraint based on "Compact-Table: Efficiently Filtering Table Constraints
  * with Reversible Sparse Bit-Sets" Only for feasible Tuples
+ * <p>
+ * Supports of values which are supported by few tuples are stored in sparse bit sets (see {@link CompactSupports}),
+ * which saves memory on large tables over large domains.
  *
  * @author Jean-Guillaume FAGES
  * @author Charles Prud'homme
@@ -38,11 +42,15 @@ public class PropCompactTable extends Propagator<IntVar> {
 
     RSparseBitSet currTable;
     protected Tuples tuples; // only for checker
-    protected long[][][] supports;
+    protected CompactSupports supports;
     int[][] residues;
     protected int[] offset;
     protected IIntDeltaMonitor[] monitors;
     private UnaryIntProcedure<Integer> onValRem;
+    /**
+     * Set to <i>false</i> to store all supports in dense bit sets
+     */
+    private final boolean sparse;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -55,7 +63,20 @@ public class PropCompactTable extends Propagator<IntVar> {
      * @param tuples list of feasible tuples
      */
     public PropCompactTable(IntVar[] vars, Tuples tuples) {
+        this(vars, tuples, true);
+    }
+
+    /**
+     * Create a propagator for table constraint Only for feasible Tuples,
+     * whose supports are possibly all stored in dense bit sets (for comparison purpose).
+     *
+     * @param vars   scope
+     * @param tuples list of feasible tuples
+     * @param sparse set to <i>false</i> to store all supports in dense bit sets
+     */
+    PropCompactTable(IntVar[] vars, Tuples tuples, boolean sparse) {
         super(vars, PropagatorPriority.QUADRATIC, true);
+        this.sparse = sparse;
         this.tuples = tuples;
         this.currTable = new RSparseBitSet(model.getEnvironment(), this.tuples.nbTuples());
         computeSupports(tuples);
@@ -66,6 +87,26 @@ public class PropCompactTable extends Propagator<IntVar> {
         onValRem = makeProcedure();
     }
 
+    /**
+     * Create a propagator for table constraint which shares tuples and supports with <i>source</i>.
+     * Variables of <i>vars</i> should not have larger domains than the ones of <i>source</i> on its creation.
+     *
+     * @param vars   scope
+     * @param source a propagator to share tuples and supports with
+     */
+    protected PropCompactTable(IntVar[] vars, PropCompactTable source) {
+        super(vars, PropagatorPriority.QUADRATIC, true);
+        this.sparse = source.sparse;
+        this.tuples = source.tuples;
+        this.currTable = new RSparseBitSet(model.getEnvironment(), this.tuples.nbTuples());
+        shareSupports(source);
+        monitors = new IIntDeltaMonitor[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            monitors[i] = vars[i].monitorDelta(this);
+        }
+        onValRem = makeProcedure();
+    }
+
     //***********************************************************************************
     // INITIALIZATION
     //***********************************************************************************
@@ -83,43 +124,83 @@ public class PropCompactTable extends Propagator<IntVar> {
 
             @Override
             public void execute(int i) throws ContradictionException {
-                currTable.addToMask((supports[var][i - off]));
+                currTable.addToMask(supports.words[var][i - off], supports.indices[var][i - off]);
             }
         };
     }
 
+    /**
+     * Get supports from the cache of <i>tuples</i>, or compute them if no table has been posted with
+     * these tuples on variables with the same domains yet.
+     *
+     * @param tuples list of feasible tuples
+     */
     protected void computeSupports(Tuples tuples) {
+        supports = tuples.computeIfAbsent(sparse ? "CT+" : "CT+dense", vars, () -> buildSupports(tuples));
+        initResidues();
+    }
+
+    /**
+     * Compute the supports of the values of the variables
+     *
+     * @param tuples list of feasible tuples
+     * @return the supports
+     */
+    private CompactSupports buildSupports(Tuples tuples) {
         int n = vars.length;
-        offset = new int[n];
-        supports = new long[n][][];
-        residues = new int[n][];
-        long[] tmp;
-        for (int i = 0; i < n; i++) {
-            int lb = vars[i].getLB();
-            int ub = vars[i].getUB();
-            offset[i] = lb;
-            supports[i] = new long[ub - lb + 1][currTable.words.length];
-            residues[i] = new int[ub - lb + 1];
-        }
-        int wI = 0;
-        byte bI = 63;
-        top:
-        for (int ti = 0; ti < tuples.nbTuples(); ti++) {
-            int[] tuple = tuples.get(ti);
-            for (int i = 0; i < tuple.length; i++) {
-                if (!vars[i].contains(tuple[i])) {
-                    continue top;
-                }
+        CompactSupports sup = new CompactSupports(vars, currTable.words.length, sparse);
+        int[] off = sup.offsets;
+        // first pass counts non-zero words, second one sets bits
+        for (int pass = 0; pass < 2; pass++) {
+            if (pass == 1) {
+                sup.allocate();
             }
-            for (int i = 0; i < tuple.length; i++) {
-                tmp = supports[i][tuple[i] - offset[i]];
-                tmp[wI] |= 1L << (bI);
-            }
-            if (--bI < 0) {
-                bI = 63;
-                wI++;
+            int wI = 0;
+            byte bI = 63;
+            top:
+            for (int ti = 0; ti < tuples.nbTuples(); ti++) {
+                for (int i = 0; i < n; i++) {
+                    if (!vars[i].contains(tuples.get(ti, i))) {
+                        continue top;
+                    }
+                }
+                for (int i = 0; i < n; i++) {
+                    sup.add(i, tuples.get(ti, i) - off[i], wI, 1L << (bI));
+                }
+                if (--bI < 0) {
+                    bI = 63;
+                    wI++;
+                }
             }
         }
+        sup.built();
+        return sup;
+    }
+
+    /**
+     * Allocate the residues of this propagator, once supports are known
+     */
+    protected void initResidues() {
+        offset = supports.offsets;
+        residues = new int[vars.length][];
+        for (int i = 0; i < vars.length; i++) {
+            residues[i] = new int[supports.words[i].length];
+        }
+    }
+
+    /**
+     * Share supports of <i>source</i>, which are never modified once computed.
+     * Only residues are specific to this propagator.
+     *
+     * @param source a propagator to share supports with
+     */
+    protected void shareSupports(PropCompactTable source) {
+        offset = source.offset;
+        supports = source.supports;
+        residues = new int[source.residues.length][];
+        for (int i = 0; i < residues.length; i++) {
+            residues[i] = new int[source.residues[i].length];
+        }
     }
 
     //***********************************************************************************
@@ -133,7 +214,7 @@ public class PropCompactTable extends Propagator<IntVar> {
                 currTable.clearMask();
                 int ub = vars[i].getUB();
                 for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
-                    currTable.addToMask(supports[i][v - offset[i]]);
+                    currTable.addToMask(supports.words[i][v - offset[i]], supports.indices[i][v - offset[i]]);
                 }
                 currTable.intersectWithMask();
             }
@@ -154,7 +235,7 @@ public class PropCompactTable extends Propagator<IntVar> {
         } else {
             int ub = vars[vIdx].getUB();
             for (int v = vars[vIdx].getLB(); v <= ub; v = vars[vIdx].nextValue(v)) {
-                currTable.addToMask(supports[vIdx][v - offset[vIdx]]);
+                currTable.addToMask(supports.words[vIdx][v - offset[vIdx]], supports.indices[vIdx][v - offset[vIdx]]);
             }
         }
         currTable.intersectWithMask();
@@ -182,32 +263,18 @@ public class PropCompactTable extends Propagator<IntVar> {
         int lb = vars[i].getLB();
         int ub = vars[i].getUB();
         for (int v = lb; v <= ub; v++) {
-            int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
-                index = currTable.intersectIndex(supports[i][v - offset[i]]);
-                if (index == -1) {
-                    lb++;
-                } else {
-                    residues[i][v - offset[i]] = index;
-                    break;
-                }
-            } else {
+            if (isSupported(i, v - offset[i])) {
                 break;
+            } else {
+                lb++;
             }
         }
         vars[i].updateLowerBound(lb, this);
         for (int v = ub; v >= ub; v--) {
-            int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
-                index = currTable.intersectIndex(supports[i][v - offset[i]]);
-                if (index == -1) {
-                    ub--;
-                } else {
-                    residues[i][v - offset[i]] = index;
-                    break;
-                }
-            } else {
+            if (isSupported(i, v - offset[i])) {
                 break;
+            } else {
+                ub--;
             }
         }
         vars[i].updateUpperBound(ub, this);
@@ -216,24 +283,52 @@ public class PropCompactTable extends Propagator<IntVar> {
     private void enumFilter(int i) throws ContradictionException {
         int ub = vars[i].getUB();
         for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
-            int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
-                index = currTable.intersectIndex(supports[i][v - offset[i]]);
-                if (index == -1) {
-                    vars[i].removeValue(v, this);
-                } else {
-                    residues[i][v - offset[i]] = index;
-                }
+            if (!isSupported(i, v - offset[i])) {
+                vars[i].removeValue(v, this);
             }
         }
     }
 
+    /**
+     * @param i a variable
+     * @param k index of a value of <i>i</i>
+     * @return <i>true</i> if a current tuple supports the value, the residue being checked first
+     */
+    private boolean isSupported(int i, int k) {
+        long[] sup = supports.words[i][k];
+        int[] idx = supports.indices[i][k];
+        int index = residues[i][k];
+        if (idx == null) {
+            if ((currTable.words[index].get() & sup[index]) != 0L) {
+                return true;
+            }
+        } else if (idx.length > 0 && (currTable.words[idx[index]].get() & sup[index]) != 0L) {
+            return true;
+        }
+        index = currTable.intersectIndex(sup, idx);
+        if (index == -1) {
+            return false;
+        }
+        residues[i][k] = index;
+        return true;
+    }
+
     @Override
     public ESat isEntailed() {
         // TODO optim : check current according to currTable?
         return tuples.check(vars);
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropCompactTable duplicate(Duplicator duplicator) {
+        return new PropCompactTable(duplicator.get(vars), this);
+    }
+
 //***********************************************************************************
 // RSparseBitSet
 //***********************************************************************************
@@ -275,10 +370,23 @@ public class PropCompactTable extends Propagator<IntVar> {
             }
         }
 
-        protected void addToMask(long[] wordsToAdd) {
-            for (int i = limit.get(); i >= 0; i--) {
-                int offset = index[i];
-                mask[offset] = mask[offset] | wordsToAdd[offset];
+        /**
+         * Add a bit set to the mask
+         *
+         * @param wordsToAdd words of the bit set
+         * @param indices    indices of the words if the bit set is sparse, <i>null</i> otherwise
+         */
+        protected void addToMask(long[] wordsToAdd, int[] indices) {
+            if (indices == null) {
+                for (int i = limit.get(); i >= 0; i--) {
+                    int offset = index[i];
+                    mask[offset] = mask[offset] | wordsToAdd[offset];
+                }
+            } else {
+                // words which are no longer active are ignored by the other operations
+                for (int k = indices.length - 1; k >= 0; k--) {
+                    mask[indices[k]] |= wordsToAdd[k];
+                }
             }
         }
 
@@ -297,14 +405,28 @@ public class PropCompactTable extends Propagator<IntVar> {
             }
         }
 
-        private int intersectIndex(long[] m) {
-            for (int i = limit.get(); i >= 0; i--) {
-                int offset = index[i];
-                if ((words[offset].get() & m[offset]) != 0L) {
-                    return offset;
+        /**
+         * @param m       words of a bit set
+         * @param indices indices of the words if the bit set is sparse, <i>null</i> otherwise
+         * @return the index of a word (or its position in <i>indices</i> for sparse bit sets)
+         * which intersects <i>m</i>, or -1 if there is none
+         */
+        private int intersectIndex(long[] m, int[] indices) {
+            if (indices == null) {
+                for (int i = limit.get(); i >= 0; i--) {
+                    int offset = index[i];
+                    if ((words[offset].get() & m[offset]) != 0L) {
+                        return offset;
+                    }
+                }
+            } else {
+                for (int k = indices.length - 1; k >= 0; k--) {
+                    if ((words[indices[k]].get() & m[k]) != 0L) {
+                        return k;
+                    }
                 }
             }
             return -1;
         }
     }
-}
\ No newline at end of file
+}
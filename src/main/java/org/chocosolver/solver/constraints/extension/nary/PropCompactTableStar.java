@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -30,7 +31,7 @@ public class PropCompactTableStar extends PropCompactTable {
     // VARIABLES
     //***********************************************************************************
 
-    private long[][][] inc_supports;
+    private CompactSupports inc_supports;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -47,6 +48,16 @@ public class PropCompactTableStar extends PropCompactTable {
         assert tuples.allowUniversalValue();
     }
 
+    /**
+     * Create a propagator for table constraint which shares tuples and supports with <i>source</i>.
+     *
+     * @param vars   scope
+     * @param source a propagator to share tuples and supports with
+     */
+    protected PropCompactTableStar(IntVar[] vars, PropCompactTableStar source) {
+        super(vars, source);
+    }
+
     //***********************************************************************************
     // INITIALIZATION
     //***********************************************************************************
@@ -65,53 +76,84 @@ public class PropCompactTableStar extends PropCompactTable {
             @Override
             public void execute(int i) throws ContradictionException {
                 // main reason we re-wrote the class
-                currTable.addToMask((inc_supports[var][i - off]));
+                currTable.addToMask(inc_supports.words[var][i - off], inc_supports.indices[var][i - off]);
             }
         };
     }
 
+    @Override
+    protected void shareSupports(PropCompactTable source) {
+        super.shareSupports(source);
+        inc_supports = ((PropCompactTableStar) source).inc_supports;
+    }
+
+    @Override
     protected void computeSupports(Tuples tuples) {
+        CompactSupports[] both = tuples.computeIfAbsent("CT*", vars, () -> buildSupports(tuples));
+        supports = both[0];
+        inc_supports = both[1];
+        initResidues();
+    }
+
+    /**
+     * Compute the supports of the values of the variables, universal value included or excluded
+     *
+     * @param tuples list of feasible tuples
+     * @return the supports and the supports without universal value
+     */
+    private CompactSupports[] buildSupports(Tuples tuples) {
         int n = vars.length;
-        offset = new int[n];
-        supports = new long[n][][];
-        inc_supports = new long[n][][];
-        residues = new int[n][];
-        for (int i = 0; i < n; i++) {
-            int lb = vars[i].getLB();
-            int ub = vars[i].getUB();
-            offset[i] = lb;
-            supports[i] = new long[ub - lb + 1][currTable.words.length];
-            inc_supports[i] = new long[ub - lb + 1][currTable.words.length];
-            residues[i] = new int[ub - lb + 1];
-        }
-        int wI = 0;
-        byte bI = 63;
+        CompactSupports sup = new CompactSupports(vars, currTable.words.length);
+        CompactSupports inc_sup = new CompactSupports(vars, currTable.words.length);
+        int[] off = sup.offsets;
         int star = tuples.getStarValue();
-        top:
-        for (int ti = 0; ti < tuples.nbTuples(); ti++) {
-            int[] tuple = tuples.get(ti);
-            for (int i = 0; i < tuple.length; i++) {
-                if (!vars[i].contains(tuple[i]) && tuple[i] != star) {
-                    continue top;
-                }
+        // first pass counts non-zero words, second one sets bits
+        for (int pass = 0; pass < 2; pass++) {
+            if (pass == 1) {
+                sup.allocate();
+                inc_sup.allocate();
             }
-            long index = 1L << bI;
-            for (int i = 0; i < tuple.length; i++) {
-                int val = tuple[i];
-                if (val != star) {
-                    supports[i][val - offset[i]][wI] |= index;
-                    inc_supports[i][val - offset[i]][wI] |= index;
-                } else {
-                    int u = supports[i].length + offset[i];
-                    for (val = offset[i]; val <= u; val = vars[i].nextValue(val)) {
-                        supports[i][val - offset[i]][wI] |= index;
+            int wI = 0;
+            byte bI = 63;
+            top:
+            for (int ti = 0; ti < tuples.nbTuples(); ti++) {
+                for (int i = 0; i < n; i++) {
+                    int val = tuples.get(ti, i);
+                    if (!vars[i].contains(val) && val != star) {
+                        continue top;
                     }
                 }
-            }
-            if (--bI < 0) {
-                bI = 63;
-                wI++;
+                long index = 1L << bI;
+                for (int i = 0; i < n; i++) {
+                    int val = tuples.get(ti, i);
+                    if (val != star) {
+                        sup.add(i, val - off[i], wI, index);
+                        inc_sup.add(i, val - off[i], wI, index);
+                    } else {
+                        int u = vars[i].getUB();
+                        for (val = off[i]; val <= u; val = vars[i].nextValue(val)) {
+                            sup.add(i, val - off[i], wI, index);
+                        }
+                    }
+                }
+                if (--bI < 0) {
+                    bI = 63;
+                    wI++;
+                }
             }
         }
+        sup.built();
+        inc_sup.built();
+        return new CompactSupports[]{sup, inc_sup};
+    }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropCompactTableStar duplicate(Duplicator duplicator) {
+        return new PropCompactTableStar(duplicator.get(vars), this);
     }
-}
\ No newline at end of file
+}
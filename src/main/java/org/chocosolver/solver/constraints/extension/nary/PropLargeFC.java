@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -99,4 +100,14 @@ public class PropLargeFC extends PropLargeCSP<LargeRelation> {
             }
         }
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropLargeFC duplicate(Duplicator duplicator) {
+        return new PropLargeFC(duplicator.get(vars), relation);
+    }
 }
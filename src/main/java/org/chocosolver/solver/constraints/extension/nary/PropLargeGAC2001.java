@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
@@ -220,4 +221,14 @@ public class PropLargeGAC2001 extends PropLargeCSP<LargeRelation> {
                 reviseVar(valcheck.getPosition(i), false);
         }
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropLargeGAC2001 duplicate(Duplicator duplicator) {
+        return new PropLargeGAC2001(duplicator.get(vars), relation);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -286,4 +287,14 @@ public class PropLargeGAC3rm extends PropLargeCSP<LargeRelation> {
         }
         return null;
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropLargeGAC3rm duplicate(Duplicator duplicator) {
+        return new PropLargeGAC3rm(duplicator.get(vars), relation);
+    }
 }
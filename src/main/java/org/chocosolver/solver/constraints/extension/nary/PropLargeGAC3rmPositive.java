@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -196,4 +197,14 @@ public class PropLargeGAC3rmPositive extends PropLargeCSP<IterTuplesTable> {
             }
         }
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropLargeGAC3rmPositive duplicate(Duplicator duplicator) {
+        return new PropLargeGAC3rmPositive(duplicator.get(vars), relation);
+    }
 }
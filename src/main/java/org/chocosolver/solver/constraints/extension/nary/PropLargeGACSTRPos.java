@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -205,4 +206,14 @@ public class PropLargeGACSTRPos extends PropLargeCSP<TuplesList> {
         maintainList();
         pruningPhase();
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropLargeGACSTRPos duplicate(Duplicator duplicator) {
+        return new PropLargeGACSTRPos(duplicator.get(vars), relation);
+    }
 }
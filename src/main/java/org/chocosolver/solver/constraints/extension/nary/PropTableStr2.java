@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -40,7 +41,6 @@ public class PropTableStr2 extends Propagator<IntVar> {
     // VARIABLES
     //***********************************************************************************
 
-    private int[][] table;
     private str2_var str2vars[];
     private ISet tuples;
     private ArrayList<str2_var> Ssup;
@@ -54,15 +54,14 @@ public class PropTableStr2 extends Propagator<IntVar> {
 
     public PropTableStr2(IntVar[] vars_, Tuples tuplesObject) {
         super(vars_, PropagatorPriority.LINEAR, false);
-        this.table = tuplesObject.toMatrix();
 		this.tuplesObject = tuplesObject;
         int size = 0;
-        if (table.length > 0) {
-            size = table[0].length;
+        if (tuplesObject.nbTuples() > 0) {
+            size = tuplesObject.arity();
         }
         str2vars = new str2_var[size];
         for (int i = 0; i < size; i++) {
-            str2vars[i] = new str2_var(model.getEnvironment(), vars_[i], i, table);
+            str2vars[i] = new str2_var(model.getEnvironment(), vars_[i], i, tuplesObject);
         }
         tuples = SetFactory.makeStoredSet(SetType.BIPARTITESET,0,model);
         Ssup = new ArrayList<>();
@@ -108,7 +107,7 @@ public class PropTableStr2 extends Propagator<IntVar> {
 
     @Override
     public String toString() {
-        return "STR2 table constraint with " + table[0].length + "vars and " + table.length + "tuples";
+        return "STR2 table constraint with " + tuplesObject.arity() + "vars and " + tuplesObject.nbTuples() + "tuples";
     }
 
     //***********************************************************************************
@@ -117,7 +116,7 @@ public class PropTableStr2 extends Propagator<IntVar> {
 
     private boolean is_tuple_supported(int tuple_index) {
         for (str2_var v : Sval) {
-            if (!v.var.contains(table[tuple_index][v.indice])) {
+            if (!v.var.contains(tuplesObject.get(tuple_index, v.indice))) {
                 return false;
             }
         }
@@ -135,7 +134,7 @@ public class PropTableStr2 extends Propagator<IntVar> {
             }
             vit.dispose();
         }
-        for (int t = 0; t < table.length; t++) {
+        for (int t = 0; t < tuplesObject.nbTuples(); t++) {
             tuples.add(t);
         }
         if(tuples.isEmpty()){
@@ -158,8 +157,9 @@ public class PropTableStr2 extends Propagator<IntVar> {
             if (is_tuple_supported(tuple)) {
                 for (int var = 0; var < Ssup.size(); var++) {
                     str2_var v = Ssup.get(var);
-                    if (!v.isConsistant(table[tuple][v.indice])) {
-                        v.makeConsistant(table[tuple][v.indice]);
+                    int value = tuplesObject.get(tuple, v.indice);
+                    if (!v.isConsistant(value)) {
+                        v.makeConsistant(value);
                         if (v.nb_consistant == v.var.getDomainSize()) {
                             Ssup.set(var, Ssup.get(Ssup.size() - 1));
                             Ssup.remove(Ssup.size() - 1);
@@ -176,6 +176,16 @@ public class PropTableStr2 extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropTableStr2 duplicate(Duplicator duplicator) {
+        return new PropTableStr2(duplicator.get(vars), tuplesObject);
+    }
+
     /**
      * var class which will save local var information
      */
@@ -207,16 +217,17 @@ public class PropTableStr2 extends Propagator<IntVar> {
          * contains all the value of the variable
          */
 
-        private str2_var(IEnvironment env, IntVar var_, int indice_, int[][] table) {
+        private str2_var(IEnvironment env, IntVar var_, int indice_, Tuples table) {
             var = var_;
             last_size = env.makeInt(0);
             indice = indice_;
             nb_consistant = 0;
             index_map = new TreeMap<>();
             int key = 0;
-            for (int[] t : table) {
-                if (!index_map.containsKey(t[indice])) {
-                    index_map.put(t[indice], key++);
+            for (int t = 0; t < table.nbTuples(); t++) {
+                int value = table.get(t, indice);
+                if (!index_map.containsKey(value)) {
+                    index_map.put(value, key++);
                 }
             }
             GAC_Val = new BitSet(index_map.size());
@@ -75,8 +75,9 @@ public class TuplesLargeTable extends LargeRelation {
 
         tables = new TIntObjectHashMap<>();
         int nt = tuples.nbTuples();
+        int[] tuple = new int[tuples.arity()];
         for (int i = 0; i < nt; i++) {
-            int[] tuple = tuples.get(i);
+            tuples.get(i, tuple);
             if (valid(tuple, vars)) {
                 setTuple(tuple);
             }
@@ -0,0 +1,129 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Duplicator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.objective.ParetoArchive;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+
+/**
+ * Propagator ensuring that the objective variables take values which are not weakly dominated
+ * by any point of a Pareto archive.
+ * <p>
+ * Points of the archive are expressed for maximization: when objectives are minimized,
+ * the archive stores the opposite of their values.
+ * For each objective <i>i</i>, the points which dominate the optimistic bounds of the other objectives
+ * force the objective <i>i</i> to strictly improve on the best of them.
+ * This is equivalent to posting one clause per point, but no constraint is created when the archive evolves.
+ * Since filtering only depends on the optimistic bounds, one call reaches a fix point.
+ * </p>
+ *
+ * @author agent
+ * @see org.chocosolver.solver.objective.ParetoOptimizer
+ * @since 17/10/2026
+ */
+public class PropParetoDominance extends Propagator<IntVar> {
+
+    /**
+     * Set of non-dominated points
+     */
+    private final ParetoArchive<?> archive;
+    /**
+     * Whether objectives are maximized or minimized
+     */
+    private final boolean maximize;
+    /**
+     * Optimistic bounds of the objectives, expressed for maximization
+     */
+    private final int[] bounds;
+
+    /**
+     * Create a propagator which prevents <i>objectives</i> from being weakly dominated by a point of <i>archive</i>.
+     *
+     * @param objectives objective variables (must all be optimized in the same direction)
+     * @param maximize   whether to maximize or minimize the objectives
+     * @param archive    points to improve on, expressed for maximization
+     */
+    public PropParetoDominance(IntVar[] objectives, boolean maximize, ParetoArchive<?> archive) {
+        super(objectives, PropagatorPriority.LINEAR, false);
+        this.archive = archive;
+        this.maximize = maximize;
+        this.bounds = new int[objectives.length];
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return maximize ? IntEventType.DECUPP.getMask() | IntEventType.INSTANTIATE.getMask()
+                : IntEventType.INCLOW.getMask() | IntEventType.INSTANTIATE.getMask();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (archive.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < vars.length; i++) {
+            bounds[i] = maximize ? vars[i].getUB() : -vars[i].getLB();
+        }
+        for (int i = 0; i < vars.length; i++) {
+            int best = archive.maxOver(i, bounds);
+            if (best > Integer.MIN_VALUE) {
+                if (maximize) {
+                    vars[i].updateLowerBound(best + 1, this);
+                } else {
+                    vars[i].updateUpperBound(-best - 1, this);
+                }
+            }
+        }
+    }
+
+    /**
+     * Inform this propagator that the archive has been modified,
+     * so that it will be executed upon backtrack.
+     */
+    public void onArchiveUpdate() {
+        forcePropagationOnBacktrack();
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (isCompletelyInstantiated()) {
+            for (int i = 0; i < vars.length; i++) {
+                bounds[i] = maximize ? vars[i].getValue() : -vars[i].getValue();
+            }
+            return ESat.eval(!archive.isDominated(bounds));
+        }
+        return ESat.UNDEFINED;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The copy relies on a snapshot of the current archive: points added later to either archive
+     * are not seen by the other propagator.
+     * </p>
+     */
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropParetoDominance duplicate(Duplicator duplicator) {
+        ParetoArchive<Object> points = new ParetoArchive<>(vars.length);
+        archive.forEach((p, e) -> points.add(p.clone(), null));
+        return new PropParetoDominance(duplicator.get(vars), maximize, points);
+    }
+}
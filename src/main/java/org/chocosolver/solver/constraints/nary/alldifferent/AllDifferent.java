@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Propagator;
@@ -17,11 +18,12 @@ import org.chocosolver.solver.variables.IntVar;
 
 /**
  * Ensures that all variables from VARS take a different value.
- * The consistency level should be chosen among "AC", "BC", "FC" and "DEFAULT".
+ * The consistency level should be chosen among "AC", "AC_INCR", "BC", "FC" and "DEFAULT".
  */
 public class AllDifferent extends Constraint {
 
     public static final String AC= "AC";
+    public static final String AC_INCR= "AC_INCR";
     public static final String BC= "BC";
     public static final String FC= "FC";
     public static final String NEQS= "NEQS";
@@ -31,6 +33,20 @@ public class AllDifferent extends Constraint {
         super(ConstraintsName.ALLDIFFERENT, createPropagators(vars, type));
     }
 
+    private AllDifferent(Propagator[] propagators) {
+        super(ConstraintsName.ALLDIFFERENT, propagators);
+    }
+
+    @Override
+    public boolean isDuplicable() {
+        return arePropagatorsDuplicable();
+    }
+
+    @Override
+    public AllDifferent duplicate(Duplicator duplicator) {
+        return new AllDifferent(duplicatePropagators(duplicator));
+    }
+
     private static Propagator[] createPropagators(IntVar[] VARS, String consistency) {
         switch (consistency) {
             case NEQS: {
@@ -50,6 +66,8 @@ public class AllDifferent extends Constraint {
                 return new Propagator[]{new PropAllDiffInst(VARS), new PropAllDiffBC(VARS)};
             case AC:
                 return new Propagator[]{new PropAllDiffInst(VARS), new PropAllDiffAC(VARS)};
+            case AC_INCR:
+                return new Propagator[]{new PropAllDiffInst(VARS), new PropAllDiffACIncr(VARS)};
             case DEFAULT:
             default: {
                 // adds a Probabilistic AC (only if at least some variables have an enumerated domain)
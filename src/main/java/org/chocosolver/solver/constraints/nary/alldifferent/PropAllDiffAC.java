@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.alldifferent.algo.AlgoAllDiffAC;
@@ -65,4 +66,13 @@ public class PropAllDiffAC extends Propagator<IntVar> {
         return ESat.TRUE; // redundant propagator (used with PropAllDiffInst)
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropAllDiffAC duplicate(Duplicator duplicator) {
+        return new PropAllDiffAC(duplicator.get(vars));
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.alldifferent;
+
+import org.chocosolver.solver.Duplicator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.nary.alldifferent.algo.AlgoAllDiffACIncr;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+
+/**
+ * Propagator for AllDifferent AC constraint for integer variables, maintained incrementally
+ * <p/>
+ * Uses Regin algorithm
+ * Runs in O(m.n) worst case time for the initial propagation
+ * <p/>
+ * Then, the matching and the strongly connected components are maintained between calls:
+ * only the components which contain a modified variable are processed again.
+ * <p/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropAllDiffACIncr extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    protected AlgoAllDiffACIncr filter;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * AllDifferent constraint for integer variables
+     *
+     * @param variables array of integer variables
+     */
+    public PropAllDiffACIncr(IntVar[] variables) {
+        super(variables, PropagatorPriority.QUADRATIC, true);
+        this.filter = new AlgoAllDiffACIncr(vars, this);
+    }
+
+    //***********************************************************************************
+    // PROPAGATION
+    //***********************************************************************************
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.all();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        filter.propagate(PropagatorEventType.isFullPropagation(evtmask));
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        filter.onDomainChange(idxVarInProp);
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    @Override
+    public ESat isEntailed() {
+        return ESat.TRUE; // redundant propagator (used with PropAllDiffInst)
+    }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropAllDiffACIncr duplicate(Duplicator duplicator) {
+        return new PropAllDiffACIncr(duplicator.get(vars));
+    }
+}
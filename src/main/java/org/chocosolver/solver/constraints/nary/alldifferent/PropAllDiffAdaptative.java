@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -67,4 +68,13 @@ public class PropAllDiffAdaptative extends PropAllDiffAC {
         }
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropAllDiffAdaptative duplicate(Duplicator duplicator) {
+        return new PropAllDiffAdaptative(duplicator.get(vars));
+    }
 }
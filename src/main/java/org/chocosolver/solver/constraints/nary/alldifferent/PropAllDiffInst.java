@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.nary.alldifferent;
 
 import gnu.trove.stack.array.TIntArrayStack;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -156,4 +157,13 @@ public class PropAllDiffInst extends Propagator<IntVar> {
         explanation.returnSet(dbef);
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropAllDiffInst duplicate(Duplicator duplicator) {
+        return new PropAllDiffInst(duplicator.get(vars));
+    }
 }
@@ -0,0 +1,462 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.alldifferent.algo;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * Incremental algorithm of Alldifferent with AC
+ * <p/>
+ * Uses Regin algorithm, but nothing is rebuilt from scratch between two calls:
+ * <ul>
+ * <li>the matching is kept from one call to the other (and even upon backtrack, since a matching
+ * remains valid when domains are restored), only the variables which lost their matched value are re-matched,</li>
+ * <li>the residual graph is not stored, it is read from the domains,</li>
+ * <li>the strongly connected components are stored in a backtrackable way (each variable and each value knows
+ * its component), and only the components of the modified variables are decomposed again.</li>
+ * </ul>
+ * Since arcs between two components cannot belong to any maximum matching
+ * as long as domains are reduced, arcs from a variable to a value of another component
+ * (they remain in bounded domains) are ignored by the augmenting path and the SCC searches.
+ * <p/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class AlgoAllDiffACIncr {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final IntVar[] vars;
+    private final Propagator<IntVar> aCause;
+    private final int n, n2;
+    /**
+     * The sink node, linking free values to matched ones
+     */
+    private final int sink;
+    /**
+     * Value to node
+     */
+    private final TIntIntHashMap map;
+    /**
+     * Node to value
+     */
+    private final int[] values;
+    /**
+     * Matched value node of each variable, -1 if none
+     */
+    private final int[] varMate;
+    /**
+     * Last variable matched with each value node, -1 if none.
+     * A value is free if this variable is not matched with it anymore.
+     */
+    private final int[] valMate;
+    /**
+     * Component of each variable: either the smallest variable index of its SCC
+     * or <i>n</i> for the component of the sink
+     */
+    private final IStateInt[] comp;
+    /**
+     * Component of each value node (shifted by <i>n</i>): the one of its matched variable,
+     * or <i>n</i> for the values which can be free
+     */
+    private final IStateInt[] valComp;
+    /**
+     * Modified variables since last call
+     */
+    private final int[] touched;
+    private final boolean[] isTouched;
+    private int nbTouched;
+    /**
+     * Variables of the affected components
+     */
+    private final int[] aVars;
+    private int nbA;
+    /**
+     * Matched values of the sink component
+     */
+    private final int[] sinkSucc;
+    private int nbSinkSucc;
+    private final int[] affected;
+    private int stamp;
+    // for augmenting matching (BFS)
+    private final int[] father;
+    private final int[] fifo;
+    private final int[] inBFS;
+    private int bfsStamp;
+    // for finding SCC (Tarjan)
+    private final int[] visited;
+    private final int[] onStack;
+    private final int[] index;
+    private final int[] low;
+    private final int[] label;
+    private final int[] stack;
+    private final int[] callStack;
+    private final int[] cursor;
+    private final int[] cid;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    public AlgoAllDiffACIncr(IntVar[] variables, Propagator<IntVar> cause) {
+        this.vars = variables;
+        this.aCause = cause;
+        n = vars.length;
+        map = new TIntIntHashMap();
+        int idx = n;
+        for (int i = 0; i < n; i++) {
+            IntVar v = vars[i];
+            int ub = v.getUB();
+            for (int j = v.getLB(); j <= ub; j = v.nextValue(j)) {
+                if (!map.containsKey(j)) {
+                    map.put(j, idx);
+                    idx++;
+                }
+            }
+        }
+        n2 = idx;
+        sink = n2;
+        values = new int[n2];
+        map.forEachEntry((v, j) -> {
+            values[j] = v;
+            return true;
+        });
+        varMate = new int[n];
+        valMate = new int[n2];
+        for (int i = 0; i < n; i++) {
+            varMate[i] = -1;
+        }
+        for (int j = n; j < n2; j++) {
+            valMate[j] = -1;
+        }
+        IEnvironment environment = cause.getModel().getEnvironment();
+        comp = new IStateInt[n];
+        for (int i = 0; i < n; i++) {
+            comp[i] = environment.makeInt(n);
+        }
+        valComp = new IStateInt[n2 - n];
+        for (int j = n; j < n2; j++) {
+            valComp[j - n] = environment.makeInt(n);
+        }
+        touched = new int[n];
+        isTouched = new boolean[n];
+        aVars = new int[n];
+        sinkSucc = new int[n];
+        affected = new int[n + 1];
+        father = new int[n2];
+        fifo = new int[n];
+        inBFS = new int[n2];
+        visited = new int[n2 + 1];
+        onStack = new int[n2 + 1];
+        index = new int[n2 + 1];
+        low = new int[n2 + 1];
+        label = new int[n2 + 1];
+        stack = new int[n2 + 1];
+        callStack = new int[n2 + 1];
+        cursor = new int[n2 + 1];
+        cid = new int[n2 + 1];
+    }
+
+    //***********************************************************************************
+    // PROPAGATION
+    //***********************************************************************************
+
+    /**
+     * Inform this algorithm that the domain of the variable at position <i>i</i> has been reduced
+     *
+     * @param i position of a variable
+     */
+    public void onDomainChange(int i) {
+        if (!isTouched[i]) {
+            isTouched[i] = true;
+            touched[nbTouched++] = i;
+        }
+    }
+
+    /**
+     * Repair the matching and filter the components of the variables modified since last call
+     *
+     * @param all set to <i>true</i> to consider all components, e.g., on initial propagation
+     * @return <i>true</i> if a domain has been reduced
+     * @throws ContradictionException if no matching covers the variables
+     */
+    public boolean propagate(boolean all) throws ContradictionException {
+        stamp++;
+        if (all) {
+            for (int i = 0; i < n; i++) {
+                comp[i].set(n);
+            }
+            for (int j = n; j < n2; j++) {
+                valComp[j - n].set(n);
+            }
+            affected[n] = stamp;
+        }
+        for (int k = 0; k < nbTouched; k++) {
+            affected[comp[touched[k]].get()] = stamp;
+            isTouched[touched[k]] = false;
+        }
+        nbTouched = 0;
+        nbA = 0;
+        nbSinkSucc = 0;
+        for (int i = 0; i < n; i++) {
+            int c = comp[i].get();
+            // variables left unmatched by a previous failure are repaired too
+            if (varMate[i] == -1) {
+                affected[c] = stamp;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (affected[comp[i].get()] == stamp) {
+                aVars[nbA++] = i;
+            }
+        }
+        if (nbA == 0) {
+            return false;
+        }
+        repairMatching();
+        findSCC();
+        return filter();
+    }
+
+    //***********************************************************************************
+    // MATCHING
+    //***********************************************************************************
+
+    private boolean isFree(int j) {
+        return valMate[j] == -1 || varMate[valMate[j]] != j;
+    }
+
+    /**
+     * @return <i>true</i> if the arc from a variable of component <i>c</i> to value node <i>j</i> may be
+     * in a maximum matching, that is, if <i>j</i> belongs to <i>c</i> too
+     */
+    private boolean isCandidate(int c, int j) {
+        return valComp[j - n].get() == c;
+    }
+
+    private void repairMatching() throws ContradictionException {
+        for (int k = 0; k < nbA; k++) {
+            int i = aVars[k];
+            int j = varMate[i];
+            if (j != -1 && !vars[i].contains(values[j])) {
+                varMate[i] = -1;
+            }
+        }
+        for (int k = 0; k < nbA; k++) {
+            int i = aVars[k];
+            if (varMate[i] == -1) {
+                int j = augmentPath_BFS(i);
+                if (j == -1) {
+                    aCause.fails();
+                }
+                // flip the path
+                while (true) {
+                    int x = father[j];
+                    int prev = varMate[x];
+                    varMate[x] = j;
+                    valMate[j] = x;
+                    if (x == i) break;
+                    j = prev;
+                }
+            }
+        }
+    }
+
+    private int augmentPath_BFS(int root) {
+        bfsStamp++;
+        int indexFirst = 0, indexLast = 0;
+        fifo[indexLast++] = root;
+        while (indexFirst != indexLast) {
+            int x = fifo[indexFirst++];
+            IntVar v = vars[x];
+            int c = comp[x].get();
+            int ub = v.getUB();
+            for (int k = v.getLB(); k <= ub; k = v.nextValue(k)) {
+                int j = map.get(k);
+                if (inBFS[j] != bfsStamp && isCandidate(c, j)) {
+                    inBFS[j] = bfsStamp;
+                    father[j] = x;
+                    if (isFree(j)) {
+                        return j;
+                    }
+                    fifo[indexLast++] = valMate[j];
+                }
+            }
+        }
+        return -1;
+    }
+
+    //***********************************************************************************
+    // SCC
+    //***********************************************************************************
+
+    /**
+     * @return the next successor of <i>node</i> in the residual graph restricted to the affected components,
+     * or -1 if there is no more
+     */
+    private int nextSucc(int node) {
+        if (node < n) {
+            IntVar v = vars[node];
+            int c = comp[node].get();
+            int ub = v.getUB();
+            for (int k = v.nextValue(cursor[node]); k <= ub; k = v.nextValue(k)) {
+                cursor[node] = k;
+                int j = map.get(k);
+                if (j != varMate[node] && isCandidate(c, j)) {
+                    return j;
+                }
+            }
+            cursor[node] = Integer.MAX_VALUE - 1;
+            return -1;
+        } else if (node < n2) {
+            if (cursor[node]++ == 0) {
+                if (!isFree(node)) {
+                    return valMate[node];
+                } else if (affected[n] == stamp) {
+                    return sink;
+                }
+            }
+            return -1;
+        } else {
+            return cursor[node] < nbSinkSucc ? sinkSucc[cursor[node]++] : -1;
+        }
+    }
+
+    private void initNode(int node, int count) {
+        visited[node] = stamp;
+        onStack[node] = stamp;
+        index[node] = low[node] = count;
+        cursor[node] = node < n ? vars[node].getLB() - 1 : 0;
+    }
+
+    private void findSCC() {
+        if (affected[n] == stamp) {
+            for (int k = 0; k < nbA; k++) {
+                int i = aVars[k];
+                if (comp[i].get() == n) {
+                    sinkSucc[nbSinkSucc++] = varMate[i];
+                }
+            }
+        }
+        int count = 0, top = 0, nbLabels = 0;
+        for (int r = 0; r <= nbA; r++) {
+            int root = r < nbA ? aVars[r] : sink;
+            if (visited[root] == stamp || (root == sink && affected[n] != stamp)) {
+                continue;
+            }
+            int call = 0;
+            initNode(root, count++);
+            stack[top++] = root;
+            callStack[call++] = root;
+            while (call > 0) {
+                int node = callStack[call - 1];
+                int succ = nextSucc(node);
+                if (succ != -1) {
+                    if (visited[succ] != stamp) {
+                        initNode(succ, count++);
+                        stack[top++] = succ;
+                        callStack[call++] = succ;
+                    } else if (onStack[succ] == stamp && index[succ] < low[node]) {
+                        low[node] = index[succ];
+                    }
+                } else {
+                    call--;
+                    if (low[node] == index[node]) {
+                        int w;
+                        do {
+                            w = stack[--top];
+                            onStack[w] = 0;
+                            label[w] = nbLabels;
+                        } while (w != node);
+                        nbLabels++;
+                    }
+                    if (call > 0) {
+                        int parent = callStack[call - 1];
+                        if (low[node] < low[parent]) {
+                            low[parent] = low[node];
+                        }
+                    }
+                }
+            }
+        }
+        // the identifier of a component is its smallest variable, or n for the sink one
+        for (int l = 0; l < nbLabels; l++) {
+            cid[l] = -1;
+        }
+        if (affected[n] == stamp) {
+            cid[label[sink]] = n;
+        }
+        for (int k = 0; k < nbA; k++) {
+            int i = aVars[k];
+            if (cid[label[i]] == -1) {
+                cid[label[i]] = i;
+            }
+        }
+    }
+
+    //***********************************************************************************
+    // PRUNING
+    //***********************************************************************************
+
+    private boolean sameSCC(int i, int j) {
+        return visited[j] == stamp && label[j] == label[i];
+    }
+
+    private boolean filter() throws ContradictionException {
+        boolean filter = false;
+        for (int k = 0; k < nbA; k++) {
+            int i = aVars[k];
+            IntVar v = vars[i];
+            int mate = values[varMate[i]];
+            if (v.hasEnumeratedDomain()) {
+                int ub = v.getUB();
+                for (int val = v.getLB(); val <= ub; val = v.nextValue(val)) {
+                    if (!sameSCC(i, map.get(val))) {
+                        if (val == mate) {
+                            filter |= v.instantiateTo(val, aCause);
+                        } else {
+                            filter |= v.removeValue(val, aCause);
+                        }
+                    }
+                }
+            } else {
+                int lb = v.getLB();
+                while (!sameSCC(i, map.get(lb)) && lb != mate) {
+                    filter |= v.removeValue(lb, aCause);
+                    lb = v.getLB();
+                }
+                int ub = v.getUB();
+                while (!sameSCC(i, map.get(ub)) && ub != mate) {
+                    filter |= v.removeValue(ub, aCause);
+                    ub = v.getUB();
+                }
+            }
+        }
+        for (int k = 0; k < nbA; k++) {
+            int i = aVars[k];
+            int c = cid[label[i]];
+            if (comp[i].get() != c) {
+                comp[i].set(c);
+            }
+            if (valComp[varMate[i] - n].get() != c) {
+                valComp[varMate[i] - n].set(c);
+            }
+        }
+        return filter;
+    }
+}
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent.conditions;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.nary.alldifferent.PropAllDiffInst;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -90,4 +91,14 @@ public class PropCondAllDiffInst extends PropAllDiffInst {
 		}
 		return ESat.UNDEFINED;
     }
+
+	@Override
+	public boolean isDuplicable() {
+		return true;
+	}
+
+	@Override
+	public PropCondAllDiffInst duplicate(Duplicator duplicator) {
+		return new PropCondAllDiffInst(duplicator.get(vars), condition, mode);
+	}
 }
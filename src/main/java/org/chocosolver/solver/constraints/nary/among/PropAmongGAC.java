@@ -12,6 +12,7 @@ package org.chocosolver.solver.constraints.nary.among;
 import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -268,4 +269,14 @@ public class PropAmongGAC extends Propagator<IntVar> {
         sb.append(vars[nb_vars].toString()).append(")");
         return sb.toString();
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropAmongGAC duplicate(Duplicator duplicator) {
+        return new PropAmongGAC(duplicator.get(vars), values);
+    }
 }
@@ -0,0 +1,258 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.among;
+
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Duplicator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.setDataStructures.SetFactory;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.tools.VariableUtils;
+
+import java.util.Arrays;
+
+/**
+ * Incremental propagator for Among Constraint, when the value set fits in a 64-bit word (its span is at most 64):
+ * Counts the number of decision variables which take a value in the input value set.
+ * Same filtering as {@link PropAmongGAC}, but the domain of a variable is read as a word
+ * (see {@link VariableUtils#domainMask(IntVar, int)}) and compared to the value set with bitwise operations,
+ * instead of checking the values one by one.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropBitsetAmong extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final int nb_vars;        // number of decision variables (excludes the cardinality variable)
+    private final int[] values;        // value set (sorted array)
+    private final int offset;        // value of the first bit of the words
+    private final long valueMask;    // value set (word)
+    private ISet poss;                // variable set possibly assigned to a value in the value set
+    private IStateInt nbSure;        // number of variables that are assigned to such value for sure
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    /**
+     * Creates a propagator for Among:
+     * Counts the number of decision variables which take a value in the input value set
+     *
+     * @param variables {decision variables, cardinality variable}
+     * @param values    input value set, sorted, without duplicates and whose span is at most 64
+     */
+    public PropBitsetAmong(IntVar[] variables, int[] values) {
+        super(variables, PropagatorPriority.LINEAR, true);
+        nb_vars = variables.length - 1;
+        this.values = values;
+        this.offset = values[0];
+        long vm = 0L;
+        for (int v : values) {
+            if ((long) v - offset >= 64) {
+                throw new UnsupportedOperationException("Values should fit in a 64-bit word");
+            }
+            vm |= 1L << (v - offset);
+        }
+        this.valueMask = vm;
+        poss = SetFactory.makeStoredSet(SetType.BIPARTITESET, 0, model);
+        nbSure = model.getEnvironment().makeInt(0);
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public int getPropagationConditions(int idx) {
+        if (idx == nb_vars) {
+            return IntEventType.boundAndInst();
+        }
+        return IntEventType.all();
+    }
+
+    /**
+     * @return 1 if <i>var</i> takes a value of the value set for sure, -1 if it cannot, 0 otherwise
+     */
+    private int status(IntVar var) {
+        long mask = VariableUtils.domainMask(var, offset) & valueMask;
+        if (mask == 0L) {
+            return -1;
+        }
+        return Long.bitCount(mask) == var.getDomainSize() ? 1 : 0;
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            poss.clear();
+            int nbMandForSure = 0;
+            for (int i = 0; i < nb_vars; i++) {
+                int status = status(vars[i]);
+                if (status == 1) {
+                    nbMandForSure++;
+                } else if (status == 0) {
+                    poss.add(i);
+                }
+            }
+            nbSure.set(nbMandForSure);
+        }
+        filter();
+    }
+
+    @Override
+    public void propagate(int vidx, int evtmask) throws ContradictionException {
+        if (vidx != nb_vars && poss.contains(vidx)) {
+            int status = status(vars[vidx]);
+            if (status == 1) {
+                nbSure.add(1);
+                poss.remove(vidx);
+                vars[nb_vars].updateLowerBound(nbSure.get(), this);
+            } else if (status == -1) {
+                poss.remove(vidx);
+                vars[nb_vars].updateUpperBound(poss.size() + nbSure.get(), this);
+            }
+        }
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    private void filter() throws ContradictionException {
+        int lb = nbSure.get();
+        int ub = poss.size() + lb;
+        vars[nb_vars].updateBounds(lb, ub, this);
+        if (vars[nb_vars].isInstantiated() && lb < ub) {
+            if (vars[nb_vars].getValue() == lb) {
+                backPropRemPoss();
+            } else if (vars[nb_vars].getValue() == ub) {
+                backPropForcePoss();
+            }
+        }
+    }
+
+    private void backPropRemPoss() throws ContradictionException {
+        ISetIterator iter = poss.iterator();
+        while (iter.hasNext()) {
+            int i = iter.nextInt();
+            IntVar v = vars[i];
+            if (v.hasEnumeratedDomain()) {
+                long mask = VariableUtils.domainMask(v, offset) & valueMask;
+                for (; mask != 0L; mask &= mask - 1) {
+                    v.removeValue(offset + Long.numberOfTrailingZeros(mask), this);
+                }
+                poss.remove(i);
+            } else {
+                // skip the values of the set at the bounds
+                int newLB = v.getLB();
+                int newUB = v.getUB();
+                if (newLB >= offset && (long) newLB - offset < 64) {
+                    newLB += Long.numberOfTrailingZeros(~(valueMask >>> (newLB - offset)));
+                }
+                if (newUB >= offset && (long) newUB - offset < 64) {
+                    newUB -= Long.numberOfLeadingZeros(~(valueMask << (63 - (newUB - offset))));
+                }
+                v.updateBounds(newLB, newUB, this);
+                if (newLB > values[values.length - 1] || newUB < values[0]) {
+                    poss.remove(i);
+                }
+            }
+        }
+    }
+
+    private void backPropForcePoss() throws ContradictionException {
+        ISetIterator iter = poss.iterator();
+        while (iter.hasNext()) {
+            int i = iter.nextInt();
+            IntVar v = vars[i];
+            v.updateBounds(values[0], values[values.length - 1], this);
+            if (v.hasEnumeratedDomain()) {
+                long mask = VariableUtils.domainMask(v, offset) & ~valueMask;
+                for (; mask != 0L; mask &= mask - 1) {
+                    v.removeValue(offset + Long.numberOfTrailingZeros(mask), this);
+                }
+                poss.remove(i);
+                nbSure.add(1);
+            } else {
+                // skip the values out of the set at the bounds
+                int newLB = v.getLB();
+                int newUB = v.getUB();
+                newLB += Long.numberOfTrailingZeros(valueMask >>> (newLB - offset));
+                newUB -= Long.numberOfLeadingZeros(valueMask << (63 - (newUB - offset)));
+                v.updateBounds(newLB, newUB, this);
+                if (v.isInstantiated()) {
+                    poss.remove(i);
+                    nbSure.add(1);
+                }
+            }
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        int min = 0;
+        int max = 0;
+        int nbInst = vars[nb_vars].isInstantiated() ? 1 : 0;
+        for (int i = 0; i < nb_vars; i++) {
+            IntVar var = vars[i];
+            if (var.isInstantiated()) {
+                nbInst++;
+            }
+            int status = status(var);
+            if (status == 1) {
+                min++;
+                max++;
+            } else if (status == 0) {
+                max++;
+            }
+        }
+        if (min > vars[nb_vars].getUB() || max < vars[nb_vars].getLB()) {
+            return ESat.FALSE;
+        }
+        if (nbInst == nb_vars + 1) {
+            return ESat.TRUE;
+        }
+        return ESat.UNDEFINED;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("AMONG(");
+        sb.append("[");
+        for (int i = 0; i < nb_vars; i++) {
+            if (i > 0) sb.append(",");
+            sb.append(vars[i].toString());
+        }
+        sb.append("],{");
+        sb.append(Arrays.toString(values));
+        sb.append("},");
+        sb.append(vars[nb_vars].toString()).append(")");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropBitsetAmong duplicate(Duplicator duplicator) {
+        return new PropBitsetAmong(duplicator.get(vars), values);
+    }
+}
@@ -30,7 +30,10 @@ import java.util.Set;
  * Mail: julien.menana{at}emn.fr
  * Date: Nov 4, 2009
  * Time: 1:07:19 PM
+ * @deprecated no longer used by {@link org.chocosolver.solver.constraints.nary.automata.PropRegular},
+ * which relies on {@link StoredLayeredGraph}; will be removed in next release
  */
+@Deprecated
 public class StoredDirectedMultiGraph {
 
 	private int[] starts;
@@ -0,0 +1,274 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.automata.structure.regular;
+
+import gnu.trove.iterator.TIntIterator;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.set.hash.TIntHashSet;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateIntVector;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.nary.automata.FA.IAutomaton;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+
+/**
+ * The layered graph of a regular constraint, that is, the automaton unfolded over the variables,
+ * restricted to the arcs which belong to an accepting path.
+ * <p>
+ * The graph is stored in arrays of int only.
+ * Arcs are grouped three times: by origin node, by destination node and by (variable, value) pair;
+ * each group is a reversible sparse set: its live arcs come first, and its number of removed arcs is stored
+ * in an {@link IStateIntVector}.
+ * Removing an arc thus swaps it with the last live arc of its three groups and increments three counters,
+ * the size of the (variable, value) group being the number of supports of the value.
+ * When a value loses its last support, it is removed from the variable;
+ * when a node loses its last outgoing (resp. incoming) arc, its incoming (resp. outgoing) arcs are removed too.
+ * Only the arcs concerned by a removal are thus visited.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class StoredLayeredGraph {
+
+    private static final int OUT = 0, IN = 1, SUP = 2;
+
+    private final int nbLayers;
+    /**
+     * Index of the first (variable, value) pair of each variable
+     */
+    private final int[] starts;
+    /**
+     * Initial lower bound of each variable
+     */
+    private final int[] offsets;
+    /**
+     * Layer of each node
+     */
+    private final int[] layers;
+    /**
+     * Origin, destination and value of each arc
+     */
+    private final int[] origs, dests, values;
+    /**
+     * For each kind of group (OUT, IN, SUP): the group of each arc, the first position of each group,
+     * the arcs sorted by group and the position of each arc
+     */
+    private final int[][] groupOf, first, arcs, positions;
+    /**
+     * For each kind of group (OUT, IN, SUP): the number of removed arcs of each group
+     */
+    private final IStateIntVector[] removed;
+    private final TIntArrayList stack = new TIntArrayList();
+
+    /**
+     * Unfold <i>automaton</i> over the initial domains of <i>vars</i>
+     *
+     * @param environment backtracking environment
+     * @param vars        variables
+     * @param automaton   the automaton
+     */
+    public StoredLayeredGraph(IEnvironment environment, IntVar[] vars, IAutomaton automaton) {
+        int n = vars.length;
+        int nbStates = automaton.getNbStates();
+        this.nbLayers = n;
+        this.starts = new int[n + 1];
+        this.offsets = new int[n];
+        for (int i = 0; i < n; i++) {
+            offsets[i] = vars[i].getLB();
+            starts[i + 1] = starts[i] + vars[i].getUB() - offsets[i] + 1;
+        }
+        // forward pass: states reachable from the initial state
+        boolean[][] reached = new boolean[n + 1][nbStates];
+        reached[0][automaton.getInitialState()] = true;
+        TIntHashSet nexts = new TIntHashSet();
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < nbStates; k++) {
+                if (reached[i][k]) {
+                    int ub = vars[i].getUB();
+                    for (int j = vars[i].getLB(); j <= ub; j = vars[i].nextValue(j)) {
+                        nexts.clear();
+                        automaton.delta(k, j, nexts);
+                        for (TIntIterator it = nexts.iterator(); it.hasNext(); ) {
+                            reached[i + 1][it.next()] = true;
+                        }
+                    }
+                }
+            }
+        }
+        // backward pass: arcs which lead to a final state
+        boolean[][] useful = new boolean[n + 1][nbStates];
+        for (int k = 0; k < nbStates; k++) {
+            useful[n][k] = reached[n][k] && automaton.isFinal(k);
+        }
+        TIntArrayList arcList = new TIntArrayList(); // (layer, state, value, state) quadruples
+        for (int i = n - 1; i >= 0; i--) {
+            for (int k = 0; k < nbStates; k++) {
+                if (reached[i][k]) {
+                    int ub = vars[i].getUB();
+                    for (int j = vars[i].getLB(); j <= ub; j = vars[i].nextValue(j)) {
+                        nexts.clear();
+                        automaton.delta(k, j, nexts);
+                        for (TIntIterator it = nexts.iterator(); it.hasNext(); ) {
+                            int q = it.next();
+                            if (useful[i + 1][q]) {
+                                useful[i][k] = true;
+                                arcList.add(i);
+                                arcList.add(k);
+                                arcList.add(j);
+                                arcList.add(q);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        // nodes are the useful (layer, state) pairs
+        int[] nodeIds = new int[(n + 1) * nbStates];
+        TIntArrayList nodeLayers = new TIntArrayList();
+        for (int i = 0; i <= n; i++) {
+            for (int k = 0; k < nbStates; k++) {
+                nodeIds[i * nbStates + k] = useful[i][k] ? nodeLayers.size() : -1;
+                if (useful[i][k]) {
+                    nodeLayers.add(i);
+                }
+            }
+        }
+        this.layers = nodeLayers.toArray();
+        int nbArcs = arcList.size() / 4;
+        this.origs = new int[nbArcs];
+        this.dests = new int[nbArcs];
+        this.values = new int[nbArcs];
+        this.groupOf = new int[3][nbArcs];
+        for (int a = 0; a < nbArcs; a++) {
+            int i = arcList.getQuick(4 * a);
+            origs[a] = nodeIds[i * nbStates + arcList.getQuick(4 * a + 1)];
+            values[a] = arcList.getQuick(4 * a + 2);
+            dests[a] = nodeIds[(i + 1) * nbStates + arcList.getQuick(4 * a + 3)];
+            groupOf[OUT][a] = origs[a];
+            groupOf[IN][a] = dests[a];
+            groupOf[SUP][a] = starts[i] + values[a] - offsets[i];
+        }
+        int[] nbGroups = {layers.length, layers.length, starts[n]};
+        this.first = new int[3][];
+        this.arcs = new int[3][nbArcs];
+        this.positions = new int[3][nbArcs];
+        this.removed = new IStateIntVector[3];
+        for (int g = 0; g < 3; g++) {
+            // counting sort of the arcs by group
+            int[] f = first[g] = new int[nbGroups[g] + 1];
+            for (int a = 0; a < nbArcs; a++) {
+                f[groupOf[g][a] + 1]++;
+            }
+            removed[g] = environment.makeIntVector(nbGroups[g], 0);
+            for (int x = 0; x < nbGroups[g]; x++) {
+                f[x + 1] += f[x];
+            }
+            int[] next = Arrays.copyOf(f, nbGroups[g]);
+            for (int a = 0; a < nbArcs; a++) {
+                int p = next[groupOf[g][a]]++;
+                arcs[g][p] = a;
+                positions[g][a] = p;
+            }
+        }
+    }
+
+    /**
+     * @param i index of a variable
+     * @param j a value
+     * @return <i>true</i> if at least one arc of layer <i>i</i> is labeled with <i>j</i>
+     */
+    public boolean hasSupport(int i, int j) {
+        int idx = starts[i] + j - offsets[i];
+        return j >= offsets[i] && idx < starts[i + 1] && size(SUP, idx) > 0;
+    }
+
+    /**
+     * Remove the arcs of layer <i>i</i> labeled with <i>j</i>, and, recursively, the arcs which no longer
+     * belong to an accepting path
+     *
+     * @param i index of a variable
+     * @param j a value, removed from the variable
+     * @param p the propagator, which removes values without support
+     * @throws ContradictionException if a variable becomes empty
+     */
+    public void clearSupports(int i, int j, Propagator<IntVar> p) throws ContradictionException {
+        if (hasSupport(i, j)) {
+            pushLive(SUP, starts[i] + j - offsets[i]);
+            removeArcs(p);
+        }
+    }
+
+    /**
+     * @return the number of live arcs of group <i>x</i> of kind <i>g</i>
+     */
+    private int size(int g, int x) {
+        return first[g][x + 1] - first[g][x] - removed[g].quickGet(x);
+    }
+
+    private boolean isLive(int a) {
+        int x = groupOf[SUP][a];
+        return positions[SUP][a] < first[SUP][x] + size(SUP, x);
+    }
+
+    private void pushLive(int g, int x) {
+        for (int p = first[g][x], end = p + size(g, x); p < end; p++) {
+            stack.add(arcs[g][p]);
+        }
+    }
+
+    /**
+     * Remove <i>a</i> from its group of kind <i>g</i>
+     *
+     * @return the number of live arcs left in the group
+     */
+    private int remove(int g, int a) {
+        int x = groupOf[g][a];
+        int size = size(g, x) - 1;
+        int last = first[g][x] + size;
+        int p = positions[g][a];
+        int b = arcs[g][last];
+        arcs[g][p] = b;
+        positions[g][b] = p;
+        arcs[g][last] = a;
+        positions[g][a] = last;
+        removed[g].quickSet(x, removed[g].quickGet(x) + 1);
+        return size;
+    }
+
+    private void removeArcs(Propagator<IntVar> propagator) throws ContradictionException {
+        while (!stack.isEmpty()) {
+            int a = stack.removeAt(stack.size() - 1);
+            if (!isLive(a)) {
+                continue;
+            }
+            int orig = origs[a];
+            int dest = dests[a];
+            int layer = layers[orig];
+            if (remove(SUP, a) == 0) {
+                try {
+                    propagator.getVar(layer).removeValue(values[a], propagator);
+                } catch (ContradictionException ex) {
+                    stack.resetQuick();
+                    throw ex;
+                }
+            }
+            if (remove(OUT, a) == 0 && layer > 0) {
+                pushLive(IN, orig);
+            }
+            if (remove(IN, a) == 0 && layer + 1 < nbLayers) {
+                pushLive(OUT, dest);
+            }
+        }
+    }
+}
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.circuit;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -314,4 +315,13 @@ public class PropCircuitSCC extends Propagator<IntVar> {
 		}
 	}
 
+	@Override
+	public boolean isDuplicable() {
+		return true;
+	}
+
+	@Override
+	public PropCircuitSCC duplicate(Duplicator duplicator) {
+		return new PropCircuitSCC(duplicator.get(vars), offSet, conf);
+	}
 }
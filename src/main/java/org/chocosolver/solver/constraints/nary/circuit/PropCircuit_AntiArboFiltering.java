@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.circuit;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -66,4 +67,14 @@ public class PropCircuit_AntiArboFiltering extends PropCircuit_ArboFiltering {
 			fails();
 		}
 	}
+
+	@Override
+	public boolean isDuplicable() {
+		return true;
+	}
+
+	@Override
+	public PropCircuit_AntiArboFiltering duplicate(Duplicator duplicator) {
+		return new PropCircuit_AntiArboFiltering(duplicator.get(vars), offSet, conf);
+	}
 }
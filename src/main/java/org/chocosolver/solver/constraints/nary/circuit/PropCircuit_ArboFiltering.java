@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.circuit;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -127,4 +128,13 @@ public class PropCircuit_ArboFiltering extends Propagator<IntVar> {
         return ESat.TRUE;
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropCircuit_ArboFiltering duplicate(Duplicator duplicator) {
+        return new PropCircuit_ArboFiltering(duplicator.get(vars), offSet, conf);
+    }
 }
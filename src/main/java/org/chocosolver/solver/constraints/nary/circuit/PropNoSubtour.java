@@ -19,6 +19,7 @@ package org.chocosolver.solver.constraints.nary.circuit;
 import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -172,4 +173,13 @@ public class PropNoSubtour extends Propagator<IntVar> {
         return "PropNoSubTour(" + Arrays.toString(vars) + ")";
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropNoSubtour duplicate(Duplicator duplicator) {
+        return new PropNoSubtour(duplicator.get(vars), offset);
+    }
 }
@@ -56,4 +56,21 @@ public abstract class CumulFilter {
 	 * @throws ContradictionException
 	 */
 	public abstract void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException;
+
+	/**
+	 * @return <i>true</i> if this filter can be copied with {@link #duplicate()}
+	 */
+	public boolean isDuplicable() {
+		return false;
+	}
+
+	/**
+	 * Creates a new filter of the same kind, to be used by a copy of a cumulative propagator.
+	 * Filters hold internal data structures and cannot be shared between models.
+	 * @return a new filter, with the same maximum number of tasks
+	 * @throws UnsupportedOperationException if this filter cannot be duplicated
+	 */
+	public CumulFilter duplicate() {
+		throw new UnsupportedOperationException("The filter " + getClass().getSimpleName() + " cannot be duplicated");
+	}
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.cumulative;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Propagator;
@@ -43,7 +44,10 @@ public class Cumulative extends Constraint {
      *                         (efficient in practice as long as the time horizon is not too high)
      *                         - SWEEP: filters time-table with a sweep-based algorithm
      *                         - NRJ: greedy energy-based filter.
-     *                         BEWARE: should not be used alone, use it in addition to either SWEEP or TIME.
+     *                         - TTEF: time-table edge-finding.
+     *                         - EDGE_FINDING: edge-finding based on a Θ-Λ-tree.
+     *                         BEWARE: NRJ, TTEF and EDGE_FINDING should not be used alone,
+     *                         use them in addition to either SWEEP or TIME.
      *
      */
     public Cumulative(Task[] tasks, IntVar[] heights, IntVar capacity, boolean graphBased, Filter... filters) {
@@ -71,10 +75,24 @@ public class Cumulative extends Constraint {
         super(ConstraintsName.CUMULATIVE,createPropagators(tasks, heights, capacity, graphBased, filters));
     }
 
+    private Cumulative(Propagator[] propagators) {
+        super(ConstraintsName.CUMULATIVE, propagators);
+    }
+
 	//***********************************************************************************
 	// METHODS
 	//***********************************************************************************
 
+    @Override
+    public boolean isDuplicable() {
+        return arePropagatorsDuplicable();
+    }
+
+    @Override
+    public Cumulative duplicate(Duplicator duplicator) {
+        return new Cumulative(duplicatePropagators(duplicator));
+    }
+
 	private static Propagator[] createPropagators(Task[] tasks, IntVar[] heights, IntVar capa, boolean graphBased, CumulFilter... filters){
 		int n = tasks.length;
 		assert n==heights.length && n > 0;
@@ -185,6 +203,26 @@ public class Cumulative extends Constraint {
 				return new DisjunctiveTaskIntervalFilter(n);
 			}
 		},
+		/**
+		 * time-table edge-finding, in O(n^2)
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		TTEF {
+			public CumulFilter make(int n){
+				return new TTEFCumulFilter(n);
+			}
+		},
+		/**
+		 * edge-finding based on a Θ-Λ-tree, in O(kn log n) where k is the number of distinct heights
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		EDGE_FINDING {
+			public CumulFilter make(int n){
+				return new EdgeFindingCumulFilter(n);
+			}
+		},
 		/**
 		 * Combines above filters as a black-box
 		 * not idempotent
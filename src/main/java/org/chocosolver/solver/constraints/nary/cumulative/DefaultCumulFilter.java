@@ -36,6 +36,16 @@ public class DefaultCumulFilter extends CumulFilter {
 		nrj = Cumulative.Filter.NRJ.make(nbMaxTasks);
 	}
 
+	@Override
+	public boolean isDuplicable() {
+		return true;
+	}
+
+	@Override
+	public CumulFilter duplicate() {
+		return new DefaultCumulFilter(nbMaxTasks);
+	}
+
 	//***********************************************************************************
 	// METHODS
 	//***********************************************************************************
@@ -36,6 +36,16 @@ public class DisjunctiveTaskIntervalFilter extends CumulFilter{
         super(nbMaxTasks);
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public CumulFilter duplicate() {
+        return new DisjunctiveTaskIntervalFilter(nbMaxTasks);
+    }
+
     //***********************************************************************************
     // METHODS
     //***********************************************************************************
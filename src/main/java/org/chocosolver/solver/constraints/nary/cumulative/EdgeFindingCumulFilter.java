@@ -0,0 +1,373 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.sort.ArraySort;
+
+import java.util.Arrays;
+
+/**
+ * Edge-finding for cumulative resources, in O(kn log n) where k is the number of distinct heights
+ * (P. Vilím, Edge Finding Filtering Algorithm for Discrete Cumulative Resources in O(kn log n), CP 2009).
+ * <p>
+ * Tasks are the leaves of a Θ-Λ-tree, ordered by earliest starting time, which maintains the energy envelope
+ * of Θ (the tasks ending before a given latest completion time) and the maximal envelope obtained by adding
+ * a single task of Λ to Θ. The detection phase checks overloads and finds, for each task, the largest set of tasks
+ * which has to end before the task ends. The adjustment phase then computes, for each height, new earliest starting
+ * times with a tree of envelopes restricted to the capacity left by the height.
+ * Latest completion times are filtered in the same way, on the mirrored tasks.
+ * </p>
+ * <p>
+ * Not enough to ensure correctness (only an additional filtering), should be used with a time-table filter.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class EdgeFindingCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private static final long NONE = Long.MIN_VALUE / 4;
+
+	private final int[] tasks, byEst, byLct, leaf, prec, heights;
+	private final long[] est, lct, nrj, bound, updates;
+	private final int[] hei;
+	private final ArraySort sorter;
+	private final ThetaLambdaTree tree;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public EdgeFindingCumulFilter(int n) {
+		super(n);
+		tasks = new int[n];
+		byEst = new int[n];
+		byLct = new int[n];
+		leaf = new int[n];
+		est = new long[n];
+		lct = new long[n];
+		nrj = new long[n];
+		hei = new int[n];
+		prec = new int[n];
+		heights = new int[n];
+		bound = new long[n];
+		updates = new long[n];
+		sorter = new ArraySort(n, false, true);
+		tree = new ThetaLambdaTree(n);
+	}
+
+	@Override
+	public boolean isDuplicable() {
+		return true;
+	}
+
+	@Override
+	public CumulFilter duplicate() {
+		return new EdgeFindingCumulFilter(nbMaxTasks);
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		int nb = 0;
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			if (d[i].getLB() > 0 && h[i].getLB() > 0) {
+				this.tasks[nb++] = i;
+			}
+		}
+		if (nb == 0) {
+			return;
+		}
+		long capaMax = capa.getUB();
+		// earliest starting times
+		for (int k = 0; k < nb; k++) {
+			int i = this.tasks[k];
+			est[k] = s[i].getLB();
+			lct[k] = e[i].getUB();
+			nrj[k] = (long) d[i].getLB() * h[i].getLB();
+			hei[k] = h[i].getLB();
+		}
+		edgeFinding(nb, capaMax, aCause);
+		for (int k = 0; k < nb; k++) {
+			if (bound[k] > est[k]) {
+				s[this.tasks[k]].updateLowerBound((int) Math.min(bound[k], Integer.MAX_VALUE), aCause);
+			}
+		}
+		// latest completion times, on mirrored tasks
+		for (int k = 0; k < nb; k++) {
+			int i = this.tasks[k];
+			est[k] = -(long) e[i].getUB();
+			lct[k] = -(long) s[i].getLB();
+			nrj[k] = (long) d[i].getLB() * h[i].getLB();
+			hei[k] = h[i].getLB();
+		}
+		edgeFinding(nb, capaMax, aCause);
+		for (int k = 0; k < nb; k++) {
+			if (bound[k] > est[k]) {
+				e[this.tasks[k]].updateUpperBound((int) Math.max(-bound[k], Integer.MIN_VALUE), aCause);
+			}
+		}
+	}
+
+	/**
+	 * Compute in <i>bound</i> the new earliest starting time of the first <i>nb</i> tasks
+	 */
+	private void edgeFinding(int nb, long capa, Propagator<IntVar> aCause) throws ContradictionException {
+		for (int k = 0; k < nb; k++) {
+			byEst[k] = k;
+			byLct[k] = k;
+			bound[k] = est[k];
+			prec[k] = -1;
+			if (hei[k] > capa) {
+				aCause.fails();
+			}
+		}
+		sorter.sort(byEst, nb, (i1, i2) -> Long.compare(est[i1], est[i2]));
+		sorter.sort(byLct, nb, (i1, i2) -> Long.compare(lct[i1], lct[i2]));
+		for (int p = 0; p < nb; p++) {
+			leaf[byEst[p]] = p;
+		}
+		// detection: Θ is made of the tasks ending before the current lct, Λ of the tasks ending after
+		tree.reset();
+		for (int k = 0; k < nb; k++) {
+			tree.addTheta(leaf[k], capa * est[k] + nrj[k], NONE, nrj[k]);
+		}
+		for (int q = nb - 1; q >= 0; ) {
+			long l = lct[byLct[q]];
+			if (tree.env() > capa * l) {
+				aCause.fails();
+			}
+			while (tree.envLambda() > capa * l) {
+				int p = tree.responsible();
+				prec[byEst[p]] = q;
+				tree.remove(p);
+			}
+			for (; q >= 0 && lct[byLct[q]] == l; q--) {
+				tree.toLambda(leaf[byLct[q]]);
+			}
+		}
+		// adjustment, for each distinct height of the tasks detected
+		int nbh = 0;
+		for (int k = 0; k < nb; k++) {
+			if (prec[k] >= 0) {
+				heights[nbh++] = hei[k];
+			}
+		}
+		Arrays.sort(heights, 0, nbh);
+		for (int x = 0; x < nbh; x++) {
+			if (x == 0 || heights[x] != heights[x - 1]) {
+				adjust(nb, capa, heights[x]);
+			}
+		}
+	}
+
+	/**
+	 * Adjust the earliest starting time of the detected tasks of height <i>c</i>
+	 */
+	private void adjust(int nb, long capa, int c) {
+		tree.reset();
+		long update = NONE;
+		for (int q = 0; q < nb; ) {
+			long l = lct[byLct[q]];
+			for (; q < nb && lct[byLct[q]] == l; q++) {
+				int k = byLct[q];
+				tree.addTheta(leaf[k], capa * est[k] + nrj[k], (capa - c) * est[k] + nrj[k], nrj[k]);
+			}
+			// update(l, c) is the maximum, over the sets Ω of tasks ending before l such that
+			// rest(Ω, c) = e(Ω) - (C - c)(l - est(Ω)) > 0, of est(Ω) + ceil(rest(Ω, c) / c)
+			long limit = (capa - c) * l;
+			if (tree.envc() > limit) {
+				long env = tree.envBefore(tree.maxest(limit));
+				update = Math.max(update, -Math.floorDiv(limit - env, c));
+			}
+			updates[q - 1] = update;
+		}
+		for (int k = 0; k < nb; k++) {
+			if (hei[k] == c && prec[k] >= 0) {
+				bound[k] = Math.max(bound[k], updates[prec[k]]);
+			}
+		}
+	}
+
+	/**
+	 * A Θ-Λ-tree over tasks sorted by earliest starting time.
+	 * Each node stores the energy and the envelope of the tasks of Θ, the same values when at most one task of Λ
+	 * is added, and the task of Λ responsible for them.
+	 * In the adjustment phase, Λ is empty and each node also stores the envelope computed with a reduced capacity.
+	 */
+	private static final class ThetaLambdaTree {
+
+		private final int size;
+		private final long[] e, env, eL, envL, envc;
+		private final int[] respE, respEnv;
+
+		private ThetaLambdaTree(int n) {
+			int s = 1;
+			while (s < n) {
+				s <<= 1;
+			}
+			this.size = s;
+			e = new long[2 * s];
+			env = new long[2 * s];
+			eL = new long[2 * s];
+			envL = new long[2 * s];
+			envc = new long[2 * s];
+			respE = new int[2 * s];
+			respEnv = new int[2 * s];
+		}
+
+		private void reset() {
+			Arrays.fill(e, 0);
+			Arrays.fill(env, NONE);
+			Arrays.fill(eL, 0);
+			Arrays.fill(envL, NONE);
+			Arrays.fill(envc, NONE);
+			Arrays.fill(respE, -1);
+			Arrays.fill(respEnv, -1);
+		}
+
+		/**
+		 * Add the task at position <i>p</i> to Θ
+		 *
+		 * @param p     position of the task
+		 * @param envp  envelope of the task
+		 * @param envcp envelope of the task with a reduced capacity, only used in the adjustment phase
+		 * @param nrjp  energy of the task
+		 */
+		private void addTheta(int p, long envp, long envcp, long nrjp) {
+			int v = size + p;
+			e[v] = eL[v] = nrjp;
+			env[v] = envL[v] = envp;
+			envc[v] = envcp;
+			respE[v] = respEnv[v] = -1;
+			update(v);
+		}
+
+		/**
+		 * Move the task at position <i>p</i> from Θ to Λ
+		 */
+		private void toLambda(int p) {
+			int v = size + p;
+			eL[v] = e[v];
+			envL[v] = env[v];
+			e[v] = 0;
+			env[v] = envc[v] = NONE;
+			respE[v] = respEnv[v] = p;
+			update(v);
+		}
+
+		/**
+		 * Remove the task at position <i>p</i> from the tree
+		 */
+		private void remove(int p) {
+			int v = size + p;
+			e[v] = eL[v] = 0;
+			env[v] = envL[v] = envc[v] = NONE;
+			respE[v] = respEnv[v] = -1;
+			update(v);
+		}
+
+		private void update(int v) {
+			for (v >>= 1; v > 0; v >>= 1) {
+				int l = 2 * v, r = l + 1;
+				e[v] = e[l] + e[r];
+				env[v] = Math.max(env[l] + e[r], env[r]);
+				envc[v] = Math.max(envc[l] + e[r], envc[r]);
+				if (eL[l] + e[r] >= e[l] + eL[r]) {
+					eL[v] = eL[l] + e[r];
+					respE[v] = respE[l];
+				} else {
+					eL[v] = e[l] + eL[r];
+					respE[v] = respE[r];
+				}
+				long a = envL[r], b = env[l] + eL[r], c = envL[l] + e[r];
+				if (a >= b && a >= c) {
+					envL[v] = a;
+					respEnv[v] = respEnv[r];
+				} else if (b >= c) {
+					envL[v] = b;
+					respEnv[v] = respE[r];
+				} else {
+					envL[v] = c;
+					respEnv[v] = respEnv[l];
+				}
+			}
+		}
+
+		private long env() {
+			return env[1];
+		}
+
+		private long envLambda() {
+			return envL[1];
+		}
+
+		private long envc() {
+			return envc[1];
+		}
+
+		/**
+		 * @return the position of the task of Λ responsible for the Λ-envelope
+		 */
+		private int responsible() {
+			return respEnv[1];
+		}
+
+		/**
+		 * @return the last position <i>p</i> such that the envelope, with a reduced capacity, of the tasks
+		 * from <i>p</i> is greater than <i>limit</i>
+		 */
+		private int maxest(long limit) {
+			int v = 1;
+			long after = 0;
+			while (v < size) {
+				int r = 2 * v + 1;
+				if (envc[r] + after > limit) {
+					v = r;
+				} else {
+					after += e[r];
+					v = 2 * v;
+				}
+			}
+			return v - size;
+		}
+
+		/**
+		 * @return the maximal envelope of the tasks starting from a position before <i>p</i>,
+		 * increased by the energy of the tasks after <i>p</i>
+		 */
+		private long envBefore(int p) {
+			int v = size + p;
+			long envAcc = env[v];
+			long eAcc = e[v];
+			for (; v > 1; v >>= 1) {
+				if ((v & 1) == 1) {
+					envAcc = Math.max(env[v - 1] + eAcc, envAcc);
+					eAcc += e[v - 1];
+				}
+			}
+			return envAcc + e[1] - eAcc;
+		}
+	}
+}
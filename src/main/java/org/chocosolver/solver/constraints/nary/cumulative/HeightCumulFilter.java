@@ -29,6 +29,16 @@ public class HeightCumulFilter extends SweepCumulFilter {
 		FIXPOINT = false;
 	}
 
+	@Override
+	public boolean isDuplicable() {
+		return true;
+	}
+
+	@Override
+	public CumulFilter duplicate() {
+		return new HeightCumulFilter(nbMaxTasks);
+	}
+
 	//***********************************************************************************
 	// SWEEP ALGORITHM
 	//***********************************************************************************
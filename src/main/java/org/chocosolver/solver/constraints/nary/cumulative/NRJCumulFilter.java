@@ -51,6 +51,16 @@ public class NRJCumulFilter extends CumulFilter{
         };
 	}
 
+	@Override
+	public boolean isDuplicable() {
+		return true;
+	}
+
+	@Override
+	public CumulFilter duplicate() {
+		return new NRJCumulFilter(nbMaxTasks);
+	}
+
 	//***********************************************************************************
 	// METHODS
 	//***********************************************************************************
@@ -40,6 +40,16 @@ public class NaiveTimeCumulFilter extends CumulFilter {
         super(nbMaxTasks);
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public CumulFilter duplicate() {
+        return new NaiveTimeCumulFilter(nbMaxTasks);
+    }
+
     //***********************************************************************************
     // METHODS
     //***********************************************************************************
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.nary.cumulative;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -203,4 +204,30 @@ public class PropCumulative extends Propagator<IntVar> {
         return sb.toString();
     }
 
+    @Override
+    public boolean isDuplicable() {
+        for (CumulFilter filter : filters) {
+            if (!filter.isDuplicable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public PropCumulative duplicate(Duplicator duplicator) {
+        return new PropCumulative(duplicator.get(s), duplicator.get(d), duplicator.get(e), duplicator.get(h),
+                duplicator.get(capa), reactToFineEvt, duplicateFilters());
+    }
+
+    /**
+     * @return new filters, of the same kinds as the ones of this propagator
+     */
+    protected CumulFilter[] duplicateFilters() {
+        CumulFilter[] copies = new CumulFilter[filters.length];
+        for (int i = 0; i < filters.length; i++) {
+            copies[i] = filters[i].duplicate();
+        }
+        return copies;
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.cumulative;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
@@ -203,4 +204,9 @@ public class PropGraphCumulative extends PropCumulative {
 
     private final static int START = 1, END = 2;
 
+    @Override
+    public PropGraphCumulative duplicate(Duplicator duplicator) {
+        return new PropGraphCumulative(duplicator.get(s), duplicator.get(d), duplicator.get(e), duplicator.get(h),
+                duplicator.get(capa), fast, duplicateFilters());
+    }
 }
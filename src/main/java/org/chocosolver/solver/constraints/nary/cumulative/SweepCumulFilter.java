@@ -77,6 +77,16 @@ public class SweepCumulFilter extends CumulFilter {
         };
 	}
 
+	@Override
+	public boolean isDuplicable() {
+		return true;
+	}
+
+	@Override
+	public CumulFilter duplicate() {
+		return new SweepCumulFilter(nbMaxTasks);
+	}
+
 	//***********************************************************************************
 	// GENERAL METHODS
 	//***********************************************************************************
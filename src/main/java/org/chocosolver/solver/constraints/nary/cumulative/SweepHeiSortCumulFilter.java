@@ -44,6 +44,16 @@ public class SweepHeiSortCumulFilter extends SweepCumulFilter {
 		comparator = (i1, i2) -> hlb[map[i2]]-hlb[map[i1]];
 	}
 
+	@Override
+	public boolean isDuplicable() {
+		return true;
+	}
+
+	@Override
+	public CumulFilter duplicate() {
+		return new SweepHeiSortCumulFilter(nbMaxTasks);
+	}
+
 	//***********************************************************************************
 	// GENERAL METHODS
 	//***********************************************************************************
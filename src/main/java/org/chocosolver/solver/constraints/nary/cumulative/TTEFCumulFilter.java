@@ -0,0 +1,232 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.sort.ArraySort;
+
+/**
+ * Time-table edge-finding for cumulative resources, in O(n^2)
+ * (P. Vilím, Timetable Edge Finding Filtering Algorithm for Discrete Cumulative Resources, CPAIOR 2011).
+ * <p>
+ * Each task is split into its compulsory part and a free part, which can be scheduled anywhere
+ * between the earliest starting time and the latest completion time of the task.
+ * For each time window [a, b), where a is the earliest starting time of a task and b the latest completion time
+ * of a task, the energy available is the capacity of the window minus the energy of the compulsory parts
+ * in the window and minus the free energy of the tasks which are inside the window.
+ * A negative available energy triggers a failure, and a task which cannot put, in the window, the part of its free
+ * energy it would require if it started at its earliest starting time has to start later.
+ * Latest completion times are filtered in the same way, on the mirrored tasks.
+ * </p>
+ * <p>
+ * Not enough to ensure correctness (only an additional filtering), should be used with a time-table filter.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class TTEFCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final int[] tasks, byEst, byLct, points;
+	private final long[] est, lct, dur, hei, bound, ttAtEst, ttAtLct, minAvail;
+	private final ArraySort sorter;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public TTEFCumulFilter(int n) {
+		super(n);
+		tasks = new int[n];
+		byEst = new int[n];
+		byLct = new int[n];
+		points = new int[2 * n];
+		est = new long[n];
+		lct = new long[n];
+		dur = new long[n];
+		hei = new long[n];
+		bound = new long[n];
+		ttAtEst = new long[n];
+		ttAtLct = new long[n];
+		minAvail = new long[n];
+		sorter = new ArraySort(2 * n, false, true);
+	}
+
+	@Override
+	public boolean isDuplicable() {
+		return true;
+	}
+
+	@Override
+	public CumulFilter duplicate() {
+		return new TTEFCumulFilter(nbMaxTasks);
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		int nb = 0;
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			if (d[i].getLB() > 0 && h[i].getLB() > 0) {
+				this.tasks[nb++] = i;
+			}
+		}
+		if (nb == 0) {
+			return;
+		}
+		long capaMax = capa.getUB();
+		// earliest starting times
+		for (int k = 0; k < nb; k++) {
+			int i = this.tasks[k];
+			est[k] = s[i].getLB();
+			lct[k] = e[i].getUB();
+			dur[k] = d[i].getLB();
+			hei[k] = h[i].getLB();
+		}
+		timetableEdgeFinding(nb, capaMax, aCause);
+		for (int k = 0; k < nb; k++) {
+			if (bound[k] > est[k]) {
+				s[this.tasks[k]].updateLowerBound((int) Math.min(bound[k], Integer.MAX_VALUE), aCause);
+			}
+		}
+		// latest completion times, on mirrored tasks
+		for (int k = 0; k < nb; k++) {
+			int i = this.tasks[k];
+			est[k] = -(long) e[i].getUB();
+			lct[k] = -(long) s[i].getLB();
+			dur[k] = d[i].getLB();
+			hei[k] = h[i].getLB();
+		}
+		timetableEdgeFinding(nb, capaMax, aCause);
+		for (int k = 0; k < nb; k++) {
+			if (bound[k] > est[k]) {
+				e[this.tasks[k]].updateUpperBound((int) Math.max(-bound[k], Integer.MIN_VALUE), aCause);
+			}
+		}
+	}
+
+	/**
+	 * Compute in <i>bound</i> the new earliest starting time of the first <i>nb</i> tasks
+	 */
+	private void timetableEdgeFinding(int nb, long capa, Propagator<IntVar> aCause) throws ContradictionException {
+		for (int k = 0; k < nb; k++) {
+			byEst[k] = k;
+			byLct[k] = k;
+			bound[k] = est[k];
+		}
+		sorter.sort(byEst, nb, (i1, i2) -> Long.compare(est[i1], est[i2]));
+		sorter.sort(byLct, nb, (i1, i2) -> Long.compare(lct[i1], lct[i2]));
+		computeTimetable(nb);
+		for (int q = nb - 1; q >= 0; q--) {
+			int j = byLct[q];
+			long b = lct[j];
+			if (q < nb - 1 && lct[byLct[q + 1]] == b) {
+				continue;
+			}
+			long ttb = ttAtLct[j];
+			// available energy of each window [a, b), by decreasing a
+			long free = 0;
+			for (int p = nb - 1; p >= 0; p--) {
+				int i = byEst[p];
+				long a = est[i];
+				if (lct[i] <= b) {
+					free += hei[i] * (dur[i] - Math.max(0, Math.min(est[i] + dur[i], lct[i]) - (lct[i] - dur[i])));
+				}
+				if (a < b) {
+					long avail = capa * (b - a) - free - (ttb - ttAtEst[i]);
+					if (avail < 0) {
+						aCause.fails();
+					}
+					minAvail[p] = avail;
+				} else {
+					minAvail[p] = Long.MAX_VALUE;
+				}
+			}
+			// minimum over the windows starting before each earliest starting time
+			for (int p = 1; p < nb; p++) {
+				minAvail[p] = Math.min(minAvail[p], minAvail[p - 1]);
+			}
+			for (int p = 0; p < nb; p++) {
+				int i = byEst[p];
+				if (lct[i] > b && est[i] < b) {
+					long ect = Math.min(b, est[i] + dur[i]);
+					// compulsory energy of i inside the window
+					long cp = hei[i] * Math.max(0, ect - (lct[i] - dur[i]));
+					if (hei[i] * (ect - est[i]) - cp > minAvail[p]) {
+						bound[i] = Math.max(bound[i], b - Math.floorDiv(minAvail[p] + cp, hei[i]));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compute the energy of the compulsory parts before each earliest starting time and each latest completion time
+	 */
+	private void computeTimetable(int nb) {
+		// events of the profile: 2k is the start of the compulsory part of k, 2k+1 is its end
+		int nbp = 0;
+		for (int k = 0; k < nb; k++) {
+			if (lct[k] - dur[k] < est[k] + dur[k]) {
+				points[nbp++] = 2 * k;
+				points[nbp++] = 2 * k + 1;
+			}
+		}
+		sorter.sort(points, nbp, (p1, p2) -> Long.compare(time(p1), time(p2)));
+		long energy = 0, height = 0, last = Long.MIN_VALUE;
+		int pe = 0, pl = 0, pp = 0;
+		while (pe < nb || pl < nb) {
+			long t;
+			if (pl == nb || pe < nb && est[byEst[pe]] <= lct[byLct[pl]]) {
+				t = est[byEst[pe]];
+			} else {
+				t = lct[byLct[pl]];
+			}
+			for (; pp < nbp && time(points[pp]) <= t; pp++) {
+				long x = time(points[pp]);
+				energy += height * (x - last);
+				last = x;
+				int k = points[pp] >> 1;
+				height += (points[pp] & 1) == 0 ? hei[k] : -hei[k];
+			}
+			if (height > 0) {
+				energy += height * (t - last);
+			}
+			last = t;
+			for (; pe < nb && est[byEst[pe]] == t; pe++) {
+				ttAtEst[byEst[pe]] = energy;
+			}
+			for (; pl < nb && lct[byLct[pl]] == t; pl++) {
+				ttAtLct[byLct[pl]] = energy;
+			}
+		}
+	}
+
+	/**
+	 * @return the time of an event of the profile
+	 */
+	private long time(int point) {
+		int k = point >> 1;
+		return (point & 1) == 0 ? lct[k] - dur[k] : est[k] + dur[k];
+	}
+}
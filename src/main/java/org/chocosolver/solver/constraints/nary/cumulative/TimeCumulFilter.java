@@ -37,6 +37,16 @@ public class TimeCumulFilter extends CumulFilter {
 		super(nbMaxTasks);
 	}
 
+	@Override
+	public boolean isDuplicable() {
+		return true;
+	}
+
+	@Override
+	public CumulFilter duplicate() {
+		return new TimeCumulFilter(nbMaxTasks);
+	}
+
 	//***********************************************************************************
 	// METHODS
 	//***********************************************************************************
@@ -0,0 +1,320 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.disjunctive;
+
+import org.chocosolver.solver.Duplicator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.sort.ArraySort;
+import org.chocosolver.util.sort.IntComparator;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+
+/**
+ * Propagator for a unary resource: tasks cannot overlap in time.
+ * <p>
+ * Filters the bounds of the tasks with overload checking, detectable precedences, not-first/not-last
+ * and edge-finding, each one in O(n log n) thanks to Θ-trees and Θ-Λ-trees
+ * (P. Vilím, O(n log n) Filtering Algorithms for Unary Resource Constraint, CPAIOR 2004,
+ * and P. Vilím, R. Barták, O. Čepek, Extension of O(n log n) Filtering Algorithms for the Unary Resource Constraint
+ * to Optional Activities, Constraints 2005).
+ * Each rule is applied to the tasks and to the mirrored tasks, until a fix point is reached.
+ * Tasks whose duration may be zero are ignored.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropDisjunctive extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final int n;
+    private final IntVar[] s, d, e;
+    /**
+     * Tasks considered in the current filtering, and their time bounds (possibly mirrored)
+     */
+    private final int[] tasks;
+    private final long[] est, lct, p, newEst, newLct;
+    private final int[] byEst, byLct, byLst, byEct, leaf;
+    private final ArraySort sorter;
+    private final IntComparator cmpEst, cmpLct, cmpLst, cmpEct;
+    private final ThetaLambdaTree tree;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * Disjunctive propagator
+     *
+     * @param s start variables
+     * @param d duration variables
+     * @param e end variables
+     */
+    public PropDisjunctive(IntVar[] s, IntVar[] d, IntVar[] e) {
+        super(ArrayUtils.append(s, d, e), PropagatorPriority.LINEAR, false);
+        this.n = s.length;
+        if (!(n == d.length && n == e.length)) {
+            throw new UnsupportedOperationException();
+        }
+        this.s = Arrays.copyOfRange(vars, 0, n);
+        this.d = Arrays.copyOfRange(vars, n, n * 2);
+        this.e = Arrays.copyOfRange(vars, n * 2, n * 3);
+        tasks = new int[n];
+        est = new long[n];
+        lct = new long[n];
+        p = new long[n];
+        newEst = new long[n];
+        newLct = new long[n];
+        byEst = new int[n];
+        byLct = new int[n];
+        byLst = new int[n];
+        byEct = new int[n];
+        leaf = new int[n];
+        sorter = new ArraySort(n, false, true);
+        cmpEst = (i1, i2) -> Long.compare(est[i1], est[i2]);
+        cmpLct = (i1, i2) -> Long.compare(lct[i1], lct[i2]);
+        cmpLst = (i1, i2) -> Long.compare(lst(i1), lst(i2));
+        cmpEct = (i1, i2) -> Long.compare(est[i1] + p[i1], est[i2] + p[i2]);
+        tree = new ThetaLambdaTree(n);
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        boolean change;
+        do {
+            int nb = 0;
+            for (int i = 0; i < n; i++) {
+                if (d[i].getLB() > 0) {
+                    tasks[nb++] = i;
+                }
+            }
+            if (nb < 2) {
+                return;
+            }
+            // earliest starting times and not-last
+            for (int k = 0; k < nb; k++) {
+                int i = tasks[k];
+                est[k] = s[i].getLB();
+                lct[k] = e[i].getUB();
+                p[k] = d[i].getLB();
+            }
+            filter(nb);
+            change = false;
+            for (int k = 0; k < nb; k++) {
+                int i = tasks[k];
+                change |= s[i].updateLowerBound((int) Math.min(est[k], Integer.MAX_VALUE), this);
+                change |= e[i].updateUpperBound((int) Math.max(lct[k], Integer.MIN_VALUE), this);
+            }
+            // latest completion times and not-first, on mirrored tasks
+            for (int k = 0; k < nb; k++) {
+                int i = tasks[k];
+                est[k] = -(long) e[i].getUB();
+                lct[k] = -(long) s[i].getLB();
+                p[k] = d[i].getLB();
+            }
+            filter(nb);
+            for (int k = 0; k < nb; k++) {
+                int i = tasks[k];
+                change |= e[i].updateUpperBound((int) Math.max(-est[k], Integer.MIN_VALUE), this);
+                change |= s[i].updateLowerBound((int) Math.min(-lct[k], Integer.MAX_VALUE), this);
+            }
+        } while (change);
+    }
+
+    /**
+     * Apply the rules to the first <i>nb</i> tasks: earliest starting times are increased by detectable precedences
+     * and edge-finding, latest completion times are decreased by not-last.
+     */
+    private void filter(int nb) throws ContradictionException {
+        for (int k = 0; k < nb; k++) {
+            byEst[k] = byLct[k] = byLst[k] = byEct[k] = k;
+        }
+        sortByEst(nb);
+        sorter.sort(byLct, nb, cmpLct);
+        overloadChecking(nb);
+        sorter.sort(byEct, nb, cmpEct);
+        sorter.sort(byLst, nb, cmpLst);
+        detectablePrecedences(nb);
+        sortByEst(nb);
+        sorter.sort(byLst, nb, cmpLst);
+        notLast(nb);
+        sortByEst(nb);
+        sorter.sort(byLct, nb, cmpLct);
+        edgeFinding(nb);
+    }
+
+    private void sortByEst(int nb) {
+        sorter.sort(byEst, nb, cmpEst);
+        for (int q = 0; q < nb; q++) {
+            leaf[byEst[q]] = q;
+        }
+    }
+
+    /**
+     * Fail when the tasks ending before a latest completion time cannot be processed before it
+     */
+    private void overloadChecking(int nb) throws ContradictionException {
+        tree.clear(nb);
+        for (int q = 0; q < nb; q++) {
+            int j = byLct[q];
+            tree.addTheta(leaf[j], est[j], p[j]);
+            if (tree.ect() > lct[j]) {
+                fails();
+            }
+        }
+    }
+
+    /**
+     * A task i has to start after the tasks j such that est(i) + p(i) > lct(j) - p(j)
+     */
+    private void detectablePrecedences(int nb) {
+        tree.clear(nb);
+        int qj = 0;
+        for (int q = 0; q < nb; q++) {
+            int i = byEct[q];
+            for (; qj < nb && est[i] + p[i] > lst(byLst[qj]); qj++) {
+                int j = byLst[qj];
+                tree.addTheta(leaf[j], est[j], p[j]);
+            }
+            boolean in = tree.inTheta(leaf[i]);
+            if (in) {
+                tree.remove(leaf[i]);
+            }
+            newEst[i] = Math.max(est[i], tree.ect());
+            if (in) {
+                tree.addTheta(leaf[i], est[i], p[i]);
+            }
+        }
+        System.arraycopy(newEst, 0, est, 0, nb);
+    }
+
+    /**
+     * A task i has to end before the latest starting time of the tasks Ω which end after the start of i,
+     * when i cannot be processed last among Ω ∪ {i}
+     */
+    private void notLast(int nb) {
+        tree.clear(nb);
+        int qj = 0, last = -1;
+        for (int q = 0; q < nb; q++) {
+            int i = byLct[q];
+            for (; qj < nb && lct[i] > lst(byLst[qj]); qj++) {
+                last = byLst[qj];
+                tree.addTheta(leaf[last], est[last], p[last]);
+            }
+            newLct[i] = lct[i];
+            boolean in = tree.inTheta(leaf[i]);
+            if (in) {
+                tree.remove(leaf[i]);
+            }
+            if (tree.ect() > lst(i)) {
+                newLct[i] = Math.min(lct[i], lst(last));
+            }
+            if (in) {
+                tree.addTheta(leaf[i], est[i], p[i]);
+            }
+        }
+        System.arraycopy(newLct, 0, lct, 0, nb);
+    }
+
+    /**
+     * A task i has to start after the tasks Ω ending before it, when i cannot be processed before the end of Ω
+     */
+    private void edgeFinding(int nb) throws ContradictionException {
+        tree.clear(nb);
+        for (int k = 0; k < nb; k++) {
+            tree.addTheta(leaf[k], est[k], p[k]);
+            newEst[k] = est[k];
+        }
+        for (int q = nb - 1; q > 0; q--) {
+            int j = byLct[q];
+            tree.remove(leaf[j]);
+            tree.addLambda(leaf[j], est[j], p[j], j);
+            long l = lct[byLct[q - 1]];
+            if (tree.ect() > l) {
+                fails();
+            }
+            while (tree.ectBar() > l) {
+                int i = tree.responsible();
+                newEst[i] = Math.max(newEst[i], tree.ect());
+                tree.remove(leaf[i]);
+            }
+        }
+        System.arraycopy(newEst, 0, est, 0, nb);
+    }
+
+    private long lst(int k) {
+        return lct[k] - p[k];
+    }
+
+    @Override
+    public ESat isEntailed() {
+        // compulsory parts of the tasks, sorted by latest starting times
+        int nb = 0;
+        for (int i = 0; i < n; i++) {
+            if (s[i].getLB() + d[i].getLB() > e[i].getUB()
+                    || s[i].getUB() + d[i].getUB() < e[i].getLB()) {
+                return ESat.FALSE;
+            }
+            if (s[i].getUB() < e[i].getLB()) {
+                tasks[nb++] = i;
+            }
+        }
+        sorter.sort(tasks, nb, (i1, i2) -> Integer.compare(s[i1].getUB(), s[i2].getUB()));
+        for (int k = 1; k < nb; k++) {
+            if (e[tasks[k - 1]].getLB() > s[tasks[k]].getUB()) {
+                return ESat.FALSE;
+            }
+        }
+        return isCompletelyInstantiated() ? ESat.TRUE : ESat.UNDEFINED;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(this.getClass().getSimpleName() + "(");
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                sb.append(",");
+            }
+            sb.append("[").append(s[i].toString());
+            sb.append(",").append(d[i].toString());
+            sb.append(",").append(e[i].toString()).append("]");
+        }
+        sb.append(")");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropDisjunctive duplicate(Duplicator duplicator) {
+        return new PropDisjunctive(duplicator.get(s), duplicator.get(d), duplicator.get(e));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.disjunctive;
+
+import java.util.Arrays;
+
+/**
+ * A Θ-Λ-tree over tasks sorted by earliest starting time, stored as a complete binary tree in arrays
+ * (P. Vilím, Global Constraints in Scheduling, PhD thesis, 2007).
+ * <p>
+ * Each node stores the total processing time and the earliest completion time of the tasks of Θ in its subtree,
+ * the same values when at most one task of Λ (a gray task) is added, and the gray task responsible for them.
+ * When Λ is empty, the tree is a Θ-tree.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+final class ThetaLambdaTree {
+
+    /**
+     * Earliest completion time of an empty set of tasks
+     */
+    static final long NONE = Long.MIN_VALUE / 4;
+
+    private final int capacity;
+    private int size;
+    private final long[] sumP, ect, sumPL, ectL;
+    private final int[] respP, respEct;
+    private final boolean[] theta;
+
+    ThetaLambdaTree(int n) {
+        int s = 1;
+        while (s < n) {
+            s <<= 1;
+        }
+        this.capacity = s;
+        this.size = s;
+        sumP = new long[2 * s];
+        ect = new long[2 * s];
+        sumPL = new long[2 * s];
+        ectL = new long[2 * s];
+        respP = new int[2 * s];
+        respEct = new int[2 * s];
+        theta = new boolean[s];
+    }
+
+    /**
+     * Empty the tree, which will contain at most <i>n</i> leaves
+     */
+    void clear(int n) {
+        int s = 1;
+        while (s < n) {
+            s <<= 1;
+        }
+        assert s <= capacity;
+        this.size = s;
+        Arrays.fill(sumP, 0, 2 * s, 0);
+        Arrays.fill(ect, 0, 2 * s, NONE);
+        Arrays.fill(sumPL, 0, 2 * s, 0);
+        Arrays.fill(ectL, 0, 2 * s, NONE);
+        Arrays.fill(respP, 0, 2 * s, -1);
+        Arrays.fill(respEct, 0, 2 * s, -1);
+        Arrays.fill(theta, 0, s, false);
+    }
+
+    /**
+     * Add a task to Θ
+     *
+     * @param leaf position of the task, in the order of earliest starting times
+     * @param est  earliest starting time of the task
+     * @param p    processing time of the task
+     */
+    void addTheta(int leaf, long est, long p) {
+        int v = size + leaf;
+        sumP[v] = sumPL[v] = p;
+        ect[v] = ectL[v] = est + p;
+        respP[v] = respEct[v] = -1;
+        theta[leaf] = true;
+        update(v);
+    }
+
+    /**
+     * Add a task to Λ
+     *
+     * @param leaf position of the task, in the order of earliest starting times
+     * @param est  earliest starting time of the task
+     * @param p    processing time of the task
+     * @param task identifier of the task, returned by {@link #responsible()}
+     */
+    void addLambda(int leaf, long est, long p, int task) {
+        int v = size + leaf;
+        sumP[v] = 0;
+        ect[v] = NONE;
+        sumPL[v] = p;
+        ectL[v] = est + p;
+        respP[v] = respEct[v] = task;
+        theta[leaf] = false;
+        update(v);
+    }
+
+    /**
+     * Remove a task from Θ or Λ
+     *
+     * @param leaf position of the task, in the order of earliest starting times
+     */
+    void remove(int leaf) {
+        int v = size + leaf;
+        sumP[v] = sumPL[v] = 0;
+        ect[v] = ectL[v] = NONE;
+        respP[v] = respEct[v] = -1;
+        theta[leaf] = false;
+        update(v);
+    }
+
+    /**
+     * @return <i>true</i> if the task at position <i>leaf</i> belongs to Θ
+     */
+    boolean inTheta(int leaf) {
+        return theta[leaf];
+    }
+
+    /**
+     * @return the earliest completion time of Θ
+     */
+    long ect() {
+        return ect[1];
+    }
+
+    /**
+     * @return the earliest completion time of Θ with at most one task of Λ
+     */
+    long ectBar() {
+        return ectL[1];
+    }
+
+    /**
+     * @return the task of Λ responsible for {@link #ectBar()}, -1 if there is none
+     */
+    int responsible() {
+        return respEct[1];
+    }
+
+    private void update(int v) {
+        for (v >>= 1; v > 0; v >>= 1) {
+            int l = 2 * v, r = l + 1;
+            sumP[v] = sumP[l] + sumP[r];
+            ect[v] = Math.max(ect[r], ect[l] + sumP[r]);
+            if (sumPL[l] + sumP[r] >= sumP[l] + sumPL[r]) {
+                sumPL[v] = sumPL[l] + sumP[r];
+                respP[v] = respP[l];
+            } else {
+                sumPL[v] = sumP[l] + sumPL[r];
+                respP[v] = respP[r];
+            }
+            long a = ectL[r], b = ect[l] + sumPL[r], c = ectL[l] + sumP[r];
+            if (a >= b && a >= c) {
+                ectL[v] = a;
+                respEct[v] = respEct[r];
+            } else if (b >= c) {
+                ectL[v] = b;
+                respEct[v] = respP[r];
+            } else {
+                ectL[v] = c;
+                respEct[v] = respEct[l];
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.chocosolver.solver.constraints.nary.element;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -23,6 +24,8 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.tools.ArrayUtils;
 
+import java.util.Arrays;
+
 import static java.lang.Integer.MAX_VALUE;
 import static java.lang.Integer.MIN_VALUE;
 import static java.lang.Math.max;
@@ -169,4 +172,14 @@ public class PropElementV_fast extends Propagator<IntVar> {
         return ESat.UNDEFINED;
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropElementV_fast duplicate(Duplicator duplicator) {
+        IntVar[] copies = duplicator.get(vars);
+        return new PropElementV_fast(copies[0], Arrays.copyOfRange(copies, 2, copies.length), copies[1], offset, fast);
+    }
 }
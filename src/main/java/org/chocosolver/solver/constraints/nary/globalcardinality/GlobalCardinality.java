@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.nary.globalcardinality;
 
 import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
@@ -32,10 +33,25 @@ public class GlobalCardinality extends Constraint {
         super(ConstraintsName.GCC, createProp(vars, values, cards));
     }
 
+    private GlobalCardinality(Propagator[] propagators) {
+        super(ConstraintsName.GCC, propagators);
+    }
+
+    @Override
+    public boolean isDuplicable() {
+        return arePropagatorsDuplicable();
+    }
+
+    @Override
+    public GlobalCardinality duplicate(Duplicator duplicator) {
+        return new GlobalCardinality(duplicatePropagators(duplicator));
+    }
+
 	private static Propagator createProp(IntVar[] vars, int[] values, IntVar[] cards) {
 		assert values.length == cards.length;
 		TIntIntHashMap map = new TIntIntHashMap();
 		int idx = 0;
+		int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
 		for (int v : values) {
 			if (!map.containsKey(v)) {
 				map.put(v, idx);
@@ -43,6 +59,13 @@ public class GlobalCardinality extends Constraint {
 			} else {
 				throw new UnsupportedOperationException("ERROR: multiple occurrences of value: " + v);
 			}
+			min = Math.min(min, v);
+			max = Math.max(max, v);
+		}
+		// values fit in a word: domains are read as words instead of being iterated
+		if (values.length > 0 && (long) max - min < 64
+				&& cards[0].getModel().getSettings().enableBitsetPropagators()) {
+			return new PropBitsetGCC(vars, values, cards);
 		}
 		return new PropFastGCC(vars, values, map, cards);
 	}
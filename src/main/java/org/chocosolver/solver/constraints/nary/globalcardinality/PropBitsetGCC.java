@@ -0,0 +1,226 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.globalcardinality;
+
+import org.chocosolver.solver.Duplicator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.chocosolver.util.tools.VariableUtils;
+
+import java.util.Arrays;
+
+/**
+ * Propagator for Global Cardinality Constraint (GCC) for integer variables,
+ * when the restricted values fit in a 64-bit word (their span is at most 64).
+ * Same filtering as {@link PropFastGCC}, slightly stronger since the cardinality variables
+ * do not need to be instantiated, but values are not iterated one by one:
+ * the domain of each variable is read as a word (see {@link VariableUtils#domainMask(IntVar, int)})
+ * and the number of variables which may, or must, take each value is computed for all values at once,
+ * with bit-sliced counters.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropBitsetGCC extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final int n, n2;
+    private final int[] values;
+    /**
+     * Smallest restricted value, that is, the value of the first bit of the words
+     */
+    private final int offset;
+    /**
+     * Bits of the restricted values
+     */
+    private final long valueMask;
+    /**
+     * Restricted values of each variable, as a word
+     */
+    private final long[] masks;
+    /**
+     * Bit-sliced counters: bit <i>b</i> of <i>possibles[p]</i> is the bit <i>p</i> of the number of
+     * uninstantiated variables which may take the value of bit <i>b</i>, the same for instantiated variables in
+     * <i>mandatories</i>
+     */
+    private final long[] possibles, mandatories;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * Propagator for Global Cardinality Constraint (GCC) for integer variables,
+     * when the restricted values fit in a 64-bit word
+     *
+     * @param decvars            array of integer variables
+     * @param restrictedValues   array of distinct int, whose span is at most 64
+     * @param valueCardinalities array of integer variables
+     */
+    public PropBitsetGCC(IntVar[] decvars, int[] restrictedValues, IntVar[] valueCardinalities) {
+        super(ArrayUtils.append(decvars, valueCardinalities), PropagatorPriority.LINEAR, false);
+        if (restrictedValues.length != valueCardinalities.length) {
+            throw new UnsupportedOperationException();
+        }
+        this.values = restrictedValues;
+        this.n = decvars.length;
+        this.n2 = values.length;
+        this.offset = Arrays.stream(values).min().orElse(0);
+        long vm = 0L;
+        for (int v : values) {
+            if ((long) v - offset >= 64) {
+                throw new UnsupportedOperationException("Values should fit in a 64-bit word");
+            }
+            vm |= 1L << (v - offset);
+        }
+        this.valueMask = vm;
+        this.masks = new long[n];
+        int nbPlanes = 32 - Integer.numberOfLeadingZeros(n);
+        this.possibles = new long[nbPlanes];
+        this.mandatories = new long[nbPlanes];
+    }
+
+    //***********************************************************************************
+    // PROPAGATION
+    //***********************************************************************************
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        boolean again;
+        do {
+            count();
+            again = false;
+            long toRemove = 0L, toForce = 0L;
+            for (int j = 0; j < n2; j++) {
+                int b = values[j] - offset;
+                int mand = count(mandatories, b);
+                int poss = count(possibles, b);
+                vars[n + j].updateBounds(mand, mand + poss, this);
+                if (poss > 0) {
+                    if (vars[n + j].getUB() == mand) {
+                        toRemove |= 1L << b;
+                    } else if (vars[n + j].getLB() == mand + poss) {
+                        toForce |= 1L << b;
+                    }
+                }
+            }
+            if ((toRemove | toForce) != 0L) {
+                for (int i = 0; i < n; i++) {
+                    if (!vars[i].isInstantiated()) {
+                        for (long r = masks[i] & toRemove; r != 0L; r &= r - 1) {
+                            again |= vars[i].removeValue(offset + Long.numberOfTrailingZeros(r), this);
+                        }
+                        long f = masks[i] & toForce;
+                        if (f != 0L) {
+                            // if other values are forced, the next count fails on their occurrence variables
+                            again |= vars[i].instantiateTo(offset + Long.numberOfTrailingZeros(f), this);
+                        }
+                    }
+                }
+            }
+        } while (again);
+    }
+
+    /**
+     * Read the domains of the variables and count, for each value, the variables which may or must take it
+     */
+    private void count() {
+        Arrays.fill(possibles, 0L);
+        Arrays.fill(mandatories, 0L);
+        for (int i = 0; i < n; i++) {
+            masks[i] = VariableUtils.domainMask(vars[i], offset) & valueMask;
+            add(vars[i].isInstantiated() ? mandatories : possibles, masks[i]);
+        }
+    }
+
+    /**
+     * Increment by one the counters of the bits of <i>mask</i>
+     */
+    private static void add(long[] counters, long mask) {
+        for (int p = 0; mask != 0L; p++) {
+            long carry = counters[p] & mask;
+            counters[p] ^= mask;
+            mask = carry;
+        }
+    }
+
+    /**
+     * @return the counter of bit <i>b</i>
+     */
+    private static int count(long[] counters, int b) {
+        int c = 0;
+        for (int p = 0; p < counters.length; p++) {
+            c |= (int) ((counters[p] >>> b) & 1L) << p;
+        }
+        return c;
+    }
+
+    //***********************************************************************************
+    // INFO
+    //***********************************************************************************
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        if (vIdx >= n) {// cardinality variables
+            return IntEventType.boundAndInst();
+        }
+        return IntEventType.all();
+    }
+
+    @Override
+    public ESat isEntailed() {
+        count();
+        boolean entailed = true;
+        for (int j = 0; j < n2; j++) {
+            int b = values[j] - offset;
+            int min = count(mandatories, b);
+            int max = min + count(possibles, b);
+            if (vars[n + j].getLB() > max || vars[n + j].getUB() < min) {
+                return ESat.FALSE;
+            }
+            entailed &= vars[n + j].isInstantiated() && max == min;
+        }
+        return entailed ? ESat.TRUE : ESat.UNDEFINED;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder st = new StringBuilder();
+        st.append("PropBitsetGCC_(");
+        int i = 0;
+        for (; i < Math.min(4, vars.length); i++) {
+            st.append(vars[i].getName()).append(", ");
+        }
+        if (i < vars.length - 2) {
+            st.append("...,");
+        }
+        st.append(vars[vars.length - 1].getName()).append(")");
+        return st.toString();
+    }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropBitsetGCC duplicate(Duplicator duplicator) {
+        IntVar[] copies = duplicator.get(vars);
+        return new PropBitsetGCC(Arrays.copyOf(copies, n), values, Arrays.copyOfRange(copies, n, copies.length));
+    }
+}
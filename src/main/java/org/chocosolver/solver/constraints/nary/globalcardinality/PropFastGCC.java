@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.nary.globalcardinality;
 
 import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -23,6 +24,8 @@ import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.objects.setDataStructures.SetType;
 import org.chocosolver.util.tools.ArrayUtils;
 
+import java.util.Arrays;
+
 /**
  * Propagator for Global Cardinality Constraint (GCC) for integer variables
  * Basic filter: no particular consistency but fast and with a correct checker
@@ -273,4 +276,14 @@ public class PropFastGCC extends Propagator<IntVar> {
         return st.toString();
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropFastGCC duplicate(Duplicator duplicator) {
+        IntVar[] copies = duplicator.get(vars);
+        return new PropFastGCC(Arrays.copyOf(copies, n), values, map, Arrays.copyOfRange(copies, n, copies.length));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.min_max;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
@@ -19,6 +20,8 @@ import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
+import java.util.Arrays;
+
 import static org.chocosolver.solver.constraints.PropagatorPriority.LINEAR;
 import static org.chocosolver.util.tools.ArrayUtils.concat;
 
@@ -176,4 +179,15 @@ public class PropMax extends Propagator<IntVar> {
         sb.append(")");
         return sb.toString();
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropMax duplicate(Duplicator duplicator) {
+        IntVar[] copies = duplicator.get(vars);
+        return new PropMax(Arrays.copyOf(copies, n), copies[n]);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.nary.clauses.ClauseBuilder;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -38,7 +39,7 @@ public class PropScalar extends PropSum {
     /**
      * The coefficients
      */
-    private final int[] c;
+    protected final int[] c;
 
     /**
      * Create a scalar product: SUM(x_i*c_i) o b
@@ -54,6 +55,11 @@ public class PropScalar extends PropSum {
         this.c = coeffs;
     }
 
+    PropScalar(IntVar[] variables, int[] coeffs, int pos, Operator o, int b, boolean reactOnFineEvent) {
+        super(variables, pos, o, b, computePriority(variables.length), reactOnFineEvent);
+        this.c = coeffs;
+    }
+
 
     @Override
     protected void prepare() {
@@ -499,4 +505,13 @@ public class PropScalar extends PropSum {
         return new PropScalar(vars, c, pos, nop(o), b + nb(o));
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropScalar duplicate(Duplicator duplicator) {
+        return new PropScalar(duplicator.get(vars), c, pos, o, b);
+    }
 }
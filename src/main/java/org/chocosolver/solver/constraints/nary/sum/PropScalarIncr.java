@@ -0,0 +1,188 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.solver.Duplicator;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+
+/**
+ * A propagator for SUM(x_i*c_i) o b, maintained incrementally.
+ * <br/>
+ * The sum of lower bounds, the sum of upper bounds and an upper bound of the maximal variability
+ * are maintained on each bound modification, so that the filtering algorithm,
+ * which scans all variables, is only executed when a bound can actually be pruned.
+ * <br/>
+ * Based on "Bounds Consistency Techniques for Long Linear Constraint" </br>
+ * W. Harvey and J. Schimpf
+ * <p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropScalarIncr extends PropScalar {
+
+    /**
+     * Sum of lower bounds maintained incrementally.
+     */
+    private final IStateLong bLB;
+    /**
+     * Sum of upper bounds maintained incrementally.
+     */
+    private final IStateLong bUB;
+    /**
+     * Upper bound of the maximal variability, exact after each filtering.
+     */
+    private final IStateInt bMaxI;
+    /**
+     * Lower bound of the contribution of each variable, as known by this propagator
+     */
+    private final IStateInt[] lbs;
+    /**
+     * Upper bound of the contribution of each variable, as known by this propagator
+     */
+    private final IStateInt[] ubs;
+    /**
+     * Variability of each variable before filtering, to detect the domains modified by this propagator
+     */
+    private final int[] J;
+
+    /**
+     * Create a scalar product: SUM(x_i*c_i) o b, maintained incrementally.
+     * Variables and coefficients are excepted to be ordered wrt to coefficients: first positive ones then negative ones.
+     * @param variables list of integer variables
+     * @param coeffs list of coefficients
+     * @param pos position of the last positive coefficient
+     * @param o operator
+     * @param b bound to respect.
+     */
+    public PropScalarIncr(IntVar[] variables, int[] coeffs, int pos, Operator o, int b) {
+        super(variables, coeffs, pos, o, b, true);
+        IEnvironment environment = model.getEnvironment();
+        this.bLB = environment.makeLong();
+        this.bUB = environment.makeLong();
+        this.bMaxI = environment.makeInt();
+        this.lbs = new IStateInt[l];
+        this.ubs = new IStateInt[l];
+        this.J = new int[l];
+        for (int i = 0; i < l; i++) {
+            lbs[i] = environment.makeInt();
+            ubs[i] = environment.makeInt();
+        }
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        // both sums of bounds are maintained, to detect entailment
+        return o == Operator.NQ ? IntEventType.instantiation() : IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        boolean full = PropagatorEventType.isFullPropagation(evtmask);
+        filter();
+        synchronize(full);
+    }
+
+    @Override
+    protected void prepare() {
+        super.prepare();
+        System.arraycopy(I, 0, J, 0, l);
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        record(idxVarInProp);
+        if (doFilter()) {
+            forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+        }
+    }
+
+    /**
+     * Store the contribution of the variable at position <i>i</i> and maintain the sums of bounds
+     */
+    private void record(int i) {
+        int lb, ub;
+        if (i < pos) {
+            lb = vars[i].getLB() * c[i];
+            ub = vars[i].getUB() * c[i];
+        } else {
+            lb = vars[i].getUB() * c[i];
+            ub = vars[i].getLB() * c[i];
+        }
+        int olb = lbs[i].get();
+        if (olb != lb) {
+            bLB.add(lb - olb);
+            lbs[i].set(lb);
+        }
+        int oub = ubs[i].get();
+        if (oub != ub) {
+            bUB.add(ub - oub);
+            ubs[i].set(ub);
+        }
+    }
+
+    /**
+     * @return <i>true</i> if the filtering algorithm may either prune a bound or detect a failure
+     */
+    private boolean doFilter() {
+        long F = b - bLB.get();
+        long E = bUB.get() - b;
+        int mI = bMaxI.get();
+        switch (o) {
+            case LE:
+                return F < mI || E <= 0;
+            case GE:
+                return E < mI || F <= 0;
+            case NQ:
+                return true;
+            default:
+                return F < mI || E < mI;
+        }
+    }
+
+    /**
+     * Record the contributions of the variables modified by the filtering algorithm,
+     * since this propagator is not informed of its own modifications, and the exact maximal variability.
+     *
+     * @param all set to <i>true</i> to record the contributions of all variables
+     */
+    private void synchronize(boolean all) {
+        int mI = 0;
+        for (int i = 0; i < l; i++) {
+            if (all || I[i] != J[i]) {
+                record(i);
+            }
+            if (mI < I[i]) mI = I[i];
+        }
+        bMaxI.set(mI);
+    }
+
+    @Override
+    protected PropSum opposite(){
+        return new PropScalarIncr(vars, c, pos, nop(o), b + nb(o));
+    }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropScalarIncr duplicate(Duplicator duplicator) {
+        return new PropScalarIncr(duplicator.get(vars), c, pos, o, b);
+    }
+}
@@ -13,6 +13,7 @@ import static org.chocosolver.solver.constraints.Operator.EQ;
 import static org.chocosolver.solver.constraints.Operator.GE;
 import static org.chocosolver.solver.constraints.Operator.LE;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -708,4 +709,14 @@ public class PropSum extends Propagator<IntVar> {
     protected PropSum opposite(){
         return new PropSum(vars, pos, nop(o), b + nb(o));
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropSum duplicate(Duplicator duplicator) {
+        return new PropSum(duplicator.get(vars), pos, o, b, priority, reactToFineEvt);
+    }
 }
@@ -12,6 +12,7 @@ package org.chocosolver.solver.constraints.nary.sum;
 import static org.chocosolver.solver.constraints.PropagatorPriority.BINARY;
 import static org.chocosolver.util.tools.ArrayUtils.concat;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
@@ -258,4 +259,18 @@ public class PropSumBool extends PropSum {
         System.arraycopy(vars, 0, bvars, 0, bvars.length);
         return new PropSumBool(bvars, pos, nop(o), vars[vars.length-1], b + nb(o), reactToFineEvt);
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropSumBool duplicate(Duplicator duplicator) {
+        BoolVar[] bvars = new BoolVar[l - 1];
+        for (int i = 0; i < bvars.length; i++) {
+            bvars[i] = duplicator.get((BoolVar) vars[i]);
+        }
+        return new PropSumBool(bvars, pos, o, duplicator.get(sum), b, reactToFineEvt);
+    }
 }
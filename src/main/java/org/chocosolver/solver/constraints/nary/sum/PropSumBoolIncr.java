@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.nary.sum;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
@@ -135,4 +136,17 @@ public class PropSumBoolIncr extends PropSumBool {
         return new PropSumBoolIncr(bvars, pos, nop(o), vars[vars.length-1], b + nb(o));
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropSumBoolIncr duplicate(Duplicator duplicator) {
+        BoolVar[] bvars = new BoolVar[l - 1];
+        for (int i = 0; i < bvars.length; i++) {
+            bvars[i] = duplicator.get((BoolVar) vars[i]);
+        }
+        return new PropSumBoolIncr(bvars, pos, o, duplicator.get(sum), b);
+    }
 }
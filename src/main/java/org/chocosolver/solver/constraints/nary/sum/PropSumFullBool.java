@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -203,4 +204,18 @@ public class PropSumFullBool extends PropSum {
         System.arraycopy(vars, 0, bvars, 0, bvars.length);
         return new PropSumFullBool(bvars, pos, nop(o), b, reactToFineEvt);
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropSumFullBool duplicate(Duplicator duplicator) {
+        BoolVar[] bvars = new BoolVar[l];
+        for (int i = 0; i < bvars.length; i++) {
+            bvars[i] = duplicator.get((BoolVar) vars[i]);
+        }
+        return new PropSumFullBool(bvars, pos, o, b, reactToFineEvt);
+    }
 }
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.nary.sum;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
@@ -133,4 +134,17 @@ public class PropSumFullBoolIncr extends PropSumFullBool {
         return new PropSumFullBoolIncr(bvars, pos, nop(o), b + nb(o));
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropSumFullBoolIncr duplicate(Duplicator duplicator) {
+        BoolVar[] bvars = new BoolVar[l];
+        for (int i = 0; i < bvars.length; i++) {
+            bvars[i] = duplicator.get((BoolVar) vars[i]);
+        }
+        return new PropSumFullBoolIncr(bvars, pos, o, b);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Propagator;
@@ -43,4 +44,14 @@ public class SumConstraint extends Constraint {
         } else
             return super.makeOpposite();
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return arePropagatorsDuplicable();
+    }
+
+    @Override
+    public SumConstraint duplicate(Duplicator duplicator) {
+        return new SumConstraint(propagators[0].duplicate(duplicator));
+    }
 }
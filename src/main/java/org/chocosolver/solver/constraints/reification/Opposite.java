@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.reification;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Propagator;
@@ -47,4 +48,14 @@ public class Opposite extends Constraint {
         }
         return new PropOpposite(cons, vars);
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return ((PropOpposite) propagators[0]).original.isDuplicable();
+    }
+
+    @Override
+    public Constraint duplicate(Duplicator duplicator) {
+        return new Opposite(duplicator.get(((PropOpposite) propagators[0]).original));
+    }
 }
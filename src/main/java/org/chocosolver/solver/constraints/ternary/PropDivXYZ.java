@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -366,4 +367,14 @@ public class PropDivXYZ extends Propagator<IntVar> {
         return res;
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropDivXYZ duplicate(Duplicator duplicator) {
+        return new PropDivXYZ(duplicator.get(X), duplicator.get(Y), duplicator.get(Z),
+                duplicator.get(absX), duplicator.get(absY), duplicator.get(absZ));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -176,4 +177,13 @@ public class PropMaxBC extends Propagator<IntVar> {
         return BST.toString() + ".MAX(" + v1.toString() + "," + v2.toString() + ")";
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropMaxBC duplicate(Duplicator duplicator) {
+        return new PropMaxBC(duplicator.get(BST), duplicator.get(v1), duplicator.get(v2));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -176,4 +177,13 @@ public class PropMinBC extends Propagator<IntVar> {
         return BST.toString() + ".MIN(" + v1.toString() + "," + v2.toString() + ")";
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropMinBC duplicate(Duplicator duplicator) {
+        return new PropMinBC(duplicator.get(BST), duplicator.get(v1), duplicator.get(v2));
+    }
 }
@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.ternary;
 
 import static org.chocosolver.util.tools.MathUtils.safeMultiply;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -100,5 +101,13 @@ public class PropTimesNaive extends Propagator<IntVar> {
         return var.updateLowerBound(min, this) | var.updateUpperBound(max, this);
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
 
+    @Override
+    public PropTimesNaive duplicate(Duplicator duplicator) {
+        return new PropTimesNaive(duplicator.get(v0), duplicator.get(v1), duplicator.get(v2));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -215,4 +216,14 @@ public class PropXplusYeqZ extends Propagator<IntVar> {
             Propagator.defaultExplain(this, explanation, front, ig, p);
         }
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropXplusYeqZ duplicate(Duplicator duplicator) {
+        return new PropXplusYeqZ(duplicator.get(vars[0]), duplicator.get(vars[1]), duplicator.get(vars[2]), !allbounded);
+    }
 }
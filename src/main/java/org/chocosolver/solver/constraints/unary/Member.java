@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Propagator;
@@ -54,4 +55,14 @@ public class Member extends Constraint {
             return new NotMember(var, values);
         }
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return arePropagatorsDuplicable();
+    }
+
+    @Override
+    public Member duplicate(Duplicator duplicator) {
+        return new Member(duplicator.get(var), lb, ub, values, propagators[0].duplicate(duplicator));
+    }
 }
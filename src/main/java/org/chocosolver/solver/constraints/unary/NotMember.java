@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Propagator;
@@ -53,4 +54,14 @@ public class NotMember extends Constraint {
             return new Member(var, values);
         }
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return arePropagatorsDuplicable();
+    }
+
+    @Override
+    public NotMember duplicate(Duplicator duplicator) {
+        return new NotMember(duplicator.get(var), lb, ub, values, propagators[0].duplicate(duplicator));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -92,4 +93,13 @@ public class PropLessOrEqualXC extends Propagator<IntVar> {
         return vars[0].getName() + " <= " + constant;
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropLessOrEqualXC duplicate(Duplicator duplicator) {
+        return new PropLessOrEqualXC(duplicator.get(vars[0]), constant);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -104,4 +105,14 @@ public class PropMember extends Propagator<IntVar> {
     public String toString() {
         return vars[0].getName() + " \u2208 " + range;
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropMember duplicate(Duplicator duplicator) {
+        return new PropMember(duplicator.get(vars[0]), range);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -85,4 +86,13 @@ public class PropNotEqualXC extends Propagator<IntVar> {
         return vars[0].getName() + " =/= " + constant;
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public PropNotEqualXC duplicate(Duplicator duplicator) {
+        return new PropNotEqualXC(duplicator.get(vars[0]), constant);
+    }
 }
@@ -0,0 +1,457 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A set of mutually non-dominated points, stored in an ND-tree, each of them being associated with a payload.
+ * <p>
+ * Points are integer vectors to be <b>maximized</b>: a point <i>a</i> weakly dominates a point <i>b</i>
+ * if <i>a<sub>i</sub></i> &ge; <i>b<sub>i</sub></i> for each dimension <i>i</i>.
+ * Each node of the tree maintains the componentwise maximum (ideal) and minimum (nadir) of the points below it,
+ * which allows to discard or accept whole subtrees during dominance queries,
+ * which are thus sub-linear in practice.
+ * </p>
+ * <p>
+ * See: "ND-Tree-based update: a fast algorithm for the dynamic non-dominance problem",
+ * A. Jaszkiewicz and T. Lust, IEEE Transactions on Evolutionary Computation, 2018.
+ * </p>
+ *
+ * @param <E> type of payload
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ParetoArchive<E> {
+
+    /**
+     * Number of dimensions
+     */
+    private final int d;
+    /**
+     * Maximum number of points in a leaf
+     */
+    private final int maxLeafSize;
+    /**
+     * Number of children created when splitting a leaf
+     */
+    private final int nbChildren;
+    /**
+     * Root of the tree, <i>null</i> when the archive is empty
+     */
+    private Node root;
+    /**
+     * Number of points
+     */
+    private int size;
+
+    /**
+     * A node of the tree, either a leaf storing points or an internal node
+     */
+    private final class Node {
+        final int[] ideal = new int[d];
+        final int[] nadir = new int[d];
+        List<Node> children;
+        List<int[]> points;
+        List<E> payloads;
+
+        Node() {
+            points = new ArrayList<>();
+            payloads = new ArrayList<>();
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+
+        boolean isEmpty() {
+            return isLeaf() ? points.isEmpty() : children.isEmpty();
+        }
+
+        void extend(int[] p, boolean first) {
+            for (int i = 0; i < d; i++) {
+                if (first || p[i] > ideal[i]) ideal[i] = p[i];
+                if (first || p[i] < nadir[i]) nadir[i] = p[i];
+            }
+        }
+
+        /**
+         * Recompute exact bounds, from points or children
+         */
+        void tighten() {
+            boolean first = true;
+            if (isLeaf()) {
+                for (int[] p : points) {
+                    extend(p, first);
+                    first = false;
+                }
+            } else {
+                for (Node c : children) {
+                    for (int i = 0; i < d; i++) {
+                        if (first || c.ideal[i] > ideal[i]) ideal[i] = c.ideal[i];
+                        if (first || c.nadir[i] < nadir[i]) nadir[i] = c.nadir[i];
+                    }
+                    first = false;
+                }
+            }
+        }
+
+        long distance(int[] p) {
+            long dist = 0;
+            for (int i = 0; i < d; i++) {
+                long m = ((long) ideal[i] + nadir[i]) / 2 - p[i];
+                dist += m * m;
+            }
+            return dist;
+        }
+    }
+
+    /**
+     * Create an empty archive of points of <i>d</i> dimensions
+     *
+     * @param d number of dimensions
+     */
+    public ParetoArchive(int d) {
+        this(d, 20, d + 1);
+    }
+
+    /**
+     * Create an empty archive of points of <i>d</i> dimensions
+     *
+     * @param d           number of dimensions
+     * @param maxLeafSize maximum number of points in a leaf
+     * @param nbChildren  number of children created when splitting a leaf
+     */
+    public ParetoArchive(int d, int maxLeafSize, int nbChildren) {
+        if (d < 1 || maxLeafSize < 1 || nbChildren < 2) {
+            throw new IllegalArgumentException("Wrong parameters for a Pareto archive");
+        }
+        this.d = d;
+        this.maxLeafSize = maxLeafSize;
+        this.nbChildren = nbChildren;
+    }
+
+    /**
+     * @return number of points in this archive
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <i>true</i> if this archive is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all points
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * @param p a point
+     * @return <i>true</i> if <i>p</i> is weakly dominated by a point of this archive
+     */
+    public boolean isDominated(int[] p) {
+        return root != null && isDominated(root, p);
+    }
+
+    private boolean isDominated(Node node, int[] p) {
+        if (!geq(node.ideal, p)) {
+            return false;
+        }
+        if (geq(node.nadir, p)) {
+            return true;
+        }
+        if (node.isLeaf()) {
+            for (int[] a : node.points) {
+                if (geq(a, p)) {
+                    return true;
+                }
+            }
+        } else {
+            for (Node c : node.children) {
+                if (isDominated(c, p)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Add <i>p</i> to this archive, unless it is strictly dominated by a point of the archive.
+     * Points weakly dominated by <i>p</i> (including those equal to <i>p</i>) are removed first.
+     *
+     * @param p       a point, must not be modified afterwards
+     * @param payload the data associated with <i>p</i>
+     * @return <i>true</i> if <i>p</i> has been added
+     */
+    public boolean add(int[] p, E payload) {
+        if (p.length != d) {
+            throw new IllegalArgumentException("Wrong dimension: " + p.length + ", expected: " + d);
+        }
+        if (root != null) {
+            removeDominatedBy(root, p);
+            if (root.isEmpty()) {
+                root = null;
+            } else if (isDominated(root, p)) {
+                return false;
+            }
+        }
+        if (root == null) {
+            root = new Node();
+        }
+        insert(root, p, payload);
+        size++;
+        return true;
+    }
+
+    private void removeDominatedBy(Node node, int[] p) {
+        if (!geq(p, node.nadir)) {
+            return;
+        }
+        if (node.isLeaf()) {
+            for (int k = node.points.size() - 1; k >= 0; k--) {
+                if (geq(p, node.points.get(k))) {
+                    removeAt(node, k);
+                }
+            }
+        } else {
+            for (int k = node.children.size() - 1; k >= 0; k--) {
+                Node c = node.children.get(k);
+                if (geq(p, c.ideal)) {
+                    size -= count(c);
+                    node.children.remove(k);
+                } else {
+                    removeDominatedBy(c, p);
+                    if (c.isEmpty()) {
+                        node.children.remove(k);
+                    }
+                }
+            }
+            if (node.children.size() == 1) {
+                // collapse
+                Node c = node.children.get(0);
+                node.children = c.children;
+                node.points = c.points;
+                node.payloads = c.payloads;
+            }
+        }
+        if (!node.isEmpty()) {
+            node.tighten();
+        }
+    }
+
+    private void removeAt(Node leaf, int k) {
+        int last = leaf.points.size() - 1;
+        leaf.points.set(k, leaf.points.get(last));
+        leaf.payloads.set(k, leaf.payloads.get(last));
+        leaf.points.remove(last);
+        leaf.payloads.remove(last);
+        size--;
+    }
+
+    private int count(Node node) {
+        if (node.isLeaf()) {
+            return node.points.size();
+        }
+        int c = 0;
+        for (Node n : node.children) {
+            c += count(n);
+        }
+        return c;
+    }
+
+    private void insert(Node node, int[] p, E payload) {
+        node.extend(p, node.isEmpty());
+        while (!node.isLeaf()) {
+            Node best = node.children.get(0);
+            long bd = best.distance(p);
+            for (int k = 1; k < node.children.size(); k++) {
+                Node c = node.children.get(k);
+                long cd = c.distance(p);
+                if (cd < bd) {
+                    bd = cd;
+                    best = c;
+                }
+            }
+            node = best;
+            node.extend(p, false);
+        }
+        node.points.add(p);
+        node.payloads.add(payload);
+        if (node.points.size() > maxLeafSize) {
+            split(node);
+        }
+    }
+
+    /**
+     * Split a leaf in {@link #nbChildren} leaves: seeds are selected in a farthest-first manner,
+     * then the other points are assigned to the closest leaf.
+     */
+    private void split(Node leaf) {
+        List<int[]> points = leaf.points;
+        List<E> payloads = leaf.payloads;
+        int n = points.size();
+        boolean[] seeded = new boolean[n];
+        long[] dmin = new long[n];
+        List<Node> children = new ArrayList<>(nbChildren);
+        int s = 0;
+        for (int c = 0; c < nbChildren && c < n; c++) {
+            seeded[s] = true;
+            Node child = new Node();
+            child.extend(points.get(s), true);
+            child.points.add(points.get(s));
+            child.payloads.add(payloads.get(s));
+            children.add(child);
+            int next = -1;
+            for (int k = 0; k < n; k++) {
+                if (!seeded[k]) {
+                    long dist = sqdist(points.get(k), points.get(s));
+                    if (c == 0 || dist < dmin[k]) dmin[k] = dist;
+                    if (next == -1 || dmin[k] > dmin[next]) next = k;
+                }
+            }
+            if (next == -1) break;
+            s = next;
+        }
+        for (int k = 0; k < n; k++) {
+            if (!seeded[k]) {
+                int[] p = points.get(k);
+                Node best = children.get(0);
+                long bd = best.distance(p);
+                for (int c = 1; c < children.size(); c++) {
+                    long cd = children.get(c).distance(p);
+                    if (cd < bd) {
+                        bd = cd;
+                        best = children.get(c);
+                    }
+                }
+                best.extend(p, false);
+                best.points.add(p);
+                best.payloads.add(payloads.get(k));
+            }
+        }
+        leaf.points = null;
+        leaf.payloads = null;
+        leaf.children = children;
+    }
+
+    /**
+     * Compute the maximum value of the <i>i</i><sup>th</sup> coordinate of the points <i>a</i>
+     * such that <i>a<sub>j</sub></i> &ge; <i>lower<sub>j</sub></i> for each <i>j</i> &ne; <i>i</i>.
+     * For a point <i>x</i> not to be weakly dominated and to be below <i>lower</i> on each dimension but <i>i</i>,
+     * <i>x<sub>i</sub></i> should then be strictly greater than the returned value.
+     *
+     * @param i     a dimension
+     * @param lower a point
+     * @return the maximum value, or {@link Integer#MIN_VALUE} if no point matches
+     */
+    public int maxOver(int i, int[] lower) {
+        return root == null ? Integer.MIN_VALUE : maxOver(root, i, lower, Integer.MIN_VALUE);
+    }
+
+    private int maxOver(Node node, int i, int[] lower, int best) {
+        if (node.ideal[i] <= best) {
+            return best;
+        }
+        boolean all = true;
+        for (int j = 0; j < d; j++) {
+            if (j != i) {
+                if (node.ideal[j] < lower[j]) {
+                    return best;
+                }
+                all &= node.nadir[j] >= lower[j];
+            }
+        }
+        if (all) {
+            return node.ideal[i];
+        }
+        if (node.isLeaf()) {
+            for (int[] a : node.points) {
+                if (a[i] > best && geqButOne(a, lower, i)) {
+                    best = a[i];
+                }
+            }
+        } else {
+            for (Node c : node.children) {
+                best = maxOver(c, i, lower, best);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Apply <i>action</i> to each point of this archive and its payload
+     *
+     * @param action an action
+     */
+    public void forEach(BiConsumer<int[], E> action) {
+        if (root != null) {
+            forEach(root, action);
+        }
+    }
+
+    private void forEach(Node node, BiConsumer<int[], E> action) {
+        if (node.isLeaf()) {
+            for (int k = 0; k < node.points.size(); k++) {
+                action.accept(node.points.get(k), node.payloads.get(k));
+            }
+        } else {
+            for (Node c : node.children) {
+                forEach(c, action);
+            }
+        }
+    }
+
+    /**
+     * @return the payloads of the points of this archive
+     */
+    public List<E> getPayloads() {
+        List<E> list = new ArrayList<>(size);
+        forEach((p, e) -> list.add(e));
+        return list;
+    }
+
+    private boolean geq(int[] a, int[] b) {
+        for (int i = 0; i < d; i++) {
+            if (a[i] < b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean geqButOne(int[] a, int[] b, int i) {
+        for (int j = 0; j < d; j++) {
+            if (j != i && a[j] < b[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long sqdist(int[] a, int[] b) {
+        long dist = 0;
+        for (int i = 0; i < d; i++) {
+            long m = (long) a[i] - b[i];
+            dist += m * m;
+        }
+        return dist;
+    }
+}
@@ -9,19 +9,26 @@
  */
 package org.chocosolver.solver.objective;
 
-import org.chocosolver.sat.PropSat;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
-import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.PropParetoDominance;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Class to store the pareto front (multi-objective optimization).
  * Worse solutions are dynamically removed from the solution set.
+ * <p>
+ * The front is stored in a {@link ParetoArchive} and a single {@link PropParetoDominance} propagator
+ * prevents search from computing dominated solutions.
+ * When the model only declares integer variables, front members are stored as plain arrays of values,
+ * {@link Solution} objects are only built when {@link #getParetoFront()} is called.
+ * </p>
  *
  * @author Jean-Guillaume Fages
  */
@@ -31,22 +38,28 @@ public class ParetoOptimizer implements IMonitorSolution {
     // VARIABLES
     //***********************************************************************************
 
-    // Set of incomparable and Pareto-best solutions
-    private LinkedList<Solution> paretoFront;
+    /** Value stored for a variable not instantiated in a solution */
+    private static final int NO_ENTRY = Integer.MAX_VALUE;
+
+    // Set of incomparable and Pareto-best solutions, objective values are expressed for maximization
+    private final ParetoArchive<Object> archive;
 
     private Model model;
 
-    // Allow to recycle (dominated) Solution objects
-    private LinkedList<Solution> pool = new LinkedList<>();
+    // Variables recorded in an array of values, when the model only declares integer variables
+    private IntVar[] recorded;
+
+    // Pareto front, built on demand
+    private List<Solution> paretoFront;
 
     // objective function
     private boolean maximize;
     private IntVar[] objectives;
     private int n;
 
-    // to post dynamical constraints
-    private int[] vals, lits;
-    private PropSat psat;
+    // to prevent search from computing dominated solutions
+    private PropParetoDominance dominance;
+    private Constraint constraint;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -54,8 +67,9 @@ public class ParetoOptimizer implements IMonitorSolution {
 
 	/**
      * Create an object to compute the Pareto front of a multi-objective problem.
-     * Maintain the set of dominating solutions and
-     * posts constraints dynamically to prevent search from computing dominated ones.
+     * Maintain the set of dominating solutions.
+     * The constraint preventing search from computing dominated ones is posted on the first solution,
+     * or earlier by calling {@link #post()}.
      * This object must be used as follows:
      *
    	 *     model.getSolver().plugMonitor(paretoRecorder);
@@ -69,14 +83,24 @@ public class ParetoOptimizer implements IMonitorSolution {
      * @param objectives objective variables (must all be optimized in the same direction)
      */
     public ParetoOptimizer(final boolean maximize, final IntVar[] objectives) {
-        this.paretoFront = new LinkedList<>();
         this.objectives = objectives.clone();
         this.maximize = maximize;
         n = objectives.length;
         model = objectives[0].getModel();
-        psat = model.getMinisat().getPropSat();
-        vals = new int[n];
-        lits = new int[n];
+        archive = new ParetoArchive<>(n);
+        dominance = new PropParetoDominance(this.objectives, maximize, archive);
+        constraint = new Constraint("PARETO", dominance);
+    }
+
+    /**
+     * Post the constraint which prevents search from computing solutions dominated by the Pareto front.
+     * Calling this method is optional: the constraint is otherwise posted on the first solution.
+     * It has no effect when the constraint is already posted.
+     */
+    public void post() {
+        if (constraint.getStatus() == Constraint.Status.FREE) {
+            constraint.post();
+        }
     }
 
     //***********************************************************************************
@@ -86,49 +110,62 @@ public class ParetoOptimizer implements IMonitorSolution {
     @Override
     public void onSolution() {
         // get objective values
+        int[] vals = new int[n];
         for (int i = 0; i < n; i++) {
-            vals[i] = objectives[i].getValue();
+            vals[i] = maximize ? objectives[i].getValue() : -objectives[i].getValue();
         }
-        // remove dominated solutions
-        for (int i = paretoFront.size() - 1; i >= 0; i--) {
-            if (isDominated(paretoFront.get(i), vals)) {
-                pool.add(paretoFront.remove(i));
-            }
-        }
-        // store current solution
-        if(pool.isEmpty()){
-            paretoFront.add(new Solution(model).record());
-        }else{
-            Solution solution = pool.remove();
-
-            solution.record();
-            paretoFront.add(solution);
-        }
-        // post dynamical constraints to prevent search from computing dominated solutions
-        Operator symbol = Operator.GT;
-        if (!maximize) {
-            symbol = Operator.LT;
-        }
-        for (int i = 0; i < n; i++) {
-            lits[i] = psat.makeLiteral(model.arithm(objectives[i], symbol.toString(), vals[i]).reify(), true);
+        // store current solution, dominated ones are removed
+        if (archive.add(vals, record())) {
+            paretoFront = null;
         }
-        psat.addLearnt(lits);
+        // prevent search from computing dominated solutions
+        post();
+        dominance.onArchiveUpdate();
     }
 
 	/**
      * @return the set of Pareto-best (possibly optimal) solutions found so far
      */
     public List<Solution> getParetoFront() {
-   		return paretoFront;
+        if (paretoFront == null) {
+            paretoFront = new ArrayList<>(archive.size());
+            archive.forEach((vals, sol) -> paretoFront.add(toSolution(sol)));
+        }
+        return paretoFront;
    	}
 
-    private boolean isDominated(Solution solution, int[] vals) {
-        for (int i = 0; i < n; i++) {
-            int delta = solution.getIntVal(objectives[i]) - vals[i];
-            if ((delta > 0 && maximize) || (delta < 0 && !maximize)) {
-                return false;
+    /**
+     * @return the archive storing the Pareto front, objective values being expressed for maximization
+     */
+    public ParetoArchive<?> getArchive() {
+        return archive;
+    }
+
+    private Object record() {
+        if (recorded == null) {
+            recorded = model.retrieveIntVars(true);
+        }
+        if (recorded.length == model.getNbVars()) {
+            int[] values = new int[recorded.length];
+            for (int k = 0; k < recorded.length; k++) {
+                values[k] = recorded[k].isInstantiated() ? recorded[k].getValue() : NO_ENTRY;
+            }
+            return values;
+        }
+        return new Solution(model).record();
+    }
+
+    private Solution toSolution(Object member) {
+        if (member instanceof Solution) {
+            return (Solution) member;
+        }
+        int[] values = (int[]) member;
+        Solution solution = new Solution(model, (Variable[]) recorded);
+        for (int k = 0; k < values.length; k++) {
+            if (values[k] != NO_ENTRY) {
+                solution.setIntVal(recorded[k], values[k]);
             }
         }
-        return true;
+        return solution;
     }
 }
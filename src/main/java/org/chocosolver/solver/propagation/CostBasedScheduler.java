@@ -0,0 +1,164 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.constraints.Propagator;
+
+import java.util.Arrays;
+
+/**
+ * A scheduling policy which executes first the propagators expected to be the cheapest.
+ * <p>
+ * The expected cost of a propagator is the moving average of its measured execution times
+ * (or, when it has never been executed, an estimation based on its static priority),
+ * weighted by the ratio between its dynamic priority ({@link Propagator#dynPriority()}) and its static one.
+ * Hence, cheap propagators reach their fix point before expensive ones are executed.
+ * Propagators of equal cost are executed in the order they are scheduled.
+ * </p>
+ * Propagators are stored in a binary heap: scheduling and polling are made in O(log n).
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+public class CostBasedScheduler implements PropagationScheduler {
+
+    /**
+     * Weight of the last measure in the moving average of execution times
+     */
+    private static final double ALPHA = .25;
+    /**
+     * Heap of propagators awaiting execution
+     */
+    private Propagator[] heap = new Propagator[16];
+    /**
+     * Cost of the propagators in {@link #heap}
+     */
+    private double[] costs = new double[16];
+    /**
+     * Scheduling stamp of the propagators in {@link #heap}, to break ties
+     */
+    private long[] stamps = new long[16];
+    /**
+     * Number of propagators in {@link #heap}
+     */
+    private int size;
+    /**
+     * Next scheduling stamp
+     */
+    private long stamp;
+    /**
+     * Moving average of execution times, in nanoseconds, indexed by propagator's id (0 if unknown)
+     */
+    private double[] averages = new double[16];
+
+    @Override
+    public void schedule(Propagator propagator) {
+        if (size == heap.length) {
+            int nsize = size * 3 / 2 + 1;
+            heap = Arrays.copyOf(heap, nsize);
+            costs = Arrays.copyOf(costs, nsize);
+            stamps = Arrays.copyOf(stamps, nsize);
+        }
+        int i = size++;
+        double c = cost(propagator);
+        long s = stamp++;
+        // sift up
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (!lower(c, s, costs[p], stamps[p])) {
+                break;
+            }
+            move(p, i);
+            i = p;
+        }
+        heap[i] = propagator;
+        costs[i] = c;
+        stamps[i] = s;
+    }
+
+    @Override
+    public Propagator pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+        Propagator first = heap[0];
+        int n = --size;
+        if (n > 0) {
+            Propagator e = heap[n];
+            double c = costs[n];
+            long s = stamps[n];
+            // sift down
+            int i = 0;
+            int half = n >>> 1;
+            while (i < half) {
+                int l = 2 * i + 1;
+                int r = l + 1;
+                if (r < n && lower(costs[r], stamps[r], costs[l], stamps[l])) {
+                    l = r;
+                }
+                if (!lower(costs[l], stamps[l], c, s)) {
+                    break;
+                }
+                move(l, i);
+                i = l;
+            }
+            heap[i] = e;
+            costs[i] = c;
+            stamps[i] = s;
+        }
+        heap[n] = null;
+        return first;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean isTimed() {
+        return true;
+    }
+
+    @Override
+    public void onExecution(Propagator propagator, long duration) {
+        int id = propagator.getId();
+        if (id >= averages.length) {
+            averages = Arrays.copyOf(averages, Math.max(id + 1, averages.length * 3 / 2));
+        }
+        double avg = averages[id];
+        averages[id] = avg == 0 ? duration + 1 : avg + ALPHA * (duration - avg);
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return the expected cost of executing <i>propagator</i>
+     */
+    private double cost(Propagator propagator) {
+        int id = propagator.getId();
+        int prio = propagator.getPriority().priority;
+        double avg = id < averages.length ? averages[id] : 0;
+        if (avg == 0) {
+            // never executed: 200ns for unary propagators, doubled for each priority level
+            avg = 100d * (1 << prio);
+        }
+        return avg * propagator.dynPriority() / prio;
+    }
+
+    private static boolean lower(double c1, long s1, double c2, long s2) {
+        return c1 < c2 || (c1 == c2 && s1 < s2);
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        costs[to] = costs[from];
+        stamps[to] = stamps[from];
+    }
+}
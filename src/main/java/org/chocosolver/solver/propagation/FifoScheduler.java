@@ -0,0 +1,42 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.util.objects.queues.CircularQueue;
+
+/**
+ * A scheduling policy which ignores priorities: propagators are executed in the order they are scheduled.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+public class FifoScheduler implements PropagationScheduler {
+
+    /**
+     * Propagators awaiting execution
+     */
+    private final CircularQueue<Propagator> queue = new CircularQueue<>(16);
+
+    @Override
+    public void schedule(Propagator propagator) {
+        queue.addLast(propagator);
+    }
+
+    @Override
+    public Propagator pollFirst() {
+        return queue.isEmpty() ? null : queue.pollFirst();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.util.objects.queues.CircularQueue;
+
+import java.util.function.Predicate;
+
+/**
+ * A scheduling policy made of two FIFO queues.
+ * Propagators declared as idempotent, that is reaching their own fix point in one execution,
+ * are executed first.
+ * The other ones are only executed once no idempotent propagator is pending.
+ * <br/>
+ * By default, unary and binary propagators are considered as idempotent.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+public class IdempotentFirstScheduler implements PropagationScheduler {
+
+    /**
+     * Idempotent propagators awaiting execution
+     */
+    private final CircularQueue<Propagator> first = new CircularQueue<>(16);
+    /**
+     * Other propagators awaiting execution
+     */
+    private final CircularQueue<Propagator> last = new CircularQueue<>(16);
+    /**
+     * To decide whether a propagator is idempotent
+     */
+    private final Predicate<Propagator> idempotent;
+
+    /**
+     * Create a scheduler where unary and binary propagators are considered as idempotent
+     */
+    public IdempotentFirstScheduler() {
+        this(p -> p.getPriority().priority <= PropagatorPriority.BINARY.priority);
+    }
+
+    /**
+     * Create a scheduler where propagators satisfying <i>idempotent</i> are executed first
+     *
+     * @param idempotent returns <i>true</i> for propagators which are idempotent
+     */
+    public IdempotentFirstScheduler(Predicate<Propagator> idempotent) {
+        this.idempotent = idempotent;
+    }
+
+    @Override
+    public void schedule(Propagator propagator) {
+        if (idempotent.test(propagator)) {
+            first.addLast(propagator);
+        } else {
+            last.addLast(propagator);
+        }
+    }
+
+    @Override
+    public Propagator pollFirst() {
+        if (!first.isEmpty()) {
+            return first.pollFirst();
+        }
+        return last.isEmpty() ? null : last.pollFirst();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return first.isEmpty() && last.isEmpty();
+    }
+}
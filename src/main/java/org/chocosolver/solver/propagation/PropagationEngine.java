@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.propagation;
 
+import gnu.trove.map.hash.TIntIntHashMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
@@ -22,14 +23,16 @@ import org.chocosolver.util.iterators.EvtScheduler;
 import org.chocosolver.util.objects.queues.CircularQueue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 
 /**
- * This engine is priority-driven constraint-oriented seven queues engine.
- * <br/>On a call to {@code onVariableUpdate}, it stores the event generated and schedules the propagator in
- * one of the 7 queues wrt to its priority for future revision.
+ * This engine is a constraint-oriented engine.
+ * <br/>On a call to {@code onVariableUpdate}, it stores the event generated and hands over the propagator to
+ * a {@link PropagationScheduler} for future revision.
+ * By default, the scheduler is made of seven queues, one per propagator priority (see {@link SevenQueuesScheduler}).
  * <p>
  * <br/>
  *
@@ -41,10 +44,6 @@ public class PropagationEngine {
     @SuppressWarnings("WeakerAccess")
     public static boolean CHECK_SCOPE = false;
 
-    /**
-     * Mask to deal with emptiness (see {@link #notEmpty})
-     */
-    private static final int WORD_MASK = 0xffffffff;
     /**
      * The model declaring this engine
      */
@@ -58,10 +57,21 @@ public class PropagationEngine {
      */
     private final DynPropagators dynPropagators;
     /**
-     * The main structure of this engine: seven circular queues,
-     * each of them is dedicated to store propagator to execute wrt their priority.
+     * The main structure of this engine: it stores propagators to execute and decides their order.
      */
-    private final CircularQueue<Propagator>[] pro_queue;
+    private final PropagationScheduler scheduler;
+    /**
+     * Set to <tt>true</tt> if the scheduler requires execution times of propagators
+     */
+    private final boolean timed;
+    /**
+     * Records statistics of propagators, <tt>null</tt> unless profiling is enabled
+     */
+    private PropagationProfiler profiler;
+    /**
+     * Coarse revision of a propagator polled from the scheduler, when it has to be measured
+     */
+    private final Execution revision = this::revise;
 
     private final CircularQueue<Variable> var_queue;
 
@@ -70,10 +80,6 @@ public class PropagationEngine {
      * The last propagator executed
      */
     private Propagator lastProp;
-    /**
-     * One bit per queue: true if the queue is not empty.
-     */
-    private int notEmpty;
     /**
      * PropagatorEventType's mask for delayed propagation
      */
@@ -91,19 +97,23 @@ public class PropagationEngine {
     private final byte hybrid;
 
     /**
-     * A seven-queue propagation engine.
-     * Each of the seven queues deals with on priority.
-     * When a propagator needs to be executed, it is scheduled in the queue corresponding to its priority.
-     * The lowest priority queue is emptied before one element of the second lowest queue is popped, etc.
+     * A propagation engine whose scheduling policy is given by the settings of <i>model</i>
+     * (see {@link org.chocosolver.solver.Settings#makePropagationScheduler(Model)}).
      * @param model the declaring model
      */
     public PropagationEngine(Model model) {
+        this(model, model.getSettings().makePropagationScheduler(model));
+    }
+
+    /**
+     * A propagation engine relying on <i>scheduler</i> to order propagators to execute.
+     * @param model the declaring model
+     * @param scheduler the scheduling policy
+     */
+    public PropagationEngine(Model model, PropagationScheduler scheduler) {
         this.model = model;
-        //noinspection unchecked
-        this.pro_queue = new CircularQueue[8];
-        for (int i = 0; i < 8; i++) {
-            pro_queue[i] = new CircularQueue<>(16);
-        }
+        this.scheduler = scheduler;
+        this.timed = scheduler.isTimed();
         this.var_queue = new CircularQueue<>(16);
         this.awake_queue = new CircularQueue<>(16);
         this.dynPropagators = new DynPropagators();
@@ -119,7 +129,6 @@ public class PropagationEngine {
      */
     public void initialize() throws SolverException {
         if (!init) {
-            notEmpty = 0;
             init = true;
             Constraint[] constraints = model.getCstrs();
             for (int c = 0; c < constraints.length; c++) {
@@ -162,30 +171,65 @@ public class PropagationEngine {
         activatePropagators();
         do {
             manageModifications();
-            for (int i = nextNotEmpty(0); i > -1; i = nextNotEmpty(0)) {
-                while (!pro_queue[i].isEmpty()) {
-                    lastProp = pro_queue[i].pollFirst();
-                    // revision of the variable
-                    lastProp.unschedule();
-                    delayedPropagationType = 0;
-                    if (lastProp.reactToFineEvent()) {
-                        lastProp.doFinePropagation();
-                        // now we can check whether a delayed propagation has been scheduled
-                        if (delayedPropagationType > 0) {
-                            lastProp.propagate(delayedPropagationType);
-                        }
-                    } else if (lastProp.isActive()) { // need to be checked due to views
-                        lastProp.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
-                    }
-                    if (hybrid < 0b01) {
-                        manageModifications();
-                    }
+            while ((lastProp = scheduler.pollFirst()) != null) {
+                if (timed || profiler != null) {
+                    measure(lastProp, revision);
+                } else {
+                    revise(lastProp);
+                }
+                if (hybrid < 0b01) {
+                    manageModifications();
                 }
-                notEmpty = notEmpty & ~(1 << i);
             }
         } while (!var_queue.isEmpty());
     }
 
+    /**
+     * Execute <i>propagator</i> with <i>action</i> and inform the scheduler and the profiler of its execution time
+     * @param propagator propagator to execute
+     * @param action how to execute the propagator
+     * @throws ContradictionException if a contradiction occurrs
+     */
+    private void measure(Propagator propagator, Execution action) throws ContradictionException {
+        if (profiler != null) {
+            profiler.beforeExecution(propagator);
+        }
+        boolean failed = true;
+        long start = System.nanoTime();
+        try {
+            action.run(propagator);
+            failed = false;
+        } finally {
+            long duration = System.nanoTime() - start;
+            if (timed) {
+                scheduler.onExecution(propagator, duration);
+            }
+            if (profiler != null) {
+                profiler.afterExecution(propagator, duration, failed);
+            }
+        }
+    }
+
+    /**
+     * Execute a propagator polled from the scheduler
+     * @param propagator propagator to execute
+     * @throws ContradictionException if a contradiction occurrs
+     */
+    private void revise(Propagator propagator) throws ContradictionException {
+        // revision of the variable
+        propagator.unschedule();
+        delayedPropagationType = 0;
+        if (propagator.reactToFineEvent()) {
+            propagator.doFinePropagation();
+            // now we can check whether a delayed propagation has been scheduled
+            if (delayedPropagationType > 0) {
+                propagator.propagate(delayedPropagationType);
+            }
+        } else if (propagator.isActive()) { // need to be checked due to views
+            propagator.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+        }
+    }
+
     /**
      * Checks if some propagators were added or have to be propagated on backtrack
      * @throws ContradictionException if a propagation fails
@@ -209,7 +253,11 @@ public class PropagationEngine {
             propagator.setActive();
         }
         if (propagator.isActive()) {
-            propagator.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+            if (profiler != null) {
+                measure(propagator, p -> p.propagate(PropagatorEventType.FULL_PROPAGATION.getMask()));
+            } else {
+                propagator.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+            }
             while (!var_queue.isEmpty()) {
                 schedule(var_queue.pollFirst());
             }
@@ -224,15 +272,6 @@ public class PropagationEngine {
         }
     }
 
-    private int nextNotEmpty(int fromIndex) {
-        int word = notEmpty & (WORD_MASK << fromIndex);
-        if (word != 0) {
-            return Integer.numberOfTrailingZeros(word);
-        } else {
-            return -1;
-        }
-    }
-
     /**
      * Flush <code>this</code>, ie. remove every pending events
      */
@@ -243,12 +282,9 @@ public class PropagationEngine {
         while (!var_queue.isEmpty()) {
             var_queue.pollLast().clearEvents();
         }
-        for (int i = nextNotEmpty(0); i > -1; i = nextNotEmpty(i + 1)) {
-            while (!pro_queue[i].isEmpty()) {
-                // revision of the variable
-                pro_queue[i].pollLast().doFlush();
-            }
-            notEmpty = notEmpty & ~(1 << i);
+        Propagator p;
+        while ((p = scheduler.pollFirst()) != null) {
+            p.doFlush();
         }
         lastProp = null;
     }
@@ -270,6 +306,9 @@ public class PropagationEngine {
             }
             assert found : variable + " not in scope of " + cause;
         }
+        if (profiler != null && cause instanceof Propagator) {
+            profiler.onFiltering((Propagator) cause);
+        }
         var_queue.addLast(variable);
         variable.storeEvents(type.getMask(), cause);
     }
@@ -300,7 +339,7 @@ public class PropagationEngine {
 
     public void schedule(Propagator prop, int pindice, int mask) {
         prop.doScheduleEvent(pindice, mask);
-        notEmpty = notEmpty | (1 << prop.doSchedule(pro_queue));
+        prop.doSchedule(scheduler);
     }
 
     /**
@@ -348,7 +387,6 @@ public class PropagationEngine {
         dynPropagators.clear();
         awake_queue.clear();
         propagators.clear();
-        notEmpty = 0;
         init = false;
         lastProp = null;
     }
@@ -393,11 +431,7 @@ public class PropagationEngine {
      * @param propagator a propagator
      */
     public void propagateOnBacktrack(Propagator propagator) {
-        int idx = propagator.getPosition();
-        assert propagators.get(idx) == propagator : "Try to remove the wrong propagator";
-        shift(idx);
-        propagators.set(propagators.size() - 1, propagator);
-        propagator.setPosition(propagators.size() - 1);
+        assert propagators.get(propagator.getPosition()) == propagator : "Try to update the wrong propagator";
         dynPropagators.addOrUpdate(propagator);
     }
 
@@ -418,42 +452,90 @@ public class PropagationEngine {
         }
     }
 
+    /**
+     * Remove <i>propagator</i> from {@link #propagators} in constant time,
+     * the last propagator of the list takes its position.
+     * @param propagator propagator to remove
+     */
     private void remove(Propagator propagator) {
         int idx = propagator.getPosition();
         if (idx > -1) {
             assert propagators.get(idx) == propagator : "Try to remove the wrong propagator";
-            // todo: improve
-            shift(idx);
+            Propagator last = propagators.remove(propagators.size() - 1);
+            if (last != propagator) {
+                propagators.set(idx, last);
+                last.setPosition(idx);
+            }
             propagator.setPosition(-1);
-            propagators.remove(propagators.size() - 1);
         }
     }
 
-    private void shift(int from) {
-        for (int i = from; i < propagators.size() - 1; i++) {
-            propagators.set(i, propagators.get(i + 1));
-            propagators.get(i).setPosition(i);
-        }
+    /**
+     * Enable (or disable) the profiling of propagators
+     * @param profiler a profiler, or <tt>null</tt> to disable profiling
+     */
+    public void setProfiler(PropagationProfiler profiler) {
+        this.profiler = profiler;
     }
 
-    private class DynPropagators {
+    /**
+     * @return the profiler of this engine, or <tt>null</tt> if profiling is disabled
+     */
+    public PropagationProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * A propagator execution which may fail
+     */
+    @FunctionalInterface
+    private interface Execution {
+        void run(Propagator propagator) throws ContradictionException;
+    }
+
+    /**
+     * Stores propagators added dynamically or to be propagated on backtrack.
+     * Each propagator is associated with a key, the world index in which it has been propagated for the last time,
+     * and propagators are ordered by increasing keys.
+     * Removal is made lazily, by leaving a hole in the arrays, which are compacted
+     * when holes represent more than the half of the slots.
+     * Thus, addition and removal are made in amortized constant time.
+     */
+    private static class DynPropagators {
 
         private Propagator[] elements;
         private int[] keys;
+        /**
+         * Number of slots in use, including holes
+         */
         private int size;
+        /**
+         * Number of holes
+         */
+        private int holes;
+        /**
+         * Map a propagator's id to its slot
+         */
+        private final TIntIntHashMap slots;
 
         DynPropagators() {
             elements = new Propagator[16];
             keys = new int[16];
             size = 0;
+            holes = 0;
+            slots = new TIntIntHashMap(16, .5f, -1, -1);
         }
 
         public void clear() {
+            Arrays.fill(elements, 0, size, null);
             size = 0;
+            holes = 0;
+            slots.clear();
         }
 
         public void add(Propagator e) {
             ensureCapacity();
+            slots.put(e.getId(), size);
             elements[size] = e;
             keys[size++] = Integer.MAX_VALUE;
         }
@@ -475,34 +557,41 @@ public class PropagationEngine {
         }
 
         public void remove(Propagator e) {
-            int p = indexOf(e);
+            int p = slots.remove(e.getId());
             if (p > -1) {
-                removeAt(p);
-            }
-        }
-
-        private void removeAt(int p){
-            if(p < size - 1) {
-                System.arraycopy(elements, p + 1, elements, p, size - p);
-                System.arraycopy(keys, p + 1, keys, p, size - p);
+                elements[p] = null;
+                if (++holes << 1 > size) {
+                    compact();
+                }
             }
-            elements[--size] = null;
-            keys[size] = 0;
         }
 
-        private int indexOf(Propagator e) {
+        /**
+         * Remove holes, preserving the order of propagators
+         */
+        private void compact() {
+            int j = 0;
             for (int i = 0; i < size; i++) {
-                if (e.equals(elements[i])) {
-                    return i;
+                if (elements[i] != null) {
+                    if (i > j) {
+                        elements[j] = elements[i];
+                        keys[j] = keys[i];
+                        slots.put(elements[j].getId(), j);
+                    }
+                    j++;
                 }
             }
-            return -1;
+            Arrays.fill(elements, j, size, null);
+            size = j;
+            holes = 0;
         }
 
         void descending(int w, Consumer<Propagator> cons) {
             int i = size - 1;
             while (i >= 0 && keys[i] >= w) {
-                cons.accept(elements[i]);
+                if (elements[i] != null) {
+                    cons.accept(elements[i]);
+                }
                 keys[i] = w;
                 i--;
             }
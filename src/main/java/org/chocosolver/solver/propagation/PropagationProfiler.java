@@ -0,0 +1,267 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records, for each propagator executed by a {@link PropagationEngine}, the number of calls,
+ * the cumulative execution time, the number of domain reductions it has triggered,
+ * the number of contradictions it has raised and the number of calls which filtered nothing (wasted calls).
+ * <p>
+ * Profiling is disabled by default, it is enabled with {@link org.chocosolver.solver.Solver#profilePropagation()}.
+ * Records can be aggregated per constraint (see {@link #getRecordsPerConstraint()}) and printed
+ * (see {@link #print(PrintStream, int)}).
+ * </p>
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+public class PropagationProfiler {
+
+    /**
+     * Records indexed by propagator's id
+     */
+    private Record[] records = new Record[16];
+
+    /**
+     * Records in order of creation
+     */
+    private final List<Record> all = new ArrayList<>();
+
+    /**
+     * Statistics of a propagator, or of a set of propagators
+     */
+    public static final class Record {
+        /**
+         * Name of the propagator, or of the constraint
+         */
+        private final String name;
+        /**
+         * Name of the declaring constraint
+         */
+        private final String constraint;
+        private long calls;
+        private long time;
+        private long filterings;
+        private long fails;
+        private long wasted;
+        /**
+         * Number of filterings when the current call started
+         */
+        private long mark;
+
+        private Record(String name, String constraint) {
+            this.name = name;
+            this.constraint = constraint;
+        }
+
+        private void add(Record r) {
+            calls += r.calls;
+            time += r.time;
+            filterings += r.filterings;
+            fails += r.fails;
+            wasted += r.wasted;
+        }
+
+        /**
+         * @return the name of the propagator (or of the constraint when records are aggregated)
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the name of the declaring constraint
+         */
+        public String getConstraint() {
+            return constraint;
+        }
+
+        /**
+         * @return the number of calls
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * @return the cumulative execution time, in nanoseconds
+         */
+        public long getTime() {
+            return time;
+        }
+
+        /**
+         * @return the number of domain reductions triggered
+         */
+        public long getFilterings() {
+            return filterings;
+        }
+
+        /**
+         * @return the number of contradictions raised
+         */
+        public long getFails() {
+            return fails;
+        }
+
+        /**
+         * @return the number of calls which neither filtered a domain nor raised a contradiction
+         */
+        public long getWasted() {
+            return wasted;
+        }
+
+        /**
+         * @return the ratio of calls which raised a contradiction
+         */
+        public double getFailRate() {
+            return calls == 0 ? 0 : fails * 1d / calls;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d calls, %.3fs, %d filterings, %d fails, %d wasted",
+                    name, calls, time / 1e9, filterings, fails, wasted);
+        }
+    }
+
+    /**
+     * Get the record of <i>propagator</i>, creating it if needed
+     *
+     * @param propagator a propagator
+     * @return its record
+     */
+    private Record get(Propagator propagator) {
+        int id = propagator.getId();
+        if (id >= records.length) {
+            records = Arrays.copyOf(records, Math.max(id + 1, records.length * 3 / 2));
+        }
+        Record r = records[id];
+        if (r == null) {
+            Constraint c = propagator.getConstraint();
+            r = new Record(propagator.getClass().getSimpleName() + "#" + id, c == null ? "?" : c.getName());
+            records[id] = r;
+            all.add(r);
+        }
+        return r;
+    }
+
+    /**
+     * Action to do before <i>propagator</i> is executed
+     *
+     * @param propagator a propagator
+     */
+    void beforeExecution(Propagator propagator) {
+        Record r = get(propagator);
+        r.calls++;
+        r.mark = r.filterings;
+    }
+
+    /**
+     * Action to do after <i>propagator</i> has been executed
+     *
+     * @param propagator a propagator
+     * @param duration   its execution time, in nanoseconds
+     * @param failed     set to <i>true</i> if a contradiction was raised
+     */
+    void afterExecution(Propagator propagator, long duration, boolean failed) {
+        Record r = get(propagator);
+        r.time += duration;
+        if (failed) {
+            r.fails++;
+        } else if (r.filterings == r.mark) {
+            r.wasted++;
+        }
+    }
+
+    /**
+     * Action to do when <i>propagator</i> reduces a domain
+     *
+     * @param propagator a propagator
+     */
+    void onFiltering(Propagator propagator) {
+        get(propagator).filterings++;
+    }
+
+    /**
+     * Erase all records
+     */
+    public void reset() {
+        Arrays.fill(records, null);
+        all.clear();
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return the record of <i>propagator</i>, or <i>null</i> if it has never been executed
+     */
+    public Record getRecord(Propagator propagator) {
+        int id = propagator.getId();
+        return id < records.length ? records[id] : null;
+    }
+
+    /**
+     * @return the records of each propagator, sorted by decreasing execution time
+     */
+    public List<Record> getRecords() {
+        List<Record> list = new ArrayList<>(all);
+        list.sort(Comparator.comparingLong(Record::getTime).reversed());
+        return list;
+    }
+
+    /**
+     * @return the records aggregated by constraint name (e.g., "ARITHM", "CUMULATIVE"),
+     * sorted by decreasing execution time
+     */
+    public List<Record> getRecordsPerConstraint() {
+        Map<String, Record> map = new LinkedHashMap<>();
+        for (Record r : all) {
+            map.computeIfAbsent(r.constraint, n -> new Record(n, n)).add(r);
+        }
+        List<Record> list = new ArrayList<>(map.values());
+        list.sort(Comparator.comparingLong(Record::getTime).reversed());
+        return list;
+    }
+
+    /**
+     * Print the records aggregated by constraint, then the records of the <i>top</i> most time consuming propagators.
+     * Each line is made of: name, calls, time (in seconds), domain reductions, contradictions, fail rate and wasted calls.
+     *
+     * @param out the stream to print into
+     * @param top maximum number of propagators to print
+     */
+    public void print(PrintStream out, int top) {
+        out.println("- Propagation profile per constraint:");
+        print(out, getRecordsPerConstraint(), Integer.MAX_VALUE);
+        out.printf("- Propagation profile per propagator (top %d):\n", top);
+        print(out, getRecords(), top);
+    }
+
+    private static void print(PrintStream out, List<Record> records, int top) {
+        out.printf("\t%-40s %12s %10s %12s %10s %8s %12s\n",
+                "name", "calls", "time(s)", "filterings", "fails", "fail(%)", "wasted");
+        for (int i = 0; i < records.size() && i < top; i++) {
+            Record r = records.get(i);
+            out.printf("\t%-40s %12d %10.3f %12d %10d %8.2f %12d\n",
+                    r.name, r.calls, r.time / 1e9, r.filterings, r.fails, 100 * r.getFailRate(), r.wasted);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.constraints.Propagator;
+
+/**
+ * The policy used by a {@link PropagationEngine} to order the propagators awaiting execution.
+ * <p>
+ * A propagator is handed over to the scheduler at most once until it is polled:
+ * the engine relies on {@link Propagator#isScheduled()} to avoid duplicates.
+ * A scheduler is attached to a model through
+ * {@link org.chocosolver.solver.Settings#setPropagationScheduler(java.util.function.Function)}.
+ * </p>
+ *
+ * @author agent
+ * @see SevenQueuesScheduler
+ * @see FifoScheduler
+ * @see CostBasedScheduler
+ * @see IdempotentFirstScheduler
+ * @since 16/10/2026
+ */
+public interface PropagationScheduler {
+
+    /**
+     * Add a propagator to the set of propagators awaiting execution.
+     *
+     * @param propagator a propagator which is not yet scheduled
+     */
+    void schedule(Propagator propagator);
+
+    /**
+     * Retrieve and remove the next propagator to execute.
+     *
+     * @return the next propagator to execute, or <i>null</i> if there is none
+     */
+    Propagator pollFirst();
+
+    /**
+     * @return <i>true</i> if no propagator awaits execution
+     */
+    boolean isEmpty();
+
+    /**
+     * @return <i>true</i> if this scheduler has to be informed of the execution time of each propagator,
+     * through {@link #onExecution(Propagator, long)}
+     */
+    default boolean isTimed() {
+        return false;
+    }
+
+    /**
+     * Action to do once <i>propagator</i> has been executed, if {@link #isTimed()} returns <i>true</i>.
+     *
+     * @param propagator the propagator just executed
+     * @param duration   its execution time, in nanoseconds
+     */
+    default void onExecution(Propagator propagator, long duration) {
+        // nothing to do by default
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.util.objects.queues.CircularQueue;
+
+/**
+ * The default scheduling policy: one circular queue per {@link org.chocosolver.solver.constraints.PropagatorPriority}.
+ * <br/>
+ * The queue of the lowest priority is emptied before the next non-empty one is selected,
+ * propagators added to a queue of lower priority meanwhile are executed afterwards.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+public class SevenQueuesScheduler implements PropagationScheduler {
+
+    /**
+     * Mask to deal with emptiness (see {@link #notEmpty})
+     */
+    private static final int WORD_MASK = 0xffffffff;
+    /**
+     * Seven circular queues, each of them is dedicated to store propagator to execute wrt their priority.
+     */
+    private final CircularQueue<Propagator>[] queues;
+    /**
+     * One bit per queue: true if the queue is not empty.
+     */
+    private int notEmpty;
+    /**
+     * Index of the queue being emptied, -1 if none
+     */
+    private int current;
+
+    /**
+     * Create a seven-queue scheduler
+     */
+    @SuppressWarnings("unchecked")
+    public SevenQueuesScheduler() {
+        this.queues = new CircularQueue[8];
+        for (int i = 0; i < 8; i++) {
+            queues[i] = new CircularQueue<>(16);
+        }
+        this.current = -1;
+    }
+
+    @Override
+    public void schedule(Propagator propagator) {
+        int prio = propagator.getPriority().priority;
+        queues[prio].addLast(propagator);
+        notEmpty = notEmpty | (1 << prio);
+    }
+
+    @Override
+    public Propagator pollFirst() {
+        if (isEmpty()) {
+            return null;
+        }
+        if (current == -1) {
+            current = Integer.numberOfTrailingZeros(notEmpty & WORD_MASK);
+        }
+        return queues[current].pollFirst();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (current > -1 && queues[current].isEmpty()) {
+            notEmpty = notEmpty & ~(1 << current);
+            current = -1;
+        }
+        return notEmpty == 0;
+    }
+}
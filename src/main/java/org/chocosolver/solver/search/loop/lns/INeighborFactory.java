@@ -32,6 +32,20 @@ public class INeighborFactory {
         );
     }
 
+    /**
+     * Creates a black-box LNS neighbor which selects, before each fragment, the neighbor
+     * bringing the best improvement of the objective per millisecond
+     * @param vars the pool of variables to be freezed
+     * @return an adaptive black-box LNS neighbor
+     */
+    public static INeighbor adaptiveBlackBox(IntVar... vars) {
+        return new BanditNeighborhood(vars[0].getModel(), 0,
+                propagationGuided(vars),
+                reversedPropagationGuided(vars),
+                random(vars)
+        );
+    }
+
     /**
      * Create a random neighborhood fixing variables randomly
      * @param vars   the pool of variables to be freezed
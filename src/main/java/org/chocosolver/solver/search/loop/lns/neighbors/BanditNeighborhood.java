@@ -0,0 +1,257 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+/**
+ * A neighbor which selects, before each fragment, one of multiple neighbors with respect to the
+ * improvement of the objective they bring per millisecond of search.
+ * <p>
+ * Each neighbor is an arm of a bandit: the improvements of the objective and the time spent in its fragments
+ * are summed with an exponential decay, their ratio is the rate of the neighbor.
+ * A neighbor is selected with a probability proportional to its rate, mixed with a uniform probability
+ * to keep exploring (as in ALNS roulette wheel selection, or EXP3).
+ * Neighbors never selected are tried first.
+ * </p>
+ * <p>
+ * The base fragment size of {@link PropagationGuidedNeighborhood} is tuned the same way:
+ * each of these neighbors selects a scale among {1/2, 1, 2} of its initial base fragment size,
+ * with respect to the rate of each scale.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class BanditNeighborhood extends SequenceNeighborhood {
+
+    /**
+     * Scales applied to the base fragment size of propagation-guided neighbors
+     */
+    private static final double[] SCALES = {.5, 1., 2.};
+
+    /**
+     * Weight of the past fragments, in [0,1[
+     */
+    private final double decay;
+    /**
+     * Probability to select a neighbor (or a scale) uniformly, in [0,1]
+     */
+    private final double exploration;
+    /**
+     * For randomness
+     */
+    private final Random random;
+    /**
+     * Reference to the model, to read the objective
+     */
+    private final Model model;
+    /**
+     * Current time, in nanoseconds
+     */
+    private final LongSupplier clock;
+    /**
+     * Decayed sum of improvements and of time (in milliseconds) of each neighbor
+     */
+    private final double[] improvements, times;
+    /**
+     * Decayed sum of improvements and of time of each scale, for each propagation-guided neighbor
+     */
+    private final double[][] scaleImprovements, scaleTimes;
+    /**
+     * Initial base fragment size of each propagation-guided neighbor
+     */
+    private final int[] baseSizes;
+    /**
+     * Scale selected for the current fragment
+     */
+    private int scale;
+    /**
+     * Date (in nanoseconds) of the beginning of the current fragment, -1 if none
+     */
+    private long start = -1;
+    /**
+     * Value of the objective in the last solution
+     */
+    private int lastValue;
+
+    /**
+     * Create a bandit over <i>neighbors</i>, with a decay of 0.9 and an exploration of 0.1
+     *
+     * @param model     the model, whose objective (if any) measures improvements
+     * @param seed      for randomness
+     * @param neighbors neighbors to select
+     */
+    public BanditNeighborhood(Model model, long seed, INeighbor... neighbors) {
+        this(model, seed, .9, .1, neighbors);
+    }
+
+    /**
+     * Create a bandit over <i>neighbors</i>
+     *
+     * @param model       the model, whose objective (if any) measures improvements
+     * @param seed        for randomness
+     * @param decay       weight of the past fragments, in [0,1[
+     * @param exploration probability to select a neighbor uniformly, in [0,1]
+     * @param neighbors   neighbors to select
+     */
+    public BanditNeighborhood(Model model, long seed, double decay, double exploration, INeighbor... neighbors) {
+        this(model, seed, decay, exploration, System::nanoTime, neighbors);
+    }
+
+    /**
+     * Create a bandit over <i>neighbors</i>, which measures the time spent in fragments with <i>clock</i>
+     *
+     * @param model       the model, whose objective (if any) measures improvements
+     * @param seed        for randomness
+     * @param decay       weight of the past fragments, in [0,1[
+     * @param exploration probability to select a neighbor uniformly, in [0,1]
+     * @param clock       current time, in nanoseconds
+     * @param neighbors   neighbors to select
+     */
+    public BanditNeighborhood(Model model, long seed, double decay, double exploration, LongSupplier clock,
+                              INeighbor... neighbors) {
+        super(neighbors);
+        if (decay < 0. || decay >= 1. || exploration < 0. || exploration > 1.) {
+            throw new IllegalArgumentException("Decay should be in [0,1[ and exploration in [0,1]");
+        }
+        this.model = model;
+        this.clock = clock;
+        this.decay = decay;
+        this.exploration = exploration;
+        this.random = new Random(seed);
+        this.improvements = new double[count];
+        this.times = new double[count];
+        this.scaleImprovements = new double[count][];
+        this.scaleTimes = new double[count][];
+        this.baseSizes = new int[count];
+        for (int i = 0; i < count; i++) {
+            if (neighbors[i] instanceof PropagationGuidedNeighborhood) {
+                scaleImprovements[i] = new double[SCALES.length];
+                scaleTimes[i] = new double[SCALES.length];
+                baseSizes[i] = ((PropagationGuidedNeighborhood) neighbors[i]).getBaseFragmentSize();
+            }
+        }
+    }
+
+    @Override
+    public void recordSolution() {
+        int value = objective();
+        if (start > -1) {
+            close(Math.abs((long) value - lastValue));
+        }
+        lastValue = value;
+        for (int i = 0; i < count; i++) {
+            neighbors[i].recordSolution();
+        }
+    }
+
+    @Override
+    public void loadFromSolution(Solution solution) {
+        // the current fragment, if any, is interrupted and not evaluated
+        start = -1;
+        Variable obj = model.getObjective();
+        lastValue = obj != null && (obj.getTypeAndKind() & Variable.INT) != 0 ? solution.getIntVal((IntVar) obj) : 0;
+        for (int i = 0; i < count; i++) {
+            neighbors[i].loadFromSolution(solution);
+        }
+    }
+
+    @Override
+    public void fixSomeVariables() throws ContradictionException {
+        if (start > -1) {
+            close(0);
+        }
+        who = select(improvements, times);
+        if (scaleTimes[who] != null) {
+            scale = select(scaleImprovements[who], scaleTimes[who]);
+            ((PropagationGuidedNeighborhood) neighbors[who])
+                    .setBaseFragmentSize(Math.max(1, (int) (baseSizes[who] * SCALES[scale])));
+        }
+        start = clock.getAsLong();
+        neighbors[who].fixSomeVariables();
+    }
+
+    /**
+     * @return the current value of the objective or, when there is no integer objective,
+     * the number of solutions (each solution is then an improvement of 1)
+     */
+    private int objective() {
+        Variable obj = model.getObjective();
+        if (obj != null && (obj.getTypeAndKind() & Variable.INT) != 0 && ((IntVar) obj).isInstantiated()) {
+            return ((IntVar) obj).getValue();
+        }
+        return lastValue + 1;
+    }
+
+    /**
+     * Evaluate the current fragment
+     *
+     * @param improvement improvement of the objective
+     */
+    private void close(double improvement) {
+        double elapsed = (clock.getAsLong() - start) / 1_000_000d;
+        improvements[who] = decay * improvements[who] + improvement;
+        times[who] = decay * times[who] + elapsed;
+        if (scaleTimes[who] != null) {
+            scaleImprovements[who][scale] = decay * scaleImprovements[who][scale] + improvement;
+            scaleTimes[who][scale] = decay * scaleTimes[who][scale] + elapsed;
+        }
+        start = -1;
+    }
+
+    /**
+     * Roulette wheel selection: an arm never selected first, otherwise an arm with a probability proportional
+     * to its rate, mixed with the uniform distribution
+     *
+     * @param imp decayed sum of improvements of each arm
+     * @param tim decayed sum of time of each arm
+     * @return the selected arm
+     */
+    private int select(double[] imp, double[] tim) {
+        int k = imp.length;
+        double sum = 0.;
+        for (int i = 0; i < k; i++) {
+            if (tim[i] == 0.) {
+                return i;
+            }
+            sum += imp[i] / tim[i];
+        }
+        double r = random.nextDouble();
+        int arm = 0;
+        if (sum == 0. || r < exploration) {
+            arm = random.nextInt(k);
+        } else {
+            r = random.nextDouble() * sum;
+            for (; arm < k - 1; arm++) {
+                r -= imp[arm] / tim[arm];
+                if (r < 0) {
+                    break;
+                }
+            }
+        }
+        return arm;
+    }
+
+    /**
+     * @param i index of a neighbor
+     * @return the rate of the <i>i</i>th neighbor, that is, its (decayed) improvement of the objective per millisecond
+     */
+    public double getRate(int i) {
+        return times[i] == 0. ? 0. : improvements[i] / times[i];
+    }
+}
@@ -54,6 +54,10 @@ public class PropagationGuidedNeighborhood extends IntNeighbor {
      * Number of variables modified through propagation to consider while computing the neighbor
      */
     int listSize;
+    /**
+     * Size of the fragment when the restriction parameter is null
+     */
+    private int baseSize = 30;
     /**
      * Restriction parameter
      */
@@ -107,7 +111,7 @@ public class PropagationGuidedNeighborhood extends IntNeighbor {
             int ds = variables[i].getDomainSize();
             logSum += Math.log(ds);
         }
-        fgmtSize = (int) (30 * (1 + epsilon));
+        fgmtSize = (int) (baseSize * (1 + epsilon));
         fragment.set(0, n); // all variables are frozen
         try {
             update();
@@ -173,6 +177,23 @@ public class PropagationGuidedNeighborhood extends IntNeighbor {
         return id;
     }
 
+    /**
+     * @return the size of the fragment when the restriction parameter is null
+     */
+    public int getBaseFragmentSize() {
+        return baseSize;
+    }
+
+    /**
+     * Set the size of the fragment when the restriction parameter is null (30 by default).
+     * The size of the fragment is then adapted on each call, with respect to the domain reductions observed.
+     *
+     * @param size sum of the logarithms of the domain sizes of the variables which are not frozen
+     */
+    public void setBaseFragmentSize(int size) {
+        this.baseSize = size;
+    }
+
     @Override
     public void restrictLess() {
         epsilon += .1 * (logSum / fgmtSize);
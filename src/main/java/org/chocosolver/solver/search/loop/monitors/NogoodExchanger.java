@@ -0,0 +1,218 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.monitors;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A channel to share no-goods between models solved concurrently.
+ * <p>
+ * Each worker owns a bounded inbox. A no-good published by a worker is copied into the inbox of every other worker,
+ * unless it is too long or the inbox is full, in which case it is silently dropped.
+ * Inboxes are lock-free, they are drained by their owner at restart points.
+ * <p>
+ * A no-good is encoded as an array of literals, each literal being a <code>long</code> which stores
+ * the id of a variable, a value and a sign (see {@link #literal(int, int, boolean)}).
+ * Variables are identified by their {@link org.chocosolver.solver.variables.Variable#getId()}, thus
+ * models sharing no-goods <b>must</b> be structurally identical (e.g., built by the same modelling code).
+ *
+ * @author agent
+ * @see NogoodFromRestarts
+ * @since 16/10/2026
+ */
+public class NogoodExchanger {
+
+    /**
+     * Inbox of each worker
+     */
+    private final ConcurrentLinkedQueue<long[]>[] inboxes;
+    /**
+     * Number of no-goods pending in each inbox
+     */
+    private final AtomicInteger[] pending;
+    /**
+     * Maximum number of literals of a shared no-good
+     */
+    private final int maxSize;
+    /**
+     * Maximum number of no-goods pending in an inbox
+     */
+    private final int capacity;
+    /**
+     * Number of no-goods published, for statistics purpose
+     */
+    private final AtomicLong nbPublished = new AtomicLong();
+    /**
+     * Number of no-goods dropped because of a full inbox, for statistics purpose
+     */
+    private final AtomicLong nbDropped = new AtomicLong();
+    /**
+     * Number of no-goods imported by each worker, for statistics purpose
+     */
+    private final AtomicLong[] nbImported;
+
+    /**
+     * Create a channel to share no-goods among <i>nbWorkers</i>.
+     *
+     * @param nbWorkers number of workers
+     * @param maxSize   maximum number of literals of a no-good to be shared, longer ones are ignored
+     * @param capacity  maximum number of no-goods pending in the inbox of a worker
+     */
+    @SuppressWarnings("unchecked")
+    public NogoodExchanger(int nbWorkers, int maxSize, int capacity) {
+        if (maxSize < 1 || capacity < 1) {
+            throw new IllegalArgumentException("maxSize and capacity should be strictly positive");
+        }
+        this.maxSize = maxSize;
+        this.capacity = capacity;
+        this.inboxes = new ConcurrentLinkedQueue[nbWorkers];
+        this.pending = new AtomicInteger[nbWorkers];
+        this.nbImported = new AtomicLong[nbWorkers];
+        for (int i = 0; i < nbWorkers; i++) {
+            inboxes[i] = new ConcurrentLinkedQueue<>();
+            pending[i] = new AtomicInteger();
+            nbImported[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * @param size number of literals of a no-good
+     * @return <i>true</i> if a no-good of <i>size</i> literals is short enough to be shared
+     */
+    public boolean accept(int size) {
+        return size <= maxSize;
+    }
+
+    /**
+     * Publish <i>nogood</i> to all workers but <i>from</i>.
+     * The no-good is ignored if it is too long.
+     *
+     * @param from   id of the worker which learnt the no-good
+     * @param nogood a no-good, as array of literals (must not be modified afterwards)
+     */
+    public void publish(int from, long[] nogood) {
+        if (!accept(nogood.length)) {
+            return;
+        }
+        nbPublished.incrementAndGet();
+        for (int w = 0; w < inboxes.length; w++) {
+            if (w != from) {
+                if (pending[w].incrementAndGet() <= capacity) {
+                    inboxes[w].offer(nogood);
+                } else {
+                    pending[w].decrementAndGet();
+                    nbDropped.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieve and remove the oldest no-good pending in the inbox of <i>worker</i>.
+     *
+     * @param worker id of the worker
+     * @return a no-good, or <i>null</i> if the inbox is empty
+     */
+    public long[] poll(int worker) {
+        long[] nogood = inboxes[worker].poll();
+        if (nogood != null) {
+            pending[worker].decrementAndGet();
+        }
+        return nogood;
+    }
+
+    /**
+     * Notify that <i>worker</i> added to its no-good store a no-good it retrieved with {@link #poll(int)}.
+     *
+     * @param worker id of the worker
+     */
+    public void imported(int worker) {
+        nbImported[worker].incrementAndGet();
+    }
+
+    /**
+     * @return number of workers sharing this channel
+     */
+    public int getNbWorkers() {
+        return inboxes.length;
+    }
+
+    /**
+     * @return number of no-goods published so far
+     */
+    public long getNbPublished() {
+        return nbPublished.get();
+    }
+
+    /**
+     * @return number of no-goods dropped so far, because of full inboxes
+     */
+    public long getNbDropped() {
+        return nbDropped.get();
+    }
+
+    /**
+     * @param worker id of a worker
+     * @return number of no-goods shared by other workers and imported by <i>worker</i> so far
+     */
+    public long getNbImported(int worker) {
+        return nbImported[worker].get();
+    }
+
+    /**
+     * @return number of no-goods imported so far, summed over all workers
+     */
+    public long getNbImported() {
+        long n = 0;
+        for (AtomicLong i : nbImported) {
+            n += i.get();
+        }
+        return n;
+    }
+
+    /**
+     * Encode the literal "<i>var</i> = <i>value</i>" (if <i>positive</i>) or "<i>var</i> &ne; <i>value</i>" (otherwise).
+     *
+     * @param varId    id of a variable
+     * @param value    a value
+     * @param positive sign of the literal
+     * @return the encoded literal
+     */
+    public static long literal(int varId, int value, boolean positive) {
+        return ((long) (positive ? varId : ~varId) << 32) | (value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @param lit an encoded literal
+     * @return the id of the variable of <i>lit</i>
+     */
+    public static int varId(long lit) {
+        int v = (int) (lit >> 32);
+        return v < 0 ? ~v : v;
+    }
+
+    /**
+     * @param lit an encoded literal
+     * @return the value of <i>lit</i>
+     */
+    public static int value(long lit) {
+        return (int) lit;
+    }
+
+    /**
+     * @param lit an encoded literal
+     * @return <i>true</i> if <i>lit</i> encodes "var = value", <i>false</i> if it encodes "var &ne; value"
+     */
+    public static boolean isPositive(long lit) {
+        return lit >= 0;
+    }
+}
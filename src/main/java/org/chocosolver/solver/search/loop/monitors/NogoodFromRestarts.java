@@ -16,6 +16,7 @@ import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactor
 import org.chocosolver.solver.search.strategy.decision.Decision;
 import org.chocosolver.solver.search.strategy.decision.IntDecision;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
 
 import java.util.ArrayDeque;
 import java.util.Arrays;
@@ -45,6 +46,21 @@ public class NogoodFromRestarts implements IMonitorRestart {
      */
     private final PropNogoods png;
 
+    /**
+     * Channel to share no-goods with other models, may be <i>null</i>
+     */
+    private final NogoodExchanger exchanger;
+
+    /**
+     * Id of the model in {@link #exchanger}
+     */
+    private final int worker;
+
+    /**
+     * Maps variable id to integer variable, lazily built on first import
+     */
+    private IntVar[] id2var;
+
     /**
      * A constraint for the specific Nogood store designed to store ONLY positive decisions.
      * Beware :
@@ -56,13 +72,31 @@ public class NogoodFromRestarts implements IMonitorRestart {
      * @param model solver to observe
      */
     public NogoodFromRestarts(Model model) {
+        this(model, null, -1);
+    }
+
+    /**
+     * A constraint for the specific Nogood store designed to store ONLY positive decisions,
+     * which also shares short no-goods with other models through <i>exchanger</i>.
+     * No-goods learnt by other models are imported on restarts.
+     *
+     * @param model     solver to observe
+     * @param exchanger channel to share no-goods with, may be <i>null</i>
+     * @param worker    id of <i>model</i> in <i>exchanger</i>
+     */
+    public NogoodFromRestarts(Model model, NogoodExchanger exchanger, int worker) {
         png = model.getNogoodStore().getPropNogoods();
         decisions = new ArrayDeque<>(16);
+        this.exchanger = exchanger;
+        this.worker = worker;
     }
 
     @Override
     public void beforeRestart() {
         extractNogoodFromPath();
+        if (exchanger != null) {
+            importNogoods();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -71,12 +105,16 @@ public class NogoodFromRestarts implements IMonitorRestart {
         png.getModel().getSolver().getDecisionPath().transferInto(decisions, false);
         Decision<IntVar> decision;
         int[] lits = new int[d];
+        long[] keys = exchanger == null ? null : new long[d];
         int i = 0;
         while (!decisions.isEmpty()) {
             decision = decisions.pollFirst();
             if (decision instanceof IntDecision) {
                 IntDecision id = (IntDecision) decision;
                 if (id.getDecOp() == DecisionOperatorFactory.makeIntEq()) {
+                    if (keys != null) {
+                        keys[i] = NogoodExchanger.literal(id.getDecisionVariable().getId(), id.getDecisionValue(), false);
+                    }
                     if (id.hasNext() || id.getArity() == 1) {
                         lits[i++] = SatSolver.negated(png.Literal(id.getDecisionVariable(), id.getDecisionValue(), true));
                     } else {
@@ -87,8 +125,12 @@ public class NogoodFromRestarts implements IMonitorRestart {
                             lits[i] = SatSolver.negated(png.Literal(id.getDecisionVariable(), id.getDecisionValue(), true));
                             png.addLearnt(Arrays.copyOf(lits, i + 1));
                         }
+                        share(keys, i + 1);
                     }
                 } else if (id.getDecOp() == DecisionOperatorFactory.makeIntNeq()) {
+                    if (keys != null) {
+                        keys[i] = NogoodExchanger.literal(id.getDecisionVariable().getId(), id.getDecisionValue(), true);
+                    }
                     if (id.hasNext()) {
                         lits[i++] = png.Literal(id.getDecisionVariable(), id.getDecisionValue(), true);
                     } else {
@@ -99,6 +141,7 @@ public class NogoodFromRestarts implements IMonitorRestart {
                             lits[i] = png.Literal(id.getDecisionVariable(), id.getDecisionValue(), true);
                             png.addLearnt(Arrays.copyOf(lits, i + 1));
                         }
+                        share(keys, i + 1);
                     }
                 } else {
                     throw new UnsupportedOperationException("NogoodStoreFromRestarts cannot deal with such operator: " + ((IntDecision) decision).getDecOp());
@@ -108,4 +151,62 @@ public class NogoodFromRestarts implements IMonitorRestart {
             }
         }
     }
+
+    /**
+     * Publish the first <i>n</i> literals of <i>keys</i> to the other models, if any.
+     *
+     * @param keys encoded literals of the no-good
+     * @param n    size of the no-good
+     */
+    private void share(long[] keys, int n) {
+        if (keys != null && exchanger.accept(n)) {
+            exchanger.publish(worker, Arrays.copyOf(keys, n));
+        }
+    }
+
+    /**
+     * Add to the no-good store all no-goods shared by the other models since the last restart.
+     */
+    private void importNogoods() {
+        long[] nogood;
+        while ((nogood = exchanger.poll(worker)) != null) {
+            int[] lits = new int[nogood.length];
+            for (int j = 0; j < nogood.length; j++) {
+                IntVar var = getVar(NogoodExchanger.varId(nogood[j]));
+                if (var == null) {
+                    // the models are not identical, the no-good is ignored
+                    lits = null;
+                    break;
+                }
+                int lit = png.Literal(var, NogoodExchanger.value(nogood[j]), true);
+                lits[j] = NogoodExchanger.isPositive(nogood[j]) ? lit : SatSolver.negated(lit);
+            }
+            if (lits != null) {
+                png.addLearnt(lits);
+                exchanger.imported(worker);
+            }
+        }
+    }
+
+    /**
+     * @param id id of a variable
+     * @return the integer variable of this model with id <i>id</i>, or <i>null</i> if no such variable exists
+     */
+    private IntVar getVar(int id) {
+        if (id2var == null) {
+            Model model = png.getModel();
+            int max = -1;
+            for (int i = 0; i < model.getNbVars(); i++) {
+                max = Math.max(max, model.getVar(i).getId());
+            }
+            id2var = new IntVar[max + 1];
+            for (int i = 0; i < model.getNbVars(); i++) {
+                Variable v = model.getVar(i);
+                if ((v.getTypeAndKind() & Variable.INT) != 0) {
+                    id2var[v.getId()] = (IntVar) v;
+                }
+            }
+        }
+        return id < id2var.length ? id2var[id] : null;
+    }
 }
@@ -75,6 +75,26 @@ public interface IMoveFactory extends ISelf<Solver> {
         ref().setMove(new MoveBinaryHBFS(ref().getModel(), ref().getSearch(), a, b, N));
     }
 
+    /**
+     * Creates a move object based on:
+     * Hybrid Best-First Search[1] algorithms with binary decisions,
+     * which stores at most <i>maxOpens</i> open right branches at the same time.
+     * <p>
+     * [1]:D. Allouche, S. de Givry, G. Katsirelos, T. Schiex, M. Zytnicki,
+     * Anytime Hybrid Best-First Search with Tree Decomposition for Weighted CSP, CP-2015.
+     *
+     * @param a               lower bound to limit the rate of redundantly propagated decisions
+     * @param b               upper bound to limit the rate of redundantly propagated decisions.
+     * @param N               backtrack limit for each DFS try, should be large enough to limit redundancy
+     * @param maxOpens        maximum number of open right branches stored, the worst ones are evicted beyond
+     * @see MoveBinaryHBFS#setOpenNodeLimit(int)
+     */
+    default void setHBFS(double a, double b, long N, int maxOpens) {
+        MoveBinaryHBFS hbfs = new MoveBinaryHBFS(ref().getModel(), ref().getSearch(), a, b, N);
+        hbfs.setOpenNodeLimit(maxOpens);
+        ref().setMove(hbfs);
+    }
+
     /**
      * Creates a Move object that encapsulates the current move within a restart move.
      * Every time the <code>restartCriterion</code> is met, a restart is done, the new restart limit is updated
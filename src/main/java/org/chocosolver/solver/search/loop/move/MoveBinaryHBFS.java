@@ -18,9 +18,9 @@ import org.chocosolver.solver.search.strategy.decision.Decision;
 import org.chocosolver.solver.search.strategy.decision.DecisionPath;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
 import org.chocosolver.solver.variables.IntVar;
-import org.chocosolver.util.tools.ArrayUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.PriorityQueue;
@@ -33,6 +33,12 @@ import java.util.PriorityQueue;
  * <p>
  * It restarts anytime a backtrack limit is reached and a new open right branch needs to be selected.
  * <p>
+ * Open right branches are stored in a trie: an open right branch only refers to its last decision
+ * and decision sub-paths are shared among open right branches.
+ * The number of open right branches can be limited (see {@link #setOpenNodeLimit(int)}):
+ * when the limit is exceeded, the worst quarter of them (wrt the bound, then the depth) is evicted.
+ * As evicted branches may not be explored, the search ends, if needed, with a DFS from the root node.
+ * <p>
  * Created by cprudhom on 02/11/2015.
  * Project: choco.
  * @author Charles Prud'homme
@@ -93,6 +99,41 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
      */
     private Decision[] copen;
 
+    /**
+     * Nodes of the trie of the current open right branch, from the top to the bottom.
+     */
+    private Node[] cnodes;
+
+    /**
+     * Maximum number of open right branches stored.
+     */
+    private int maxOpens = Integer.MAX_VALUE;
+
+    /**
+     * Set to <tt>true</tt> when open right branches are lost and the tree has to be explored with a DFS.
+     */
+    private boolean dfsOnly;
+
+    /**
+     * Number of open right branches evicted.
+     */
+    private long evictions;
+
+    /**
+     * Maximum number of open right branches stored at the same time.
+     */
+    private int peakOpens;
+
+    /**
+     * Number of open right branches selected to keep up the search.
+     */
+    private long jumps;
+
+    /**
+     * Number of decisions recomputed to restore the open right branches selected.
+     */
+    private long recomputations;
+
     /**
      * Used to find the first unknown open right branch
      */
@@ -122,6 +163,7 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
         this.dfslimit = new BacktrackCounter(model, N);
         this.opens = new PriorityQueue<>();
         this.copen = new Decision[0];
+        this.cnodes = new Node[0];
         this.current = 0;
         this.Z = 1;
         this.limit = Z;
@@ -159,9 +201,16 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
     @Override
     public boolean repair(Solver solver) {
         boolean repair;
-        if (!dfslimit.isMet(limit)) {
+        if (dfsOnly || !dfslimit.isMet(limit)) {
             current = copen.length;
             repair = super.repair(solver);
+            if (!repair && evictions > 0 && !dfsOnly) {
+                // some open right branches were evicted, make sure they are explored
+                dfsOnly = true;
+                opens.clear();
+                solver.restart();
+                repair = true;
+            }
         } else {
             extractOpenRightBranches(solver);
             repair = true;
@@ -195,11 +244,15 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
             next = opens.poll();
         }
         if (next != null) {
-            copen = next.toArray();
-            // the decision in 0 is the last taken, then the array us reversed
-            ArrayUtils.reverse(copen);
+            cnodes = next.toNodes();
+            copen = new Decision[cnodes.length];
+            for (int j = 0; j < cnodes.length; j++) {
+                copen[j] = cnodes[j].restore();
+            }
             current = 0;
             nodesRecompute = solver.getNodeCount() + copen.length;
+            jumps++;
+            recomputations += copen.length;
         } else{
             // to be sure not to use the previous path
             current = copen.length;
@@ -242,6 +295,12 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
     private void extractOB(Solver solver, int i) {
 //        Decision stopAt = solver.getDecisionPath().getDecision(_unkopen.get(i).getPosition()-1);
         int stopAt = _unkopen.get(i).getPosition()-1;
+        // first, build the trie nodes of the current path, the ones shared with the current open right branch are reused
+        Node[] nodes = new Node[_unkopen.size()];
+        System.arraycopy(cnodes, 0, nodes, 0, i);
+        for (int j = i; j < nodes.length; j++) {
+            nodes[j] = new Node(_unkopen.get(j), j > 0 ? nodes[j - 1] : null);
+        }
         // then, goes up in the search tree, and detect open nodes
         solver.getEnvironment().worldPop();
         DecisionPath dp = solver.getDecisionPath();
@@ -252,12 +311,29 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
                     objectiveManager.getObjective().getLB() :
                     objectiveManager.getObjective().getUB();
             if (decision.hasNext() && isValid(bound)) {
-                opens.add(new Open(decision, dp, bound, isMinimization));
+                opens.add(new Open(nodes[decision.getPosition() - topDecisionPosition - 1], bound, isMinimization));
             }
             dp.synchronize();
             decision = dp.getLastDecision();
             solver.getEnvironment().worldPop();
         }
+        if (opens.size() > maxOpens) {
+            evict();
+        }
+        peakOpens = Math.max(peakOpens, opens.size());
+    }
+
+    /**
+     * Evict the worst quarter of the open right branches, wrt their bound then their depth,
+     * to keep at most {@link #maxOpens} of them.
+     */
+    private void evict() {
+        Open[] all = opens.toArray(new Open[0]);
+        Arrays.sort(all);
+        int keep = maxOpens - maxOpens / 4;
+        opens.clear();
+        opens.addAll(Arrays.asList(all).subList(0, keep));
+        evictions += all.length - keep;
     }
 
     /**
@@ -271,15 +347,107 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
                 bound > objectiveManager.getBestLB().intValue();
     }
 
+    /**
+     * Set the maximum number of open right branches stored at the same time.
+     * When it is exceeded, the worst quarter of them is evicted.
+     * @param maxOpens maximum number of open right branches, should be strictly positive
+     */
+    public void setOpenNodeLimit(int maxOpens) {
+        if (maxOpens < 1) {
+            throw new IllegalArgumentException("The maximum number of open right branches should be strictly positive");
+        }
+        this.maxOpens = maxOpens;
+    }
+
+    /**
+     * @return the number of open right branches currently stored
+     */
+    public int getOpenNodeCount() {
+        return opens.size();
+    }
+
+    /**
+     * @return the maximum number of open right branches stored at the same time
+     */
+    public int getPeakOpenNodeCount() {
+        return peakOpens;
+    }
+
+    /**
+     * @return the number of open right branches evicted
+     */
+    public long getEvictedNodeCount() {
+        return evictions;
+    }
+
+    /**
+     * @return the number of open right branches selected to keep up the search
+     */
+    public long getJumpCount() {
+        return jumps;
+    }
+
+    /**
+     * @return the number of decisions recomputed to restore the selected open right branches
+     */
+    public long getRecomputedDecisionCount() {
+        return recomputations;
+    }
+
+    /**
+     * A node of the trie of open right branches: a decision and its parent node.
+     */
+    private static class Node {
+
+        /**
+         * Copy of a decision, in the state it has to be restored in
+         */
+        private final Decision decision;
+        /**
+         * Node of the previous decision, <tt>null</tt> for the top one
+         */
+        private final Node parent;
+        /**
+         * Number of decisions from the top one to this one
+         */
+        private final int depth;
+
+        /**
+         * Create a node of the trie
+         * @param decision a decision of the current path
+         * @param parent node of the previous decision
+         */
+        Node(Decision decision, Node parent) {
+            Decision d = decision.duplicate();
+            while (decision.triesLeft() != d.triesLeft() - 1) {
+                d.buildNext();
+            }
+            this.decision = d;
+            this.parent = parent;
+            this.depth = parent == null ? 1 : parent.depth + 1;
+        }
+
+        /**
+         * @return a copy of the decision, to be pushed in the decision path
+         */
+        Decision restore() {
+            Decision d = decision.duplicate();
+            while (decision.triesLeft() != d.triesLeft()) {
+                d.buildNext();
+            }
+            return d;
+        }
+    }
+
     /**
      * A class to represent an open right branch, from which the search can be kept up.
      */
-    private class Open implements Comparable<Open> {
+    private static class Open implements Comparable<Open> {
 
         /**
-         * List of open decisions
+         * Node of the last open decision
          */
-        private List<Decision> path;
+        private Node node;
         /**
          * store the current lower bound of the decision path for minimization
          */
@@ -292,31 +460,26 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
         /**
          * Create an open right branch for HBFS
          *
-         * @param decision      an open decision in <i>decisionPath</i>
-         * @param decisionPath  the current decision path
+         * @param node         node of the open decision
          * @param currentBound current lower (resp. upper) bound of the objective value for mimimization (resp. maximization)
          * @param minimization set to <tt>true</tt> for minimization
          */
-        public Open(Decision decision, DecisionPath decisionPath, int currentBound, boolean minimization) {
-            this.path = new ArrayList<>();
-            while (decision.getPosition() != topDecisionPosition) {
-                Decision d = decision.duplicate();
-                while (decision.triesLeft() != d.triesLeft() - 1) {
-                    d.buildNext();
-                }
-                path.add(d);
-                decision = decisionPath.getDecision(decision.getPosition() -1);
-            }
+        public Open(Node node, int currentBound, boolean minimization) {
+            this.node = node;
             this.currentBound = currentBound;
             this.minimization = (byte) (minimization ? 1 : -1);
         }
 
         /**
-         * Return the current decision path that can be extended
-         * @return an array of decisions
+         * Return the nodes of the decision path that can be extended
+         * @return an array of nodes, from the top to the bottom
          */
-        public Decision[] toArray() {
-            return path.toArray(new Decision[0]);
+        public Node[] toNodes() {
+            Node[] nodes = new Node[node.depth];
+            for (Node n = node; n != null; n = n.parent) {
+                nodes[n.depth - 1] = n;
+            }
+            return nodes;
         }
 
         /**
@@ -333,7 +496,7 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
             int clb = minimization * (currentBound - o.currentBound);
             if (clb == 0) {
                 // the maximum depth
-                return (o.path.size() - path.size());
+                return (o.node.depth - node.depth);
             } else {
                 return clb;
             }
@@ -343,8 +506,8 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
         public String toString() {
             StringBuilder st = new StringBuilder();
             st.append('[').append(currentBound).append(']');
-            for(int i = path.size() - 1;i > -1 ; i--){
-                st.append(path.get(i)).append(',');
+            for (Node n : toNodes()) {
+                st.append(n.decision).append(',');
             }
             return st.toString();
         }
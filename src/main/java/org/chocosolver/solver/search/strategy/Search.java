@@ -276,6 +276,28 @@ public class Search {
         return new DomOverWDeg(vars, 0, new IntDomainMin());
     }
 
+    /**
+     * Assignment strategy which selects a variable according to <code>DomOverWDeg</code> and assign it to its lower bound.
+     * Scores are maintained incrementally (see {@link DomOverWDegIncr}), which pays off on models with many variables.
+     * @param vars list of variables
+     * @return assignment strategy
+     */
+    public static AbstractStrategy<IntVar> domOverWDegIncrSearch(IntVar... vars) {
+        return new DomOverWDegIncr(vars, 0, new IntDomainMin());
+    }
+
+    /**
+     * Assignment strategy which selects a variable according to <code>DomOverWDeg</code> and assign it to its lower bound.
+     * Scores are maintained incrementally (see {@link DomOverWDegIncr}) and propagators are weighted on failure
+     * according to <i>weighting</i>, that is, dom/wdeg, dom/wdeg^ca.cd or CHS.
+     * @param weighting how the propagators are weighted on failure
+     * @param vars list of variables
+     * @return assignment strategy
+     */
+    public static AbstractStrategy<IntVar> domOverWDegIncrSearch(DomOverWDegIncr.Weighting weighting, IntVar... vars) {
+        return new DomOverWDegIncr(vars, 0, new IntDomainMin(), weighting);
+    }
+
     /**
      * Create an Activity based search strategy.
      * <p>
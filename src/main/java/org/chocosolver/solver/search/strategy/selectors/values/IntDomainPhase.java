@@ -0,0 +1,151 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IVariableMonitor;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Value selector based on phase saving:
+ * branches on the last value the variable took, if still in domain.
+ * <p>
+ * Values are recorded on solutions and, when phase saving is enabled, each time a variable
+ * branched on gets instantiated, even on branches that are later backtracked.
+ * Without phase saving, this is a solution-guided value selector.
+ * Recorded values survive restarts.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class IntDomainPhase implements IntValueSelector, IMonitorSolution, IVariableMonitor<IntVar> {
+
+    /**
+     * The model, to record the solutions
+     */
+    private final Model model;
+    /**
+     * The default value selector
+     */
+    private final IntValueSelector mainSelector;
+    /**
+     * Set to <tt>true</tt> to record values on instantiations, not only on solutions
+     */
+    private final boolean phaseSaving;
+    /**
+     * Last value of each variable, indexed by variable id
+     */
+    private int[] phases;
+    /**
+     * Variables with a recorded value
+     */
+    private final BitSet known;
+    /**
+     * Variables observed
+     */
+    private final BitSet monitored;
+
+    /**
+     * Create a value selector that returns the last value a variable took, with phase saving.
+     * If no value was recorded or value does not exist anymore, falls back to 'mainSelector'.
+     *
+     * @param model        the model
+     * @param mainSelector falling back selector
+     */
+    public IntDomainPhase(Model model, IntValueSelector mainSelector) {
+        this(model, mainSelector, true);
+    }
+
+    /**
+     * Create a value selector that returns the last value a variable took.
+     * If no value was recorded or value does not exist anymore, falls back to 'mainSelector'.
+     *
+     * @param model        the model
+     * @param mainSelector falling back selector
+     * @param phaseSaving  set to <tt>true</tt> to record values each time a variable is instantiated,
+     *                     set to <tt>false</tt> to only record values from solutions
+     */
+    public IntDomainPhase(Model model, IntValueSelector mainSelector, boolean phaseSaving) {
+        this.model = model;
+        this.mainSelector = mainSelector;
+        this.phaseSaving = phaseSaving;
+        this.phases = new int[16];
+        this.known = new BitSet();
+        this.monitored = new BitSet();
+        model.getSolver().plugMonitor(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int selectValue(IntVar var) {
+        int id = var.getId();
+        if (phaseSaving && !monitored.get(id)) {
+            monitored.set(id);
+            var.addMonitor(this);
+        }
+        if (known.get(id)) {
+            int value = phases[id];
+            if (var.hasEnumeratedDomain() ? var.contains(value) : (var.getLB() == value || var.getUB() == value)) {
+                return value;
+            }
+        }
+        return mainSelector.selectValue(var);
+    }
+
+    @Override
+    public void onSolution() {
+        for (Variable v : model.getVars()) {
+            if ((v.getTypeAndKind() & Variable.INT) != 0 && v.isInstantiated()) {
+                record(v.getId(), ((IntVar) v).getValue());
+            }
+        }
+    }
+
+    @Override
+    public void onUpdate(IntVar var, IEventType evt) {
+        if (var.isInstantiated()) {
+            record(var.getId(), var.getValue());
+        }
+    }
+
+    /**
+     * @param var a variable
+     * @return <tt>true</tt> if a value is recorded for <i>var</i>
+     */
+    public boolean hasPhase(IntVar var) {
+        return known.get(var.getId());
+    }
+
+    /**
+     * @param var a variable
+     * @return the value recorded for <i>var</i>, meaningless if {@link #hasPhase(IntVar)} returns <tt>false</tt>
+     */
+    public int getPhase(IntVar var) {
+        int id = var.getId();
+        return id < phases.length ? phases[id] : 0;
+    }
+
+    private void record(int id, int value) {
+        if (id >= phases.length) {
+            phases = Arrays.copyOf(phases, Math.max(id + 1, phases.length * 2));
+        }
+        phases[id] = value;
+        known.set(id);
+    }
+}
@@ -0,0 +1,584 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import gnu.trove.list.array.TIntArrayList;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.selectors.values.IntValueSelector;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IVariableMonitor;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.util.objects.IntMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental implementation of DowOverWDeg[1].
+ * <p>
+ * Same selection as {@link DomOverWDeg}, but the variables are not scanned at each decision.
+ * The number of uninstantiated variables of each propagator is maintained on instantiation events
+ * (reversible counters) and the weighted degree of a decision variable is only computed again
+ * when its domain, the counter or the weight of one of its propagators changes.
+ * Uninstantiated decision variables are kept in a binary heap ordered by dom/wdeg,
+ * whose modified variables are updated lazily, when the next decision is computed.
+ * So, a decision costs O(log n) per modified variable instead of O(n) variables and their propagators.
+ * </p>
+ * <p>
+ * Ties are broken by a random order of the variables, drawn once, and only propagators posted
+ * when the search starts are weighted.
+ * </p>
+ * <p>
+ * Besides the classical weighting, which counts the failures of each propagator,
+ * two weighting rules are available (see {@link Weighting}): wdeg^ca.cd[2], which spreads the weight of a failure
+ * over the uninstantiated variables of the propagator, and CHS[3], which rewards the propagators that fail recently.
+ * In any case, the weighted degree of a variable is 1 plus the weights of its propagators
+ * with at least two uninstantiated variables.
+ * </p>
+ * [1]: F. Boussemart, F. Hemery, C. Lecoutre, and L. Sais, Boosting Systematic Search by Weighting
+ * Constraints, ECAI-04. <br/>
+ * [2]: H. Wattez, C. Lecoutre, A. Paparrizou, and S. Tabary, Refining Constraint Weighting, ICTAI-19. <br/>
+ * [3]: D. Habet and C. Terrioux, Conflict History based Heuristic for Constraint Satisfaction Problem Solving,
+ * Journal of Heuristics, 2021. <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class DomOverWDegIncr extends AbstractStrategy<IntVar> implements IMonitorContradiction, IVariableMonitor<Variable> {
+
+    /**
+     * How the propagators are weighted on failure
+     */
+    public enum Weighting {
+        /**
+         * The weight of a propagator is its number of failures
+         */
+        WDEG,
+        /**
+         * On failure of a propagator <i>c</i>, its weight for each of its uninstantiated variables <i>x</i>
+         * is increased by 1 / (|fut(c)| * |dom(x)|), <i>fut(c)</i> being the uninstantiated variables of <i>c</i>
+         */
+        CACD,
+        /**
+         * On failure of a propagator, its weight is moved towards 1 / (number of failures since its last failure + 1)
+         */
+        CHS
+    }
+
+    /**
+     * Initial value, lower bound and decrease on failure of the step size of {@link Weighting#CHS}
+     */
+    private static final double ALPHA = 0.4, ALPHA_MIN = 0.06, ALPHA_DECAY = 1e-6;
+
+    /**
+     * The way value is selected for a given variable
+     */
+    private final IntValueSelector valueSelector;
+
+    /**
+     * The weighting rule
+     */
+    private final Weighting weighting;
+
+    /**
+     * Random order of the variables, to break ties
+     */
+    private final int[] rank;
+
+    /**
+     * Map (variable id - index in {@link #vars}), -1 if not a decision variable
+     */
+    private final IntMap v2i;
+
+    /**
+     * Map (variable id - index in {@link #monitored})
+     */
+    private IntMap v2m;
+
+    /**
+     * Map (propagator id - index in {@link #propagators})
+     */
+    private IntMap p2i;
+
+    /**
+     * Weighted propagators, that is, the propagators of the decision variables
+     */
+    private Propagator[] propagators;
+
+    /**
+     * Decision variables and variables of the weighted propagators, whose modifications are listened
+     */
+    private Variable[] monitored;
+
+    /**
+     * Weight of each propagator, or of each pair (propagator, decision variable) with {@link Weighting#CACD}
+     */
+    private double[] weights;
+
+    /**
+     * With {@link Weighting#CACD}, index in {@link #weights} of the first decision variable of each propagator
+     */
+    private int[] offsets;
+
+    /**
+     * With {@link Weighting#CACD}, propagators of each decision variable and index of their weight in {@link #weights}
+     */
+    private int[][] vprops, vslots;
+
+    /**
+     * With {@link Weighting#CHS}, number of failures, step size,
+     * and number of failures when each propagator fails for the last time
+     */
+    private long conflicts;
+    private double alpha;
+    private long[] lasts;
+
+    /**
+     * Number of uninstantiated variables of each propagator
+     */
+    private IStateInt[] futVars;
+
+    /**
+     * Index of the decision variables of each propagator
+     */
+    private int[][] scopes;
+
+    /**
+     * Monitored variables which are known to be instantiated
+     */
+    private IStateBitSet instantiated;
+
+    /**
+     * Operations executed on backtrack: mark a variable, or the variables of a propagator, as modified
+     */
+    private final IOperation[] varOps;
+    private IOperation[] propOps;
+
+    /**
+     * Time stamp of the last operation saved for each decision variable
+     */
+    private final int[] stamps;
+
+    /**
+     * Domain size and weighted degree of each decision variable, as stored in the heap
+     */
+    private final int[] dsizes;
+    private final double[] wdegs;
+
+    /**
+     * Binary heap of uninstantiated decision variables, and position of each variable in it (-1 if absent)
+     */
+    private final int[] heap, pos;
+    private int size;
+
+    /**
+     * Decision variables modified since the last decision
+     */
+    private final TIntArrayList modified;
+    private final boolean[] isModified;
+
+    private final IEnvironment environment;
+
+    /**
+     * Creates a DomOverWDegIncr variable selector
+     *
+     * @param variables     decision variables
+     * @param seed          seed for breaking ties randomly
+     * @param valueSelector a value selector
+     */
+    public DomOverWDegIncr(IntVar[] variables, long seed, IntValueSelector valueSelector) {
+        this(variables, seed, valueSelector, Weighting.WDEG);
+    }
+
+    /**
+     * Creates a DomOverWDegIncr variable selector
+     *
+     * @param variables     decision variables
+     * @param seed          seed for breaking ties randomly
+     * @param valueSelector a value selector
+     * @param weighting     how the propagators are weighted on failure
+     */
+    public DomOverWDegIncr(IntVar[] variables, long seed, IntValueSelector valueSelector, Weighting weighting) {
+        super(variables);
+        Model model = variables[0].getModel();
+        this.environment = model.getEnvironment();
+        this.valueSelector = valueSelector;
+        this.weighting = weighting;
+        this.alpha = ALPHA;
+        int n = vars.length;
+        java.util.Random random = new java.util.Random(seed);
+        rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            int j = random.nextInt(i + 1);
+            rank[i] = rank[j];
+            rank[j] = i;
+        }
+        v2i = new IntMap(n * 3 / 2 + 1, -1);
+        varOps = new IOperation[n];
+        for (int i = 0; i < n; i++) {
+            if (v2i.get(vars[i].getId()) == -1) {
+                v2i.put(vars[i].getId(), i);
+            }
+            final int idx = i;
+            varOps[i] = () -> markModified(idx);
+        }
+        stamps = new int[n];
+        dsizes = new int[n];
+        wdegs = new double[n];
+        heap = new int[n];
+        pos = new int[n];
+        modified = new TIntArrayList(n);
+        isModified = new boolean[n];
+    }
+
+    @Override
+    public boolean init() {
+        Solver solver = vars[0].getModel().getSolver();
+        if (!solver.getSearchMonitors().contains(this)) {
+            solver.plugMonitor(this);
+            collectPropagators();
+        }
+        // counters are reset from the current state of the variables
+        for (int k = 0; k < monitored.length; k++) {
+            instantiated.set(k, monitored[k].isInstantiated());
+        }
+        for (int p = 0; p < futVars.length; p++) {
+            int nb = 0;
+            for (Variable v : propagators[p].getVars()) {
+                if (!v.isInstantiated()) {
+                    nb++;
+                }
+            }
+            futVars[p].set(nb);
+        }
+        modified.resetQuick();
+        size = 0;
+        for (int i = 0; i < vars.length; i++) {
+            isModified[i] = false;
+            stamps[i] = -1;
+            pos[i] = -1;
+            if (!vars[i].isInstantiated() && v2i.get(vars[i].getId()) == i) {
+                dsizes[i] = vars[i].getDomainSize();
+                wdegs[i] = weight(i);
+                insert(i);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void remove() {
+        Solver solver = vars[0].getModel().getSolver();
+        if (solver.getSearchMonitors().contains(this)) {
+            solver.unplugMonitor(this);
+            for (Variable v : monitored) {
+                v.removeMonitor(this);
+            }
+        }
+    }
+
+    /**
+     * Index the propagators of the decision variables, and listen to the variables of these propagators
+     */
+    private void collectPropagators() {
+        p2i = new IntMap(16, -1);
+        v2m = new IntMap(vars.length * 3 / 2 + 1, -1);
+        List<Propagator> props = new ArrayList<>();
+        List<TIntArrayList> decVars = new ArrayList<>();
+        List<Variable> vs = new ArrayList<>();
+        for (int i = 0; i < vars.length; i++) {
+            if (v2i.get(vars[i].getId()) != i) {
+                continue; // duplicate
+            }
+            if (v2m.get(vars[i].getId()) == -1) {
+                v2m.put(vars[i].getId(), vs.size());
+                vs.add(vars[i]);
+                vars[i].addMonitor(this);
+            }
+            for (int j = 0; j < vars[i].getNbProps(); j++) {
+                Propagator prop = vars[i].getPropagator(j);
+                int p = p2i.get(prop.getId());
+                if (p == -1) {
+                    p = props.size();
+                    p2i.put(prop.getId(), p);
+                    props.add(prop);
+                    decVars.add(new TIntArrayList());
+                    for (Variable v : prop.getVars()) {
+                        if (v2m.get(v.getId()) == -1) {
+                            v2m.put(v.getId(), vs.size());
+                            vs.add(v);
+                            v.addMonitor(this);
+                        }
+                    }
+                }
+                TIntArrayList scope = decVars.get(p);
+                if (scope.isEmpty() || scope.get(scope.size() - 1) != i) {
+                    scope.add(i);
+                }
+            }
+        }
+        int m = props.size();
+        futVars = new IStateInt[m];
+        scopes = new int[m][];
+        propOps = new IOperation[m];
+        propagators = props.toArray(new Propagator[0]);
+        monitored = vs.toArray(new Variable[0]);
+        instantiated = environment.makeBitSet(monitored.length);
+        for (int p = 0; p < m; p++) {
+            scopes[p] = decVars.get(p).toArray();
+            futVars[p] = environment.makeInt(propagators[p].arity());
+            final int idx = p;
+            propOps[p] = () -> markScope(idx);
+        }
+        if (weighting == Weighting.CACD) {
+            offsets = new int[m + 1];
+            int[] nbProps = new int[vars.length];
+            for (int p = 0; p < m; p++) {
+                offsets[p + 1] = offsets[p] + scopes[p].length;
+                for (int i : scopes[p]) {
+                    nbProps[i]++;
+                }
+            }
+            weights = new double[offsets[m]];
+            vprops = new int[vars.length][];
+            vslots = new int[vars.length][];
+            for (int i = 0; i < vars.length; i++) {
+                vprops[i] = new int[nbProps[i]];
+                vslots[i] = new int[nbProps[i]];
+                nbProps[i] = 0;
+            }
+            for (int p = 0; p < m; p++) {
+                for (int k = 0; k < scopes[p].length; k++) {
+                    int i = scopes[p][k];
+                    vprops[i][nbProps[i]] = p;
+                    vslots[i][nbProps[i]++] = offsets[p] + k;
+                }
+            }
+        } else {
+            weights = new double[m];
+        }
+        if (weighting == Weighting.CHS) {
+            lasts = new long[m];
+        }
+    }
+
+    @Override
+    public void onUpdate(Variable var, IEventType evt) {
+        int i = v2i.get(var.getId());
+        if (i > -1) {
+            markModified(i);
+            int stamp = environment.getTimeStamp();
+            if (stamps[i] != stamp) {
+                stamps[i] = stamp;
+                environment.save(varOps[i]);
+            }
+        }
+        int k = v2m.get(var.getId());
+        if (k > -1 && var.isInstantiated() && !instantiated.get(k)) {
+            instantiated.set(k);
+            for (int j = 0; j < var.getNbProps(); j++) {
+                int p = p2i.get(var.getPropagator(j).getId());
+                if (p > -1 && futVars[p].add(-1) == 1) {
+                    // the propagator is not weighted anymore
+                    markScope(p);
+                    environment.save(propOps[p]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onContradiction(ContradictionException cex) {
+        if (cex.c instanceof Propagator) {
+            int p = p2i.get(((Propagator) cex.c).getId());
+            if (p > -1) {
+                updateWeights(p);
+                if (futVars[p].get() > 1) {
+                    markScope(p);
+                }
+            }
+        }
+    }
+
+    /**
+     * Update the weights on failure of the propagator <i>p</i>
+     */
+    private void updateWeights(int p) {
+        switch (weighting) {
+            case CACD:
+                int fut = Math.max(1, futVars[p].get());
+                for (int k = 0; k < scopes[p].length; k++) {
+                    IntVar v = vars[scopes[p][k]];
+                    if (!v.isInstantiated()) {
+                        weights[offsets[p] + k] += 1d / ((double) fut * v.getDomainSize());
+                    }
+                }
+                break;
+            case CHS:
+                conflicts++;
+                double reward = 1d / (conflicts - lasts[p] + 1);
+                weights[p] = (1 - alpha) * weights[p] + alpha * reward;
+                lasts[p] = conflicts;
+                alpha = Math.max(ALPHA_MIN, alpha - ALPHA_DECAY);
+                break;
+            default:
+                weights[p]++;
+                break;
+        }
+    }
+
+    private void markModified(int i) {
+        if (!isModified[i]) {
+            isModified[i] = true;
+            modified.add(i);
+        }
+    }
+
+    private void markScope(int p) {
+        for (int i : scopes[p]) {
+            markModified(i);
+        }
+    }
+
+    private double weight(int i) {
+        double w = 1;
+        if (weighting == Weighting.CACD) {
+            for (int t = 0; t < vprops[i].length; t++) {
+                if (futVars[vprops[i][t]].get() > 1) {
+                    w += weights[vslots[i][t]];
+                }
+            }
+            return w;
+        }
+        IntVar v = vars[i];
+        int nbp = v.getNbProps();
+        for (int j = 0; j < nbp; j++) {
+            int p = p2i.get(v.getPropagator(j).getId());
+            if (p > -1 && futVars[p].get() > 1) {
+                w += weights[p];
+            }
+        }
+        return w;
+    }
+
+    @Override
+    public Decision<IntVar> computeDecision(IntVar variable) {
+        if (variable == null || variable.isInstantiated()) {
+            return null;
+        }
+        int currentVal = valueSelector.selectValue(variable);
+        return variable.getModel().getSolver().getDecisionPath().makeIntDecision(variable, DecisionOperatorFactory.makeIntEq(), currentVal);
+    }
+
+    @Override
+    public Decision<IntVar> getDecision() {
+        for (int k = 0; k < modified.size(); k++) {
+            int i = modified.getQuick(k);
+            isModified[i] = false;
+            if (vars[i].isInstantiated()) {
+                if (pos[i] > -1) {
+                    delete(i);
+                }
+            } else {
+                dsizes[i] = vars[i].getDomainSize();
+                wdegs[i] = weight(i);
+                if (pos[i] > -1) {
+                    siftUp(pos[i]);
+                    siftDown(pos[i]);
+                } else {
+                    insert(i);
+                }
+            }
+        }
+        modified.resetQuick();
+        return size > 0 ? computeDecision(vars[heap[0]]) : null;
+    }
+
+    //***********************************************************************************
+    // HEAP
+    //***********************************************************************************
+
+    /**
+     * @return <i>true</i> if the variable <i>i</i> has to be selected before the variable <i>j</i>
+     */
+    private boolean before(int i, int j) {
+        double c1 = dsizes[i] * wdegs[j];
+        double c2 = dsizes[j] * wdegs[i];
+        return c1 < c2 || (c1 == c2 && rank[i] < rank[j]);
+    }
+
+    private void insert(int i) {
+        heap[size] = i;
+        pos[i] = size;
+        siftUp(size++);
+    }
+
+    private void delete(int i) {
+        int k = pos[i];
+        pos[i] = -1;
+        int last = heap[--size];
+        if (k < size) {
+            heap[k] = last;
+            pos[last] = k;
+            siftUp(k);
+            siftDown(pos[last]);
+        }
+    }
+
+    private void siftUp(int k) {
+        int i = heap[k];
+        while (k > 0) {
+            int parent = (k - 1) >> 1;
+            int j = heap[parent];
+            if (!before(i, j)) {
+                break;
+            }
+            heap[k] = j;
+            pos[j] = k;
+            k = parent;
+        }
+        heap[k] = i;
+        pos[i] = k;
+    }
+
+    private void siftDown(int k) {
+        int i = heap[k];
+        int half = size >> 1;
+        while (k < half) {
+            int child = 2 * k + 1;
+            int right = child + 1;
+            if (right < size && before(heap[right], heap[child])) {
+                child = right;
+            }
+            int j = heap[child];
+            if (!before(j, i)) {
+                break;
+            }
+            heap[k] = j;
+            pos[j] = k;
+            k = child;
+        }
+        heap[k] = i;
+        pos[i] = k;
+    }
+}
@@ -11,6 +11,7 @@ package org.chocosolver.solver.trace;
 
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.propagation.PropagationProfiler;
 import org.chocosolver.solver.search.loop.monitors.IMonitorClose;
 import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
 import org.chocosolver.solver.search.loop.monitors.IMonitorDownBranch;
@@ -128,6 +129,38 @@ public interface IOutputFactory extends ISelf<Solver> {
         getOut().println(ref().getMeasures().toCSV());
     }
 
+    /**
+     * Print the propagation profile: statistics per constraint, then statistics of the 20 most time consuming
+     * propagators.
+     * Profiling must have been enabled before the resolution step with {@link Solver#profilePropagation()}.
+     * <p>
+     * Recommended usage: to be called after the resolution step.
+     */
+    default void printPropagationProfile() {
+        PropagationProfiler profiler = ref().getPropagationProfiler();
+        if (profiler == null) {
+            getErr().println("Propagation profiling is not enabled, see Solver.profilePropagation()");
+        } else {
+            profiler.print(getOut(), 20);
+        }
+    }
+
+    /**
+     * Enable propagation profiling and plug a search monitor which calls {@link #printPropagationProfile()}
+     * after closing the search.
+     * <p>
+     * Recommended usage: to be called before the resolution step.
+     */
+    default void showPropagationProfile() {
+        ref().profilePropagation();
+        ref().plugMonitor(new IMonitorClose() {
+            @Override
+            public void afterClose() {
+                printPropagationProfile();
+            }
+        });
+    }
+
     /**
      * Plug a search monitor which calls {@link #printVersion()}
      * and {@link #printStatistics()} before closing the search.
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.variables;
 
 import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Identity;
 import org.chocosolver.solver.Model;
@@ -362,4 +363,26 @@ public interface Variable extends Identity, Comparable<Variable> {
      * if differents causes modified this variable (this may happen when a view refers to this).
      */
     ICause getCause();
+
+    /**
+     * @return <i>true</i> if this variable can be copied with {@link #duplicate(Duplicator)}.
+     * Variables which override {@link #duplicate(Duplicator)} must also override this method.
+     */
+    default boolean isDuplicable() {
+        return false;
+    }
+
+    /**
+     * Create a copy of this variable in {@link Duplicator#getTarget()}, with the same name and current domain.
+     * Variables this one depends on (e.g., the variable a view is built on)
+     * must be obtained through {@link Duplicator#get(Variable)}.
+     *
+     * @param duplicator the copy factory
+     * @return a copy of this variable
+     * @throws UnsupportedOperationException if this kind of variable cannot be duplicated
+     * @see #isDuplicable()
+     */
+    default Variable duplicate(Duplicator duplicator) {
+        throw new UnsupportedOperationException("Cannot duplicate " + getName() + " of type " + getClass().getSimpleName());
+    }
 }
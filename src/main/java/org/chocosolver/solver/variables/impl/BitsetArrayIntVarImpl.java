@@ -14,6 +14,7 @@ import gnu.trove.map.hash.TIntIntHashMap;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateBitSet;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -913,4 +914,20 @@ public final class BitsetArrayIntVarImpl extends AbstractVariable implements Int
         _javaIterator.reset();
         return _javaIterator;
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public IntVar duplicate(Duplicator duplicator) {
+        int[] values = new int[getDomainSize()];
+        int k = 0;
+        int ub = getUB();
+        for (int v = getLB(); v <= ub; v = nextValue(v)) {
+            values[k++] = v;
+        }
+        return new BitsetArrayIntVarImpl(name, values, duplicator.getTarget());
+    }
 }
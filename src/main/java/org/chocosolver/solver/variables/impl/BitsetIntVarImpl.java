@@ -10,8 +10,8 @@
 package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.memory.IEnvironment;
-import org.chocosolver.memory.IStateBitSet;
-import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.structure.StoredBitSet;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -45,21 +45,19 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
      */
     private boolean reactOnRemoval = false;
     /**
-     * Bitset of available values -- includes offset
+     * Index of the attribute of {@link #VALUES} storing the lower bound of the current domain -- includes offset
      */
-    private final IStateBitSet VALUES;
+    private static final int LB = 0;
     /**
-     * Lower bound of the current domain -- includes offset
+     * Index of the attribute of {@link #VALUES} storing the upper bound of the current domain -- includes offset
      */
-    private final IStateInt LB;
+    private static final int UB = 1;
     /**
-     * Upper bound of the current domain -- includes offset
+     * Bitset of available values -- includes offset.
+     * The bounds are stored as attributes of the bitset and the size of the domain is its cardinality,
+     * so that all of them are saved in a single record per world.
      */
-    private final IStateInt UB;
-    /**
-     * Current size of domain
-     */
-    private final IStateInt SIZE;
+    private final StoredBitSet VALUES;
     /**
      * offset of the lower bound and the first value in the domain
      */
@@ -97,13 +95,11 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         IEnvironment env = model.getEnvironment();
         OFFSET = sortedValues[0];
         int capacity = sortedValues[sortedValues.length - 1] - OFFSET + 1;
-        this.VALUES = env.makeBitSet(capacity);
+        this.VALUES = env.makeStoredBitSet(capacity, 2);
         for (int sortedValue : sortedValues) {
             this.VALUES.set(sortedValue - OFFSET);
         }
-        this.LB = env.makeInt(0);
-        this.UB = env.makeInt(capacity - 1);
-        this.SIZE = env.makeInt(VALUES.cardinality());
+        this.VALUES.setAttribute(UB, capacity - 1);
         LENGTH = capacity;
     }
 
@@ -119,11 +115,9 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         IEnvironment env = this.model.getEnvironment();
         this.OFFSET = min;
         int capacity = max - min + 1;
-        this.VALUES = env.makeBitSet(capacity);
+        this.VALUES = env.makeStoredBitSet(capacity, 2);
         this.VALUES.set(0, max - min + 1);
-        this.LB = env.makeInt(0);
-        this.UB = env.makeInt(max - min);
-        this.SIZE = env.makeInt(capacity);
+        this.VALUES.setAttribute(UB, max - min);
         LENGTH = capacity;
     }
 
@@ -153,21 +147,20 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         boolean change = aValue >= 0 && aValue <= LENGTH && VALUES.get(aValue);
         if (change) {
             model.getSolver().getEventObserver().removeValue(this, value, cause);
-            if (SIZE.get() == 1) {
+            if (VALUES.cardinality() == 1) {
                 this.contradiction(cause, MSG_REMOVE);
             }
             IntEventType e = IntEventType.REMOVE;
             this.VALUES.clear(aValue);
-            this.SIZE.add(-1);
             if (reactOnRemoval) {
                 delta.add(value, cause);
             }
 
             if (value == getLB()) {
-                LB.set(VALUES.nextSetBit(aValue));
+                VALUES.setAttribute(LB, VALUES.nextSetBit(aValue));
                 e = IntEventType.INCLOW;
             } else if (value == getUB()) {
-                UB.set(VALUES.prevSetBit(aValue));
+                VALUES.setAttribute(UB, VALUES.prevSetBit(aValue));
                 e = IntEventType.DECUPP;
             }
             assert !VALUES.isEmpty();
@@ -210,7 +203,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         int value = nlb;
         int to = nub;
         boolean hasRemoved = false;
-        int count = SIZE.get();
+        int count = VALUES.cardinality();
         while (value <= to) {
             int aValue = value - OFFSET;
             if (aValue >= 0 && aValue <= LENGTH && VALUES.get(aValue)) {
@@ -234,7 +227,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
     }
 
     private void notifyRemovals(int count, ICause cause) throws ContradictionException {
-        SIZE.set(count);
+        assert count == VALUES.cardinality();
         IntEventType e = IntEventType.REMOVE;
         if (count == 1) {
             e = IntEventType.INSTANTIATE;
@@ -268,7 +261,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         boolean hasChanged = updateBounds(nlb, nub, cause);
         // now deal with holes
         boolean hasRemoved = false;
-        int count = SIZE.get();
+        int count = VALUES.cardinality();
         int value;
         int m0 = values.nextValueOut(nlb);
         while (m0 < nub) {
@@ -317,22 +310,20 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
                 return updateUpperBound(from - 1, cause);
             else {
                 boolean anyChange = false;
-                int i = VALUES.nextSetBit(from - OFFSET);
+                int first = VALUES.nextSetBit(from - OFFSET);
                 to -= OFFSET;
-                int count = SIZE.get();
                 // the iteration is mandatory for delta and observers
-                for (; i > -1 && i <= to; i = VALUES.nextSetBit(i + 1)) {
+                for (int i = first; i > -1 && i <= to; i = VALUES.nextSetBit(i + 1)) {
                     int aValue = i + OFFSET;
                     anyChange = true;
-                    count--;
-                    this.VALUES.clear(i);
                     if (reactOnRemoval) {
                         delta.add(aValue, cause);
                     }
                     model.getSolver().getEventObserver().removeValue(this, aValue, cause);
                 }
                 if (anyChange) {
-                    SIZE.set(count);
+                    // then, words are cleared at once
+                    this.VALUES.clear(first, to + 1);
                     this.notifyPropagators(IntEventType.REMOVE, cause);
                 }
                 return anyChange;
@@ -366,7 +357,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
                 model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
                 int aValue = value - OFFSET;
                 if (reactOnRemoval) {
-                    int i = VALUES.nextSetBit(this.LB.get());
+                    int i = VALUES.nextSetBit(this.VALUES.getAttribute(LB));
                     for (; i < aValue; i = VALUES.nextSetBit(i + 1)) {
                         delta.add(i + OFFSET, cause);
                     }
@@ -377,9 +368,8 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
                 }
                 this.VALUES.clear();
                 this.VALUES.set(aValue);
-                this.LB.set(aValue);
-                this.UB.set(aValue);
-                this.SIZE.set(1);
+                this.VALUES.setAttribute(LB, aValue);
+                this.VALUES.setAttribute(UB, aValue);
                 assert !VALUES.isEmpty();
                 this.notifyPropagators(IntEventType.INSTANTIATE, cause);
                 return true;
@@ -423,9 +413,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
                         }
                     }
                     VALUES.clear(old - OFFSET, aValue);
-                    LB.set(VALUES.nextSetBit(aValue));
-                    assert SIZE.get() > VALUES.cardinality();
-                    SIZE.set(VALUES.cardinality());
+                    VALUES.setAttribute(LB, VALUES.nextSetBit(aValue));
                     if (isInstantiated()) {
                         e = IntEventType.INSTANTIATE;
                     }
@@ -473,9 +461,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
                         }
                     }
                     VALUES.clear(aValue + 1, oub - OFFSET + 1);
-                    UB.set(VALUES.prevSetBit(aValue));
-                    assert SIZE.get() > VALUES.cardinality();
-                    SIZE.set(VALUES.cardinality());
+                    VALUES.setAttribute(UB, VALUES.prevSetBit(aValue));
                     if (isInstantiated()) {
                         e = IntEventType.INSTANTIATE;
                     }
@@ -509,8 +495,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
                     }
                     VALUES.clear(olb - OFFSET, aLB);
                     olb = VALUES.nextSetBit(aLB); // olb is used as a temporary variable
-                    LB.set(olb);
-                    SIZE.set(VALUES.cardinality());
+                    VALUES.setAttribute(LB, olb);
                     olb += OFFSET; // required because we will treat upper bound just after
                 }
                 if (olb > ub) {
@@ -527,8 +512,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
                         }
                     }
                     VALUES.clear(aUB + 1, oub - OFFSET + 1);
-                    UB.set(VALUES.prevSetBit(aUB));
-                    SIZE.set(VALUES.cardinality());
+                    VALUES.setAttribute(UB, VALUES.prevSetBit(aUB));
                 }
                 if (isInstantiated()) {
                     e = IntEventType.INSTANTIATE;
@@ -541,7 +525,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
 
         @Override
         public boolean isInstantiated () {
-            return SIZE.get() == 1;
+            return VALUES.cardinality() == 1;
         }
 
         @Override
@@ -552,7 +536,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         @Override
         public boolean contains ( int aValue){
             aValue -= OFFSET;
-            return LB.get() <= aValue && aValue <= UB.get() && this.VALUES.get(aValue);
+            return VALUES.getAttribute(LB) <= aValue && aValue <= VALUES.getAttribute(UB) && this.VALUES.get(aValue);
         }
 
         /**
@@ -573,7 +557,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
          */
         @Override
         public int getLB () {
-            return this.LB.get() + OFFSET;
+            return this.VALUES.getAttribute(LB) + OFFSET;
         }
 
         /**
@@ -583,12 +567,12 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
          */
         @Override
         public int getUB () {
-            return this.UB.get() + OFFSET;
+            return this.VALUES.getAttribute(UB) + OFFSET;
         }
 
         @Override
         public int getDomainSize () {
-            return SIZE.get();
+            return VALUES.cardinality();
         }
 
         @Override
@@ -596,10 +580,25 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
             return getUB() - getLB() + 1;
         }
 
+        /**
+         * Return the values of the domain in [<i>from</i>, <i>from</i> + 63] as a word:
+         * bit <i>i</i> is set iff <i>from</i> + <i>i</i> belongs to the domain.
+         *
+         * @param from the smallest value considered
+         * @return the values of the domain from <i>from</i>, as a word
+         */
+        public long getWord(int from) {
+            long fromIndex = (long) from - OFFSET;
+            if (fromIndex >= LENGTH || fromIndex <= -64) {
+                return 0L;
+            }
+            return VALUES.getWord((int) fromIndex);
+        }
+
         @Override
         public int nextValue ( int aValue){
             aValue -= OFFSET;
-            int lb = LB.get();
+            int lb = VALUES.getAttribute(LB);
             if (aValue < 0 || aValue < lb) return lb + OFFSET;
             aValue = VALUES.nextSetBit(aValue + 1);
             if (aValue > -1) return aValue + OFFSET;
@@ -619,7 +618,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         @Override
         public int previousValue ( int aValue){
             aValue -= OFFSET;
-            int ub = UB.get();
+            int ub = VALUES.getAttribute(UB);
             if (aValue > ub) return ub + OFFSET;
             aValue = VALUES.prevSetBit(aValue - 1);
             if (aValue > -1) return aValue + OFFSET;
@@ -650,7 +649,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         public String toString () {
             StringBuilder s = new StringBuilder(20);
             s.append(name).append(" = ");
-            if (SIZE.get() == 1) {
+            if (VALUES.cardinality() == 1) {
                 s.append(this.getLB());
             } else {
                 int v = getLB(), w;
@@ -716,13 +715,13 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
                     @Override
                     public void bottomUpInit() {
                         super.bottomUpInit();
-                        this.value = LB.get();
+                        this.value = VALUES.getAttribute(LB);
                     }
 
                     @Override
                     public void topDownInit() {
                         super.topDownInit();
-                        this.value = UB.get();
+                        this.value = VALUES.getAttribute(UB);
                     }
 
                     @Override
@@ -833,4 +832,20 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
             _javaIterator.reset();
             return _javaIterator;
         }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public IntVar duplicate(Duplicator duplicator) {
+        int[] values = new int[getDomainSize()];
+        int k = 0;
+        int ub = getUB();
+        for (int v = getLB(); v <= ub; v = nextValue(v)) {
+            values[k++] = v;
+        }
+        return new BitsetIntVarImpl(name, values, duplicator.getTarget());
     }
+}
@@ -10,9 +10,12 @@
 package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.delta.IEnumDelta;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
@@ -505,4 +508,22 @@ public class BoolVarImpl extends AbstractVariable implements BoolVar {
     public void setNot(boolean isNot) {
         this.isNot = isNot;
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public BoolVar duplicate(Duplicator duplicator) {
+        BoolVarImpl copy = new BoolVarImpl(name, duplicator.getTarget());
+        if (isInstantiated()) {
+            try {
+                copy.instantiateTo(getValue(), Cause.Null);
+            } catch (ContradictionException e) {
+                throw new SolverException("Unexpected failure while duplicating " + name);
+            }
+        }
+        return copy;
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.variables.impl;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -100,4 +101,13 @@ public class FixedBoolVarImpl extends FixedIntVarImpl implements BoolVar {
         return name + " = " + constante;
     }
 
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public BoolVar duplicate(Duplicator duplicator) {
+        return new FixedBoolVarImpl(name, constante, duplicator.getTarget());
+    }
 }
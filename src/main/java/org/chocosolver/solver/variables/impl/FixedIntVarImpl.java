@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.variables.impl;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -404,4 +405,14 @@ public class FixedIntVarImpl extends AbstractVariable implements IntVar {
         _javaIterator.reset();
         return _javaIterator;
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public IntVar duplicate(Duplicator duplicator) {
+        return new FixedIntVarImpl(name, constante, duplicator.getTarget());
+    }
 }
@@ -11,6 +11,7 @@ package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -540,4 +541,14 @@ public final class IntervalIntVarImpl extends AbstractVariable implements IntVar
         _javaIterator.reset();
         return _javaIterator;
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return true;
+    }
+
+    @Override
+    public IntVar duplicate(Duplicator duplicator) {
+        return new IntervalIntVarImpl(name, getLB(), getUB(), duplicator.getTarget());
+    }
 }
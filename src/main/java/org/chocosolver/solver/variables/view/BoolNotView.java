@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.variables.view;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
@@ -285,4 +286,14 @@ public final class BoolNotView extends IntView<BoolVar> implements BoolVar {
         explanation.addLiteral(this, explanation.getFreeSet(value), thisPivot);
         explanation.addLiteral(var, explanation.getFreeSet(value), !thisPivot);
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return var.isDuplicable();
+    }
+
+    @Override
+    public BoolVar duplicate(Duplicator duplicator) {
+        return duplicator.get(var).not();
+    }
 }
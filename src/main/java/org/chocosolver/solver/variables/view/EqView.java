@@ -9,10 +9,12 @@
  */
 package org.chocosolver.solver.variables.view;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.learn.Implications;
+import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
@@ -227,4 +229,14 @@ public final class EqView extends IntBoolView {
             }
         }
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return var.isDuplicable();
+    }
+
+    @Override
+    public BoolVar duplicate(Duplicator duplicator) {
+        return new EqView(duplicator.get(var), cste);
+    }
 }
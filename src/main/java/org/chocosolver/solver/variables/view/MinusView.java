@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.variables.view;
 
+import org.chocosolver.solver.Duplicator;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -328,4 +329,14 @@ public class MinusView extends IntView<IntVar> {
                 break;
         }
     }
+
+    @Override
+    public boolean isDuplicable() {
+        return var.isDuplicable();
+    }
+
+    @Override
+    public IntVar duplicate(Duplicator duplicator) {
+        return new MinusView(duplicator.get(var));
+    }
 }
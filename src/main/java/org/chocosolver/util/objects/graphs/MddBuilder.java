@@ -0,0 +1,338 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.graphs;
+
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.SolverException;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Builds the reduced diagram of a {@link MultivaluedDecisionDiagram} from a set of tuples.
+ * <p>
+ * Tuples are first partitioned by the value of the first variable.
+ * Each partition is then processed in parallel (in the common fork/join pool): its tuples are sorted
+ * in lexicographic order (radix sort) and a reduced sub-diagram is built incrementally from them:
+ * once all the tuples going through a node have been added, this node is never modified again
+ * and is replaced by an identical node of the same layer, if any (hash-consing).
+ * Sub-diagrams are finally merged, again with hash-consing, so that isomorphic nodes of distinct partitions
+ * are shared too, and the diagram is laid out in a single array, layer after layer.
+ * The cost of the construction is thus linear in the number of tuples and in the size of the diagram,
+ * instead of the quadratic detection of isomorphisms made by {@link MultivaluedDecisionDiagram}.
+ * </p>
+ * <p>
+ * While building, a node of layer <i>i</i> is an array of <code>sizes[i]</code> children,
+ * where 0 means no edge, and <i>k</i> &gt; 0 means the (<i>k</i>-1)<sup>th</sup> node of layer <i>i</i>+1,
+ * or the terminal node for the last layer.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+final class MddBuilder {
+
+    private final int nbLayers;
+    private final int[] offsets;
+    private final int[] sizes;
+
+    /**
+     * @param offsets initial lower bound of each variable
+     * @param sizes   initial domain size of each variable, from its lower bound to its upper bound
+     */
+    MddBuilder(int[] offsets, int[] sizes) {
+        this.nbLayers = offsets.length;
+        this.offsets = offsets;
+        this.sizes = sizes;
+    }
+
+    /**
+     * Build the reduced diagram of <i>tuples</i>, tuples out of the domains being ignored
+     *
+     * @param tuples set of allowed tuples
+     * @return the diagram, as expected by {@link MultivaluedDecisionDiagram}
+     */
+    int[] build(Tuples tuples) {
+        // 1. partition the tuples by value of the first variable
+        int[] starts = new int[sizes[0] + 1];
+        int nt = tuples.nbTuples();
+        for (int t = 0; t < nt; t++) {
+            if (inDomains(tuples, t)) {
+                starts[tuples.get(t, 0) - offsets[0] + 1]++;
+            }
+        }
+        for (int v = 0; v < sizes[0]; v++) {
+            starts[v + 1] += starts[v];
+        }
+        int[] order = new int[starts[sizes[0]]];
+        int[] next = Arrays.copyOf(starts, sizes[0]);
+        for (int t = 0; t < nt; t++) {
+            if (inDomains(tuples, t)) {
+                order[next[tuples.get(t, 0) - offsets[0]]++] = t;
+            }
+        }
+        // 2. build a reduced sub-diagram per partition
+        Layer[][] parts = new Layer[sizes[0]][];
+        int[] roots = new int[sizes[0]];
+        if (nbLayers > 1) {
+            IntStream.range(0, sizes[0]).parallel()
+                    .filter(v -> starts[v] < starts[v + 1])
+                    .forEach(v -> {
+                        parts[v] = newLayers();
+                        roots[v] = buildPartition(tuples, order, starts[v], starts[v + 1], parts[v]);
+                    });
+        }
+        // 3. merge sub-diagrams
+        Layer[] layers = newLayers();
+        int[] root = new int[sizes[0]];
+        for (int v = 0; v < sizes[0]; v++) {
+            if (starts[v] < starts[v + 1]) {
+                root[v] = nbLayers == 1 ? 1 : merge(parts[v], roots[v], layers) + 1;
+                parts[v] = null;
+            }
+        }
+        // 4. lay out the diagram
+        return layout(root, layers);
+    }
+
+    private boolean inDomains(Tuples tuples, int t) {
+        for (int i = 0; i < nbLayers; i++) {
+            int v = tuples.get(t, i);
+            if (v < offsets[i] || v >= offsets[i] + sizes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Layer[] newLayers() {
+        Layer[] layers = new Layer[nbLayers];
+        for (int i = 1; i < nbLayers; i++) {
+            layers[i] = new Layer(sizes[i]);
+        }
+        return layers;
+    }
+
+    /**
+     * Sort the tuples <code>order[from..to)</code>, which share the same first value, and add them,
+     * one after the other, to a reduced diagram stored in <i>layers</i>.
+     *
+     * @return the index of the node of layer 1 which is the root of the sub-diagram
+     */
+    private int buildPartition(Tuples tuples, int[] order, int from, int to, Layer[] layers) {
+        sort(tuples, order, from, to);
+        int n = nbLayers;
+        // nodes of the path of the last tuple added, not reduced yet
+        int[][] path = new int[n][];
+        for (int i = 1; i < n; i++) {
+            path[i] = new int[sizes[i]];
+        }
+        int[] prev = new int[n];
+        for (int k = from; k < to; k++) {
+            int t = order[k];
+            int d = 1;
+            if (k > from) {
+                while (d < n && tuples.get(t, d) - offsets[d] == prev[d]) {
+                    d++;
+                }
+                if (d == n) { // duplicate tuple
+                    continue;
+                }
+                // the nodes below the common prefix are now complete
+                reduce(path, prev, layers, d + 1);
+            }
+            for (int i = d; i < n; i++) {
+                prev[i] = tuples.get(t, i) - offsets[i];
+            }
+            path[n - 1][prev[n - 1]] = 1;
+        }
+        reduce(path, prev, layers, 2);
+        return layers[1].intern(path[1]);
+    }
+
+    /**
+     * Replace the nodes of <i>path</i>, from the last layer up to layer <i>upTo</i>,
+     * by their representative in <i>layers</i>
+     */
+    private void reduce(int[][] path, int[] prev, Layer[] layers, int upTo) {
+        for (int i = nbLayers - 1; i >= upTo; i--) {
+            int id = layers[i].intern(path[i]);
+            Arrays.fill(path[i], 0);
+            path[i - 1][prev[i - 1]] = id + 1;
+        }
+    }
+
+    /**
+     * Sort the tuples <code>order[from..to)</code> in lexicographic order, ignoring the first variable
+     * (least significant digit radix sort)
+     */
+    private void sort(Tuples tuples, int[] order, int from, int to) {
+        int len = to - from;
+        if (len < 2) {
+            return;
+        }
+        int[] src = Arrays.copyOfRange(order, from, to);
+        int[] dst = new int[len];
+        for (int i = nbLayers - 1; i > 0; i--) {
+            int[] counts = new int[sizes[i] + 1];
+            for (int k = 0; k < len; k++) {
+                counts[tuples.get(src[k], i) - offsets[i] + 1]++;
+            }
+            for (int v = 0; v < sizes[i]; v++) {
+                counts[v + 1] += counts[v];
+            }
+            for (int k = 0; k < len; k++) {
+                dst[counts[tuples.get(src[k], i) - offsets[i]]++] = src[k];
+            }
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        System.arraycopy(src, 0, order, from, len);
+    }
+
+    /**
+     * Add the nodes of a sub-diagram to <i>layers</i>, from the last layer up to the first one
+     *
+     * @return the index in <i>layers</i> of the node <i>root</i> of layer 1 of the sub-diagram
+     */
+    private int merge(Layer[] part, int root, Layer[] layers) {
+        int[] map = null;
+        for (int i = nbLayers - 1; i > 0; i--) {
+            int[] node = new int[sizes[i]];
+            int[] nmap = new int[part[i].count];
+            for (int id = 0; id < part[i].count; id++) {
+                System.arraycopy(part[i].cells, id * sizes[i], node, 0, sizes[i]);
+                if (map != null) {
+                    for (int j = 0; j < node.length; j++) {
+                        if (node[j] > 0) {
+                            node[j] = map[node[j] - 1] + 1;
+                        }
+                    }
+                }
+                nmap[id] = layers[i].intern(node);
+            }
+            map = nmap;
+        }
+        return map[root];
+    }
+
+    private int[] layout(int[] root, Layer[] layers) {
+        long[] starts = new long[nbLayers + 1];
+        starts[1] = sizes[0];
+        for (int i = 1; i < nbLayers; i++) {
+            starts[i + 1] = starts[i] + (long) layers[i].count * sizes[i];
+        }
+        if (starts[nbLayers] > Integer.MAX_VALUE - 8) {
+            throw new SolverException("The MDD is too large to be stored");
+        }
+        int[] mdd = new int[(int) starts[nbLayers]];
+        for (int v = 0; v < sizes[0]; v++) {
+            mdd[v] = edge(root[v], 0, starts);
+        }
+        for (int i = 1; i < nbLayers; i++) {
+            int o = (int) starts[i];
+            int length = layers[i].count * sizes[i];
+            for (int k = 0; k < length; k++) {
+                mdd[o + k] = edge(layers[i].cells[k], i, starts);
+            }
+        }
+        return mdd;
+    }
+
+    private int edge(int child, int layer, long[] starts) {
+        if (child == 0) {
+            return MultivaluedDecisionDiagram.EMPTY;
+        } else if (layer == nbLayers - 1) {
+            return MultivaluedDecisionDiagram.TERMINAL;
+        } else {
+            return (int) (starts[layer + 1] + (long) (child - 1) * sizes[layer + 1]);
+        }
+    }
+
+    /**
+     * Unique nodes of a layer, stored one after the other, and indexed by a hash table (open addressing)
+     */
+    private static final class Layer {
+        private final int width;
+        private int[] cells;
+        private int[] hashes;
+        private int count;
+        /**
+         * Index + 1 of the nodes, 0 for free slots
+         */
+        private int[] table;
+
+        private Layer(int width) {
+            this.width = width;
+            this.cells = new int[width * 16];
+            this.hashes = new int[16];
+            this.table = new int[32];
+        }
+
+        /**
+         * Return the index of the node equal to <i>node</i>, after having added it if there is none
+         */
+        private int intern(int[] node) {
+            int h = hash(node);
+            int mask = table.length - 1;
+            int p = h & mask;
+            while (table[p] != 0) {
+                int id = table[p] - 1;
+                if (hashes[id] == h && equals(id, node)) {
+                    return id;
+                }
+                p = (p + 1) & mask;
+            }
+            if (count == hashes.length) {
+                hashes = Arrays.copyOf(hashes, count * 3 / 2 + 1);
+                cells = Arrays.copyOf(cells, hashes.length * width);
+            }
+            System.arraycopy(node, 0, cells, count * width, width);
+            hashes[count] = h;
+            table[p] = ++count;
+            if (2 * count > table.length) {
+                rehash();
+            }
+            return count - 1;
+        }
+
+        private boolean equals(int id, int[] node) {
+            int o = id * width;
+            for (int j = 0; j < width; j++) {
+                if (cells[o + j] != node[j]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void rehash() {
+            table = new int[table.length * 2];
+            int mask = table.length - 1;
+            for (int id = 0; id < count; id++) {
+                int p = hashes[id] & mask;
+                while (table[p] != 0) {
+                    p = (p + 1) & mask;
+                }
+                table[p] = id + 1;
+            }
+        }
+
+        private static int hash(int[] node) {
+            int h = 1;
+            for (int c : node) {
+                h = 31 * h + c;
+            }
+            h *= 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -99,6 +99,7 @@ public class MultivaluedDecisionDiagram  {
      * @param TUPLES      set of (allowed) tuples
      * @param compactOnce set to true to compact the MDD after having added all the TUPLES, set to false to try to compact the MDD after each tuple addition
      * @param sortTuple   set to true to sort the TUPLES in increasing order before adding them
+     *                    (ignored when {@link Tuples#isSortable()} does not hold)
      */
     public MultivaluedDecisionDiagram(IntVar[] VARIABLES, Tuples TUPLES, boolean compactOnce, boolean sortTuple) {
         this(flattenDomain(VARIABLES), TUPLES, compactOnce, sortTuple);
@@ -121,6 +122,7 @@ public class MultivaluedDecisionDiagram  {
      * @param TUPLES      set of (allowed) tuples
      * @param compactOnce set to true to compact the MDD after having added all the TUPLES, set to false to try to compact the MDD after each tuple addition
      * @param sortTuple   set to true to sort the TUPLES in increasing order before adding them
+     *                    (ignored when {@link Tuples#isSortable()} does not hold)
      */
     public MultivaluedDecisionDiagram(int[][] FLATDOM, Tuples TUPLES, boolean compactOnce, boolean sortTuple) {
         this.nbLayers = FLATDOM.length;
@@ -140,6 +142,37 @@ public class MultivaluedDecisionDiagram  {
         init(TUPLES);
     }
 
+    /**
+     * Create a reduced MDD based on an array of flatten domains and a set of tuples.
+     * Contrary to the constructors, which add tuples one by one and then detect isomorphic nodes,
+     * the MDD is built by partitioning the tuples on the value of the first variable,
+     * reducing the sub-MDD of each partition in parallel, and merging them (see {@link MddBuilder}).
+     * This is much faster on large sets of tuples, and the MDD is always reduced, whatever its size.
+     * The order of the nodes in the diagram may differ from the one built by the constructors.
+     *
+     * @param FLATDOM array of flatten domains
+     * @param TUPLES  set of (allowed) tuples, not modified
+     * @return a reduced MDD
+     */
+    public static MultivaluedDecisionDiagram build(int[][] FLATDOM, Tuples TUPLES) {
+        MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(FLATDOM, new Tuples(), true, false);
+        mdd.mdd = new MddBuilder(mdd.offsets, mdd.sizes).build(TUPLES);
+        mdd.nextFreeCell = mdd.mdd.length;
+        return mdd;
+    }
+
+    /**
+     * Create a reduced MDD based on the initial domains of variables and a set of tuples
+     * (see {@link #build(int[][], Tuples)}).
+     *
+     * @param VARIABLES array of variables
+     * @param TUPLES    set of (allowed) tuples, not modified
+     * @return a reduced MDD
+     */
+    public static MultivaluedDecisionDiagram build(IntVar[] VARIABLES, Tuples TUPLES) {
+        return build(flattenDomain(VARIABLES), TUPLES);
+    }
+
     /**
      * Create an MDD based on an array of flatten domains and a set of transitions.
      * The first of the graph has to be labeled '0' and the last node of the graph has to be labeled '-1'.
@@ -190,10 +223,12 @@ public class MultivaluedDecisionDiagram  {
      * @param TUPLES tuples to add
      */
     public boolean addTuples(Tuples TUPLES) {
-        if (sortTuples) TUPLES.sort();
+        // read-only tuples are added in their own order
+        if (sortTuples && TUPLES.isSortable()) TUPLES.sort();
         boolean atLeastOne = false;
+        int[] tuple = new int[nbLayers];
         for (int t = 0; t < TUPLES.nbTuples(); t++) {
-            atLeastOne |= addTuple(TUPLES.get(t));
+            atLeastOne |= addTuple(TUPLES.get(t, tuple));
         }
         return atLeastOne;
     }
@@ -10,8 +10,7 @@
 package org.chocosolver.util.objects.setDataStructures.bitset;
 
 import org.chocosolver.memory.IEnvironment;
-import org.chocosolver.memory.IStateInt;
-import org.chocosolver.memory.structure.S64BitSet;
+import org.chocosolver.memory.structure.StoredBitSet;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetType;
@@ -28,9 +27,8 @@ public class Set_Std_BitSet implements ISet {
 	// VARIABLE
 	//***********************************************************************************
 
-	private IStateInt card;	// enables to get the cardinality in O(1)
 	private int offset;		// allow using negative numbers
-	private S64BitSet values;
+	private StoredBitSet values;	// maintains the cardinality, saved in a single record per world
 	private ISetIterator iter = newIterator();
 
 	//***********************************************************************************
@@ -44,8 +42,7 @@ public class Set_Std_BitSet implements ISet {
 	 * @param offSet smallest allowed value in the set
 	 */
 	public Set_Std_BitSet(IEnvironment environment, int offSet) {
-		values = new S64BitSet(environment);
-		card = environment.makeInt(0);
+		values = environment.makeStoredBitSet(64, 0);
 		offset = offSet;
 	}
 
@@ -59,7 +56,6 @@ public class Set_Std_BitSet implements ISet {
 		if (values.get(element-offset)) {
 			return false;
 		}else{
-			card.add(1);
 			values.set(element-offset, true);
 			return true;
 		}
@@ -69,7 +65,6 @@ public class Set_Std_BitSet implements ISet {
 	public boolean remove(int element) {
 		if(contains(element)) {
 			values.set(element - offset, false);
-			card.add(-1);
 			return true;
 		}else{
 			return false;
@@ -83,13 +78,12 @@ public class Set_Std_BitSet implements ISet {
 
 	@Override
 	public int size() {
-		return this.card.get();
+		return values.cardinality();
 	}
 
 	@Override
 	public void clear() {
 		values.clear();
-		card.set(0);
 	}
 
 	@Override
@@ -17,6 +17,7 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.RealVar;
 import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
 
 /**
  * <p>
@@ -356,6 +357,36 @@ public class VariableUtils {
         return true;
     }
 
+    /**
+     * Compute the values of the domain of <i>var</i> in [<i>offset</i>, <i>offset</i> + 63] as a word:
+     * bit <i>i</i> is set iff <i>offset</i> + <i>i</i> belongs to the domain of <i>var</i>.
+     * Bitset domains are read word by word, domains without holes are computed from their bounds,
+     * other domains are iterated.
+     *
+     * @param var    an int variable
+     * @param offset the smallest value considered
+     * @return the values of <i>var</i> from <i>offset</i>, as a word
+     */
+    public static long domainMask(IntVar var, int offset) {
+        long lb = Math.max(var.getLB(), (long) offset);
+        long ub = Math.min(var.getUB(), (long) offset + 63);
+        if (lb > ub) {
+            return 0L;
+        }
+        if (var instanceof BitsetIntVarImpl) {
+            return ((BitsetIntVarImpl) var).getWord(offset);
+        }
+        if (var.getDomainSize() == var.getRange()) {
+            return (-1L >>> (63 - (ub - lb))) << (lb - offset);
+        }
+        long mask = 0L;
+        // lb may not belong to the domain
+        for (int v = var.nextValue((int) lb - 1); v <= ub; v = var.nextValue(v)) {
+            mask |= 1L << (v - offset);
+        }
+        return mask;
+    }
+
     /**
      * Transform an array of int to an array of fixed IntVar
      * @param values array of ints
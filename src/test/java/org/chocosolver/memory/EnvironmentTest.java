@@ -9,6 +9,7 @@
  */
 package org.chocosolver.memory;
 
+import org.chocosolver.memory.structure.StoredBitSet;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -25,7 +26,9 @@ public class EnvironmentTest {
     private Object[][] env() {
         return new IEnvironment[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentBuilder().buildCopying()},
+                {new EnvironmentBuilder().setPageSize(4).buildCopying()}
         };
     }
 
@@ -57,6 +60,23 @@ public class EnvironmentTest {
         Assert.assertEquals(prim.toString(), "10");
     }
 
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testUnsavedSet(IEnvironment environment) {
+        IStateInt prim = environment.makeInt(1);
+        IStateBool bool = environment.makeBool(false);
+        environment.worldPush();
+        prim._set(3, 0);
+        bool._set(true, 0);
+        Assert.assertEquals(prim.get(), 3);
+        Assert.assertEquals(bool.get(), true);
+        environment.worldPush();
+        prim.set(5);
+        bool.set(false);
+        environment.worldPop();
+        Assert.assertEquals(prim.get(), 3);
+        Assert.assertEquals(bool.get(), true);
+    }
+
     @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
     public void testLong(IEnvironment environment) {
         IStateLong prim = environment.makeLong(0L);
@@ -92,8 +112,18 @@ public class EnvironmentTest {
         testBitset(environment, 356, 512, 218, 219, 220);
     }
 
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testStoredBitset1(IEnvironment environment) {
+        testBitset(environment, new StoredBitSet(environment, 16, 0), 16, 48, 8, 9, 10);
+        testBitset(environment, new StoredBitSet(environment, 48, 0), 48, 72, 28, 29, 30);
+        testBitset(environment, new StoredBitSet(environment, 356, 0), 356, 512, 218, 219, 220);
+    }
+
     private void testBitset(IEnvironment environment, int size, int max, int i8, int i9, int i10) {
-        IStateBitSet prim = environment.makeBitSet(size);
+        testBitset(environment, environment.makeBitSet(size), size, max, i8, i9, i10);
+    }
+
+    private void testBitset(IEnvironment environment, IStateBitSet prim, int size, int max, int i8, int i9, int i10) {
         prim.set(i8);
         Assert.assertEquals(prim.get(i8), true);
         Assert.assertEquals(prim.get(i9), false);
@@ -148,5 +178,203 @@ public class EnvironmentTest {
         }catch (IndexOutOfBoundsException e){}
     }
 
-}
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testManyInts(IEnvironment environment) {
+        int n = 1000;
+        IStateInt[] prims = new IStateInt[n];
+        for (int i = 0; i < n; i++) {
+            prims[i] = environment.makeInt(i);
+        }
+        for (int w = 1; w <= 10; w++) {
+            environment.worldPush();
+            for (int i = w; i < n; i += w) {
+                prims[i].add(1);
+            }
+        }
+        for (int w = 10; w >= 1; w--) {
+            for (int i = 0; i < n; i++) {
+                int e = i;
+                for (int k = 1; k <= w; k++) {
+                    e += (i > 0 && i % k == 0) ? 1 : 0;
+                }
+                Assert.assertEquals(prims[i].get(), e);
+            }
+            environment.worldPop();
+        }
+        for (int i = 0; i < n; i++) {
+            Assert.assertEquals(prims[i].get(), i);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testLateCreation(IEnvironment environment) {
+        environment.buildFakeHistoryOn(new Except_0());
+        IStateInt first = environment.makeInt(1);
+        environment.worldPush();
+        first.set(2);
+        environment.worldPush();
+        IStateInt late = environment.makeInt(5);
+        late.set(6);
+        environment.worldPush();
+        late.set(7);
+        first.set(3);
+        environment.worldPop();
+        Assert.assertEquals(late.get(), 6);
+        Assert.assertEquals(first.get(), 2);
+        environment.worldPop();
+        Assert.assertEquals(late.get(), 5);
+        Assert.assertEquals(first.get(), 2);
+        environment.worldPop();
+        Assert.assertEquals(first.get(), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testIntVector(IEnvironment environment) {
+        IStateIntVector vector = environment.makeIntVector(3, 1);
+        environment.worldPush();
+        vector.set(0, 4);
+        vector.add(5);
+        Assert.assertEquals(vector.quickGet(0), 4);
+        Assert.assertEquals(vector.quickGet(3), 5);
+        environment.worldPush();
+        vector.quickSet(0, 6);
+        environment.worldPop();
+        Assert.assertEquals(vector.quickGet(0), 4);
+        environment.worldPop();
+        Assert.assertEquals(vector.quickGet(0), 1);
+        Assert.assertEquals(vector.size.get(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyingCommit() {
+        IEnvironment environment = new EnvironmentBuilder().setPageSize(2).buildCopying();
+        IStateInt[] prims = new IStateInt[4];
+        for (int i = 0; i < 4; i++) {
+            prims[i] = environment.makeInt(0);
+        }
+        environment.worldPush();
+        prims[0].set(1);
+        environment.worldPush();
+        prims[1].set(2);
+        prims[2].set(3);
+        environment.worldCommit();
+        prims[3].set(4);
+        Assert.assertEquals(environment.getWorldIndex(), 1);
+        environment.worldPop();
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(prims[i].get(), 0);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testBitsetGrowth(IEnvironment environment) {
+        IStateBitSet prim = environment.makeBitSet(64);
+        prim.set(3);
+        environment.worldPush();
+        prim.set(1000);
+        prim.set(130, 140);
+        Assert.assertTrue(prim.size() > 1000);
+        Assert.assertEquals(prim.cardinality(), 12);
+        Assert.assertEquals(prim.prevSetBit(999), 139);
+        environment.worldPush();
+        prim.clear(1000);
+        prim.set(5000);
+        Assert.assertEquals(prim.nextSetBit(140), 5000);
+        environment.worldPop();
+        Assert.assertEquals(prim.nextSetBit(140), 1000);
+        Assert.assertEquals(prim.cardinality(), 12);
+        environment.worldPop();
+        Assert.assertEquals(prim.toString(), "{3}");
+        Assert.assertEquals(prim.nextSetBit(4), -1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyingBitsetGrowth() {
+        IEnvironment environment = new EnvironmentBuilder().setPageSize(4).buildCopying();
+        IStateBitSet prim = environment.makeBitSet(64);
+        environment.worldPush();
+        prim.set(130, 140);
+        environment.worldPop();
+        // words allocated in a deeper world are restored too
+        prim.set(200);
+        Assert.assertEquals(prim.toString(), "{200}");
+        Assert.assertEquals(prim.size(), 384);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testManyBitsets(IEnvironment environment) {
+        int n = 200;
+        IStateBitSet[] sets = new IStateBitSet[n];
+        for (int i = 0; i < n; i++) {
+            sets[i] = environment.makeBitSet(256);
+            sets[i].set(0, 256);
+        }
+        for (int d = 0; d < 256; d++) {
+            environment.worldPush();
+            for (int i = 0; i < n; i++) {
+                sets[i].clear((d + i) % 256);
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            Assert.assertTrue(sets[i].isEmpty());
+        }
+        for (int d = 255; d >= 0; d--) {
+            environment.worldPop();
+            for (int i = 0; i < n; i++) {
+                Assert.assertEquals(sets[i].cardinality(), 256 - d);
+                Assert.assertTrue(sets[i].get((d + i) % 256));
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testStoredBitset2(IEnvironment environment) {
+        StoredBitSet prim = new StoredBitSet(environment, 200, 2);
+        prim.set(0, 200);
+        prim.setAttribute(1, 199);
+        for (int d = 0; d < 100; d++) {
+            environment.worldPush();
+            prim.clear(d);
+            prim.clear(199 - d);
+            prim.setAttribute(0, d + 1);
+            prim.setAttribute(1, 198 - d);
+            Assert.assertEquals(prim.cardinality(), 198 - 2 * d);
+        }
+        Assert.assertTrue(prim.isEmpty());
+        for (int d = 99; d >= 0; d--) {
+            environment.worldPop();
+            Assert.assertEquals(prim.cardinality(), 200 - 2 * d);
+            Assert.assertEquals(prim.getAttribute(0), d);
+            Assert.assertEquals(prim.getAttribute(1), 199 - d);
+            Assert.assertEquals(prim.nextSetBit(0), d);
+            Assert.assertEquals(prim.prevSetBit(300), 199 - d);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testStoredBitset3(IEnvironment environment) {
+        environment.worldPush();
+        // modifications made in the world of creation are not undone
+        StoredBitSet prim = new StoredBitSet(environment);
+        prim.set(3);
+        environment.worldPush();
+        prim.set(100);
+        prim.clear(3);
+        environment.worldPush();
+        prim.set(5);
+        prim.set(7);
+        Assert.assertEquals(prim.toString(), "{5, 7, 100}");
+        environment.worldPop();
+        Assert.assertEquals(prim.toString(), "{100}");
+        environment.worldPop();
+        Assert.assertEquals(prim.toString(), "{3}");
+        Assert.assertEquals(prim.cardinality(), 1);
+        environment.worldPush();
+        prim.set(130);
+        environment.worldPop();
+        prim.set(70);
+        Assert.assertEquals(prim.toString(), "{3, 70}");
+        Assert.assertEquals(prim.cardinality(), 2);
+    }
 
+}
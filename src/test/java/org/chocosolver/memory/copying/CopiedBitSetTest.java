@@ -0,0 +1,75 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateBitSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the blocks of words of {@link CopiedBitSet} in the long arena.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class CopiedBitSetTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGrowthAfterBacktrack() {
+        EnvironmentCopying environment = new EnvironmentCopying(4);
+        IStateBitSet prim = environment.makeBitSet(64);
+        prim.set(7);
+        int before = environment.longs.size();
+        int after = -1;
+        for (int k = 0; k < 1000; k++) {
+            environment.worldPush();
+            prim.set(1000 + k % 100);
+            Assert.assertTrue(prim.get(7));
+            Assert.assertEquals(prim.cardinality(), 2);
+            environment.worldPop();
+            Assert.assertEquals(prim.toString(), "{7}");
+            if (k == 99) {
+                after = environment.longs.size();
+            }
+        }
+        // once the largest size is reached, the largest block is reused
+        Assert.assertEquals(environment.longs.size(), after);
+        // blocks of 16 and 32 words, for 18 words at most
+        Assert.assertEquals(after - before, 48);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReuseIsBacktrackable() {
+        EnvironmentCopying environment = new EnvironmentCopying(4);
+        IStateBitSet prim = environment.makeBitSet(64);
+        prim.set(3);
+        environment.worldPush();
+        prim.set(500);
+        environment.worldPop();
+        environment.worldPush();
+        prim.set(10);
+        environment.worldPush();
+        // reuses the block of the first growth, whose words are reset
+        prim.set(200);
+        Assert.assertEquals(prim.toString(), "{3, 10, 200}");
+        environment.worldPush();
+        // grows into a new block
+        prim.set(2000);
+        Assert.assertEquals(prim.toString(), "{3, 10, 200, 2000}");
+        environment.worldPop();
+        Assert.assertEquals(prim.toString(), "{3, 10, 200}");
+        environment.worldPop();
+        Assert.assertEquals(prim.toString(), "{3, 10}");
+        prim.set(300);
+        Assert.assertEquals(prim.toString(), "{3, 10, 300}");
+        environment.worldPop();
+        Assert.assertEquals(prim.toString(), "{3}");
+    }
+}
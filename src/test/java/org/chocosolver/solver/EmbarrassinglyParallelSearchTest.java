@@ -0,0 +1,123 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.chocosolver.solver.search.strategy.Search.domOverWDegIncrSearch;
+import static org.chocosolver.solver.search.strategy.Search.domOverWDegSearch;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+public class EmbarrassinglyParallelSearchTest {
+
+    private static Model queens(int n) {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(n);
+        model.getSolver().setSearch(inputOrderLBSearch((IntVar[]) model.getHook("vars")));
+        return model;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAllSolutions() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 4; i++) {
+            eps.addModel(queens(8));
+        }
+        List<Solution> solutions = eps.findAllSolutions();
+        Assert.assertEquals(solutions.size(), 92);
+        Assert.assertEquals(eps.getSolutionCount(), 92);
+        Assert.assertTrue(eps.getNbCubes() > 4);
+        Set<String> distinct = solutions.stream().map(Solution::toString).collect(Collectors.toSet());
+        Assert.assertEquals(distinct.size(), 92);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testFixedDepth() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 2; i++) {
+            eps.addModel(queens(8));
+        }
+        eps.setDecompositionDepth(3);
+        Assert.assertEquals(eps.findAllSolutions().size(), 92);
+        Assert.assertTrue(eps.getNbCubes() <= 8);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testOneSolution() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 4; i++) {
+            eps.addModel(queens(8));
+        }
+        Assert.assertNotNull(eps.findSolution());
+        Assert.assertEquals(eps.getSolutionCount(), 1);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testStream() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 4; i++) {
+            eps.addModel(queens(8));
+        }
+        Assert.assertEquals(eps.streamSolutions().count(), 92);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testStrategiesWithMonitors() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 4; i++) {
+            Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+            IntVar[] vars = (IntVar[]) model.getHook("vars");
+            model.getSolver().setSearch(i % 2 == 0 ? domOverWDegIncrSearch(vars) : domOverWDegSearch(vars));
+            eps.addModel(model);
+        }
+        Assert.assertEquals(eps.findAllSolutions().size(), 92);
+        Assert.assertTrue(eps.getNbCubes() > 4);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testNoSolution() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 2; i++) {
+            eps.addModel(queens(3));
+        }
+        Assert.assertTrue(eps.findAllSolutions().isEmpty());
+        Assert.assertNull(eps.findSolution());
+    }
+
+    @Test(groups="10s", timeOut=120000)
+    public void testOptimization() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 4; i++) {
+            eps.addModel(ProblemMaker.makeGolombRuler(7));
+        }
+        Solution best = eps.findSolution();
+        Assert.assertNotNull(best);
+        Assert.assertEquals(best.getIntVal((IntVar) eps.getModels().get(0).getObjective()), 25);
+        Assert.assertFalse(eps.isStopCriterionMet());
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testNoModel() {
+        new EmbarrassinglyParallelSearch().findAllSolutions();
+    }
+}
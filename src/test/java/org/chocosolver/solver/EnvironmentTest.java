@@ -16,6 +16,7 @@ package org.chocosolver.solver;
 
 
 import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.memory.trailing.trail.chunck.ChunckedIntTrail;
 import org.chocosolver.memory.trailing.trail.flatten.StoredDoubleTrail;
@@ -32,15 +33,16 @@ public class EnvironmentTest {
 
 	@DataProvider(name = "env")
 	public Object[][] getEnvs(){
-		return new EnvironmentTrailing[][]{
+		return new IEnvironment[][]{
 				{new EnvironmentBuilder().fromFlat().build()},
-				{new EnvironmentBuilder().fromChunk().build()}
+				{new EnvironmentBuilder().fromChunk().build()},
+				{new EnvironmentBuilder().buildCopying()}
 		};
 	}
 
 
 	@Test(groups="10s", timeOut=60000, dataProvider = "env")
-	public void testSize(EnvironmentTrailing env) {
+	public void testSize(IEnvironment env) {
 		int n = 12;
 		IntVar[] vars, vectors;
 		Model model = new Model(env, "CostasArrays");
@@ -105,4 +107,35 @@ public class EnvironmentTest {
 		m.getEnvironment().makeDoubleVector(100, 0.0);
 		System.out.println(m.getSolver().solve());
 	}
+
+	@Test(groups="10s", timeOut=60000, dataProvider = "env")
+	public void testSolve(IEnvironment env) {
+		Assert.assertEquals(golomb(env), golomb(new EnvironmentBuilder().build()));
+	}
+
+	private static long golomb(IEnvironment env) {
+		Model model = new Model(env, "Golomb");
+		int m = 8;
+		IntVar[] ticks = model.intVarArray("a", m, 0, m * m, false);
+		IntVar[] diffs = model.intVarArray("d", (m * m - m) / 2, 0, m * m, false);
+		model.arithm(ticks[0], "=", 0).post();
+		for (int i = 0; i < m - 1; i++) {
+			model.arithm(ticks[i + 1], ">", ticks[i]).post();
+		}
+		for (int k = 0, i = 0; i < m - 1; i++) {
+			for (int j = i + 1; j < m; j++, k++) {
+				model.scalar(new IntVar[]{ticks[j], ticks[i]}, new int[]{1, -1}, "=", diffs[k]).post();
+			}
+		}
+		model.allDifferent(diffs, "BC").post();
+		model.setObjective(Model.MINIMIZE, ticks[m - 1]);
+		Solver r = model.getSolver();
+		r.setSearch(Search.inputOrderLBSearch(ticks));
+		int best = -1;
+		while (r.solve()) {
+			best = ticks[m - 1].getValue();
+		}
+		Assert.assertEquals(best, 34);
+		return r.getNodeCount();
+	}
 }
\ No newline at end of file
@@ -25,6 +25,8 @@ import java.io.InputStream;
 import java.text.MessageFormat;
 import java.util.List;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.nary.automata.FA.FiniteAutomaton;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
@@ -32,6 +34,7 @@ import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.RealVar;
 import org.chocosolver.solver.variables.SetVar;
+import org.chocosolver.solver.variables.Task;
 import org.chocosolver.util.ProblemMaker;
 import org.chocosolver.util.criteria.Criterion;
 import org.chocosolver.util.tools.ArrayUtils;
@@ -610,4 +613,211 @@ public class ModelTest {
         IntVar i = m.intVar("i", 1, 2);
         m.getSolver().hardReset();
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDuplicate1(){
+        Model model = knapsack();
+        assertTrue(model.isDuplicable());
+        Model copy = model.duplicate();
+        assertEquals(copy.getNbVars(), model.getNbVars());
+        assertEquals(copy.getNbCstrs(), model.getNbCstrs());
+        for (int i = 0; i < model.getNbVars(); i++) {
+            assertEquals(copy.getVar(i).getId(), model.getVar(i).getId());
+            assertEquals(copy.getVar(i).getName(), model.getVar(i).getName());
+        }
+        assertEquals(copy.getResolutionPolicy(), ResolutionPolicy.MAXIMIZE);
+        while (model.getSolver().solve()) ;
+        while (copy.getSolver().solve()) ;
+        assertEquals(copy.getSolver().getBestSolutionValue(), 51);
+        assertEquals(copy.getSolver().getBestSolutionValue(), model.getSolver().getBestSolutionValue());
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDuplicate2(){
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 6, 0, 4, false);
+        IntVar y = model.intVar("y", -3, 8, true);
+        BoolVar[] b = model.boolVarArray("b", 3);
+        Tuples tuples = new Tuples(true);
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 5; j++) {
+                if ((i + j) % 3 != 0) {
+                    tuples.add(i, j, (i * j) % 5);
+                }
+            }
+        }
+        model.table(new IntVar[]{x[0], x[1], x[2]}, tuples, "CT+").post();
+        model.table(new IntVar[]{x[1], x[2], x[3]}, tuples, "GACSTR+").post();
+        model.regular(new IntVar[]{x[3], x[4], x[5]}, new FiniteAutomaton("(0|1|2|3)*")).post();
+        model.sum(x, ">", 7).post();
+        model.sum(b, "=", model.intOffsetView(x[5], -1)).post();
+        model.arithm(x[0], "<", y).reifyWith(b[0]);
+        model.scalar(new IntVar[]{x[1], y, x[2]}, new int[]{2, -3, 1}, "<=", 5).post();
+        model.allDifferent(x[0], x[1], x[2]).post();
+        model.member(y, new int[]{-2, 0, 3, 5, 7}).post();
+        model.arithm(model.intMinusView(y), "<=", model.intScaleView(x[4], 2)).post();
+        model.or(b[1], model.intEqView(x[0], 3), model.intLeView(x[5], 2)).post();
+        assertTrue(model.isDuplicable());
+        Model copy = model.duplicate();
+        assertEquals(copy.getNbVars(), model.getNbVars());
+        assertEquals(copy.getNbCstrs(), model.getNbCstrs());
+        long nbSols = model.getSolver().findAllSolutions().size();
+        assertTrue(nbSols > 0);
+        assertEquals(copy.getSolver().findAllSolutions().size(), nbSols);
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = UnsupportedOperationException.class)
+    public void testDuplicate3(){
+        Model model = new Model();
+        SetVar s = model.setVar("s", new int[]{}, new int[]{1, 2, 3});
+        model.member(1, s).post();
+        assertFalse(s.isDuplicable());
+        assertFalse(model.isDuplicable());
+        model.duplicate();
+    }
+
+    private static void checkDuplicate(Model model) {
+        assertTrue(model.isDuplicable());
+        Model copy = model.duplicate();
+        assertEquals(copy.getNbVars(), model.getNbVars());
+        assertEquals(copy.getNbCstrs(), model.getNbCstrs());
+        for (int i = 0; i < model.getNbCstrs(); i++) {
+            assertEquals(copy.getCstrs()[i].getClass(), model.getCstrs()[i].getClass());
+        }
+        long nbSols = model.getSolver().findAllSolutions().size();
+        assertTrue(nbSols > 0);
+        assertEquals(copy.getSolver().findAllSolutions().size(), nbSols);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDuplicate4(){
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3, false);
+        IntVar i = model.intVar("i", -1, 4, false);
+        IntVar z = model.intVar("z", 0, 3, true);
+        model.element(x[0], new int[]{2, 0, 3, 1}, x[1]).post();
+        model.element(z, x, i, -1).post();
+        checkDuplicate(model);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDuplicate5(){
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, -3, 3, false);
+        IntVar[] y = model.intVarArray("y", 3, -3, 9, true);
+        model.times(x[0], x[1], model.intVar("t", -20, 20, false)).post();
+        model.times(x[2], 3, y[0]).post();
+        model.max(y[1], x[0], x[1]).post();
+        model.min(y[2], x).post();
+        model.max(model.intVar("M", -3, 3), x).post();
+        model.absolute(model.intVar("a", 0, 3), x[2]).post();
+        model.square(model.intVar("s", 0, 9), x[0]).post();
+        model.div(x[0], x[1], model.intVar("d", -3, 3)).post();
+        checkDuplicate(model);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDuplicate6(){
+        for (boolean bitset : new boolean[]{false, true}) {
+            Model model = new Model();
+            model.getSettings().setEnableBitsetPropagators(bitset);
+            IntVar[] x = model.intVarArray("x", 4, 0, 3, false);
+            IntVar[] cards = model.intVarArray("c", 3, 0, 2, true);
+            model.globalCardinality(x, new int[]{0, 1, 3}, cards, false).post();
+            model.among(model.intVar("n", 1, 2), x, new int[]{1, 2}).post();
+            checkDuplicate(model);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDuplicate7(){
+        Model model = new Model();
+        IntVar[] succ = model.intVarArray("succ", 5, 0, 4, false);
+        model.circuit(succ).post();
+        checkDuplicate(model);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDuplicate8(){
+        Model model = new Model();
+        Task[] tasks = new Task[3];
+        IntVar[] heights = new IntVar[3];
+        for (int i = 0; i < tasks.length; i++) {
+            IntVar s = model.intVar("s" + i, 0, 3, false);
+            tasks[i] = new Task(s, model.intVar(2), model.intVar("e" + i, 0, 5, false));
+            heights[i] = model.intVar("h" + i, 1, 2, false);
+        }
+        model.cumulative(tasks, heights, model.intVar("capa", 2, 3, false)).post();
+        model.disjunctive(new Task[]{tasks[0], tasks[1]}).post();
+        checkDuplicate(model);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDuplicate9(){
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 4, false);
+        model.arithm(x[0], "<", x[1]).post();
+        model.sum(x, "<=", 6).post();
+        model.member(x[2], new int[]{0, 2, 4}).post();
+        Model copy = model.duplicate();
+        for (int i = 0; i < model.getNbCstrs(); i++) {
+            Constraint c = model.getCstrs()[i];
+            Constraint d = copy.getCstrs()[i];
+            assertEquals(d.getClass(), c.getClass());
+            // opposites are built by the sub-classes
+            assertEquals(d.getOpposite().getClass(), c.getOpposite().getClass());
+            assertEquals(d.getOpposite().getPropagator(0).getClass(), c.getOpposite().getPropagator(0).getClass());
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDuplicate10(){
+        Model model = new Model();
+        SetVar s = model.setVar("s", new int[]{}, new int[]{1, 2, 3});
+        model.member(1, s).post();
+        ParallelPortfolio pares = new ParallelPortfolio();
+        int[] nbCalls = {0};
+        pares.addModel(model, 2, () -> {
+            nbCalls[0]++;
+            Model m = new Model();
+            SetVar t = m.setVar("s", new int[]{}, new int[]{1, 2, 3});
+            m.member(1, t).post();
+            return m;
+        });
+        assertEquals(pares.getModels().size(), 3);
+        assertEquals(nbCalls[0], 2);
+        Model knapsack = knapsack();
+        pares = new ParallelPortfolio();
+        pares.addModel(knapsack, 2, () -> {
+            throw new IllegalStateException("the model can be duplicated");
+        });
+        assertEquals(pares.getModels().size(), 3);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDuplicate11(){
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 2, false);
+        IntVar[] y = model.intVarArray("y", 3, 0, 2, false);
+        model.allDifferent(x).post();
+        assertTrue(model.isDuplicable());
+        Constraint lex = model.lexLess(x, y);
+        lex.post();
+        // the propagator of lexLess does not override duplicate
+        assertFalse(lex.getPropagator(0).isDuplicable());
+        assertFalse(lex.isDuplicable());
+        assertFalse(model.isDuplicable());
+        ParallelPortfolio pares = new ParallelPortfolio();
+        int[] nbCalls = {0};
+        pares.addModel(model, 1, () -> {
+            nbCalls[0]++;
+            Model m = new Model();
+            IntVar[] u = m.intVarArray("x", 3, 0, 2, false);
+            IntVar[] v = m.intVarArray("y", 3, 0, 2, false);
+            m.allDifferent(u).post();
+            m.lexLess(u, v).post();
+            return m;
+        });
+        assertEquals(nbCalls[0], 1);
+    }
 }
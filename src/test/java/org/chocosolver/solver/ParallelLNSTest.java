@@ -0,0 +1,124 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ParallelLNSTest {
+
+    private static Model golomb(int m) {
+        Model model = ProblemMaker.makeGolombRuler(m);
+        model.getSolver().setSearch(inputOrderLBSearch((IntVar[]) model.getHook("ticks")));
+        return model;
+    }
+
+    private static int objective(ParallelLNS plns, Solution solution) {
+        return solution.getIntVal((IntVar) plns.getModels().get(0).getObjective());
+    }
+
+    /**
+     * Records the objective value of the first solution found by any model of <i>plns</i>
+     */
+    private static AtomicInteger firstObjective(ParallelLNS plns) {
+        AtomicInteger first = new AtomicInteger(Integer.MIN_VALUE);
+        for (Model m : plns.getModels()) {
+            IntVar objective = (IntVar) m.getObjective();
+            m.getSolver().plugMonitor((IMonitorSolution) () -> first.compareAndSet(Integer.MIN_VALUE, objective.getValue()));
+        }
+        return first;
+    }
+
+    /**
+     * Checks that <i>solution</i> satisfies the constraints of <i>fresh</i>,
+     * a model built like the ones of the ParallelLNS (hence, with the same variable ids)
+     */
+    private static void assertFeasible(Model fresh, Solution solution) {
+        for (Variable v : fresh.getVars()) {
+            if ((v.getTypeAndKind() & Variable.TYPE) == Variable.VAR && (v.getTypeAndKind() & Variable.INT) != 0) {
+                fresh.arithm((IntVar) v, "=", solution.getIntVal((IntVar) v)).post();
+            }
+        }
+        Assert.assertTrue(fresh.getSolver().solve());
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testGolomb() {
+        ParallelLNS plns = new ParallelLNS();
+        for (int i = 0; i < 4; i++) {
+            plns.addModel(golomb(7));
+        }
+        plns.limitTime(5000);
+        AtomicInteger first = firstObjective(plns);
+        Solution best = plns.findBestSolution();
+        Assert.assertNotNull(best);
+        assertFeasible(golomb(7), best);
+        // the search is stopped by the time limit, hence the optimal length (25) may not be reached
+        Assert.assertTrue(objective(plns, best) < first.get());
+        Assert.assertTrue(plns.isStopCriterionMet());
+        Assert.assertTrue(plns.getSolutionCount() > 1);
+        Assert.assertTrue(plns.getLoadCount() > 0);
+        Assert.assertTrue(plns.getFailCount() > 0);
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testDuplicate() {
+        ParallelLNS plns = new ParallelLNS();
+        plns.addModel(ModelTest.knapsack(), 3);
+        plns.setFailLimit(200);
+        plns.setNeighbor((m, i) -> new RandomNeighborhood(m.retrieveIntVars(true), 3, i));
+        plns.limitTime(3000);
+        AtomicInteger first = firstObjective(plns);
+        Solution best = plns.findBestSolution();
+        Assert.assertNotNull(best);
+        assertFeasible(ModelTest.knapsack(), best);
+        Assert.assertTrue(objective(plns, best) > first.get());
+        Assert.assertTrue(plns.getLoadCount() > 0);
+        // resume the resolution, the incumbent is kept
+        plns.limitTime(100);
+        Assert.assertTrue(objective(plns, plns.findBestSolution()) >= objective(plns, best));
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testWorkerEnds() {
+        // a worker which reaches its own limit ends the resolution
+        ParallelLNS plns = new ParallelLNS();
+        plns.addModel(golomb(6));
+        plns.addModel(golomb(6));
+        plns.getModels().get(0).getSolver().limitFail(100);
+        Solution best = plns.findBestSolution();
+        Assert.assertNotNull(best);
+        Assert.assertFalse(plns.isStopCriterionMet());
+        // the other worker is stopped at any time, hence the optimal length (17) may not be reached
+        assertFeasible(golomb(6), best);
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = UnsupportedOperationException.class)
+    public void testSatisfaction() {
+        ParallelLNS plns = new ParallelLNS();
+        plns.addModel(ProblemMaker.makeNQueenWithBinaryConstraints(8));
+        plns.findBestSolution();
+    }
+}
@@ -9,8 +9,11 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.NogoodExchanger;
 import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -208,4 +211,52 @@ public class PortFolioTest {
             System.gc();
         }
     }
+
+    @Test(groups="10s", timeOut=300000)
+    public void testShareNogoods() {
+        // The two first models of a portfolio record no-goods from restarts,
+        // and solving a golomb ruler with 8 marks requires several restarts.
+        long published = 0, imported = 0;
+        for (int iter = 0; iter < 5; iter++) {
+            ParallelPortfolio pares = new ParallelPortfolio();
+            for (int i = 0; i < 2; i++) {
+                pares.addModel(ProblemMaker.makeGolombRuler(8));
+            }
+            pares.shareNogoods(8, 100);
+            while(pares.solve());
+            Model finder = pares.getBestModel();
+            NogoodExchanger exchanger = pares.getNogoodExchanger();
+            Assert.assertNotNull(exchanger);
+            // a worker may end before learning anything, so counts are checked over all iterations
+            published += exchanger.getNbPublished();
+            // a no-good is never sent back to the worker which published it,
+            // so any import was learnt by another worker
+            imported += exchanger.getNbImported();
+            Assert.assertEquals(finder.getSolver().getObjectiveManager().getBestUB().intValue(), 34);
+            System.gc();
+        }
+        Assert.assertTrue(published > 0);
+        Assert.assertTrue(imported > 0);
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testShareNogoodsAfterSolve() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.addModel(knapsack());
+        pares.addModel(knapsack());
+        pares.solve();
+        pares.shareNogoods(8, 100);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAddModelCopies() {
+        for (int iter = 0; iter < 20; iter++) {
+            ParallelPortfolio pares = new ParallelPortfolio();
+            pares.addModel(knapsack(), 7);
+            Assert.assertEquals(pares.getModels().size(), 8);
+            while(pares.solve());
+            Model finder = pares.getBestModel();
+            Assert.assertEquals(finder.getSolver().getObjectiveManager().getBestLB().intValue(), 51);
+        }
+    }
 }
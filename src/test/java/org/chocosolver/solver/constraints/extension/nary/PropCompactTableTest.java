@@ -0,0 +1,95 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.randomSearch;
+
+/**
+ * Compares the dense and the sparse supports of {@link PropCompactTable}.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropCompactTableTest {
+
+    private static Tuples randomTuples(int arity, int nbTuples, int domSize, long seed) {
+        Random rnd = new Random(seed);
+        Tuples tuples = new Tuples(true);
+        int[] tuple = new int[arity];
+        for (int t = 0; t < nbTuples; t++) {
+            for (int i = 0; i < arity; i++) {
+                tuple[i] = rnd.nextInt(domSize);
+            }
+            tuples.add(tuple);
+        }
+        return tuples;
+    }
+
+    /**
+     * Post the table on variables with domains [0, domSize), with dense or sparse supports
+     */
+    private static PropCompactTable post(Model model, Tuples tuples, int domSize, boolean sparse) {
+        IntVar[] vars = model.intVarArray("x", tuples.arity(), 0, domSize - 1);
+        PropCompactTable prop = new PropCompactTable(vars, tuples, sparse);
+        new Constraint("CT", prop).post();
+        model.getSolver().setSearch(randomSearch(vars, 0));
+        return prop;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDenseAndSparse() {
+        for (long seed = 0; seed < 5; seed++) {
+            Tuples tuples = randomTuples(4, 2000, 150, seed);
+            Model dense = new Model();
+            PropCompactTable pd = post(dense, tuples, 150, false);
+            Model sparse = new Model();
+            PropCompactTable ps = post(sparse, tuples, 150, true);
+            Assert.assertTrue(ps.supports.memory() < pd.supports.memory());
+            while (dense.getSolver().solve()) ;
+            while (sparse.getSolver().solve()) ;
+            Assert.assertEquals(sparse.getSolver().getSolutionCount(), dense.getSolver().getSolutionCount());
+            Assert.assertEquals(sparse.getSolver().getNodeCount(), dense.getSolver().getNodeCount());
+        }
+    }
+
+    // too long, but can be used manually to compare the memory and the speed of dense and sparse supports
+    public void benchCompactSupports() {
+        // number of tuples and domain size, the arity is 4
+        int[][] instances = {{1_000_000, 3000}, {100_000, 2000}, {20_000, 100}};
+        for (int[] instance : instances) {
+            Tuples tuples = randomTuples(4, instance[0], instance[1], 0);
+            for (boolean sparse : new boolean[]{false, true}) {
+                Model model = new Model();
+                long time = System.nanoTime();
+                PropCompactTable prop = post(model, tuples, instance[1], sparse);
+                time = System.nanoTime() - time;
+                Solver solver = model.getSolver();
+                solver.limitSolution(20_000);
+                while (solver.solve()) ;
+                System.out.println(instance[0] + " tuples over " + instance[1] + " values, "
+                        + (sparse ? "sparse" : "dense") + " supports:"
+                        + " memory=" + prop.supports.memory() / (1 << 20) + "MB"
+                        + " build=" + time / 1_000_000 + "ms"
+                        + " nodes=" + solver.getNodeCount()
+                        + " time=" + solver.getTimeCount() + "s");
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.Random;
 
 import static org.chocosolver.solver.constraints.checker.DomainBuilder.buildFullDomains;
 import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.chocosolver.solver.search.strategy.Search.randomSearch;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
@@ -159,6 +160,11 @@ public class AllDifferentTest {
                         while (ac.getSolver().solve()) ;
                         assertEquals(ac.getSolver().getSolutionCount(), neqs.getSolver().getSolutionCount(), "nb sol incorrect " + seed);
                         assertTrue(ac.getSolver().getNodeCount() <= neqs.getSolver().getNodeCount(), "nb nod incorrect" + seed);
+
+                        Model acIncr = alldiffs(domains, 4, b == 0);
+                        while (acIncr.getSolver().solve()) ;
+                        assertEquals(acIncr.getSolver().getSolutionCount(), ac.getSolver().getSolutionCount(), "nb sol incorrect " + seed);
+                        assertEquals(acIncr.getSolver().getNodeCount(), ac.getSolver().getNodeCount(), "nb nod incorrect" + seed);
                     }
                 }
             }
@@ -197,11 +203,52 @@ public class AllDifferentTest {
             case 3:
                 s.allDifferent(vars, "AC").post();
                 break;
+            case 4:
+                s.allDifferent(vars, "AC_INCR").post();
+                break;
         }
         s.getSolver().setSearch(inputOrderLBSearch(vars));
         return s;
     }
 
+    @Test(groups="10s", timeOut=60000)
+    public void testACIncr() {
+        for (int seed = 0; seed < 600; seed++) {
+            int n = 8 + seed % 8;
+            int m = n - 1 + seed % 4;
+            Model ac = acIncrModel(seed, n, m, "AC");
+            while (ac.getSolver().solve()) ;
+            Model acIncr = acIncrModel(seed, n, m, "AC_INCR");
+            while (acIncr.getSolver().solve()) ;
+            assertEquals(acIncr.getSolver().getSolutionCount(), ac.getSolver().getSolutionCount(), "nb sol incorrect " + seed);
+            assertEquals(acIncr.getSolver().getNodeCount(), ac.getSolver().getNodeCount(), "nb nod incorrect " + seed);
+        }
+    }
+
+    private Model acIncrModel(int seed, int n, int m, String consistency) {
+        Random rand = new Random(seed);
+        Model model = new Model();
+        IntVar[] vars = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            if (seed % 2 == 0 && rand.nextBoolean()) {
+                int lb = rand.nextInt(m);
+                vars[i] = model.intVar("v_" + i, lb, Math.min(m, lb + rand.nextInt(m / 2 + 1)), true);
+            } else {
+                int[] values = new int[1 + rand.nextInt(m)];
+                for (int k = 0; k < values.length; k++) {
+                    values[k] = rand.nextInt(m + 1);
+                }
+                vars[i] = model.intVar("v_" + i, values);
+            }
+        }
+        model.allDifferent(vars, consistency).post();
+        // another constraint, so that the domains are not only reduced by the alldifferent
+        model.arithm(vars[0], "+", vars[1], "<=", m).post();
+        model.getSolver().setSearch(randomSearch(vars, seed));
+        model.getSolver().limitNode(5000);
+        return model;
+    }
+
     @Test(groups="1s", timeOut=60000)
     public void testXX() {
         Model model = new Model();
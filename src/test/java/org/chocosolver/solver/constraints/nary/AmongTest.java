@@ -11,12 +11,15 @@ package org.chocosolver.solver.constraints.nary;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.among.PropAmongGAC;
+import org.chocosolver.solver.constraints.nary.among.PropBitsetAmong;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
@@ -120,6 +123,73 @@ public class AmongTest {
         while (model.getSolver().solve()) ;
     }
 
+    @Test(groups="10s", timeOut=60000)
+    public void testBitset() {
+        for (int seed = 0; seed < 200; seed++) {
+            assertEquals(countSolutions(seed, true), countSolutions(seed, false), "seed " + seed);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testBitsetSetting() {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("v", 3, 0, 5);
+        IntVar occ = model.intVar("occ", 0, 3);
+        Assert.assertTrue(model.among(occ, vars, new int[]{1, 3}).getPropagator(0) instanceof PropAmongGAC);
+        model.getSettings().setEnableBitsetPropagators(true);
+        Assert.assertTrue(model.among(occ, vars, new int[]{1, 3}).getPropagator(0) instanceof PropBitsetAmong);
+        Assert.assertTrue(model.among(occ, vars, new int[]{1, 300}).getPropagator(0) instanceof PropAmongGAC);
+    }
+
+    /**
+     * Count the solutions of a random among over domains with holes, sparse domains and views,
+     * with {@link PropBitsetAmong}, or with {@link PropAmongGAC}
+     */
+    private static long countSolutions(int seed, boolean bitset) {
+        Random random = new Random(seed);
+        int n = 1 + random.nextInt(6);
+        Model model = new Model();
+        IntVar[] vars = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            vars[i] = randomVar(model, "v" + i, random, random.nextInt(5));
+        }
+        int[] values = random.ints(1 + random.nextInt(4), -5, 10).distinct().sorted().toArray();
+        IntVar occ = model.intVar("occ", 0, n, true);
+        IntVar[] allvars = append(vars, new IntVar[]{occ});
+        if (bitset) {
+            new Constraint("AMONG", new PropBitsetAmong(allvars, values)).post();
+        } else {
+            new Constraint("AMONG", new PropAmongGAC(allvars, values)).post();
+        }
+        model.getSolver().setSearch(randomSearch(allvars, seed));
+        while (model.getSolver().solve()) ;
+        return model.getSolver().getSolutionCount();
+    }
+
+    /**
+     * Create a random variable in [-5, 9]: an enumerated, bounded or sparse variable, or a view
+     */
+    private static IntVar randomVar(Model model, String name, Random random, int kind) {
+        int[] domain = random.ints(1 + random.nextInt(5), -5, 10).distinct().sorted().toArray();
+        int lb = domain[0], ub = domain[domain.length - 1];
+        switch (kind) {
+            default:
+            case 0:
+                return model.intVar(name, domain);
+            case 1:
+                return model.intVar(name, lb, ub, true);
+            case 2:
+                // sparse domain, with a value out of the restricted values
+                return model.intVar(name, append(domain, new int[]{100}));
+            case 3:
+                // minus view of a sparse domain
+                return model.intMinusView(model.intVar(name, append(new int[]{-70}, Arrays.stream(domain).map(v -> -v).sorted().toArray())));
+            case 4:
+                // offset view of a bounded domain
+                return model.intOffsetView(model.intVar(name, lb - 3, ub - 3, true), 3);
+        }
+    }
+
     public long randomOcc(long nbsol, int seed, boolean enumvar, int nbtest, boolean gac) {
         for (int interseed = 0; interseed < nbtest; interseed++) {
             int nbOcc = 2;
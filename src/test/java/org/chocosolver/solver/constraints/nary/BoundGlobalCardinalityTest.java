@@ -9,11 +9,17 @@
  */
 package org.chocosolver.solver.constraints.nary;
 
+import gnu.trove.map.hash.TIntIntHashMap;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
+import org.chocosolver.solver.constraints.nary.globalcardinality.PropBitsetGCC;
+import org.chocosolver.solver.constraints.nary.globalcardinality.PropFastGCC;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import static org.chocosolver.solver.Cause.Null;
@@ -130,4 +136,67 @@ public class BoundGlobalCardinalityTest {
 
         }
     }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testBitset() {
+        for (int seed = 0; seed < 200; seed++) {
+            assertEquals(countSolutions(seed, true), countSolutions(seed, false), "seed " + seed);
+        }
+    }
+
+    /**
+     * Count the solutions of a random GCC over domains with holes, sparse domains and views,
+     * with the bitset propagator, or with {@link PropFastGCC}
+     */
+    private static long countSolutions(int seed, boolean bitset) {
+        Random random = new Random(seed);
+        int n = 1 + random.nextInt(6);
+        int m = 1 + random.nextInt(4);
+        Model model = new Model();
+        IntVar[] vars = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            vars[i] = randomVar(model, "v" + i, random, random.nextInt(5));
+        }
+        int[] values = random.ints(m, -5, 10).distinct().toArray();
+        IntVar[] cards = model.intVarArray("cards", values.length, 0, n, true);
+        if (bitset) {
+            model.getSettings().setEnableBitsetPropagators(true);
+            Constraint gcc = model.globalCardinality(vars, values, cards, false);
+            assertTrue(gcc.getPropagator(0) instanceof PropBitsetGCC);
+            gcc.post();
+        } else {
+            TIntIntHashMap map = new TIntIntHashMap();
+            for (int j = 0; j < values.length; j++) {
+                map.put(values[j], j);
+            }
+            new Constraint(ConstraintsName.GCC, new PropFastGCC(vars, values, map, cards)).post();
+        }
+        model.getSolver().setSearch(inputOrderLBSearch(append(vars, cards)));
+        while (model.getSolver().solve()) ;
+        return model.getSolver().getSolutionCount();
+    }
+
+    /**
+     * Create a random variable in [-5, 9]: an enumerated, bounded or sparse variable, or a view
+     */
+    private static IntVar randomVar(Model model, String name, Random random, int kind) {
+        int[] domain = random.ints(1 + random.nextInt(5), -5, 10).distinct().sorted().toArray();
+        int lb = domain[0], ub = domain[domain.length - 1];
+        switch (kind) {
+            default:
+            case 0:
+                return model.intVar(name, domain);
+            case 1:
+                return model.intVar(name, lb, ub, true);
+            case 2:
+                // sparse domain, with a value out of the restricted values
+                return model.intVar(name, append(domain, new int[]{100}));
+            case 3:
+                // minus view of a sparse domain
+                return model.intMinusView(model.intVar(name, append(new int[]{-70}, Arrays.stream(domain).map(v -> -v).sorted().toArray())));
+            case 4:
+                // offset view of a bounded domain
+                return model.intOffsetView(model.intVar(name, lb - 3, ub - 3, true), 3);
+        }
+    }
 }
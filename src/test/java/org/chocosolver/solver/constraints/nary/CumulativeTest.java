@@ -13,13 +13,18 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.search.strategy.selectors.variables.Smallest;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Task;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.chocosolver.solver.search.strategy.Search.intVarSearch;
 import static org.chocosolver.solver.search.strategy.Search.lastConflict;
 import static org.chocosolver.solver.search.strategy.Search.randomSearch;
 
@@ -186,6 +191,207 @@ public class CumulativeTest {
 		}
 	}
 
+	@Test(groups="1s", timeOut=60000)
+	public void testEdgeFinding() throws ContradictionException {
+		for (Cumulative.Filter filter : new Cumulative.Filter[]{Cumulative.Filter.TTEF, Cumulative.Filter.EDGE_FINDING}) {
+			for (boolean graph : new boolean[]{true, false}) {
+				Model model = new Model();
+				// two tasks which fill [0,6) without compulsory part, the third one has to start after them
+				Task[] tasks = new Task[]{
+						new Task(model.intVar(0, 3), model.intVar(3), model.intVar(3, 6)),
+						new Task(model.intVar(0, 3), model.intVar(3), model.intVar(3, 6)),
+						new Task(model.intVar(0, 18), model.intVar(2), model.intVar(2, 20))
+				};
+				IntVar[] heights = model.intVarArray(3, 1, 1);
+				model.cumulative(tasks, heights, model.intVar(1), graph, Cumulative.Filter.TIME, filter).post();
+				model.getSolver().propagate();
+				Assert.assertEquals(tasks[2].getStart().getLB(), 6, filter.name());
+				Assert.assertEquals(tasks[0].getEnd().getUB(), 6, filter.name());
+			}
+		}
+	}
+
+	@Test(groups="10s", timeOut=60000)
+	public void testEdgeFindingRandom() {
+		Cumulative.Filter[][] filters = new Cumulative.Filter[][]{
+				{Cumulative.Filter.TIME, Cumulative.Filter.TTEF},
+				{Cumulative.Filter.TIME, Cumulative.Filter.EDGE_FINDING},
+				{Cumulative.Filter.SWEEP, Cumulative.Filter.TTEF, Cumulative.Filter.EDGE_FINDING}
+		};
+		for (long seed = 0; seed < 40; seed++) {
+			for (boolean graph : new boolean[]{true, false}) {
+				long ref = countSolutions(seed, graph, Cumulative.Filter.TIME);
+				for (Cumulative.Filter[] f : filters) {
+					Assert.assertEquals(countSolutions(seed, graph, f), ref, seed + " " + Arrays.toString(f));
+				}
+			}
+		}
+	}
+
+	private static long countSolutions(long seed, boolean graph, Cumulative.Filter... filters) {
+		Random rnd = new Random(seed);
+		Model model = new Model();
+		int n = 2 + (int) (seed % 3);
+		int horizon = 3 + rnd.nextInt(2 * n + 2);
+		int capa = 1 + rnd.nextInt(4);
+		Task[] tasks = new Task[n];
+		IntVar[] heights = new IntVar[n];
+		for (int i = 0; i < n; i++) {
+			int d = 1 + rnd.nextInt(4);
+			int lb = rnd.nextInt(3);
+			int ub = Math.max(lb + d, horizon - rnd.nextInt(3));
+			tasks[i] = new Task(model.intVar(lb, ub - d), model.intVar(d, d + rnd.nextInt(2)), model.intVar(lb, ub + 1));
+			heights[i] = model.intVar(1, 1 + rnd.nextInt(capa));
+		}
+		model.cumulative(tasks, heights, model.intVar(capa - 1, capa), graph, filters).post();
+		Solver solver = model.getSolver();
+		solver.setSearch(inputOrderLBSearch(model.retrieveIntVars(true)));
+		while (solver.solve()) ;
+		return solver.getSolutionCount();
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testEdgeFindingTighterRandom() throws ContradictionException {
+		Cumulative.Filter[][] filters = new Cumulative.Filter[][]{
+				{Cumulative.Filter.TIME, Cumulative.Filter.TTEF},
+				{Cumulative.Filter.TIME, Cumulative.Filter.EDGE_FINDING}
+		};
+		for (Cumulative.Filter[] f : filters) {
+			int tighter = 0;
+			for (long seed = 0; seed < 20; seed++) {
+				int[] ref = rootBounds(seed, Cumulative.Filter.TIME);
+				int[] bounds = rootBounds(seed, f);
+				boolean strict = false;
+				for (int i = 0; i < ref.length; i += 2) {
+					// lower bounds, then upper bounds
+					Assert.assertTrue(bounds[i] >= ref[i] && bounds[i + 1] <= ref[i + 1], seed + " " + Arrays.toString(f));
+					strict |= bounds[i] > ref[i] || bounds[i + 1] < ref[i + 1];
+				}
+				if (strict) {
+					tighter++;
+				}
+			}
+			Assert.assertTrue(tighter > 0, Arrays.toString(f));
+		}
+	}
+
+	/**
+	 * Bounds of the starts and the ends of the tasks after the initial propagation of an instance where
+	 * a few tasks fill the resource in [0, b) without any compulsory part, and another task can start at 0:
+	 * time-table filters cannot prune, whereas edge-finding pushes the last task after b.
+	 */
+	private static int[] rootBounds(long seed, Cumulative.Filter... filters) throws ContradictionException {
+		Random rnd = new Random(seed);
+		Model model = new Model();
+		int capa = 1 + rnd.nextInt(3);
+		int k = 2 + rnd.nextInt(3);
+		int p = 1 + rnd.nextInt(4);
+		int q = 1 + rnd.nextInt(4);
+		int horizon = k * p + 2 * q + rnd.nextInt(5);
+		Task[] tasks = new Task[k + 1];
+		IntVar[] heights = new IntVar[k + 1];
+		for (int i = 0; i < k; i++) {
+			tasks[i] = new Task(model.intVar(0, (k - 1) * p), model.intVar(p), model.intVar(p, k * p));
+			heights[i] = model.intVar(capa);
+		}
+		tasks[k] = new Task(model.intVar(0, horizon - q), model.intVar(q), model.intVar(q, horizon));
+		heights[k] = model.intVar(1 + rnd.nextInt(capa));
+		model.cumulative(tasks, heights, model.intVar(capa), false, filters).post();
+		model.getSolver().propagate();
+		int[] bounds = new int[4 * tasks.length];
+		for (int i = 0; i < tasks.length; i++) {
+			bounds[4 * i] = tasks[i].getStart().getLB();
+			bounds[4 * i + 1] = tasks[i].getStart().getUB();
+			bounds[4 * i + 2] = tasks[i].getEnd().getLB();
+			bounds[4 * i + 3] = tasks[i].getEnd().getUB();
+		}
+		return bounds;
+	}
+
+	// too long, but can be used manually to compare filters on j60 and j120 like RCPSP instances
+	public void benchRCPSP(){
+		Cumulative.Filter[][] filters = new Cumulative.Filter[][]{
+				{Cumulative.Filter.TIME},
+				{Cumulative.Filter.TIME, Cumulative.Filter.NRJ},
+				{Cumulative.Filter.TIME, Cumulative.Filter.TTEF},
+				{Cumulative.Filter.TIME, Cumulative.Filter.EDGE_FINDING},
+				{Cumulative.Filter.TIME, Cumulative.Filter.TTEF, Cumulative.Filter.EDGE_FINDING}
+		};
+		for (int n : new int[]{60, 120}) {
+			for (long seed = 0; seed < 5; seed++) {
+				for (Cumulative.Filter[] f : filters) {
+					Solver solver = rcpsp(n, seed, f);
+					solver.limitTime("30s");
+					while (solver.solve()) ;
+					if(VERBOSE)System.out.println("j" + n + "_" + seed + " " + Arrays.toString(f)
+							+ " makespan=" + solver.getBestSolutionValue()
+							+ " nodes=" + solver.getNodeCount()
+							+ " time=" + solver.getTimeCount() + "s");
+				}
+			}
+		}
+	}
+
+	/**
+	 * Generates a RCPSP instance with <i>n</i> tasks and 4 resources, in the spirit of the PSPLIB generator:
+	 * durations in [1,10], at most 3 successors per task, each task uses 1 or 2 resources.
+	 */
+	private static Solver rcpsp(int n, long seed, Cumulative.Filter... filters) {
+		Random rnd = new Random(seed);
+		int nbRes = 4;
+		int[] dur = new int[n];
+		int[][] use = new int[nbRes][n];
+		int[] capa = new int[nbRes];
+		int horizon = 0;
+		for (int i = 0; i < n; i++) {
+			dur[i] = 1 + rnd.nextInt(10);
+			horizon += dur[i];
+			for (int r = 0; r < 1 + rnd.nextInt(2); r++) {
+				use[rnd.nextInt(nbRes)][i] = 1 + rnd.nextInt(10);
+			}
+		}
+		for (int r = 0; r < nbRes; r++) {
+			for (int i = 0; i < n; i++) {
+				capa[r] = Math.max(capa[r], use[r][i]);
+			}
+			capa[r] += rnd.nextInt(10);
+		}
+		Model model = new Model();
+		IntVar[] starts = model.intVarArray("s", n, 0, horizon, false);
+		IntVar makespan = model.intVar("makespan", 0, horizon, true);
+		Task[] tasks = new Task[n];
+		for (int i = 0; i < n; i++) {
+			tasks[i] = model.taskVar(starts[i], dur[i]);
+			model.arithm(tasks[i].getEnd(), "<=", makespan).post();
+		}
+		// precedences go from a task to tasks of higher indices, as in a topological order
+		for (int i = 0; i < n - 1; i++) {
+			for (int k = rnd.nextInt(4); k > 0; k--) {
+				int j = i + 1 + rnd.nextInt(Math.min(n - i - 1, n / 6));
+				model.arithm(tasks[i].getEnd(), "<=", starts[j]).post();
+			}
+		}
+		for (int r = 0; r < nbRes; r++) {
+			int nb = 0;
+			for (int i = 0; i < n; i++) {
+				if (use[r][i] > 0) nb++;
+			}
+			Task[] ts = new Task[nb];
+			IntVar[] hs = new IntVar[nb];
+			for (int i = 0, k = 0; i < n; i++) {
+				if (use[r][i] > 0) {
+					ts[k] = tasks[i];
+					hs[k++] = model.intVar(use[r][i]);
+				}
+			}
+			model.cumulative(ts, hs, model.intVar(capa[r]), true, filters).post();
+		}
+		model.setObjective(Model.MINIMIZE, makespan);
+		Solver solver = model.getSolver();
+		solver.setSearch(intVarSearch(new Smallest(), new IntDomainMin(), starts));
+		return solver;
+	}
+
     @Test(groups="10s", timeOut=60000)
     public void testADelsol1(){
 		int[] height = new int[]{0, 1, 3, 5, 1, 4, 4, 3, 4, 3, 0};
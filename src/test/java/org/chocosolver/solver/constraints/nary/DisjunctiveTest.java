@@ -0,0 +1,158 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.ESat;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * Tests the disjunctive constraint
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class DisjunctiveTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEdgeFinding() throws ContradictionException {
+        Model model = new Model();
+        // A and B fill [0,6), C has to start after them
+        Task[] tasks = new Task[]{
+                model.taskVar(model.intVar(0, 3), 3),
+                model.taskVar(model.intVar(0, 3), 3),
+                model.taskVar(model.intVar(0, 18), 2)
+        };
+        model.disjunctive(tasks).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(tasks[2].getStart().getLB(), 6);
+        Assert.assertEquals(tasks[0].getEnd().getUB(), 6);
+        Assert.assertEquals(tasks[1].getEnd().getUB(), 6);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNotFirst() throws ContradictionException {
+        Model model = new Model();
+        // C cannot be processed before both A and B, so it cannot start before one of them ends
+        Task[] tasks = new Task[]{
+                model.taskVar(model.intVar(9, 12), 1),
+                model.taskVar(model.intVar(5, 12), 6),
+                model.taskVar(model.intVar(8, 18), 4)
+        };
+        model.disjunctive(tasks).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(tasks[2].getStart().getLB(), 12);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = ContradictionException.class)
+    public void testOverload() throws ContradictionException {
+        Model model = new Model();
+        Task[] tasks = new Task[]{
+                model.taskVar(model.intVar(0, 4), 3),
+                model.taskVar(model.intVar(1, 4), 3),
+                model.taskVar(model.intVar(2, 5), 2)
+        };
+        model.disjunctive(tasks).post();
+        model.getSolver().propagate();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDur0() throws ContradictionException {
+        Model model = new Model();
+        Task[] tasks = new Task[]{
+                model.taskVar(model.intVar(0, 5), model.intVar(0, 2)),
+                model.taskVar(model.intVar(0, 5), 5),
+                model.taskVar(model.intVar(0, 5), 0)
+        };
+        model.disjunctive(tasks).post();
+        Solver solver = model.getSolver();
+        solver.propagate();
+        Assert.assertEquals(tasks[2].getStart().getDomainSize(), 6);
+        while (solver.solve()) {
+            Assert.assertEquals(model.getCstrs()[0].isSatisfied(), ESat.TRUE);
+        }
+        Assert.assertEquals(solver.getSolutionCount(), 378);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testRandom() {
+        for (long seed = 0; seed < 200; seed++) {
+            Assert.assertEquals(countSolutions(seed, true), countSolutions(seed, false), "seed " + seed);
+        }
+    }
+
+    /**
+     * Count the solutions of a random unary resource, modelled with a disjunctive constraint
+     * or with a cumulative constraint of capacity 1
+     */
+    private static long countSolutions(long seed, boolean disjunctive) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        int n = 2 + rnd.nextInt(4);
+        Task[] tasks = new Task[n];
+        for (int i = 0; i < n; i++) {
+            int lb = rnd.nextInt(6);
+            IntVar d = model.intVar(1, 1 + rnd.nextInt(4));
+            tasks[i] = model.taskVar(model.intVar(lb, lb + rnd.nextInt(8)), d);
+        }
+        if (disjunctive) {
+            model.disjunctive(tasks).post();
+        } else {
+            model.cumulative(tasks, model.intVarArray(n, 1, 1), model.intVar(1)).post();
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(inputOrderLBSearch(model.retrieveIntVars(true)));
+        while (solver.solve()) ;
+        return solver.getSolutionCount();
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testJobShop() {
+        // ft06, optimal makespan is 55
+        int[][] machines = {
+                {2, 0, 1, 3, 5, 4}, {1, 2, 4, 5, 0, 3}, {2, 3, 5, 0, 1, 4},
+                {1, 0, 2, 3, 4, 5}, {2, 1, 4, 5, 0, 3}, {1, 3, 5, 0, 4, 2}};
+        int[][] durations = {
+                {1, 3, 6, 7, 3, 6}, {8, 5, 10, 10, 10, 4}, {5, 4, 8, 9, 1, 7},
+                {5, 5, 5, 3, 8, 9}, {9, 3, 5, 4, 3, 1}, {3, 3, 9, 10, 4, 1}};
+        int n = machines.length, m = machines[0].length;
+        Model model = new Model();
+        IntVar makespan = model.intVar("makespan", 0, 200, true);
+        Task[][] byMachine = new Task[m][n];
+        for (int j = 0; j < n; j++) {
+            Task previous = null;
+            for (int k = 0; k < m; k++) {
+                Task task = model.taskVar(model.intVar("s_" + j + "_" + k, 0, 200, true), durations[j][k]);
+                if (previous != null) {
+                    model.arithm(previous.getEnd(), "<=", task.getStart()).post();
+                }
+                byMachine[machines[j][k]][j] = task;
+                previous = task;
+            }
+            model.arithm(previous.getEnd(), "<=", makespan).post();
+        }
+        for (int k = 0; k < m; k++) {
+            model.disjunctive(byMachine[k]).post();
+        }
+        model.setObjective(Model.MINIMIZE, makespan);
+        Solver solver = model.getSolver();
+        while (solver.solve()) ;
+        Assert.assertEquals(solver.getBestSolutionValue().intValue(), 55);
+    }
+}
@@ -28,6 +28,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import dk.brics.automaton.Automaton;
 import dk.brics.automaton.RegExp;
@@ -422,4 +423,67 @@ public class RegularTest {
         return null;
     }
 
-}
\ No newline at end of file
+    @Test(groups="1s", timeOut=60000)
+    public void testRandomAutomata() {
+        for (int seed = 0; seed < 50; seed++) {
+            Random rnd = new Random(seed);
+            int n = 2 + rnd.nextInt(4);
+            FiniteAutomaton auto = new FiniteAutomaton();
+            int nbStates = 1 + rnd.nextInt(5);
+            for (int k = 0; k < nbStates; k++) {
+                auto.addState();
+            }
+            auto.setInitialState(0);
+            for (int k = 0; k < nbStates; k++) {
+                if (rnd.nextInt(3) == 0) {
+                    auto.setFinal(k);
+                }
+                for (int v = 0; v < 4; v++) {
+                    if (rnd.nextBoolean()) {
+                        auto.addTransition(k, rnd.nextInt(nbStates), v);
+                    }
+                }
+            }
+            Model model = new Model();
+            IntVar[] vars = new IntVar[n];
+            boolean[] holes = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                holes[i] = rnd.nextBoolean();
+                vars[i] = holes[i] ? model.intVar("x" + i, new int[]{0, 2, 3}) : model.intVar("x" + i, 0, 3);
+            }
+            model.regular(vars, auto).post();
+            Solver solver = model.getSolver();
+            solver.setSearch(Search.randomSearch(vars, seed));
+            long sols = 0;
+            while (solver.solve()) {
+                int[] word = new int[n];
+                for (int i = 0; i < n; i++) {
+                    word[i] = vars[i].getValue();
+                }
+                Assert.assertTrue(auto.run(word));
+                sols++;
+            }
+            // count the accepted words by enumeration
+            long expected = 0;
+            int[] word = new int[n];
+            int i = n - 1;
+            while (i >= 0) {
+                boolean inDomains = true;
+                for (int k = 0; k < n; k++) {
+                    inDomains &= !holes[k] || word[k] != 1;
+                }
+                if (inDomains && auto.run(word)) {
+                    expected++;
+                }
+                for (i = n - 1; i >= 0 && word[i] == 3; i--) {
+                    word[i] = 0;
+                }
+                if (i >= 0) {
+                    word[i]++;
+                }
+            }
+            assertEquals(sols, expected);
+        }
+    }
+
+}
@@ -19,12 +19,14 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.extension.MappedTuples;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
 import org.chocosolver.solver.constraints.extension.nary.TuplesLargeTable;
 import org.chocosolver.solver.constraints.extension.nary.TuplesTable;
 import org.chocosolver.solver.constraints.extension.nary.TuplesVeryLargeTable;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
@@ -32,6 +34,9 @@ import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Random;
 
 import static java.lang.System.out;
@@ -547,6 +552,227 @@ public class TableTest {
 		Assert.assertEquals(solver.getSolutionCount(), 27);
 	}
 
+	@Test(groups="1s", timeOut=60000)
+	public void testCompactSupports() {
+		// large domains lead to sparse supports, small ones to dense supports
+		int[] ubs = {199, 2, 199, 49};
+		for (long seed = 0; seed < 5; seed++) {
+			Random rnd = new Random(seed);
+			Tuples tuples = new Tuples(true);
+			for (int t = 0; t < 3000; t++) {
+				tuples.add(rnd.nextInt(ubs[0] + 1), rnd.nextInt(ubs[1] + 1), rnd.nextInt(ubs[2] + 1), rnd.nextInt(ubs[3] + 1));
+			}
+			long[] ct = solveTable(ubs, tuples, "CT+", seed);
+			long[] ac = solveTable(ubs, tuples, "GAC3rm+", seed);
+			assertEquals(ct[0], ac[0]);
+			assertEquals(ct[1], ac[1]);
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testCompactSupportsST() {
+		int[] ubs = {2, 99, 9};
+		int ST = -1;
+		for (long seed = 0; seed < 5; seed++) {
+			Random rnd = new Random(seed);
+			Tuples tuples = new Tuples(true);
+			tuples.setUniversalValue(ST);
+			Tuples expanded = new Tuples(true);
+			for (int t = 0; t < 300; t++) {
+				int[] tuple = new int[ubs.length];
+				for (int i = 0; i < ubs.length; i++) {
+					tuple[i] = rnd.nextInt(5) == 0 ? ST : rnd.nextInt(ubs[i] + 1);
+				}
+				tuples.add(tuple);
+				expand(tuple, 0, ubs, ST, expanded);
+			}
+			long[] ctst = solveTable(ubs, tuples, "CT+", seed);
+			long[] ct = solveTable(ubs, expanded, "CT+", seed);
+			assertEquals(ctst[0], ct[0]);
+			assertEquals(ctst[1], ct[1]);
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testTuplesCache() {
+		Model model = new Model();
+		IntVar[] x = model.intVarArray("x", 3, 0, 3);
+		IntVar[] y = model.intVarArray("y", 3, 0, 3);
+		IntVar[] z = model.intVarArray("z", 3, 0, 4);
+		Tuples tuples = new Tuples();
+		tuples.add(0, 1, 2);
+		tuples.add(3, 2, 1);
+		int[] calls = new int[1];
+		Object s1 = tuples.computeIfAbsent("A", x, () -> new int[]{calls[0]++});
+		Object s2 = tuples.computeIfAbsent("A", y, () -> new int[]{calls[0]++});
+		Assert.assertSame(s2, s1);
+		Assert.assertEquals(calls[0], 1);
+		tuples.computeIfAbsent("B", y, () -> new int[]{calls[0]++});
+		Assert.assertEquals(calls[0], 2);
+		tuples.computeIfAbsent("A", z, () -> new int[]{calls[0]++});
+		Assert.assertEquals(calls[0], 3);
+		tuples.add(1, 1, 1);
+		Object s3 = tuples.computeIfAbsent("A", x, () -> new int[]{calls[0]++});
+		Assert.assertNotSame(s3, s1);
+		Assert.assertEquals(calls[0], 4);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testTuplesCacheBounded() {
+		Model model = new Model();
+		IntVar[] x = model.intVarArray("x", 2, 0, 3);
+		Tuples tuples = new Tuples();
+		tuples.add(0, 1);
+		int[] calls = new int[1];
+		Object first = tuples.computeIfAbsent("K0", x, () -> new int[]{calls[0]++});
+		// the cache keeps the eight last used data structures
+		for (int k = 1; k < 8; k++) {
+			tuples.computeIfAbsent("K" + k, x, () -> new int[]{calls[0]++});
+		}
+		Assert.assertSame(tuples.computeIfAbsent("K0", x, () -> new int[]{calls[0]++}), first);
+		Assert.assertEquals(calls[0], 8);
+		// K1 is now the least recently used one, and is evicted by K8
+		tuples.computeIfAbsent("K8", x, () -> new int[]{calls[0]++});
+		Assert.assertEquals(calls[0], 9);
+		Assert.assertSame(tuples.computeIfAbsent("K0", x, () -> new int[]{calls[0]++}), first);
+		tuples.computeIfAbsent("K1", x, () -> new int[]{calls[0]++});
+		Assert.assertEquals(calls[0], 10);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testSortTuplesFarApart() {
+		Tuples tuples = new Tuples();
+		tuples.add(Integer.MAX_VALUE, 0);
+		tuples.add(Integer.MIN_VALUE, 1);
+		tuples.add(0, Integer.MIN_VALUE);
+		tuples.add(0, Integer.MAX_VALUE);
+		tuples.sort();
+		Assert.assertEquals(tuples.get(0), new int[]{Integer.MIN_VALUE, 1});
+		Assert.assertEquals(tuples.get(1), new int[]{0, Integer.MIN_VALUE});
+		Assert.assertEquals(tuples.get(2), new int[]{0, Integer.MAX_VALUE});
+		Assert.assertEquals(tuples.get(3), new int[]{Integer.MAX_VALUE, 0});
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testSharedTuples() {
+		Random rnd = new Random(0);
+		Tuples tuples = new Tuples();
+		for (int t = 0; t < 200; t++) {
+			tuples.add(rnd.nextInt(10), rnd.nextInt(10), rnd.nextInt(10));
+		}
+		for (String a : new String[]{"CT+", "MDD+"}) {
+			Model model = new Model();
+			IntVar[] x = model.intVarArray("x", 9, 0, 9);
+			// the same tuples posted on three (overlapping) scopes
+			model.table(new IntVar[]{x[0], x[1], x[2]}, tuples, a).post();
+			model.table(new IntVar[]{x[2], x[3], x[4]}, tuples, a).post();
+			model.table(new IntVar[]{x[4], x[5], x[6]}, tuples, a).post();
+			model.table(new IntVar[]{x[6], x[7], x[8]}, tuples, "GAC3rm+").post();
+			Model ref = new Model();
+			IntVar[] y = ref.intVarArray("y", 9, 0, 9);
+			for (int i = 0; i < 4; i++) {
+				ref.table(new IntVar[]{y[2 * i], y[2 * i + 1], y[2 * i + 2]}, tuples, "GAC3rm+").post();
+			}
+			while (model.getSolver().solve()) ;
+			while (ref.getSolver().solve()) ;
+			assertEquals(model.getSolver().getSolutionCount(), ref.getSolver().getSolutionCount());
+			assertEquals(model.getSolver().getNodeCount(), ref.getSolver().getNodeCount());
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testMappedTuples() throws IOException {
+		int[] ubs = {9, 4, 29, 9};
+		Path file = Files.createTempFile("tuples", ".bin");
+		try {
+			for (long seed = 0; seed < 3; seed++) {
+				Random rnd = new Random(seed);
+				Tuples tuples = new Tuples(true);
+				for (int t = 0; t < 1000; t++) {
+					tuples.add(rnd.nextInt(ubs[0] + 1), rnd.nextInt(ubs[1] + 1), rnd.nextInt(ubs[2] + 1), rnd.nextInt(ubs[3] + 1));
+				}
+				MappedTuples.write(tuples, file);
+				MappedTuples mapped = MappedTuples.load(file);
+				Assert.assertEquals(mapped.nbTuples(), tuples.nbTuples());
+				Assert.assertTrue(mapped.isFeasible());
+				Assert.assertFalse(mapped.allowUniversalValue());
+				for (int i = 0; i < ubs.length; i++) {
+					Assert.assertEquals(mapped.min(i), tuples.min(i));
+					Assert.assertEquals(mapped.max(i), tuples.max(i));
+				}
+				int[] buffer = new int[ubs.length];
+				for (int t = 0; t < tuples.nbTuples(); t++) {
+					Assert.assertEquals(mapped.get(t), tuples.get(t));
+					Assert.assertEquals(mapped.get(t, buffer), tuples.get(t));
+					Assert.assertEquals(tuples.get(t, buffer), mapped.get(t));
+				}
+				for (String a : new String[]{"CT+", "STR2+", "MDD+", "GACSTR+"}) {
+					long[] m = solveTable(ubs, mapped, a, seed);
+					long[] h = solveTable(ubs, tuples, a, seed);
+					assertEquals(m[0], h[0]);
+					assertEquals(m[1], h[1]);
+				}
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testMappedTuplesWriter() throws IOException {
+		int ST = -1;
+		Path file = Files.createTempFile("tuples", ".bin");
+		try {
+			try (MappedTuples.Writer writer = new MappedTuples.Writer(file, 3, true)) {
+				writer.setUniversalValue(ST);
+				writer.add(0, ST, 2);
+				writer.add(1, 1, ST);
+			}
+			MappedTuples mapped = MappedTuples.load(file);
+			Assert.assertEquals(mapped.nbTuples(), 2);
+			Assert.assertEquals(mapped.getStarValue(), ST);
+			Assert.assertEquals(mapped.get(1, 2), ST);
+			Model model = new Model();
+			IntVar[] x = model.intVarArray("x", 3, 0, 2);
+			model.table(x, mapped, "CT+").post();
+			Assert.assertEquals(model.getSolver().findAllSolutions().size(), 6);
+			try {
+				mapped.add(0, 0, 0);
+				Assert.fail();
+			} catch (SolverException ignored) {
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static void expand(int[] tuple, int i, int[] ubs, int ST, Tuples expanded) {
+		if (i == tuple.length) {
+			expanded.add(tuple.clone());
+		} else if (tuple[i] == ST) {
+			for (int v = 0; v <= ubs[i]; v++) {
+				tuple[i] = v;
+				expand(tuple, i + 1, ubs, ST, expanded);
+			}
+			tuple[i] = ST;
+		} else {
+			expand(tuple, i + 1, ubs, ST, expanded);
+		}
+	}
+
+	private static long[] solveTable(int[] ubs, Tuples tuples, String algo, long seed) {
+		Model model = new Model();
+		IntVar[] vars = new IntVar[ubs.length];
+		for (int i = 0; i < ubs.length; i++) {
+			vars[i] = model.intVar("v" + i, 0, ubs[i], false);
+		}
+		model.table(vars, tuples, algo).post();
+		model.arithm(vars[0], "+", vars[1], ">", vars[ubs.length - 1]).post();
+		model.getSolver().setSearch(randomSearch(vars, seed));
+		while (model.getSolver().solve()) ;
+		return new long[]{model.getSolver().getSolutionCount(), model.getSolver().getNodeCount()};
+	}
+
 	@Test(groups="1s", timeOut=60000)
 	public void testJuha1(){
 		for (String a : BIN_ALGOS) {
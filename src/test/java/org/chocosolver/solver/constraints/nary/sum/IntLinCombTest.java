@@ -117,7 +117,8 @@ public class IntLinCombTest {
 
 
     protected Model sum(int[][] domains, int[] coeffs, int b, int op, boolean incr) {
-        Model model = new Model(new DefaultSettings().setEnableIncrementalityOnBoolSum(i -> incr));
+        Model model = new Model(new DefaultSettings().setEnableIncrementalityOnBoolSum(i -> incr)
+                .setEnableIncrementalityOnSum(i -> incr));
         IntVar[] bins = new IntVar[domains.length];
         for (int i = 0; i < domains.length; i++) {
             bins[i] = model.intVar("v_" + i, domains[i][0], domains[i][domains[i].length - 1], true);
@@ -138,7 +139,8 @@ public class IntLinCombTest {
     }
 
     protected Model intlincomb(int[][] domains, int[] coeffs, int b, int op, boolean incr) {
-        Model model = new Model(new DefaultSettings().setEnableIncrementalityOnBoolSum(i -> incr));
+        Model model = new Model(new DefaultSettings().setEnableIncrementalityOnBoolSum(i -> incr)
+                .setEnableIncrementalityOnSum(i -> incr));
         IntVar[] bins = new IntVar[domains.length];
         for (int i = 0; i < domains.length; i++) {
             bins[i] = model.intVar("v_" + i, domains[i][0], domains[i][domains[i].length - 1], true);
@@ -266,6 +268,41 @@ public class IntLinCombTest {
         }
     }
 
+    private static Model largeSum(int seed, int n, boolean scalar, boolean incr) {
+        Random rand = new Random(seed);
+        Model model = new Model(new DefaultSettings().setEnableIncrementalityOnSum(i -> incr));
+        IntVar[] vars = new IntVar[n];
+        int[] coeffs = new int[n];
+        for (int i = 0; i < n; i++) {
+            int min = -3 + rand.nextInt(6);
+            vars[i] = model.intVar("v_" + i, min, min + rand.nextInt(4), rand.nextBoolean());
+            coeffs[i] = scalar ? -5 + rand.nextInt(11) : (rand.nextBoolean() ? 1 : -1);
+        }
+        String op = new String[]{"=", "<=", ">=", "<", ">"}[rand.nextInt(5)];
+        int b = -4 + rand.nextInt(9);
+        model.scalar(vars, coeffs, op, b).post();
+        model.scalar(Arrays.copyOf(vars, n / 2), Arrays.copyOf(coeffs, n / 2), ">=", b / 2).post();
+        model.getSolver().setSearch(Search.randomSearch(vars, seed));
+        model.getSolver().limitSolution(1000);
+        return model;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testIncrementalSum() {
+        for (int seed = 0; seed < 40; seed++) {
+            boolean scalar = seed % 2 == 1;
+            Model incr = largeSum(seed, 24, scalar, true);
+            Model coarse = largeSum(seed, 24, scalar, false);
+            Propagator p = incr.getCstrs()[0].getPropagator(0);
+            Assert.assertTrue(scalar ? p instanceof PropScalarIncr : p instanceof PropSumIncr);
+            while (incr.getSolver().solve()) ;
+            while (coarse.getSolver().solve()) ;
+            assertEquals(incr.getSolver().getSolutionCount(), coarse.getSolver().getSolutionCount());
+            assertEquals(incr.getSolver().getNodeCount(), coarse.getSolver().getNodeCount());
+            assertEquals(incr.getSolver().getFailCount(), coarse.getSolver().getFailCount());
+        }
+    }
+
     @Test(groups="1s", timeOut=60000, dataProvider = "boolean")
     public void testUSum1(boolean incr) {
         Model sumleq = sum(new int[][]{{-2, 3}}, new int[]{-2}, -6, -1, incr);
@@ -14,14 +14,25 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.nary.clauses.PropSignedClause;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
 import static java.util.Arrays.sort;
 import static org.chocosolver.solver.Cause.Null;
 import static org.chocosolver.solver.constraints.PropagatorPriority.UNARY;
@@ -210,4 +221,182 @@ public class PropEngineTest {
         solver.getEngine().clear();
         solver.reset(); // error (null)
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDynamic1() {
+        Model model = new Model();
+        Solver solver = model.getSolver();
+        int n = 8;
+        IntVar[] vars = model.intVarArray("Q", n, 1, n, false);
+        solver.getEngine().initialize();
+        List<Constraint> fakes = new ArrayList<>();
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int k = j - i;
+                model.arithm(vars[i], "!=", vars[j]).post();
+                model.arithm(vars[i], "!=", vars[j], "+", -k).post();
+                model.arithm(vars[i], "!=", vars[j], "+", k).post();
+                Constraint fake = model.arithm(vars[i], "=", vars[j]);
+                fake.post();
+                fakes.add(fake);
+            }
+        }
+        Collections.shuffle(fakes, new Random(0));
+        for (Constraint fake : fakes) {
+            model.unpost(fake);
+        }
+        while (solver.solve()) ;
+        assertEquals(solver.getSolutionCount(), 92);
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testDynamic2() throws ContradictionException {
+        Model model = new Model();
+        Solver solver = model.getSolver();
+        int n = 200, m = 100_000;
+        IntVar[] vars = model.intVarArray("X", n, 0, 9, false);
+        solver.getEngine().initialize();
+        Random rnd = new Random(0);
+        Constraint[] clauses = new Constraint[m];
+        for (int i = 0; i < m; i++) {
+            int a = rnd.nextInt(n), b = (a + 1 + rnd.nextInt(n - 1)) % n;
+            clauses[i] = new Constraint("SC", PropSignedClause.makeFromIn(
+                    new IntVar[]{vars[a], vars[b]},
+                    new IntIterableRangeSet[]{new IntIterableRangeSet(1, 9), new IntIterableRangeSet(1, 9)}));
+            clauses[i].post();
+        }
+        solver.propagate();
+        for (int i = 0; i < m; i++) {
+            solver.getEngine().propagateOnBacktrack(clauses[i].getPropagator(0));
+        }
+        solver.propagate();
+        for (int i = 0; i < m; i += 2) {
+            model.unpost(clauses[i]);
+        }
+        for (int i = m - 1; i > 0; i -= 2) {
+            model.unpost(clauses[i]);
+        }
+        assertEquals(model.getNbCstrs(), 0);
+        solver.setSearch(minDomLBSearch(vars));
+        Assert.assertTrue(solver.solve());
+    }
+
+    @DataProvider(name = "schedulers")
+    public Object[][] getSchedulers() {
+        return new Object[][]{
+                {(Supplier<PropagationScheduler>) SevenQueuesScheduler::new},
+                {(Supplier<PropagationScheduler>) FifoScheduler::new},
+                {(Supplier<PropagationScheduler>) CostBasedScheduler::new},
+                {(Supplier<PropagationScheduler>) IdempotentFirstScheduler::new}
+        };
+    }
+
+    @Test(groups="1s", timeOut=60000, dataProvider = "schedulers")
+    public void testScheduler1(Supplier<PropagationScheduler> scheduler) {
+        Model model = makeNQueenWithBinaryConstraints(8);
+        model.getSolver().setEngine(new PropagationEngine(model, scheduler.get()));
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), 92);
+    }
+
+    @Test(groups="10s", timeOut=60000, dataProvider = "schedulers")
+    public void testScheduler2(Supplier<PropagationScheduler> scheduler) {
+        Model model = ProblemMaker.makeGolombRuler(8);
+        model.getSolver().setEngine(new PropagationEngine(model, scheduler.get()));
+        model.getSolver().setSearch(minDomLBSearch((IntVar[]) model.getHook("ticks")));
+        int obj = Integer.MAX_VALUE;
+        while (model.getSolver().solve()) {
+            obj = ((IntVar) (model.getObjective())).getValue();
+        }
+        Assert.assertEquals(obj, 34);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testScheduler3() {
+        Model model = new Model(new DefaultSettings().setPropagationScheduler(m -> new CostBasedScheduler()));
+        IntVar[] vars = model.intVarArray("X", 5, 0, 4, false);
+        model.allDifferent(vars, "AC").post();
+        model.arithm(vars[0], "<", vars[1]).post();
+        model.sum(vars, "=", 10).post();
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), 60);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testScheduler4() {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("X", 3, 0, 2, false);
+        Propagator p1 = model.arithm(vars[0], "!=", vars[1]).getPropagator(0);
+        Propagator p2 = model.allDifferent(vars, "BC").getPropagator(1);
+        Propagator p3 = model.arithm(vars[1], "!=", vars[2]).getPropagator(0);
+        PropagationScheduler scheduler = new IdempotentFirstScheduler();
+        scheduler.schedule(p2);
+        scheduler.schedule(p1);
+        scheduler.schedule(p3);
+        assertEquals(scheduler.pollFirst(), p1);
+        assertEquals(scheduler.pollFirst(), p3);
+        assertEquals(scheduler.pollFirst(), p2);
+        Assert.assertTrue(scheduler.isEmpty());
+        scheduler = new SevenQueuesScheduler();
+        scheduler.schedule(p2);
+        scheduler.schedule(p1);
+        assertEquals(scheduler.pollFirst(), p1);
+        scheduler.schedule(p3);
+        assertEquals(scheduler.pollFirst(), p3);
+        assertEquals(scheduler.pollFirst(), p2);
+        Assert.assertNull(scheduler.pollFirst());
+        scheduler = new CostBasedScheduler();
+        scheduler.schedule(p2);
+        scheduler.schedule(p1);
+        scheduler.onExecution(p3, 1_000_000);
+        scheduler.schedule(p3);
+        assertEquals(scheduler.pollFirst(), p1);
+        assertEquals(scheduler.pollFirst(), p2);
+        assertEquals(scheduler.pollFirst(), p3);
+        Assert.assertTrue(scheduler.isEmpty());
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testProfiler1() {
+        Model model = makeNQueenWithBinaryConstraints(8);
+        Solver solver = model.getSolver();
+        Assert.assertNull(solver.getPropagationProfiler());
+        PropagationProfiler profiler = solver.profilePropagation();
+        while (solver.solve()) ;
+        assertEquals(solver.getSolutionCount(), 92);
+        long calls = 0, fails = 0;
+        for (PropagationProfiler.Record r : profiler.getRecords()) {
+            Assert.assertTrue(r.getCalls() >= r.getFails() + r.getWasted());
+            calls += r.getCalls();
+            fails += r.getFails();
+        }
+        Assert.assertTrue(calls > 0);
+        Assert.assertTrue(fails > 0 && fails <= solver.getFailCount());
+        List<PropagationProfiler.Record> perCstr = profiler.getRecordsPerConstraint();
+        assertEquals(perCstr.size(), 1);
+        assertEquals(perCstr.get(0).getName(), "ARITHM");
+        assertEquals(perCstr.get(0).getCalls(), calls);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        profiler.print(new PrintStream(bos), 5);
+        Assert.assertTrue(bos.toString().contains("ARITHM"));
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testProfiler2() {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("X", 3, 0, 2, false);
+        Constraint c = model.arithm(vars[0], "<", vars[1]);
+        c.post();
+        model.arithm(vars[0], ">=", 0).post();
+        Solver solver = model.getSolver();
+        PropagationProfiler profiler = solver.profilePropagation();
+        solver.setEngine(new PropagationEngine(model));
+        Assert.assertSame(solver.getPropagationProfiler(), profiler);
+        Assert.assertTrue(solver.solve());
+        PropagationProfiler.Record r = profiler.getRecord(c.getPropagator(0));
+        Assert.assertTrue(r.getCalls() > 0);
+        Assert.assertTrue(r.getFilterings() > 0);
+        profiler.reset();
+        Assert.assertNull(profiler.getRecord(c.getPropagator(0)));
+    }
 }
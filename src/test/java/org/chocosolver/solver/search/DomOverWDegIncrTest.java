@@ -0,0 +1,143 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.search.strategy.selectors.variables.DomOverWDegIncr;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.objects.IntMap;
+import org.testng.annotations.Test;
+
+import static org.chocosolver.solver.search.strategy.Search.domOverWDegIncrSearch;
+import static org.chocosolver.solver.search.strategy.Search.domOverWDegSearch;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the incremental dom/wdeg variable selector
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class DomOverWDegIncrTest {
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testCostas() {
+        long[] counts = new long[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = ProblemMaker.makeCostasArrays(7);
+            IntVar[] vectors = (IntVar[]) model.getHook("vectors");
+            Solver solver = model.getSolver();
+            solver.setSearch(k == 0 ? domOverWDegSearch(vectors) : domOverWDegIncrSearch(vectors));
+            while (solver.solve()) ;
+            counts[k] = solver.getSolutionCount();
+        }
+        assertEquals(counts[1], counts[0]);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testWeightings() {
+        long[] counts = new long[3];
+        for (DomOverWDegIncr.Weighting weighting : DomOverWDegIncr.Weighting.values()) {
+            Model model = ProblemMaker.makeCostasArrays(7);
+            IntVar[] vectors = (IntVar[]) model.getHook("vectors");
+            Solver solver = model.getSolver();
+            solver.setSearch(domOverWDegIncrSearch(weighting, vectors));
+            while (solver.solve()) ;
+            counts[weighting.ordinal()] = solver.getSolutionCount();
+        }
+        assertEquals(counts[1], counts[0]);
+        assertEquals(counts[2], counts[0]);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testWeightingsWithRestarts() {
+        for (DomOverWDegIncr.Weighting weighting : DomOverWDegIncr.Weighting.values()) {
+            Model model = ProblemMaker.makeNQueenWithBinaryConstraints(50);
+            IntVar[] vars = (IntVar[]) model.getHook("vars");
+            Solver solver = model.getSolver();
+            solver.setSearch(domOverWDegIncrSearch(weighting, vars));
+            solver.setLubyRestart(2, new FailCounter(model, 2), 1000);
+            assertTrue(solver.solve(), weighting.toString());
+            assertEquals(solver.isSatisfied(), ESat.TRUE, weighting.toString());
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testScores() {
+        checkScores(ProblemMaker.makeNQueenWithBinaryConstraints(12), "vars", false);
+        checkScores(ProblemMaker.makeCostasArrays(8), "vectors", false);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testScoresWithRestarts() {
+        checkScores(ProblemMaker.makeNQueenWithBinaryConstraints(12), "vars", true);
+        checkScores(ProblemMaker.makeGolombRuler(7), "ticks", true);
+    }
+
+    /**
+     * Solve the model and check that each selected variable minimizes dom/wdeg,
+     * weights being computed from scratch
+     */
+    private static void checkScores(Model model, String hook, boolean restarts) {
+        IntVar[] vars = (IntVar[]) model.getHook(hook);
+        Solver solver = model.getSolver();
+        IntMap p2w = new IntMap(16, 0);
+        solver.plugMonitor((IMonitorContradiction) cex -> {
+            if (cex.c instanceof Propagator) {
+                p2w.putOrAdjust(((Propagator) cex.c).getId(), 1, 1);
+            }
+        });
+        int[] nbDecisions = new int[1];
+        solver.setSearch(new DomOverWDegIncr(vars, 0, new IntDomainMin()) {
+            @Override
+            public Decision<IntVar> getDecision() {
+                Decision<IntVar> d = super.getDecision();
+                if (d != null) {
+                    nbDecisions[0]++;
+                    IntVar best = d.getDecisionVariable();
+                    long bd = best.getDomainSize(), bw = weight(best, p2w);
+                    for (IntVar v : vars) {
+                        if (!v.isInstantiated()) {
+                            assertFalse(v.getDomainSize() * bw < bd * weight(v, p2w), v + " is better than " + best);
+                        }
+                    }
+                }
+                return d;
+            }
+        });
+        if (restarts) {
+            solver.setLubyRestart(2, new FailCounter(model, 2), 1000);
+        }
+        solver.limitFail(3000);
+        while (solver.solve()) ;
+        assertTrue(nbDecisions[0] > 0);
+    }
+
+    private static int weight(IntVar v, IntMap p2w) {
+        int w = 1;
+        for (int i = 0; i < v.getNbProps(); i++) {
+            Propagator p = v.getPropagator(i);
+            if (p.arity() > 1) {
+                w += p2w.get(p.getId());
+            }
+        }
+        return w;
+    }
+}
@@ -11,6 +11,7 @@ package org.chocosolver.solver.search;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.objective.ParetoArchive;
 import org.chocosolver.solver.objective.ParetoOptimizer;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.strategy.Search;
@@ -18,6 +19,10 @@ import org.chocosolver.solver.variables.IntVar;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static java.lang.Integer.parseInt;
 import static java.lang.Math.max;
 
@@ -39,6 +44,77 @@ public class ParetoTest {
         Assert.assertTrue(bestProfit1 > 60);
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testParetoMax3() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        model.sum(x, "<=", 7).post();
+        List<Solution> front = model.getSolver().findParetoFront(x, Model.MAXIMIZE);
+        // points such that x0 + x1 + x2 = 7
+        Assert.assertEquals(front.size(), 27);
+        for (Solution sol : front) {
+            Assert.assertEquals(sol.getIntVal(x[0]) + sol.getIntVal(x[1]) + sol.getIntVal(x[2]), 7);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testParetoMin3() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        model.sum(x, ">=", 5).post();
+        List<Solution> front = model.getSolver().findParetoFront(x, Model.MINIMIZE);
+        Assert.assertEquals(front.size(), 21);
+        for (Solution sol : front) {
+            Assert.assertEquals(sol.getIntVal(x[0]) + sol.getIntVal(x[1]) + sol.getIntVal(x[2]), 5);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testArchive() {
+        Random rnd = new Random(0);
+        for (int d = 2; d < 5; d++) {
+            ParetoArchive<Integer> archive = new ParetoArchive<>(d, 4, 3);
+            List<int[]> front = new ArrayList<>();
+            for (int k = 0; k < 2000; k++) {
+                int[] p = new int[d];
+                for (int i = 0; i < d; i++) {
+                    p[i] = rnd.nextInt(100);
+                }
+                boolean dominated = front.stream().anyMatch(a -> dominates(a, p) && !java.util.Arrays.equals(a, p));
+                Assert.assertEquals(archive.isDominated(p), front.stream().anyMatch(a -> dominates(a, p)));
+                Assert.assertEquals(archive.add(p, k), !dominated);
+                if (!dominated) {
+                    front.removeIf(a -> dominates(p, a));
+                    front.add(p);
+                }
+                Assert.assertEquals(archive.size(), front.size());
+                int[] lower = new int[d];
+                for (int i = 0; i < d; i++) {
+                    lower[i] = rnd.nextInt(100);
+                }
+                for (int i = 0; i < d; i++) {
+                    int best = Integer.MIN_VALUE;
+                    for (int[] a : front) {
+                        boolean ok = true;
+                        for (int j = 0; j < d; j++) {
+                            ok &= j == i || a[j] >= lower[j];
+                        }
+                        if (ok) best = max(best, a[i]);
+                    }
+                    Assert.assertEquals(archive.maxOver(i, lower), best);
+                }
+            }
+            Assert.assertEquals(archive.getPayloads().size(), front.size());
+        }
+    }
+
+    private static boolean dominates(int[] a, int[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] < b[i]) return false;
+        }
+        return true;
+    }
+
     private void runKnapsackPareto(final int capacity, final String... items) {
         int[] nbItems = new int[items.length];
         int[] weights = new int[items.length];
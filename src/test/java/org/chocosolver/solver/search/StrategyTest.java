@@ -10,13 +10,18 @@
 package org.chocosolver.solver.search;
 
 import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.decision.Decision;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMiddle;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainPhase;
 import org.chocosolver.solver.search.strategy.selectors.variables.*;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
 import org.chocosolver.solver.search.strategy.strategy.LastConflict;
@@ -374,4 +379,58 @@ public class StrategyTest {
 			assertEquals(modelBound.getSolver().getBestSolutionValue().intValue(),model.getSolver().getBestSolutionValue().intValue());
 		}
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testPhaseSaving() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5, false);
+        IntVar y = model.intVar("y", 0, 5, true);
+        IntDomainPhase phase = new IntDomainPhase(model, new IntDomainMin());
+        IEnvironment env = model.getEnvironment();
+        // no value recorded yet
+        assertEquals(phase.selectValue(x), 0);
+        assertEquals(phase.selectValue(y), 0);
+        env.worldPush();
+        x.instantiateTo(3, Cause.Null);
+        y.instantiateTo(4, Cause.Null);
+        env.worldPop();
+        // the values are kept on backtrack
+        assertTrue(phase.hasPhase(x));
+        assertEquals(phase.selectValue(x), 3);
+        assertEquals(phase.selectValue(y), 0);
+        y.updateUpperBound(4, Cause.Null);
+        assertEquals(phase.selectValue(y), 4);
+        x.removeValue(3, Cause.Null);
+        assertEquals(phase.selectValue(x), 0);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testSolutionGuided() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5, false);
+        IntDomainPhase phase = new IntDomainPhase(model, new IntDomainMin(), false);
+        IEnvironment env = model.getEnvironment();
+        assertEquals(phase.selectValue(x), 0);
+        env.worldPush();
+        x.instantiateTo(3, Cause.Null);
+        env.worldPop();
+        // only solutions are recorded
+        Assert.assertFalse(phase.hasPhase(x));
+        model.arithm(x, ">", 1).post();
+        assertTrue(model.getSolver().solve());
+        assertEquals(phase.getPhase(x), 2);
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testPhaseSavingWithRestarts() {
+        for (boolean phaseSaving : new boolean[]{true, false}) {
+            Model model = ProblemMaker.makeGolombRuler(8);
+            IntVar[] ticks = (IntVar[]) model.getHook("ticks");
+            Solver solver = model.getSolver();
+            solver.setSearch(new DomOverWDeg(ticks, 0, new IntDomainPhase(model, new IntDomainMin(), phaseSaving)));
+            solver.setLubyRestart(50, new FailCounter(model, 0), 1000);
+            Solution best = solver.findOptimalSolution((IntVar) model.getObjective(), Model.MINIMIZE);
+            assertEquals(best.getIntVal((IntVar) model.getObjective()), 34);
+        }
+    }
 }
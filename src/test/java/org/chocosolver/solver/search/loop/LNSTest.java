@@ -32,6 +32,10 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static java.lang.Math.ceil;
 import static org.chocosolver.solver.search.strategy.Search.domOverWDegSearch;
 import static org.chocosolver.solver.search.strategy.Search.lastConflict;
@@ -91,6 +95,13 @@ public class LNSTest {
                 r.setNoGoodRecordingFromRestarts();
                 r.setLNS(new RandomNeighborhood(objects, 200, 123456L));
                 break;
+            case 6:
+                r.setLNS(new BanditNeighborhood(model, 123456L,
+                        new PropagationGuidedNeighborhood(objects, 100, 10, 123456L),
+                        new ReversePropagationGuidedNeighborhood(objects, 100, 10, 123456L),
+                        new RandomNeighborhood(objects, 200, 123456L)
+                ));
+                break;
         }
         model.setObjective(Model.MAXIMIZE, power);
         int bw = 0, bp = 0;
@@ -104,7 +115,7 @@ public class LNSTest {
 
     @DataProvider(name = "lns")
     public Object[][] createData() {
-        return new Object[][]{{0}, {1}, {2}, {3}, {4}, {5}};
+        return new Object[][]{{0}, {1}, {2}, {3}, {4}, {5}, {6}};
     }
 
 
@@ -354,4 +365,119 @@ public class LNSTest {
 
         return bp;
     }
+
+    /**
+     * An arm of a bandit which only records when it is selected, and the base fragment size it is given.
+     * Each fragment lasts one millisecond on <i>clock</i>.
+     */
+    private static class StubNeighbor extends PropagationGuidedNeighborhood {
+
+        private final List<Integer> sizes = new ArrayList<>();
+        private final int[] last;
+        private final int id;
+        private final long[] clock;
+
+        StubNeighbor(IntVar[] vars, int id, int[] last, long[] clock) {
+            super(vars, 40, 10, 0L);
+            setBaseFragmentSize(40);
+            this.id = id;
+            this.last = last;
+            this.clock = clock;
+        }
+
+        @Override
+        public void recordSolution() {
+        }
+
+        @Override
+        public void loadFromSolution(Solution solution) {
+        }
+
+        @Override
+        public void fixSomeVariables() {
+            last[0] = id;
+            sizes.add(getBaseFragmentSize());
+            clock[0] += 1_000_000;
+        }
+    }
+
+    /**
+     * Simulate <i>n</i> fragments of <i>bandit</i>, the <i>i</i>th arm improving the objective by <i>gains[i]</i>
+     */
+    private static void simulate(Model model, IntVar obj, BanditNeighborhood bandit, int[] last, int[] gains,
+                                 int[] counts, int n) throws ContradictionException {
+        int value = 0;
+        recordSolution(model, obj, bandit, value);
+        for (int k = 0; k < n; k++) {
+            bandit.fixSomeVariables();
+            counts[last[0]]++;
+            value += gains[last[0]];
+            recordSolution(model, obj, bandit, value);
+        }
+    }
+
+    private static void recordSolution(Model model, IntVar obj, BanditNeighborhood bandit, int value)
+            throws ContradictionException {
+        model.getEnvironment().worldPush();
+        obj.instantiateTo(value, Cause.Null);
+        bandit.recordSolution();
+        model.getEnvironment().worldPop();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBanditRates() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("x", 3, 0, 5);
+        IntVar obj = model.intVar("obj", 0, 100_000);
+        model.setObjective(Model.MAXIMIZE, obj);
+        int[] last = new int[1];
+        long[] clock = new long[1];
+        BanditNeighborhood bandit = new BanditNeighborhood(model, 0L, .9, .1, () -> clock[0],
+                new StubNeighbor(vars, 0, last, clock), new StubNeighbor(vars, 1, last, clock));
+        int[] counts = new int[2];
+        // arms never selected are tried first, in order
+        simulate(model, obj, bandit, last, new int[]{10, 1}, counts, 1);
+        Assert.assertEquals(counts[0], 1);
+        Assert.assertEquals(counts[1], 0);
+        Assert.assertTrue(bandit.getRate(0) > 0.);
+        Assert.assertEquals(bandit.getRate(1), 0.);
+        bandit.fixSomeVariables();
+        Assert.assertEquals(last[0], 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBanditRoulette() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("x", 3, 0, 5);
+        IntVar obj = model.intVar("obj", 0, 100_000);
+        model.setObjective(Model.MAXIMIZE, obj);
+        int[] last = new int[1];
+        long[] clock = new long[1];
+        BanditNeighborhood bandit = new BanditNeighborhood(model, 0L, .9, .1, () -> clock[0],
+                new StubNeighbor(vars, 0, last, clock), new StubNeighbor(vars, 1, last, clock));
+        int[] counts = new int[2];
+        // the second arm improves the objective ten times faster than the first one
+        simulate(model, obj, bandit, last, new int[]{1, 10}, counts, 400);
+        Assert.assertTrue(bandit.getRate(1) > bandit.getRate(0));
+        Assert.assertTrue(bandit.getRate(0) > 0.);
+        Assert.assertTrue(counts[1] > 3 * counts[0], Arrays.toString(counts));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBanditFragmentSize() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("x", 3, 0, 5);
+        IntVar obj = model.intVar("obj", 0, 100_000);
+        model.setObjective(Model.MAXIMIZE, obj);
+        int[] last = new int[1];
+        long[] clock = new long[1];
+        StubNeighbor pgn = new StubNeighbor(vars, 0, last, clock);
+        BanditNeighborhood bandit = new BanditNeighborhood(model, 0L, .9, .1, () -> clock[0], pgn);
+        simulate(model, obj, bandit, last, new int[]{1}, new int[1], 50);
+        // scales never selected are tried first, in order
+        Assert.assertEquals(pgn.sizes.subList(0, 3), Arrays.asList(20, 40, 80));
+        for (int size : pgn.sizes) {
+            Assert.assertTrue(size == 20 || size == 40 || size == 80, String.valueOf(size));
+        }
+    }
 }
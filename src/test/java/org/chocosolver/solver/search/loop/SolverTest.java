@@ -16,6 +16,7 @@ import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.search.limits.NodeCounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
 import org.chocosolver.solver.search.loop.move.MoveBinaryDFS;
+import org.chocosolver.solver.search.loop.move.MoveBinaryHBFS;
 import org.chocosolver.solver.search.loop.move.MoveBinaryLDS;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.BoolVar;
@@ -26,6 +27,7 @@ import static org.chocosolver.solver.search.strategy.Search.*;
 import static org.chocosolver.util.ProblemMaker.makeGolombRuler;
 import static org.chocosolver.util.ProblemMaker.makeNQueenWithOneAlldifferent;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Created by cprudhom on 02/09/15.
@@ -108,6 +110,24 @@ public class SolverTest {
         assertEquals(model.getSolver().getNodeCount(), 5881);
     }
 
+    @Test(groups="10s", timeOut=60000)
+    public void test1HBFSLimited() {
+        Model model = makeGolombRuler(8);
+        Solver r = model.getSolver();
+        r.setSearch(inputOrderLBSearch(model.retrieveIntVars(false)));
+        r.setHBFS(.05, .1, 32, 4);
+        MoveBinaryHBFS hbfs = (MoveBinaryHBFS) r.getMove();
+        int best = -1;
+        while (model.getSolver().solve()) {
+            best = ((IntVar) model.getObjective()).getValue();
+        }
+        assertEquals(best, 34);
+        assertTrue(hbfs.getEvictedNodeCount() > 0);
+        assertTrue(hbfs.getPeakOpenNodeCount() <= 4);
+        assertTrue(hbfs.getJumpCount() > 0);
+        assertTrue(hbfs.getRecomputedDecisionCount() >= hbfs.getJumpCount());
+    }
+
     @Test(groups="1s", timeOut=60000)
     public void test2DFS() {
         Model model = makeNQueenWithOneAlldifferent(8);
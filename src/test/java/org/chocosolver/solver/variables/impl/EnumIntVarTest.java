@@ -9,15 +9,19 @@
  */
 package org.chocosolver.solver.variables.impl;
 
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableBitSet;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -87,6 +91,60 @@ public class EnumIntVarTest extends IntVarTest {
         enumDomainNotIn(2, 3);
     }
 
+    //------------------------------------
+    //-------  Copying environment -------
+    //------------------------------------
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testCopyingEnvironment() throws ContradictionException {
+        IEnvironment environment = new EnvironmentBuilder().setPageSize(4).buildCopying();
+        Model model = new Model(environment, "copying");
+        IntVar x = model.intVar("x", 0, 199, false);
+        assertTrue(x instanceof BitsetIntVarImpl);
+        int[][] before = new int[50][];
+        for (int d = 0; d < 50; d++) {
+            before[d] = new int[]{x.getLB(), x.getUB(), x.getDomainSize()};
+            environment.worldPush();
+            x.removeValue(2 * d + 1, Cause.Null);
+            x.updateBounds(d, 199 - d, Cause.Null);
+        }
+        assertEquals(x.getLB(), 50);
+        assertEquals(x.getUB(), 150);
+        assertEquals(x.getDomainSize(), 76);
+        for (int d = 49; d >= 0; d--) {
+            environment.worldPop();
+            assertEquals(x.getLB(), before[d][0]);
+            assertEquals(x.getUB(), before[d][1]);
+            assertEquals(x.getDomainSize(), before[d][2]);
+        }
+        assertEquals(x.getDomainSize(), 200);
+    }
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testCopyingEnvironmentSolve() {
+        long[] counts = new long[2];
+        IEnvironment[] environments = {
+                new EnvironmentBuilder().fromFlat().build(),
+                new EnvironmentBuilder().setPageSize(4).buildCopying()
+        };
+        for (int i = 0; i < 2; i++) {
+            Model model = new Model(environments[i], "queens");
+            int n = 6;
+            IntVar[] q = model.intVarArray("q", n, 1, n, false);
+            for (int j = 0; j < n; j++) {
+                for (int k = j + 1; k < n; k++) {
+                    model.arithm(q[j], "!=", q[k]).post();
+                    model.arithm(q[j], "!=", q[k], "+", k - j).post();
+                    model.arithm(q[j], "!=", q[k], "-", k - j).post();
+                }
+            }
+            while (model.getSolver().solve()) ;
+            counts[i] = model.getSolver().getSolutionCount();
+        }
+        assertEquals(counts[0], 4);
+        assertEquals(counts[1], counts[0]);
+    }
+
     //------------------------------------
     //----------- Utilities  -------------
     //------------------------------------
@@ -11,13 +11,18 @@ package org.chocosolver.util;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.extension.MappedTuples;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Random;
 
 /**
  * Created by cprudhom on 04/11/14.
@@ -198,4 +203,102 @@ public class MDDTest {
         Assert.assertEquals(mdd.getDiagram(), new int[]{3, 3, 11, 0, 0, 6, 0, 0, -1, 0, 0, 6, 0, 0});
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testBuild1() {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("X", 4, 0, 2, false);
+        Tuples tuples = new Tuples();
+        tuples.add(2, 2, 2, 2);
+        tuples.add(0, 1, 1, 1);
+        tuples.add(0, 0, 0, 0);
+        tuples.add(0, 1, 0, 1);
+        tuples.add(0, 0, 1, 1);
+        tuples.add(0, 1, 1, 0);
+        tuples.add(0, 0, 0, 1);
+        tuples.add(0, 1, 0, 0);
+        tuples.add(0, 0, 1, 0);
+        tuples.add(0, 0, 1, 0);
+        tuples.add(3, 0, 1, 0);
+        MultivaluedDecisionDiagram mdd = MultivaluedDecisionDiagram.build(vars, tuples);
+        Assert.assertEquals(mdd.getDiagram(), new int[]{3, 0, 6, 9, 9, 0, 0, 0, 12, 15, 15, 0, 0, 0, 18, -1, -1, 0, 0, 0, -1});
+        for (int t = 0; t < tuples.nbTuples() - 1; t++) {
+            Assert.assertTrue(mdd.exists(tuples.get(t)));
+        }
+        Assert.assertFalse(mdd.exists(0, 2, 0, 0));
+        Assert.assertEquals(tuples.get(0), new int[]{2, 2, 2, 2});
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testBuild2() {
+        for (int seed = 0; seed < 200; seed++) {
+            Random rnd = new Random(seed);
+            int n = 1 + rnd.nextInt(4);
+            Model model = new Model();
+            IntVar[] vars = new IntVar[n];
+            int[] ubs = new int[n];
+            for (int i = 0; i < n; i++) {
+                ubs[i] = 1 + rnd.nextInt(4);
+                vars[i] = model.intVar("X" + i, -1, ubs[i], false);
+            }
+            Tuples tuples = new Tuples();
+            int nt = rnd.nextInt(60);
+            for (int t = 0; t < nt; t++) {
+                int[] tuple = new int[n];
+                for (int i = 0; i < n; i++) {
+                    tuple[i] = rnd.nextInt(ubs[i] + 3) - 2;
+                }
+                tuples.add(tuple);
+            }
+            MultivaluedDecisionDiagram ref = new MultivaluedDecisionDiagram(vars, tuples);
+            MultivaluedDecisionDiagram mdd = MultivaluedDecisionDiagram.build(vars, tuples);
+            Assert.assertTrue(mdd.getDiagram().length <= Math.max(ref.getDiagram().length, vars[0].getDomainSize()));
+            // compare the MDDs on all tuples of the Cartesian product
+            int[] tuple = new int[n];
+            Arrays.fill(tuple, -1);
+            int i = n - 1;
+            while (i >= 0) {
+                Assert.assertEquals(mdd.exists(tuple), ref.exists(tuple), Arrays.toString(tuple));
+                for (i = n - 1; i >= 0 && tuple[i] == ubs[i]; i--) {
+                    tuple[i] = -1;
+                }
+                if (i >= 0) {
+                    tuple[i]++;
+                }
+            }
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testMappedTuples() throws IOException {
+        Model model = new Model();
+        int[] ubs = {3, 2, 4};
+        IntVar[] vars = new IntVar[ubs.length];
+        for (int i = 0; i < ubs.length; i++) {
+            vars[i] = model.intVar("X" + i, 0, ubs[i], false);
+        }
+        Random rnd = new Random(0);
+        Tuples tuples = new Tuples();
+        for (int t = 0; t < 30; t++) {
+            tuples.add(rnd.nextInt(ubs[0] + 1), rnd.nextInt(ubs[1] + 1), rnd.nextInt(ubs[2] + 1));
+        }
+        Path file = Files.createTempFile("tuples", ".bin");
+        try {
+            // tuples are not sorted in the file
+            MappedTuples.write(tuples, file);
+            MappedTuples mapped = MappedTuples.load(file);
+            Assert.assertFalse(mapped.isSortable());
+            MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(vars, mapped, true, true);
+            MultivaluedDecisionDiagram ref = new MultivaluedDecisionDiagram(vars, tuples, true, true);
+            for (int a = 0; a <= ubs[0]; a++) {
+                for (int b = 0; b <= ubs[1]; b++) {
+                    for (int c = 0; c <= ubs[2]; c++) {
+                        int[] tuple = {a, b, c};
+                        Assert.assertEquals(mdd.exists(tuple), ref.exists(tuple), Arrays.toString(tuple));
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
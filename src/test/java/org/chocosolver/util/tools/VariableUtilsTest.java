@@ -13,6 +13,7 @@ import static org.chocosolver.solver.constraints.extension.TuplesFactory.generat
 
 import java.util.ArrayList;
 import java.util.List;
+import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.IntVar;
 import org.testng.Assert;
@@ -188,6 +189,32 @@ public class VariableUtilsTest {
         }
     }
 
+    @Test(groups = "1s")
+    public void testDomainMask() throws Exception {
+        Model model = new Model();
+        IntVar[] vars = new IntVar[]{
+                model.intVar(new int[]{-70, -3, 0, 1, 5, 63, 64, 100}), // bitset, with holes
+                model.intVar(-10, 80, false), // bitset
+                model.intVar(-10, 80, true), // interval
+                model.boolVar(),
+                model.intMinusView(model.intVar(new int[]{-5, 0, 2, 70}))
+        };
+        vars[1].removeValue(7, Cause.Null);
+        vars[1].removeValue(60, Cause.Null);
+        vars[2].updateBounds(-2, 75, Cause.Null);
+        for (IntVar var : vars) {
+            for (int offset = -140; offset <= 140; offset++) {
+                long expected = 0L;
+                for (int i = 0; i < 64; i++) {
+                    if (var.contains(offset + i)) {
+                        expected |= 1L << i;
+                    }
+                }
+                Assert.assertEquals(VariableUtils.domainMask(var, offset), expected, var + " from " + offset);
+            }
+        }
+    }
+
     private List<Integer> listForPow(int l1, int u1, int l2, int u2){
         List<Integer> values = new ArrayList<>();
         for(int i = l1; i <= u1; i++){